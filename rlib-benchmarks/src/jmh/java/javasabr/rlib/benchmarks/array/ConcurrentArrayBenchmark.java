@@ -0,0 +1,90 @@
+package javasabr.rlib.benchmarks.array;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import javasabr.rlib.common.util.array.ArrayFactory;
+import javasabr.rlib.common.util.array.ConcurrentArray;
+import javasabr.rlib.common.util.array.impl.ConcurrentAtomicARSWLockArraySet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The benchmark of every locking strategy of {@link ConcurrentArray} under contention of readers and a writer.
+ *
+ * @author JavaSaBr
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConcurrentArrayBenchmark {
+
+  @Param({
+      "ReentrantRWLock",
+      "ReentrantRWLockSet",
+      "AtomicARSWLock",
+      "AtomicARSWLockSet",
+      "StampedLock",
+      "StampedLockSet"
+  })
+  String strategy;
+
+  @Param({"16", "1024"})
+  int size;
+
+  private ConcurrentArray<Integer> array;
+
+  @Setup
+  public void setup() {
+
+    array = switch (strategy) {
+      case "ReentrantRWLock" -> ArrayFactory.newConcurrentReentrantRWLockArray(Integer.class);
+      case "ReentrantRWLockSet" -> ArrayFactory.newConcurrentReentrantRWLockArraySet(Integer.class);
+      case "AtomicARSWLock" -> ArrayFactory.newConcurrentAtomicARSWLockArray(Integer.class);
+      case "AtomicARSWLockSet" -> new ConcurrentAtomicARSWLockArraySet<>(Integer.class);
+      case "StampedLock" -> ArrayFactory.newConcurrentStampedLockArray(Integer.class);
+      case "StampedLockSet" -> ArrayFactory.newConcurrentStampedLockArraySet(Integer.class);
+      default -> throw new IllegalArgumentException("Unknown strategy: " + strategy);
+    };
+
+    for (int i = 0; i < size; i++) {
+      array.add(i);
+    }
+  }
+
+  @Benchmark
+  @Group("readOnly")
+  @GroupThreads(4)
+  public boolean readOnlyReader() {
+    return read();
+  }
+
+  @Benchmark
+  @Group("readWrite")
+  @GroupThreads(3)
+  public boolean readWriteReader() {
+    return read();
+  }
+
+  @Benchmark
+  @Group("readWrite")
+  @GroupThreads(1)
+  public ConcurrentArray<Integer> readWriteWriter() {
+    return array.runInWriteLock(size, (self, value) -> {
+      self.add(value);
+      self.pop();
+    });
+  }
+
+  private boolean read() {
+    var key = ThreadLocalRandom.current().nextInt(size);
+    return array.anyMatchInReadLock(key, (expected, element) -> element == expected);
+  }
+}
@@ -0,0 +1,95 @@
+package javasabr.rlib.benchmarks.array;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import javasabr.rlib.common.util.array.Array;
+import javasabr.rlib.common.util.array.ArrayFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * The benchmark of single-threaded {@link Array} against {@link ArrayList}.
+ *
+ * @author JavaSaBr
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FastArrayBenchmark {
+
+  @Param({"16", "1024", "65536"})
+  int size;
+
+  private Integer[] values;
+  private Array<Integer> array;
+  private ArrayList<Integer> list;
+
+  @Setup
+  public void setup() {
+
+    values = new Integer[size];
+    array = ArrayFactory.newArray(Integer.class, size);
+    list = new ArrayList<>(size);
+
+    for (int i = 0; i < size; i++) {
+      values[i] = i;
+      array.add(values[i]);
+      list.add(values[i]);
+    }
+  }
+
+  @Benchmark
+  public Array<Integer> fastArrayAdd() {
+
+    Array<Integer> result = ArrayFactory.newArray(Integer.class);
+
+    for (var value : values) {
+      result.add(value);
+    }
+
+    return result;
+  }
+
+  @Benchmark
+  public ArrayList<Integer> arrayListAdd() {
+
+    var result = new ArrayList<Integer>();
+
+    for (var value : values) {
+      result.add(value);
+    }
+
+    return result;
+  }
+
+  @Benchmark
+  public void fastArrayIterate(Blackhole blackhole) {
+    for (int i = 0, length = array.size(); i < length; i++) {
+      blackhole.consume(array.get(i));
+    }
+  }
+
+  @Benchmark
+  public void arrayListIterate(Blackhole blackhole) {
+    for (int i = 0, length = list.size(); i < length; i++) {
+      blackhole.consume(list.get(i));
+    }
+  }
+
+  @Benchmark
+  public boolean fastArrayContains() {
+    return array.contains(values[size / 2]);
+  }
+
+  @Benchmark
+  public boolean arrayListContains() {
+    return list.contains(values[size / 2]);
+  }
+}
@@ -0,0 +1,99 @@
+package javasabr.rlib.benchmarks.dictionary;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import javasabr.rlib.common.util.dictionary.ConcurrentObjectDictionary;
+import javasabr.rlib.common.util.dictionary.DictionaryFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The benchmark of every locking strategy of {@link ConcurrentObjectDictionary} under contention of readers and
+ * writers.
+ *
+ * @author JavaSaBr
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConcurrentObjectDictionaryBenchmark {
+
+  @Param({"Atomic", "StampedLock", "LockFree"})
+  String strategy;
+
+  @Param({"1024", "65536"})
+  int size;
+
+  private ConcurrentObjectDictionary<Integer, Integer> dictionary;
+  private Integer[] keys;
+
+  @Setup
+  public void setup() {
+
+    dictionary = switch (strategy) {
+      case "Atomic" -> DictionaryFactory.newConcurrentAtomicObjectDictionary();
+      case "StampedLock" -> DictionaryFactory.newConcurrentStampedLockObjectDictionary();
+      case "LockFree" -> DictionaryFactory.newConcurrentLockFreeObjectDictionary();
+      default -> throw new IllegalArgumentException("Unknown strategy: " + strategy);
+    };
+
+    keys = new Integer[size];
+
+    for (int i = 0; i < size; i++) {
+      keys[i] = i;
+      dictionary.put(keys[i], keys[i]);
+    }
+  }
+
+  @Benchmark
+  @Group("readOnly")
+  @GroupThreads(4)
+  public Integer readOnlyReader() {
+    return read();
+  }
+
+  @Benchmark
+  @Group("readMostly")
+  @GroupThreads(3)
+  public Integer readMostlyReader() {
+    return read();
+  }
+
+  @Benchmark
+  @Group("readMostly")
+  @GroupThreads(1)
+  public Integer readMostlyWriter() {
+    return write();
+  }
+
+  @Benchmark
+  @Group("writeHeavy")
+  @GroupThreads(2)
+  public Integer writeHeavyReader() {
+    return read();
+  }
+
+  @Benchmark
+  @Group("writeHeavy")
+  @GroupThreads(2)
+  public Integer writeHeavyWriter() {
+    return write();
+  }
+
+  private Integer read() {
+    return dictionary.getInReadLock(keys[ThreadLocalRandom.current().nextInt(size)]);
+  }
+
+  private Integer write() {
+    var key = keys[ThreadLocalRandom.current().nextInt(size)];
+    return dictionary.merge(key, key, (prev, value) -> value);
+  }
+}
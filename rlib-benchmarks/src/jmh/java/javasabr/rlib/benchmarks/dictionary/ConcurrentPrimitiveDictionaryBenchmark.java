@@ -0,0 +1,112 @@
+package javasabr.rlib.benchmarks.dictionary;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import javasabr.rlib.common.util.dictionary.ConcurrentIntegerDictionary;
+import javasabr.rlib.common.util.dictionary.ConcurrentLongDictionary;
+import javasabr.rlib.common.util.dictionary.DictionaryFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The benchmark of every locking strategy of {@link ConcurrentIntegerDictionary} and {@link ConcurrentLongDictionary}
+ * under contention of readers and writers.
+ *
+ * @author JavaSaBr
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConcurrentPrimitiveDictionaryBenchmark {
+
+  @Param({"AtomicInteger", "StripedInteger", "AtomicLong", "StripedLong"})
+  String strategy;
+
+  @Param({"1024", "65536"})
+  int size;
+
+  private ConcurrentIntegerDictionary<Integer> integerDictionary;
+  private ConcurrentLongDictionary<Integer> longDictionary;
+  private Integer[] values;
+  private boolean longKeys;
+
+  @Setup
+  public void setup() {
+
+    switch (strategy) {
+      case "AtomicInteger" -> integerDictionary = DictionaryFactory.newConcurrentAtomicIntegerDictionary();
+      case "StripedInteger" -> integerDictionary = DictionaryFactory.newConcurrentStripedIntegerDictionary();
+      case "AtomicLong" -> longDictionary = DictionaryFactory.newConcurrentAtomicLongDictionary();
+      case "StripedLong" -> longDictionary = DictionaryFactory.newConcurrentStripedLongDictionary();
+      default -> throw new IllegalArgumentException("Unknown strategy: " + strategy);
+    }
+
+    longKeys = longDictionary != null;
+    values = new Integer[size];
+
+    for (int i = 0; i < size; i++) {
+      values[i] = i;
+      if (longKeys) {
+        longDictionary.put(i, values[i]);
+      } else {
+        integerDictionary.put(i, values[i]);
+      }
+    }
+  }
+
+  @Benchmark
+  @Group("readOnly")
+  @GroupThreads(4)
+  public Integer readOnlyReader() {
+    return read();
+  }
+
+  @Benchmark
+  @Group("readMostly")
+  @GroupThreads(3)
+  public Integer readMostlyReader() {
+    return read();
+  }
+
+  @Benchmark
+  @Group("readMostly")
+  @GroupThreads(1)
+  public Integer readMostlyWriter() {
+    return write();
+  }
+
+  @Benchmark
+  @Group("writeHeavy")
+  @GroupThreads(2)
+  public Integer writeHeavyReader() {
+    return read();
+  }
+
+  @Benchmark
+  @Group("writeHeavy")
+  @GroupThreads(2)
+  public Integer writeHeavyWriter() {
+    return write();
+  }
+
+  private Integer read() {
+    var key = ThreadLocalRandom.current().nextInt(size);
+    return longKeys ? longDictionary.getInReadLock(key) : integerDictionary.getInReadLock(key);
+  }
+
+  private Integer write() {
+    var key = ThreadLocalRandom.current().nextInt(size);
+    var value = values[key];
+    return longKeys
+        ? longDictionary.merge(key, value, (prev, next) -> next)
+        : integerDictionary.merge(key, value, (prev, next) -> next);
+  }
+}
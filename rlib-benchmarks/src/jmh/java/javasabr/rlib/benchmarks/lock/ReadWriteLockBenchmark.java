@@ -0,0 +1,138 @@
+package javasabr.rlib.benchmarks.lock;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.StampedLock;
+import javasabr.rlib.common.concurrent.lock.AsyncReadSyncWriteLock;
+import javasabr.rlib.common.concurrent.lock.LockFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The benchmark of {@link javasabr.rlib.common.concurrent.lock.impl.AtomicReadWriteLock}, {@link
+ * javasabr.rlib.common.concurrent.lock.impl.ReentrantARSWLock} and {@link StampedLock} protecting a tiny critical
+ * section under different ratio of readers and writers.
+ *
+ * @author JavaSaBr
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReadWriteLockBenchmark {
+
+  @Param({"AtomicARSWLock", "ReentrantARSWLock", "StampedLock", "StampedLockOptimistic"})
+  String strategy;
+
+  private AsyncReadSyncWriteLock lock;
+  private StampedLock stampedLock;
+  private boolean optimistic;
+
+  private long first;
+  private long second;
+
+  @Setup
+  public void setup() {
+
+    switch (strategy) {
+      case "AtomicARSWLock" -> lock = LockFactory.newAtomicARSWLock();
+      case "ReentrantARSWLock" -> lock = LockFactory.newReentrantARSWLock();
+      case "StampedLock", "StampedLockOptimistic" -> stampedLock = LockFactory.newStampedLock();
+      default -> throw new IllegalArgumentException("Unknown strategy: " + strategy);
+    }
+
+    optimistic = "StampedLockOptimistic".equals(strategy);
+  }
+
+  @Benchmark
+  @Group("readOnly")
+  @GroupThreads(4)
+  public long readOnlyReader() {
+    return read();
+  }
+
+  @Benchmark
+  @Group("readMostly")
+  @GroupThreads(3)
+  public long readMostlyReader() {
+    return read();
+  }
+
+  @Benchmark
+  @Group("readMostly")
+  @GroupThreads(1)
+  public void readMostlyWriter() {
+    write();
+  }
+
+  @Benchmark
+  @Group("balanced")
+  @GroupThreads(2)
+  public long balancedReader() {
+    return read();
+  }
+
+  @Benchmark
+  @Group("balanced")
+  @GroupThreads(2)
+  public void balancedWriter() {
+    write();
+  }
+
+  private long read() {
+
+    if (lock != null) {
+      lock.asyncLock();
+      try {
+        return first + second;
+      } finally {
+        lock.asyncUnlock();
+      }
+    }
+
+    if (optimistic) {
+
+      var stamp = stampedLock.tryOptimisticRead();
+      var result = first + second;
+
+      if (stampedLock.validate(stamp)) {
+        return result;
+      }
+    }
+
+    var stamp = stampedLock.readLock();
+    try {
+      return first + second;
+    } finally {
+      stampedLock.unlockRead(stamp);
+    }
+  }
+
+  private void write() {
+
+    if (lock != null) {
+      lock.syncLock();
+      try {
+        first++;
+        second--;
+      } finally {
+        lock.syncUnlock();
+      }
+      return;
+    }
+
+    var stamp = stampedLock.writeLock();
+    try {
+      first++;
+      second--;
+    } finally {
+      stampedLock.unlockWrite(stamp);
+    }
+  }
+}
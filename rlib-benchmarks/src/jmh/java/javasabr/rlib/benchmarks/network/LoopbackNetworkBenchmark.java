@@ -0,0 +1,98 @@
+package javasabr.rlib.benchmarks.network;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javasabr.rlib.common.util.StringUtils;
+import javasabr.rlib.network.NetworkFactory;
+import javasabr.rlib.network.client.ClientNetwork;
+import javasabr.rlib.network.impl.StringDataConnection;
+import javasabr.rlib.network.packet.impl.StringWritablePacket;
+import javasabr.rlib.network.server.ServerNetwork;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * The benchmark of throughput in packets per second between a client and
+ * {@link javasabr.rlib.network.server.impl.DefaultServerNetwork} over the loopback interface.
+ *
+ * @author JavaSaBr
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LoopbackNetworkBenchmark {
+
+  private static final int BATCH = 1000;
+  private static final long TIMEOUT = TimeUnit.SECONDS.toNanos(30);
+
+  @Param({"16", "256", "1024"})
+  int messageSize;
+
+  private final AtomicLong received = new AtomicLong();
+
+  private ServerNetwork<StringDataConnection> serverNetwork;
+  private ClientNetwork<StringDataConnection> clientNetwork;
+  private StringDataConnection clientToServer;
+  private String message;
+  private long sent;
+
+  @Setup
+  public void setup() {
+
+    var serverToClient = new CompletableFuture<StringDataConnection>();
+
+    serverNetwork = NetworkFactory.newStringDataServerNetwork();
+
+    var serverAddress = serverNetwork.start();
+
+    serverNetwork.onAccept(serverToClient::complete);
+
+    clientNetwork = NetworkFactory.newStringDataClientNetwork();
+    clientToServer = clientNetwork
+        .connect(serverAddress)
+        .join();
+
+    serverToClient
+        .join()
+        .onReceive((connection, packet) -> received.incrementAndGet());
+
+    message = StringUtils.generate(messageSize);
+  }
+
+  @TearDown
+  public void tearDown() {
+    clientNetwork.shutdown();
+    serverNetwork.shutdown();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public long clientToServer() {
+
+    for (int i = 0; i < BATCH; i++) {
+      clientToServer.send(new StringWritablePacket(message));
+    }
+
+    sent += BATCH;
+
+    var deadline = System.nanoTime() + TIMEOUT;
+
+    while (received.get() < sent) {
+      if (System.nanoTime() > deadline) {
+        throw new IllegalStateException("Server received only " + received.get() + " of " + sent + " packets.");
+      }
+      Thread.onSpinWait();
+    }
+
+    return sent;
+  }
+}
@@ -0,0 +1,99 @@
+package javasabr.rlib.benchmarks.pool;
+
+import java.util.concurrent.TimeUnit;
+import javasabr.rlib.common.util.pools.PoolFactory;
+import javasabr.rlib.common.util.pools.Reusable;
+import javasabr.rlib.common.util.pools.ReusablePool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * The benchmark of take/put cycles of the not thread-safe {@link ReusablePool} against thread-safe ones.
+ *
+ * @author JavaSaBr
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReusablePoolBenchmark {
+
+  public static class PooledObject implements Reusable {
+
+    long payload;
+
+    @Override
+    public void free() {
+      payload = 0;
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ThreadState {
+
+    @Param({"Fast", "StampedLock", "AtomicARSWLock", "ReentrantRWLock", "Synchronized"})
+    String strategy;
+
+    ReusablePool<PooledObject> pool;
+
+    @Setup
+    public void setup() {
+      pool = createPool(strategy);
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class SharedState {
+
+    @Param({"StampedLock", "AtomicARSWLock", "ReentrantRWLock", "Synchronized"})
+    String strategy;
+
+    ReusablePool<PooledObject> pool;
+
+    @Setup
+    public void setup() {
+      pool = createPool(strategy);
+    }
+  }
+
+  static ReusablePool<PooledObject> createPool(String strategy) {
+
+    ReusablePool<PooledObject> pool = switch (strategy) {
+      case "Fast" -> PoolFactory.newReusablePool(PooledObject.class);
+      case "StampedLock" -> PoolFactory.newConcurrentStampedLockReusablePool(PooledObject.class);
+      case "AtomicARSWLock" -> PoolFactory.newConcurrentAtomicARSWLockReusablePool(PooledObject.class);
+      case "ReentrantRWLock" -> PoolFactory.newConcurrentReentrantRWLockReusablePool(PooledObject.class);
+      case "Synchronized" -> PoolFactory.newSynchronizedReusablePool(PooledObject.class);
+      default -> throw new IllegalArgumentException("Unknown strategy: " + strategy);
+    };
+
+    for (int i = 0; i < 64; i++) {
+      pool.put(new PooledObject());
+    }
+
+    return pool;
+  }
+
+  @Benchmark
+  public PooledObject uncontended(ThreadState state) {
+    return cycle(state.pool);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public PooledObject contended(SharedState state) {
+    return cycle(state.pool);
+  }
+
+  private static PooledObject cycle(ReusablePool<PooledObject> pool) {
+    var object = pool.take(PooledObject::new);
+    object.payload++;
+    pool.put(object);
+    return object;
+  }
+}
@@ -0,0 +1,129 @@
+package javasabr.rlib.common.concurrent.queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Consumer;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The unbounded lock-free queue for many producers and one consumer. Adding an element is one atomic exchange of the
+ * tail, so producers never retry and never block each other, polling doesn't need any atomic operations at all. Methods
+ * {@link #poll()}, {@link #peek()} and {@link #drain(Consumer)} must be called only by one consumer thread at a time.
+ *
+ * @param <E> the element's type.
+ * @author JavaSaBr
+ */
+@NullMarked
+public final class MpscLinkedQueue<E> {
+
+  private static final VarHandle TAIL;
+  private static final VarHandle NEXT;
+
+  static {
+    try {
+      var lookup = MethodHandles.lookup();
+      TAIL = lookup.findVarHandle(MpscLinkedQueue.class, "tail", Node.class);
+      NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private static final class Node<E> {
+
+    @Nullable E item;
+    volatile @Nullable Node<E> next;
+
+    Node(@Nullable E item) {
+      this.item = item;
+    }
+  }
+
+  /**
+   * The stub node before the first element, it's owned by the consumer.
+   */
+  private Node<E> head;
+
+  /**
+   * The last added node, it's shared by producers.
+   */
+  private volatile Node<E> tail;
+
+  public MpscLinkedQueue() {
+    var stub = new Node<E>(null);
+    this.head = stub;
+    this.tail = stub;
+  }
+
+  /**
+   * Add the element to the end of this queue. Can be called by any thread.
+   *
+   * @param element the element.
+   */
+  public void offer(E element) {
+    var node = new Node<E>(element);
+    @SuppressWarnings("unchecked")
+    var prev = (Node<E>) TAIL.getAndSet(this, node);
+    // the chain is broken until this store, so the consumer sees the queue as empty for this short time
+    NEXT.setRelease(prev, node);
+  }
+
+  /**
+   * Take the first element of this queue. Can be called only by the consumer.
+   *
+   * @return the first element or null if this queue is empty.
+   */
+  public @Nullable E poll() {
+
+    var next = head.next;
+
+    if (next == null) {
+      return null;
+    }
+
+    var item = next.item;
+    next.item = null;
+    head.next = null;
+    head = next;
+
+    return item;
+  }
+
+  /**
+   * Get the first element of this queue without removing it. Can be called only by the consumer.
+   *
+   * @return the first element or null if this queue is empty.
+   */
+  public @Nullable E peek() {
+    var next = head.next;
+    return next == null ? null : next.item;
+  }
+
+  /**
+   * Take all available elements of this queue. Can be called only by the consumer.
+   *
+   * @param consumer the consumer of elements.
+   * @return the count of taken elements.
+   */
+  public int drain(Consumer<? super E> consumer) {
+
+    var count = 0;
+
+    for (var item = poll(); item != null; item = poll()) {
+      consumer.accept(item);
+      count++;
+    }
+
+    return count;
+  }
+
+  /**
+   * Return true if this queue has no completely added elements.
+   *
+   * @return true if this queue is empty.
+   */
+  public boolean isEmpty() {
+    return head.next == null;
+  }
+}
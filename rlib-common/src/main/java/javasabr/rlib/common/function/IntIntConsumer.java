@@ -0,0 +1,18 @@
+package javasabr.rlib.common.function;
+
+/**
+ * The function.
+ *
+ * @author JavaSaBr
+ */
+@FunctionalInterface
+public interface IntIntConsumer {
+
+  /**
+   * Accept.
+   *
+   * @param first the first
+   * @param second the second
+   */
+  void accept(int first, int second);
+}
@@ -0,0 +1,23 @@
+package javasabr.rlib.common.function;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The function.
+ *
+ * @param <T> the type parameter
+ * @param <R> the result type
+ * @author JavaSaBr
+ */
+@FunctionalInterface
+public interface IntObjectFunction<T, R> {
+
+  /**
+   * Apply r.
+   *
+   * @param first the first
+   * @param second the second
+   * @return the r
+   */
+  @Nullable R apply(int first, @Nullable T second);
+}
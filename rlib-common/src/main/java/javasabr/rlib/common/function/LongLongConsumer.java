@@ -0,0 +1,18 @@
+package javasabr.rlib.common.function;
+
+/**
+ * The function.
+ *
+ * @author JavaSaBr
+ */
+@FunctionalInterface
+public interface LongLongConsumer {
+
+  /**
+   * Accept.
+   *
+   * @param first the first
+   * @param second the second
+   */
+  void accept(long first, long second);
+}
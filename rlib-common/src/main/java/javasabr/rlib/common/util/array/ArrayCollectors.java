@@ -141,4 +141,62 @@ public class ArrayCollectors {
       Class<? super T> type) {
     return concurrentCollector(type, ArrayFactory::newConcurrentStampedLockArray);
   }
+
+  /**
+   * Get a collector to collect numbers into a bitmap.
+   *
+   * @param bitmapFactory the bitmap factory.
+   * @param <B> the bitmap's type.
+   * @return the collector.
+   */
+  public static <B extends IntBitmap> Collector<Integer, B, B> bitmapCollector(Supplier<B> bitmapFactory) {
+    return new Collector<>() {
+
+      @Override
+      public Supplier<B> supplier() {
+        return bitmapFactory;
+      }
+
+      @Override
+      public BiConsumer<B, Integer> accumulator() {
+        return IntBitmap::add;
+      }
+
+      @Override
+      public BinaryOperator<B> combiner() {
+        return (source, toAdd) -> {
+          source.or(toAdd);
+          return source;
+        };
+      }
+
+      @Override
+      public Function<B, B> finisher() {
+        return bitmap -> bitmap;
+      }
+
+      @Override
+      public Set<Characteristics> characteristics() {
+        return CH_ID;
+      }
+    };
+  }
+
+  /**
+   * Get a collector to collect non-negative numbers into a bitset.
+   *
+   * @return the collector.
+   */
+  public static Collector<Integer, IntBitmap, IntBitmap> toBitSetArray() {
+    return bitmapCollector(ArrayFactory::newBitSetArray);
+  }
+
+  /**
+   * Get a collector to collect numbers into a compressed bitmap.
+   *
+   * @return the collector.
+   */
+  public static Collector<Integer, IntBitmap, IntBitmap> toRoaringIntBitmap() {
+    return bitmapCollector(ArrayFactory::newRoaringIntBitmap);
+  }
 }
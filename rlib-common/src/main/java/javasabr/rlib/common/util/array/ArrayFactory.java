@@ -3,7 +3,9 @@ package javasabr.rlib.common.util.array;
 import static javasabr.rlib.common.util.ClassUtils.unsafeNNCast;
 
 import javasabr.rlib.common.util.ArrayUtils;
+import javasabr.rlib.common.util.array.impl.BitSetArray;
 import javasabr.rlib.common.util.array.impl.ConcurrentAtomicARSWLockArray;
+import javasabr.rlib.common.util.array.impl.ConcurrentBitSetArray;
 import javasabr.rlib.common.util.array.impl.ConcurrentReentrantRWLockArray;
 import javasabr.rlib.common.util.array.impl.ConcurrentReentrantRWLockArraySet;
 import javasabr.rlib.common.util.array.impl.ConcurrentStampedLockArray;
@@ -14,7 +16,10 @@ import javasabr.rlib.common.util.array.impl.FastArray;
 import javasabr.rlib.common.util.array.impl.FastArraySet;
 import javasabr.rlib.common.util.array.impl.FastLongArray;
 import javasabr.rlib.common.util.array.impl.ReadOnlyFastArray;
+import javasabr.rlib.common.util.array.impl.RoaringIntBitmap;
 import javasabr.rlib.common.util.array.impl.SortedFastArray;
+import javasabr.rlib.common.util.array.impl.SortedIntegerArray;
+import javasabr.rlib.common.util.array.impl.SortedLongArray;
 import javasabr.rlib.common.util.array.impl.SynchronizedArray;
 import org.jspecify.annotations.NullMarked;
 
@@ -113,6 +118,14 @@ public class ArrayFactory {
     return new DefaultIntegerArray(numbers);
   }
 
+  public static MutableIntegerArray newSortedIntegerArray() {
+    return new SortedIntegerArray();
+  }
+
+  public static MutableIntegerArray newSortedIntegerArray(int... numbers) {
+    return new SortedIntegerArray(numbers);
+  }
+
   public static LongArray newLongArray() {
     return new FastLongArray();
   }
@@ -121,6 +134,30 @@ public class ArrayFactory {
     return new FastLongArray(capacity);
   }
 
+  public static LongArray newSortedLongArray() {
+    return new SortedLongArray();
+  }
+
+  public static LongArray newSortedLongArray(long... elements) {
+    return new SortedLongArray(elements);
+  }
+
+  public static IntBitmap newBitSetArray() {
+    return new BitSetArray();
+  }
+
+  public static IntBitmap newBitSetArray(int capacity) {
+    return new BitSetArray(capacity);
+  }
+
+  public static IntBitmap newRoaringIntBitmap() {
+    return new RoaringIntBitmap();
+  }
+
+  public static IntBitmap newConcurrentBitSetArray(int capacity) {
+    return new ConcurrentBitSetArray(capacity);
+  }
+
   public static float[] toFloatArray(float... elements) {
     return elements;
   }
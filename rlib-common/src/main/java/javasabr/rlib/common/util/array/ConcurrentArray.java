@@ -95,12 +95,12 @@ public interface ConcurrentArray<E> extends Array<E> {
   }
 
   /**
-   * Try to optimistic read.
+   * Try to optimistic read, implementations without optimistic reading always fail it.
    *
    * @return the stamp of optimistic read or 0 if it was failed.
    */
   default long tryOptimisticRead() {
-    throw new UnsupportedOperationException();
+    return 0;
   }
 
   /**
@@ -110,7 +110,7 @@ public interface ConcurrentArray<E> extends Array<E> {
    * @return true is this stamp is valid.
    */
   default boolean validate(long stamp) {
-    throw new UnsupportedOperationException();
+    return false;
   }
 
   /**
@@ -382,6 +382,49 @@ public interface ConcurrentArray<E> extends Array<E> {
     }
   }
 
+  /**
+   * Execute a function to get some result under optimistic read and repeat it under {@link #readLock()} block only
+   * if the optimistic read was failed or invalidated by a writer. The function must not have side effects because
+   * it can be executed twice and can see an inconsistent state during the first execution.
+   *
+   * @param first the first argument for the function.
+   * @param second the second argument for the function.
+   * @param function the function.
+   * @param <A> the first argument's type.
+   * @param <T> the second argument's type.
+   * @param <R> the result's type.
+   * @return the result from the function.
+   * @since 9.10.0
+   */
+  default <A, T, R> @Nullable R getInOptimisticReadLock(
+      A first,
+      T second,
+      NotNullNullableTripleFunction<ConcurrentArray<E>, A, T, R> function) {
+
+    var stamp = tryOptimisticRead();
+
+    if (stamp != 0) {
+      try {
+        var result = function.apply(this, first, second);
+        if (validate(stamp)) {
+          return result;
+        }
+      } catch (RuntimeException exc) {
+        // an inconsistent state was seen during the optimistic read
+        if (validate(stamp)) {
+          throw exc;
+        }
+      }
+    }
+
+    stamp = readLock();
+    try {
+      return function.apply(this, first, second);
+    } finally {
+      readUnlock(stamp);
+    }
+  }
+
   /**
    * Execute a function to get some result under {@link #writeLock()} block.
    *
@@ -745,6 +788,50 @@ public interface ConcurrentArray<E> extends Array<E> {
     }
   }
 
+  /**
+   * Search an element using the condition under optimistic read and repeat it under {@link #readLock()} block only if
+   * the optimistic read was invalidated by a writer. The condition can be called several times for the same element
+   * and can see elements which were concurrently removed, so it must not have side effects.
+   *
+   * @param argument the argument.
+   * @param filter the condition without side effects.
+   * @return the found element or null.
+   * @since 9.10.0
+   */
+  default @Nullable E findAnyOptimistic(int argument, NotNullIntObjectPredicate<? super E> filter) {
+
+    if (isEmpty()) {
+      return null;
+    }
+
+    return getInOptimisticReadLock(argument, filter, (array, arg, condition) -> array.findAny(arg, condition));
+  }
+
+  /**
+   * Search an element by condition under optimistic read and repeat it under {@link #readLock()} block only if the
+   * optimistic read was invalidated by a writer. The condition can be called several times for the same element and
+   * can see elements which were concurrently removed, so it must not have side effects.
+   *
+   * @param argument the argument.
+   * @param filter the condition without side effects.
+   * @param <T> the argument's type.
+   * @return true if there is at least an element for the condition.
+   * @since 9.10.0
+   */
+  default <T> boolean anyMatchOptimistic(T argument, NotNullBiPredicate<T, ? super E> filter) {
+
+    if (isEmpty()) {
+      return false;
+    }
+
+    Boolean result = getInOptimisticReadLock(
+        argument,
+        filter,
+        (array, arg, condition) -> array.anyMatch(arg, condition));
+
+    return Boolean.TRUE.equals(result);
+  }
+
   /**
    * Removes all of the elements of this collection that satisfy the given predicate under {@link #writeLock()} block.
    *
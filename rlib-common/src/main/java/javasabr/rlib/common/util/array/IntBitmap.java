@@ -0,0 +1,136 @@
+package javasabr.rlib.common.util.array;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * The interface of a set of int numbers stored as bits, so membership checks and set operations work over whole
+ * machine words instead of single numbers.
+ *
+ * @author JavaSaBr
+ */
+@NullMarked
+public interface IntBitmap {
+
+  /**
+   * Add the number to this bitmap.
+   *
+   * @param number the number.
+   * @return true if this bitmap didn't contain the number.
+   */
+  boolean add(int number);
+
+  /**
+   * Remove the number from this bitmap.
+   *
+   * @param number the number.
+   * @return true if this bitmap contained the number.
+   */
+  boolean remove(int number);
+
+  /**
+   * Check existing the number in this bitmap.
+   *
+   * @param number the number.
+   * @return true if this bitmap contains the number.
+   */
+  boolean contains(int number);
+
+  /**
+   * Get the count of numbers in this bitmap.
+   *
+   * @return the count of numbers.
+   */
+  int cardinality();
+
+  /**
+   * Return true if this bitmap is empty.
+   *
+   * @return true if this bitmap is empty.
+   */
+  default boolean isEmpty() {
+    return cardinality() == 0;
+  }
+
+  /**
+   * Remove all numbers from this bitmap.
+   *
+   * @return this bitmap.
+   */
+  IntBitmap clear();
+
+  /**
+   * Apply the consumer to each number in ascending order.
+   *
+   * @param consumer the consumer.
+   */
+  void forEach(IntConsumer consumer);
+
+  /**
+   * Add all numbers of the other bitmap to this bitmap.
+   *
+   * @param other the other bitmap.
+   * @return this bitmap.
+   */
+  default IntBitmap or(IntBitmap other) {
+    other.forEach(this::add);
+    return this;
+  }
+
+  /**
+   * Keep only numbers which exist in the other bitmap.
+   *
+   * @param other the other bitmap.
+   * @return this bitmap.
+   */
+  default IntBitmap and(IntBitmap other) {
+
+    for (var number : toArray()) {
+      if (!other.contains(number)) {
+        remove(number);
+      }
+    }
+
+    return this;
+  }
+
+  /**
+   * Remove all numbers of the other bitmap from this bitmap.
+   *
+   * @param other the other bitmap.
+   * @return this bitmap.
+   */
+  default IntBitmap andNot(IntBitmap other) {
+    other.forEach(this::remove);
+    return this;
+  }
+
+  /**
+   * Copy numbers of this bitmap to a new native array in ascending order.
+   *
+   * @return the new native array.
+   */
+  default int[] toArray() {
+
+    var result = new int[cardinality()];
+    var holder = new int[1];
+
+    forEach(number -> {
+      if (holder[0] < result.length) {
+        result[holder[0]++] = number;
+      }
+    });
+
+    return holder[0] == result.length ? result : Arrays.copyOf(result, holder[0]);
+  }
+
+  /**
+   * Copy numbers of this bitmap to a new integer array in ascending order.
+   *
+   * @return the new integer array.
+   */
+  default MutableIntegerArray toIntegerArray() {
+    return ArrayFactory.newMutableIntegerArray(toArray());
+  }
+}
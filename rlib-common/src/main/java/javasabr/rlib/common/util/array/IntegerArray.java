@@ -111,6 +111,17 @@ public interface IntegerArray extends Iterable<Integer> {
     return -1;
   }
 
+  /**
+   * Search the number by binary search, this array must be sorted.
+   *
+   * @param element the number.
+   * @return the index of the number or (-(insertion point) - 1) if there is no the number.
+   * @see Arrays#binarySearch(int[], int, int, int)
+   */
+  default int binarySearch(int element) {
+    return Arrays.binarySearch(array(), 0, size(), element);
+  }
+
   /**
    * Return true if this array is empty.
    *
@@ -133,6 +144,11 @@ public interface IntegerArray extends Iterable<Integer> {
     }
   }
 
+  /**
+   * Apply the consumer to each number without boxing.
+   *
+   * @param consumer the consumer.
+   */
   default void forEachInt(IntConsumer consumer) {
 
     var array = array();
@@ -170,6 +186,67 @@ public interface IntegerArray extends Iterable<Integer> {
     return last;
   }
 
+  /**
+   * Calculate the sum of all numbers in this array.
+   *
+   * @return the sum of all numbers or 0 if this array is empty.
+   */
+  default long sum() {
+
+    var array = array();
+    var sum = 0L;
+
+    for (int i = 0, length = size(); i < length; i++) {
+      sum += array[i];
+    }
+
+    return sum;
+  }
+
+  /**
+   * Find the minimal number in this array.
+   *
+   * @return the minimal number.
+   * @throws IllegalStateException if this array is empty.
+   */
+  default int min() {
+
+    if (isEmpty()) {
+      throw new IllegalStateException("Array is empty.");
+    }
+
+    var array = array();
+    var min = array[0];
+
+    for (int i = 1, length = size(); i < length; i++) {
+      min = Math.min(min, array[i]);
+    }
+
+    return min;
+  }
+
+  /**
+   * Find the maximal number in this array.
+   *
+   * @return the maximal number.
+   * @throws IllegalStateException if this array is empty.
+   */
+  default int max() {
+
+    if (isEmpty()) {
+      throw new IllegalStateException("Array is empty.");
+    }
+
+    var array = array();
+    var max = array[0];
+
+    for (int i = 1, length = size(); i < length; i++) {
+      max = Math.max(max, array[i]);
+    }
+
+    return max;
+  }
+
   /**
    * Get the current count of numbers in this array.
    *
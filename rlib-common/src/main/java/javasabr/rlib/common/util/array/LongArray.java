@@ -1,5 +1,8 @@
 package javasabr.rlib.common.util.array;
 
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
 import javasabr.rlib.common.util.ArrayUtils;
 import org.jspecify.annotations.NullMarked;
 
@@ -25,6 +28,16 @@ public interface LongArray extends Iterable<Long> {
    */
   LongArray addAll(long[] array);
 
+  /**
+   * Add all elements from the range of the native array.
+   *
+   * @param array the array.
+   * @param offset the offset of the range.
+   * @param length the length of the range.
+   * @return this array.
+   */
+  LongArray addAll(long[] array, int offset, int length);
+
   /**
    * Add all long array.
    *
@@ -40,6 +53,17 @@ public interface LongArray extends Iterable<Long> {
    */
   long[] array();
 
+  /**
+   * Search the element by binary search, this array must be sorted.
+   *
+   * @param element the element.
+   * @return the index of the element or (-(insertion point) - 1) if there is no the element.
+   * @see Arrays#binarySearch(long[], int, int, long)
+   */
+  default int binarySearch(final long element) {
+    return Arrays.binarySearch(array(), 0, size(), element);
+  }
+
   /**
    * Clear long array.
    *
@@ -141,6 +165,20 @@ public interface LongArray extends Iterable<Long> {
    */
   long get(int index);
 
+  /**
+   * Apply the consumer to each element without boxing.
+   *
+   * @param consumer the consumer.
+   */
+  default void forEachLong(final LongConsumer consumer) {
+
+    final long[] array = array();
+
+    for (int i = 0, length = size(); i < length; i++) {
+      consumer.accept(array[i]);
+    }
+  }
+
   /**
    * Index of int.
    *
@@ -198,6 +236,52 @@ public interface LongArray extends Iterable<Long> {
     return last;
   }
 
+  /**
+   * Find the maximal element.
+   *
+   * @return the maximal element.
+   * @throws IllegalStateException if this array is empty.
+   */
+  default long max() {
+
+    if (isEmpty()) {
+      throw new IllegalStateException("Array is empty.");
+    }
+
+    final long[] array = array();
+
+    long max = array[0];
+
+    for (int i = 1, length = size(); i < length; i++) {
+      max = Math.max(max, array[i]);
+    }
+
+    return max;
+  }
+
+  /**
+   * Find the minimal element.
+   *
+   * @return the minimal element.
+   * @throws IllegalStateException if this array is empty.
+   */
+  default long min() {
+
+    if (isEmpty()) {
+      throw new IllegalStateException("Array is empty.");
+    }
+
+    final long[] array = array();
+
+    long min = array[0];
+
+    for (int i = 1, length = size(); i < length; i++) {
+      min = Math.min(min, array[i]);
+    }
+
+    return min;
+  }
+
   /**
    * Poll long.
    *
@@ -244,6 +328,14 @@ public interface LongArray extends Iterable<Long> {
     return true;
   }
 
+  /**
+   * Remove all elements which satisfy the condition, the order of remaining elements is kept.
+   *
+   * @param filter the condition.
+   * @return true if at least one element was removed.
+   */
+  boolean removeIf(LongPredicate filter);
+
   /**
    * Retain all boolean.
    *
@@ -302,6 +394,24 @@ public interface LongArray extends Iterable<Long> {
    */
   LongArray sort();
 
+  /**
+   * Calculate the sum of all elements, it overflows silently as long arithmetic does.
+   *
+   * @return the sum of all elements or 0 if this array is empty.
+   */
+  default long sum() {
+
+    final long[] array = array();
+
+    long sum = 0;
+
+    for (int i = 0, length = size(); i < length; i++) {
+      sum += array[i];
+    }
+
+    return sum;
+  }
+
   /**
    * To array long [ ].
    *
@@ -1,5 +1,6 @@
 package javasabr.rlib.common.util.array;
 
+import java.util.function.IntPredicate;
 import org.jspecify.annotations.NullMarked;
 
 @NullMarked
@@ -21,6 +22,16 @@ public interface MutableIntegerArray extends IntegerArray {
    */
   IntegerArray addAll(int [] numbers);
 
+  /**
+   * Add new numbers from the range of the native array to this array.
+   *
+   * @param numbers the new numbers.
+   * @param offset the offset of the range.
+   * @param length the length of the range.
+   * @return this array.
+   */
+  IntegerArray addAll(int [] numbers, int offset, int length);
+
   /**
    * Add new numbers to this array.
    *
@@ -140,6 +151,14 @@ public interface MutableIntegerArray extends IntegerArray {
     return index > -1;
   }
 
+  /**
+   * Remove all numbers which satisfy the condition, the order of remaining numbers is kept.
+   *
+   * @param filter the condition.
+   * @return true if at least one number was removed from this array.
+   */
+  boolean removeIf(IntPredicate filter);
+
   /**
    * Remove a number by the index from this array.
    *
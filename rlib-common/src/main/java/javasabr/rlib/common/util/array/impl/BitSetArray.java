@@ -0,0 +1,253 @@
+package javasabr.rlib.common.util.array.impl;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import javasabr.rlib.common.util.array.IntBitmap;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * The implementation of growable bitmap of non-negative numbers based on a native array of words. This bitmap isn't
+ * thread-safe.
+ *
+ * @author JavaSaBr
+ */
+@NullMarked
+public class BitSetArray implements IntBitmap {
+
+  protected static final int ADDRESS_BITS = 6;
+  protected static final int WORD_SIZE = 1 << ADDRESS_BITS;
+
+  protected static int wordIndex(int number) {
+    return number >>> ADDRESS_BITS;
+  }
+
+  protected static int wordsFor(int capacity) {
+    return Math.max(1, (capacity + WORD_SIZE - 1) >>> ADDRESS_BITS);
+  }
+
+  /**
+   * The words of this bitmap.
+   */
+  protected long[] words;
+
+  /**
+   * The count of set bits.
+   */
+  protected int cardinality;
+
+  public BitSetArray() {
+    this(WORD_SIZE);
+  }
+
+  public BitSetArray(int capacity) {
+    this.words = new long[wordsFor(capacity)];
+  }
+
+  @Override
+  public boolean add(int number) {
+
+    if (number < 0) {
+      throw new IllegalArgumentException("Negative number: " + number);
+    }
+
+    var index = wordIndex(number);
+
+    if (index >= words.length) {
+      words = Arrays.copyOf(words, Math.max(index + 1, words.length * 2));
+    }
+
+    var word = words[index];
+    var bit = 1L << number;
+
+    if ((word & bit) != 0) {
+      return false;
+    }
+
+    words[index] = word | bit;
+    cardinality++;
+
+    return true;
+  }
+
+  @Override
+  public boolean remove(int number) {
+
+    var index = wordIndex(number);
+
+    if (number < 0 || index >= words.length) {
+      return false;
+    }
+
+    var word = words[index];
+    var bit = 1L << number;
+
+    if ((word & bit) == 0) {
+      return false;
+    }
+
+    words[index] = word & ~bit;
+    cardinality--;
+
+    return true;
+  }
+
+  @Override
+  public boolean contains(int number) {
+    var index = wordIndex(number);
+    return number >= 0 && index < words.length && (words[index] & (1L << number)) != 0;
+  }
+
+  @Override
+  public int cardinality() {
+    return cardinality;
+  }
+
+  @Override
+  public BitSetArray clear() {
+    Arrays.fill(words, 0);
+    cardinality = 0;
+    return this;
+  }
+
+  /**
+   * Find the first number which is greater than or equal to the start number.
+   *
+   * @param from the start number.
+   * @return the found number or -1.
+   */
+  public int nextSetBit(int from) {
+
+    if (from < 0) {
+      from = 0;
+    }
+
+    var index = wordIndex(from);
+
+    if (index >= words.length) {
+      return -1;
+    }
+
+    var word = words[index] & (-1L << from);
+
+    while (true) {
+
+      if (word != 0) {
+        return index * WORD_SIZE + Long.numberOfTrailingZeros(word);
+      } else if (++index == words.length) {
+        return -1;
+      }
+
+      word = words[index];
+    }
+  }
+
+  @Override
+  public void forEach(IntConsumer consumer) {
+    for (int i = 0, length = words.length; i < length; i++) {
+      for (var word = words[i]; word != 0; word &= word - 1) {
+        consumer.accept(i * WORD_SIZE + Long.numberOfTrailingZeros(word));
+      }
+    }
+  }
+
+  @Override
+  public BitSetArray or(IntBitmap other) {
+
+    if (!(other instanceof BitSetArray bitSet)) {
+      IntBitmap.super.or(other);
+      return this;
+    }
+
+    var otherWords = bitSet.words;
+
+    if (otherWords.length > words.length) {
+      words = Arrays.copyOf(words, otherWords.length);
+    }
+
+    var newCardinality = 0;
+
+    for (int i = 0, length = words.length; i < length; i++) {
+      var word = i < otherWords.length ? words[i] | otherWords[i] : words[i];
+      words[i] = word;
+      newCardinality += Long.bitCount(word);
+    }
+
+    cardinality = newCardinality;
+    return this;
+  }
+
+  @Override
+  public BitSetArray and(IntBitmap other) {
+
+    if (!(other instanceof BitSetArray bitSet)) {
+      IntBitmap.super.and(other);
+      return this;
+    }
+
+    var otherWords = bitSet.words;
+    var newCardinality = 0;
+
+    for (int i = 0, length = words.length; i < length; i++) {
+      var word = i < otherWords.length ? words[i] & otherWords[i] : 0;
+      words[i] = word;
+      newCardinality += Long.bitCount(word);
+    }
+
+    cardinality = newCardinality;
+    return this;
+  }
+
+  @Override
+  public BitSetArray andNot(IntBitmap other) {
+
+    if (!(other instanceof BitSetArray bitSet)) {
+      IntBitmap.super.andNot(other);
+      return this;
+    }
+
+    var otherWords = bitSet.words;
+    var newCardinality = 0;
+
+    for (int i = 0, length = words.length; i < length; i++) {
+      var word = i < otherWords.length ? words[i] & ~otherWords[i] : words[i];
+      words[i] = word;
+      newCardinality += Long.bitCount(word);
+    }
+
+    cardinality = newCardinality;
+    return this;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+
+    if (this == obj) {
+      return true;
+    }
+
+    if (!(obj instanceof BitSetArray other) || cardinality != other.cardinality) {
+      return false;
+    }
+
+    var length = Math.min(words.length, other.words.length);
+
+    return Arrays.equals(words, 0, length, other.words, 0, length);
+  }
+
+  @Override
+  public int hashCode() {
+
+    var hash = 1234L;
+
+    for (int i = words.length; --i >= 0; ) {
+      hash ^= words[i] * (i + 1);
+    }
+
+    return (int) ((hash >> 32) ^ hash);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(toArray());
+  }
+}
@@ -0,0 +1,180 @@
+package javasabr.rlib.common.util.array.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+import javasabr.rlib.common.util.array.IntBitmap;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * The implementation of thread-safe bitmap with fixed capacity. Adding and removing a number is a single atomic
+ * operation over a word, so it doesn't need any locks. Bulk operations are atomic only per word and {@link
+ * #cardinality()} is an estimate during concurrent modifications.
+ *
+ * @author JavaSaBr
+ */
+@NullMarked
+public class ConcurrentBitSetArray implements IntBitmap {
+
+  private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+  private final long[] words;
+  private final int capacity;
+
+  public ConcurrentBitSetArray(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity should be positive: " + capacity);
+    }
+    this.words = new long[BitSetArray.wordsFor(capacity)];
+    this.capacity = capacity;
+  }
+
+  /**
+   * Get the max number + 1 which can be stored in this bitmap.
+   *
+   * @return the capacity.
+   */
+  public int capacity() {
+    return capacity;
+  }
+
+  @Override
+  public boolean add(int number) {
+    Objects.checkIndex(number, capacity);
+    var bit = 1L << number;
+    return ((long) WORDS.getAndBitwiseOr(words, BitSetArray.wordIndex(number), bit) & bit) == 0;
+  }
+
+  @Override
+  public boolean remove(int number) {
+
+    if (number < 0 || number >= capacity) {
+      return false;
+    }
+
+    var bit = 1L << number;
+
+    return ((long) WORDS.getAndBitwiseAnd(words, BitSetArray.wordIndex(number), ~bit) & bit) != 0;
+  }
+
+  @Override
+  public boolean contains(int number) {
+    return number >= 0 && number < capacity
+        && ((long) WORDS.getVolatile(words, BitSetArray.wordIndex(number)) & (1L << number)) != 0;
+  }
+
+  @Override
+  public int cardinality() {
+
+    var result = 0;
+
+    for (int i = 0, length = words.length; i < length; i++) {
+      result += Long.bitCount((long) WORDS.getVolatile(words, i));
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isEmpty() {
+
+    for (int i = 0, length = words.length; i < length; i++) {
+      if ((long) WORDS.getVolatile(words, i) != 0) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  @Override
+  public ConcurrentBitSetArray clear() {
+
+    for (int i = 0, length = words.length; i < length; i++) {
+      WORDS.setVolatile(words, i, 0L);
+    }
+
+    return this;
+  }
+
+  @Override
+  public void forEach(IntConsumer consumer) {
+    for (int i = 0, length = words.length; i < length; i++) {
+      for (var word = (long) WORDS.getVolatile(words, i); word != 0; word &= word - 1) {
+        consumer.accept(i * BitSetArray.WORD_SIZE + Long.numberOfTrailingZeros(word));
+      }
+    }
+  }
+
+  @Override
+  public ConcurrentBitSetArray or(IntBitmap other) {
+
+    if (!(other instanceof ConcurrentBitSetArray bitSet)) {
+      IntBitmap.super.or(other);
+      return this;
+    }
+
+    var otherWords = bitSet.words;
+
+    if (otherWords.length > words.length) {
+      for (int i = words.length, length = otherWords.length; i < length; i++) {
+        if ((long) WORDS.getVolatile(otherWords, i) != 0) {
+          throw new IndexOutOfBoundsException("The other bitmap has numbers out of capacity " + capacity);
+        }
+      }
+    }
+
+    for (int i = 0, length = Math.min(words.length, otherWords.length); i < length; i++) {
+      var word = (long) WORDS.getVolatile(otherWords, i);
+      if (word != 0) {
+        WORDS.getAndBitwiseOr(words, i, word);
+      }
+    }
+
+    return this;
+  }
+
+  @Override
+  public ConcurrentBitSetArray and(IntBitmap other) {
+
+    if (!(other instanceof ConcurrentBitSetArray bitSet)) {
+      IntBitmap.super.and(other);
+      return this;
+    }
+
+    var otherWords = bitSet.words;
+
+    for (int i = 0, length = words.length; i < length; i++) {
+      WORDS.getAndBitwiseAnd(words, i, i < otherWords.length ? (long) WORDS.getVolatile(otherWords, i) : 0L);
+    }
+
+    return this;
+  }
+
+  @Override
+  public ConcurrentBitSetArray andNot(IntBitmap other) {
+
+    if (!(other instanceof ConcurrentBitSetArray bitSet)) {
+      IntBitmap.super.andNot(other);
+      return this;
+    }
+
+    var otherWords = bitSet.words;
+
+    for (int i = 0, length = Math.min(words.length, otherWords.length); i < length; i++) {
+      var word = (long) WORDS.getVolatile(otherWords, i);
+      if (word != 0) {
+        WORDS.getAndBitwiseAnd(words, i, ~word);
+      }
+    }
+
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(toArray());
+  }
+}
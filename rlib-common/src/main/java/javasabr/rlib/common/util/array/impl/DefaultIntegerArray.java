@@ -2,6 +2,7 @@ package javasabr.rlib.common.util.array.impl;
 
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.function.IntPredicate;
 import javasabr.rlib.common.util.ArrayUtils;
 import javasabr.rlib.common.util.array.ArrayIterator;
 import javasabr.rlib.common.util.array.IntegerArray;
@@ -36,58 +37,49 @@ public class DefaultIntegerArray implements MutableIntegerArray {
 
   @Override
   public DefaultIntegerArray add(int number) {
-
-    if (size == array.length) {
-      array = ArrayUtils.copyOf(array, Math.max(array.length >> 1, 1));
-    }
-
+    ensureCapacity(size + 1);
     array[size++] = number;
-
     return this;
   }
 
   @Override
   public DefaultIntegerArray addAll(int [] numbers) {
+    return addAll(numbers, 0, numbers.length);
+  }
 
-    if (numbers.length < 1) {
-      return this;
-    }
+  @Override
+  public DefaultIntegerArray addAll(int [] numbers, int offset, int length) {
 
-    var current = array.length;
-    var diff = size() + numbers.length - current;
+    Objects.checkFromIndexSize(offset, length, numbers.length);
 
-    if (diff > 0) {
-      array = ArrayUtils.copyOf(array, Math.max(current >> 1, diff));
+    if (length < 1) {
+      return this;
     }
 
-    for (var value : numbers) {
-      add(value);
-    }
+    ensureCapacity(size + length);
+    System.arraycopy(numbers, offset, array, size, length);
+    size += length;
 
     return this;
   }
 
   @Override
   public final DefaultIntegerArray addAll(IntegerArray numbers) {
+    return addAll(numbers.array(), 0, numbers.size());
+  }
 
-    if (numbers.isEmpty()) {
-      return this;
-    }
+  /**
+   * Grow the wrapped array at least by half to store the required count of numbers.
+   *
+   * @param required the required count of numbers.
+   */
+  protected final void ensureCapacity(int required) {
 
     var current = array.length;
-    var diff = size() + numbers.size() - current;
 
-    if (diff > 0) {
-      array = ArrayUtils.copyOf(array, Math.max(current >> 1, diff));
+    if (required > current) {
+      array = ArrayUtils.copyOf(array, Math.max(Math.max(current >> 1, 1), required - current));
     }
-
-    var array = numbers.array();
-
-    for (int i = 0, length = numbers.size(); i < length; i++) {
-      add(array[i]);
-    }
-
-    return this;
   }
 
   @Override
@@ -102,7 +94,7 @@ public class DefaultIntegerArray implements MutableIntegerArray {
   }
 
   @Override
-  public final boolean fastRemoveByIndex(int index) {
+  public boolean fastRemoveByIndex(int index) {
 
     if (index < 0 || size < 1 || index >= size) {
       return false;
@@ -186,7 +178,30 @@ public class DefaultIntegerArray implements MutableIntegerArray {
   }
 
   @Override
-  public final DefaultIntegerArray sort() {
+  public boolean removeIf(IntPredicate filter) {
+
+    var array = array();
+    var newSize = 0;
+
+    for (int i = 0, length = size; i < length; i++) {
+      var number = array[i];
+      if (!filter.test(number)) {
+        array[newSize++] = number;
+      }
+    }
+
+    if (newSize == size) {
+      return false;
+    }
+
+    Arrays.fill(array, newSize, size, 0);
+    size = newSize;
+
+    return true;
+  }
+
+  @Override
+  public DefaultIntegerArray sort() {
     ArrayUtils.sort(array, 0, size);
     return this;
   }
@@ -1,5 +1,8 @@
 package javasabr.rlib.common.util.array.impl;
 
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.LongPredicate;
 import javasabr.rlib.common.util.ArrayUtils;
 import javasabr.rlib.common.util.array.ArrayIterator;
 import javasabr.rlib.common.util.array.LongArray;
@@ -42,55 +45,49 @@ public class FastLongArray implements LongArray {
 
   @Override
   public FastLongArray add(final long element) {
-
-    if (size == array.length) {
-      array = ArrayUtils.copyOf(array, Math.max(array.length >> 1, 1));
-    }
-
+    ensureCapacity(size + 1);
     array[size++] = element;
     return this;
   }
 
   @Override
   public final FastLongArray addAll(final long[] elements) {
-    if (elements == null || elements.length < 1) {
-      return this;
-    }
+    return addAll(elements, 0, elements.length);
+  }
 
-    final int current = array.length;
-    final int diff = size() + elements.length - current;
+  @Override
+  public FastLongArray addAll(final long[] elements, final int offset, final int length) {
 
-    if (diff > 0) {
-      array = ArrayUtils.copyOf(array, Math.max(current >> 1, diff));
-    }
+    Objects.checkFromIndexSize(offset, length, elements.length);
 
-    for (final long element : elements) {
-      add(element);
+    if (length < 1) {
+      return this;
     }
 
+    ensureCapacity(size + length);
+    System.arraycopy(elements, offset, array, size, length);
+    size += length;
+
     return this;
   }
 
   @Override
   public final FastLongArray addAll(final LongArray elements) {
-    if (elements == null || elements.isEmpty()) {
-      return this;
-    }
-
-    final int current = array.length;
-    final int diff = size() + elements.size() - current;
+    return addAll(elements.array(), 0, elements.size());
+  }
 
-    if (diff > 0) {
-      array = ArrayUtils.copyOf(array, Math.max(current >> 1, diff));
-    }
+  /**
+   * Grow the wrapped array at least by half to store the required count of elements.
+   *
+   * @param required the required count of elements.
+   */
+  protected final void ensureCapacity(final int required) {
 
-    final long[] array = elements.array();
+    final int current = array.length;
 
-    for (int i = 0, length = elements.size(); i < length; i++) {
-      add(array[i]);
+    if (required > current) {
+      array = ArrayUtils.copyOf(array, Math.max(Math.max(current >> 1, 1), required - current));
     }
-
-    return this;
   }
 
   @Override
@@ -105,7 +102,7 @@ public class FastLongArray implements LongArray {
   }
 
   @Override
-  public final boolean fastRemove(final int index) {
+  public boolean fastRemove(final int index) {
 
     if (index < 0 || size < 1 || index >= size) {
       return false;
@@ -132,7 +129,7 @@ public class FastLongArray implements LongArray {
   }
 
   @Override
-  public final int indexOf(final long element) {
+  public int indexOf(final long element) {
 
     final long[] array = array();
 
@@ -201,7 +198,31 @@ public class FastLongArray implements LongArray {
   }
 
   @Override
-  public final FastLongArray sort() {
+  public boolean removeIf(final LongPredicate filter) {
+
+    final long[] array = array();
+
+    int newSize = 0;
+
+    for (int i = 0, length = size; i < length; i++) {
+      final long element = array[i];
+      if (!filter.test(element)) {
+        array[newSize++] = element;
+      }
+    }
+
+    if (newSize == size) {
+      return false;
+    }
+
+    Arrays.fill(array, newSize, size, 0);
+    size = newSize;
+
+    return true;
+  }
+
+  @Override
+  public FastLongArray sort() {
     ArrayUtils.sort(array, 0, size);
     return this;
   }
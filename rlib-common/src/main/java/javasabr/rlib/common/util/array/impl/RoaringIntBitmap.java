@@ -0,0 +1,719 @@
+package javasabr.rlib.common.util.array.impl;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import javasabr.rlib.common.util.array.IntBitmap;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * The implementation of compressed bitmap of any int numbers. Numbers are split to chunks by high 16 bits, every
+ * chunk is stored in a sorted array of low 16 bits while it's sparse and in a fixed bitmap of 1024 words when it
+ * becomes dense, so union, intersection and difference work per chunk and skip missed chunks at all. Keys of chunks
+ * are stored with the flipped sign bit, so chunks and numbers are iterated in ascending signed order. This bitmap isn't
+ * thread-safe.
+ *
+ * @author JavaSaBr
+ */
+@NullMarked
+public class RoaringIntBitmap implements IntBitmap {
+
+  /**
+   * The max count of numbers in an array container, more numbers take less memory in a bitmap container.
+   */
+  private static final int ARRAY_MAX_SIZE = 4096;
+
+  private static final int BITMAP_WORDS = 1024;
+
+  /**
+   * The sign bit of high 16 bits, flipping it makes unsigned order of keys the same as signed order of numbers.
+   */
+  private static final int SIGN_FLIP = 0x8000;
+
+  private abstract static class Container {
+
+    int cardinality;
+
+    abstract boolean contains(char low);
+
+    abstract Container add(char low);
+
+    abstract Container remove(char low);
+
+    abstract Container or(Container other);
+
+    abstract Container and(Container other);
+
+    abstract Container andNot(Container other);
+
+    abstract void forEach(int high, IntConsumer consumer);
+
+    abstract Container copy();
+  }
+
+  private static final class ArrayContainer extends Container {
+
+    private char[] values;
+
+    private ArrayContainer(int capacity) {
+      this.values = new char[capacity];
+    }
+
+    private ArrayContainer(char[] values, int cardinality) {
+      this.values = values;
+      this.cardinality = cardinality;
+    }
+
+    private int indexOf(char low) {
+      return Arrays.binarySearch(values, 0, cardinality, low);
+    }
+
+    @Override
+    boolean contains(char low) {
+      return indexOf(low) >= 0;
+    }
+
+    @Override
+    Container add(char low) {
+
+      var index = indexOf(low);
+
+      if (index >= 0) {
+        return this;
+      } else if (cardinality == ARRAY_MAX_SIZE) {
+        return toBitmap().add(low);
+      }
+
+      var insertion = -(index + 1);
+
+      if (cardinality == values.length) {
+        values = Arrays.copyOf(values, Math.min(ARRAY_MAX_SIZE, Math.max(4, cardinality * 2)));
+      }
+
+      System.arraycopy(values, insertion, values, insertion + 1, cardinality - insertion);
+
+      values[insertion] = low;
+      cardinality++;
+
+      return this;
+    }
+
+    @Override
+    Container remove(char low) {
+
+      var index = indexOf(low);
+
+      if (index >= 0) {
+        System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+        cardinality--;
+      }
+
+      return this;
+    }
+
+    @Override
+    Container or(Container other) {
+
+      if (other instanceof BitmapContainer bitmap) {
+        return bitmap.copy().or(this);
+      }
+
+      var array = (ArrayContainer) other;
+
+      if (cardinality + array.cardinality > ARRAY_MAX_SIZE) {
+        return toBitmap().or(array);
+      }
+
+      var merged = new char[Math.max(4, cardinality + array.cardinality)];
+      var otherValues = array.values;
+      int i = 0, j = 0, n = 0;
+
+      while (i < cardinality && j < array.cardinality) {
+
+        var first = values[i];
+        var second = otherValues[j];
+
+        if (first < second) {
+          merged[n++] = first;
+          i++;
+        } else if (first > second) {
+          merged[n++] = second;
+          j++;
+        } else {
+          merged[n++] = first;
+          i++;
+          j++;
+        }
+      }
+
+      while (i < cardinality) {
+        merged[n++] = values[i++];
+      }
+
+      while (j < array.cardinality) {
+        merged[n++] = otherValues[j++];
+      }
+
+      values = merged;
+      cardinality = n;
+
+      return this;
+    }
+
+    @Override
+    Container and(Container other) {
+
+      var n = 0;
+
+      if (other instanceof BitmapContainer bitmap) {
+        for (int i = 0; i < cardinality; i++) {
+          if (bitmap.contains(values[i])) {
+            values[n++] = values[i];
+          }
+        }
+      } else {
+
+        var array = (ArrayContainer) other;
+        var otherValues = array.values;
+        int i = 0, j = 0;
+
+        while (i < cardinality && j < array.cardinality) {
+
+          var first = values[i];
+          var second = otherValues[j];
+
+          if (first < second) {
+            i++;
+          } else if (first > second) {
+            j++;
+          } else {
+            values[n++] = first;
+            i++;
+            j++;
+          }
+        }
+      }
+
+      cardinality = n;
+      return this;
+    }
+
+    @Override
+    Container andNot(Container other) {
+
+      var n = 0;
+
+      if (other instanceof BitmapContainer bitmap) {
+        for (int i = 0; i < cardinality; i++) {
+          if (!bitmap.contains(values[i])) {
+            values[n++] = values[i];
+          }
+        }
+      } else {
+
+        var array = (ArrayContainer) other;
+        var otherValues = array.values;
+        int j = 0;
+
+        for (int i = 0; i < cardinality; i++) {
+
+          var value = values[i];
+
+          while (j < array.cardinality && otherValues[j] < value) {
+            j++;
+          }
+
+          if (j == array.cardinality || otherValues[j] != value) {
+            values[n++] = value;
+          }
+        }
+      }
+
+      cardinality = n;
+      return this;
+    }
+
+    @Override
+    void forEach(int high, IntConsumer consumer) {
+      var base = high << 16;
+      for (int i = 0; i < cardinality; i++) {
+        consumer.accept(base | values[i]);
+      }
+    }
+
+    @Override
+    ArrayContainer copy() {
+      return new ArrayContainer(Arrays.copyOf(values, cardinality), cardinality);
+    }
+
+    private BitmapContainer toBitmap() {
+
+      var bitmap = new BitmapContainer();
+      var words = bitmap.words;
+
+      for (int i = 0; i < cardinality; i++) {
+        var value = values[i];
+        words[value >>> 6] |= 1L << value;
+      }
+
+      bitmap.cardinality = cardinality;
+
+      return bitmap;
+    }
+  }
+
+  private static final class BitmapContainer extends Container {
+
+    private final long[] words;
+
+    private BitmapContainer() {
+      this.words = new long[BITMAP_WORDS];
+    }
+
+    private BitmapContainer(long[] words, int cardinality) {
+      this.words = words;
+      this.cardinality = cardinality;
+    }
+
+    @Override
+    boolean contains(char low) {
+      return (words[low >>> 6] & (1L << low)) != 0;
+    }
+
+    @Override
+    Container add(char low) {
+
+      var index = low >>> 6;
+      var word = words[index];
+      var bit = 1L << low;
+
+      if ((word & bit) == 0) {
+        words[index] = word | bit;
+        cardinality++;
+      }
+
+      return this;
+    }
+
+    @Override
+    Container remove(char low) {
+
+      var index = low >>> 6;
+      var word = words[index];
+      var bit = 1L << low;
+
+      if ((word & bit) != 0) {
+        words[index] = word & ~bit;
+        cardinality--;
+      }
+
+      return shrink();
+    }
+
+    @Override
+    Container or(Container other) {
+
+      if (other instanceof BitmapContainer bitmap) {
+        for (int i = 0; i < BITMAP_WORDS; i++) {
+          words[i] |= bitmap.words[i];
+        }
+        return recount();
+      }
+
+      var array = (ArrayContainer) other;
+
+      for (int i = 0; i < array.cardinality; i++) {
+        add(array.values[i]);
+      }
+
+      return this;
+    }
+
+    @Override
+    Container and(Container other) {
+
+      if (other instanceof BitmapContainer bitmap) {
+        for (int i = 0; i < BITMAP_WORDS; i++) {
+          words[i] &= bitmap.words[i];
+        }
+        return recount().shrink();
+      }
+
+      var array = (ArrayContainer) other;
+      var result = new ArrayContainer(Math.max(4, array.cardinality));
+
+      for (int i = 0; i < array.cardinality; i++) {
+        var value = array.values[i];
+        if (contains(value)) {
+          result.values[result.cardinality++] = value;
+        }
+      }
+
+      return result;
+    }
+
+    @Override
+    Container andNot(Container other) {
+
+      if (other instanceof BitmapContainer bitmap) {
+        for (int i = 0; i < BITMAP_WORDS; i++) {
+          words[i] &= ~bitmap.words[i];
+        }
+        return recount().shrink();
+      }
+
+      var array = (ArrayContainer) other;
+
+      for (int i = 0; i < array.cardinality; i++) {
+        var value = array.values[i];
+        var index = value >>> 6;
+        var bit = 1L << value;
+        if ((words[index] & bit) != 0) {
+          words[index] &= ~bit;
+          cardinality--;
+        }
+      }
+
+      return shrink();
+    }
+
+    @Override
+    void forEach(int high, IntConsumer consumer) {
+      var base = high << 16;
+      for (int i = 0; i < BITMAP_WORDS; i++) {
+        for (var word = words[i]; word != 0; word &= word - 1) {
+          consumer.accept(base | (i << 6) | Long.numberOfTrailingZeros(word));
+        }
+      }
+    }
+
+    @Override
+    BitmapContainer copy() {
+      return new BitmapContainer(words.clone(), cardinality);
+    }
+
+    private BitmapContainer recount() {
+
+      var result = 0;
+
+      for (var word : words) {
+        result += Long.bitCount(word);
+      }
+
+      cardinality = result;
+      return this;
+    }
+
+    private Container shrink() {
+
+      if (cardinality > ARRAY_MAX_SIZE) {
+        return this;
+      }
+
+      var array = new ArrayContainer(Math.max(4, cardinality));
+      var values = array.values;
+      var n = 0;
+
+      for (int i = 0; i < BITMAP_WORDS; i++) {
+        for (var word = words[i]; word != 0; word &= word - 1) {
+          values[n++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+        }
+      }
+
+      array.cardinality = n;
+      return array;
+    }
+  }
+
+  private static char high(int number) {
+    return (char) ((number >>> 16) ^ SIGN_FLIP);
+  }
+
+  /**
+   * The sorted high 16 bits of chunks with the flipped sign bit.
+   */
+  private char[] keys;
+
+  /**
+   * The containers of chunks.
+   */
+  private Container[] containers;
+
+  /**
+   * The count of chunks.
+   */
+  private int size;
+
+  /**
+   * The count of numbers.
+   */
+  private int cardinality;
+
+  public RoaringIntBitmap() {
+    this.keys = new char[4];
+    this.containers = new Container[4];
+  }
+
+  private int indexOfKey(char key) {
+    return Arrays.binarySearch(keys, 0, size, key);
+  }
+
+  @Override
+  public boolean add(int number) {
+
+    var key = high(number);
+    var index = indexOfKey(key);
+
+    Container container;
+
+    if (index < 0) {
+      index = -(index + 1);
+      container = new ArrayContainer(4);
+      insertContainer(index, key, container);
+    } else {
+      container = containers[index];
+    }
+
+    var before = container.cardinality;
+
+    container = container.add((char) number);
+    containers[index] = container;
+
+    if (container.cardinality == before) {
+      return false;
+    }
+
+    cardinality++;
+    return true;
+  }
+
+  @Override
+  public boolean remove(int number) {
+
+    var index = indexOfKey(high(number));
+
+    if (index < 0) {
+      return false;
+    }
+
+    var container = containers[index];
+    var before = container.cardinality;
+
+    container = container.remove((char) number);
+
+    if (container.cardinality == before) {
+      return false;
+    } else if (container.cardinality == 0) {
+      removeContainer(index);
+    } else {
+      containers[index] = container;
+    }
+
+    cardinality--;
+    return true;
+  }
+
+  @Override
+  public boolean contains(int number) {
+    var index = indexOfKey(high(number));
+    return index >= 0 && containers[index].contains((char) number);
+  }
+
+  @Override
+  public int cardinality() {
+    return cardinality;
+  }
+
+  @Override
+  public RoaringIntBitmap clear() {
+    Arrays.fill(containers, 0, size, null);
+    size = 0;
+    cardinality = 0;
+    return this;
+  }
+
+  @Override
+  public void forEach(IntConsumer consumer) {
+    for (int i = 0; i < size; i++) {
+      containers[i].forEach(keys[i] ^ SIGN_FLIP, consumer);
+    }
+  }
+
+  @Override
+  public RoaringIntBitmap or(IntBitmap other) {
+
+    if (other == this) {
+      return this;
+    }
+
+    if (!(other instanceof RoaringIntBitmap roaring)) {
+      IntBitmap.super.or(other);
+      return this;
+    }
+
+    var newKeys = new char[Math.max(4, size + roaring.size)];
+    var newContainers = new Container[newKeys.length];
+    int i = 0, j = 0, n = 0;
+
+    while (i < size && j < roaring.size) {
+
+      var first = keys[i];
+      var second = roaring.keys[j];
+
+      if (first < second) {
+        newKeys[n] = first;
+        newContainers[n++] = containers[i++];
+      } else if (first > second) {
+        newKeys[n] = second;
+        newContainers[n++] = roaring.containers[j++].copy();
+      } else {
+        newKeys[n] = first;
+        newContainers[n++] = containers[i++].or(roaring.containers[j++]);
+      }
+    }
+
+    while (i < size) {
+      newKeys[n] = keys[i];
+      newContainers[n++] = containers[i++];
+    }
+
+    while (j < roaring.size) {
+      newKeys[n] = roaring.keys[j];
+      newContainers[n++] = roaring.containers[j++].copy();
+    }
+
+    keys = newKeys;
+    containers = newContainers;
+    size = n;
+
+    return recount();
+  }
+
+  @Override
+  public RoaringIntBitmap and(IntBitmap other) {
+
+    if (other == this) {
+      return this;
+    }
+
+    if (!(other instanceof RoaringIntBitmap roaring)) {
+      IntBitmap.super.and(other);
+      return this;
+    }
+
+    int i = 0, j = 0, n = 0;
+
+    while (i < size && j < roaring.size) {
+
+      var first = keys[i];
+      var second = roaring.keys[j];
+
+      if (first < second) {
+        i++;
+      } else if (first > second) {
+        j++;
+      } else {
+
+        var container = containers[i++].and(roaring.containers[j++]);
+
+        if (container.cardinality > 0) {
+          keys[n] = first;
+          containers[n++] = container;
+        }
+      }
+    }
+
+    Arrays.fill(containers, n, size, null);
+    size = n;
+
+    return recount();
+  }
+
+  @Override
+  public RoaringIntBitmap andNot(IntBitmap other) {
+
+    if (other == this) {
+      return clear();
+    }
+
+    if (!(other instanceof RoaringIntBitmap roaring)) {
+      IntBitmap.super.andNot(other);
+      return this;
+    }
+
+    int j = 0, n = 0;
+
+    for (int i = 0; i < size; i++) {
+
+      var key = keys[i];
+      var container = containers[i];
+
+      while (j < roaring.size && roaring.keys[j] < key) {
+        j++;
+      }
+
+      if (j < roaring.size && roaring.keys[j] == key) {
+        container = container.andNot(roaring.containers[j]);
+      }
+
+      if (container.cardinality > 0) {
+        keys[n] = key;
+        containers[n++] = container;
+      }
+    }
+
+    Arrays.fill(containers, n, size, null);
+    size = n;
+
+    return recount();
+  }
+
+  private void insertContainer(int index, char key, Container container) {
+
+    if (size == keys.length) {
+      keys = Arrays.copyOf(keys, size * 2);
+      containers = Arrays.copyOf(containers, size * 2);
+    }
+
+    System.arraycopy(keys, index, keys, index + 1, size - index);
+    System.arraycopy(containers, index, containers, index + 1, size - index);
+
+    keys[index] = key;
+    containers[index] = container;
+    size++;
+  }
+
+  private void removeContainer(int index) {
+    System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+    System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+    containers[--size] = null;
+  }
+
+  private RoaringIntBitmap recount() {
+
+    var result = 0;
+
+    for (int i = 0; i < size; i++) {
+      result += containers[i].cardinality;
+    }
+
+    cardinality = result;
+    return this;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    return obj == this || obj instanceof RoaringIntBitmap other
+        && cardinality == other.cardinality
+        && Arrays.equals(toArray(), other.toArray());
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(toArray());
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(toArray());
+  }
+}
@@ -0,0 +1,117 @@
+package javasabr.rlib.common.util.array.impl;
+
+import java.util.Objects;
+import javasabr.rlib.common.util.ArrayUtils;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * The implementation of dynamic integer array which keeps unique numbers in ascending order, so lookups use binary
+ * search.
+ *
+ * @author JavaSaBr
+ */
+@NullMarked
+public class SortedIntegerArray extends DefaultIntegerArray {
+
+  public SortedIntegerArray() {
+    super();
+  }
+
+  public SortedIntegerArray(int size) {
+    super(size);
+  }
+
+  public SortedIntegerArray(int [] numbers) {
+    super(ArrayUtils.copyOfRange(numbers, 0, numbers.length));
+    normalize();
+  }
+
+  @Override
+  public SortedIntegerArray add(int number) {
+
+    var index = binarySearch(number);
+
+    if (index >= 0) {
+      return this;
+    }
+
+    var insertion = -(index + 1);
+
+    ensureCapacity(size + 1);
+    System.arraycopy(array, insertion, array, insertion + 1, size - insertion);
+
+    array[insertion] = number;
+    size++;
+
+    return this;
+  }
+
+  @Override
+  public SortedIntegerArray addAll(int [] numbers, int offset, int length) {
+
+    Objects.checkFromIndexSize(offset, length, numbers.length);
+
+    if (length == 1) {
+      return add(numbers[offset]);
+    } else if (length > 1) {
+      super.addAll(numbers, offset, length);
+      normalize();
+    }
+
+    return this;
+  }
+
+  @Override
+  public boolean contains(int element) {
+    return binarySearch(element) >= 0;
+  }
+
+  @Override
+  public int indexOf(int element) {
+    var index = binarySearch(element);
+    return index < 0 ? -1 : index;
+  }
+
+  @Override
+  public int lastIndexOf(int element) {
+    return indexOf(element);
+  }
+
+  /**
+   * Remove a number by the index with keeping order of other numbers.
+   *
+   * @param index the index of number to remove.
+   * @return true if the number was removed.
+   */
+  @Override
+  public boolean fastRemoveByIndex(int index) {
+    return index >= 0 && index < size && removeByIndex(index);
+  }
+
+  @Override
+  public SortedIntegerArray sort() {
+    return this;
+  }
+
+  /**
+   * Sort numbers and remove duplicates.
+   */
+  private void normalize() {
+
+    ArrayUtils.sort(array, 0, size);
+
+    var newSize = Math.min(size, 1);
+
+    for (int i = 1; i < size; i++) {
+      if (array[i] != array[newSize - 1]) {
+        array[newSize++] = array[i];
+      }
+    }
+
+    for (int i = newSize; i < size; i++) {
+      array[i] = 0;
+    }
+
+    size = newSize;
+  }
+}
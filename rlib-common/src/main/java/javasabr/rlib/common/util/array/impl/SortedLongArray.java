@@ -0,0 +1,117 @@
+package javasabr.rlib.common.util.array.impl;
+
+import java.util.Objects;
+import javasabr.rlib.common.util.ArrayUtils;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * The implementation of dynamic long array which keeps unique elements in ascending order, so lookups use binary
+ * search.
+ *
+ * @author JavaSaBr
+ */
+@NullMarked
+public class SortedLongArray extends FastLongArray {
+
+  public SortedLongArray() {
+    super();
+  }
+
+  public SortedLongArray(int size) {
+    super(size);
+  }
+
+  public SortedLongArray(long[] elements) {
+    super(elements.length);
+    addAll(elements);
+  }
+
+  @Override
+  public SortedLongArray add(long element) {
+
+    var index = binarySearch(element);
+
+    if (index >= 0) {
+      return this;
+    }
+
+    var insertion = -(index + 1);
+
+    ensureCapacity(size + 1);
+    System.arraycopy(array, insertion, array, insertion + 1, size - insertion);
+
+    array[insertion] = element;
+    size++;
+
+    return this;
+  }
+
+  @Override
+  public SortedLongArray addAll(long[] elements, int offset, int length) {
+
+    Objects.checkFromIndexSize(offset, length, elements.length);
+
+    if (length == 1) {
+      return add(elements[offset]);
+    } else if (length > 1) {
+      super.addAll(elements, offset, length);
+      normalize();
+    }
+
+    return this;
+  }
+
+  @Override
+  public boolean contains(long element) {
+    return binarySearch(element) >= 0;
+  }
+
+  @Override
+  public int indexOf(long element) {
+    var index = binarySearch(element);
+    return index < 0 ? -1 : index;
+  }
+
+  @Override
+  public int lastIndexOf(long element) {
+    return indexOf(element);
+  }
+
+  /**
+   * Remove an element by the index with keeping order of other elements.
+   *
+   * @param index the index of element to remove.
+   * @return true if the element was removed.
+   */
+  @Override
+  public boolean fastRemove(int index) {
+    return index >= 0 && index < size && slowRemove(index);
+  }
+
+  @Override
+  public SortedLongArray sort() {
+    return this;
+  }
+
+  /**
+   * Sort elements and remove duplicates.
+   */
+  private void normalize() {
+
+    ArrayUtils.sort(array, 0, size);
+
+    var newSize = Math.min(size, 1);
+
+    for (int i = 1; i < size; i++) {
+      if (array[i] != array[newSize - 1]) {
+        array[newSize++] = array[i];
+      }
+    }
+
+    for (int i = newSize; i < size; i++) {
+      array[i] = 0;
+    }
+
+    size = newSize;
+  }
+}
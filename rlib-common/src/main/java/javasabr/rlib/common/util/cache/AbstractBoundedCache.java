@@ -0,0 +1,593 @@
+package javasabr.rlib.common.util.cache;
+
+import java.util.function.LongSupplier;
+import javasabr.rlib.common.util.ClassUtils;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The base implementation of a bounded cache. Entries are kept in access ordered queues: with
+ * {@link EvictionPolicy#LRU} there is only one queue, with {@link EvictionPolicy#TINY_LFU} new entries get into
+ * a small window queue and entries which leave the window compete by frequency with the oldest entry of the
+ * probation queue, entries which are accessed in the probation queue are promoted to the protected queue.
+ * <p>
+ * Implementations keep an index from keys to nodes and call {@link #read(Node, int)}, {@link #insert(Node)},
+ * {@link #insertAfterMiss(Node)}, {@link #replace(Node, Object)} and {@link #removed(Node)} to let this class
+ * track order, weight and expiration. Concurrent implementations can look up values by {@link #peek(Node)} which
+ * doesn't change anything and handle the accesses later by {@link #afterPeek(Node)}. This class isn't thread-safe.
+ *
+ * @param <V> the value's type.
+ * @param <N> the node's type.
+ * @author JavaSaBr
+ */
+public abstract class AbstractBoundedCache<V, N extends AbstractBoundedCache.Node<V>> implements Cache {
+
+  private static final byte WINDOW = 0;
+  private static final byte PROBATION = 1;
+  private static final byte PROTECTED = 2;
+  private static final byte REMOVED = -1;
+
+  private static final int WINDOW_PERCENT = 1;
+  private static final int PROTECTED_PERCENT = 80;
+
+  /**
+   * The base node of a cached entry.
+   *
+   * @param <V> the value's type.
+   */
+  protected abstract static class Node<V> {
+
+    /**
+     * The hash of the key.
+     */
+    protected final int hash;
+
+    /**
+     * The cached value.
+     */
+    protected V value;
+
+    @Nullable Node<V> prev;
+    @Nullable Node<V> next;
+
+    long writeTime;
+    long accessTime;
+
+    int weight;
+    byte queue;
+
+    protected Node(int hash, V value) {
+      this.hash = hash;
+      this.value = value;
+    }
+  }
+
+  /**
+   * The doubly-linked queue of nodes from the least recently used to the most recently used.
+   *
+   * @param <V> the value's type.
+   */
+  private static final class NodeQueue<V> {
+
+    private @Nullable Node<V> head;
+    private @Nullable Node<V> tail;
+
+    private long weight;
+
+    private void addLast(Node<V> node) {
+
+      node.prev = tail;
+      node.next = null;
+
+      if (tail == null) {
+        head = node;
+      } else {
+        tail.next = node;
+      }
+
+      tail = node;
+      weight += node.weight;
+    }
+
+    private void remove(Node<V> node) {
+
+      var prev = node.prev;
+      var next = node.next;
+
+      if (prev == null) {
+        head = next;
+      } else {
+        prev.next = next;
+      }
+
+      if (next == null) {
+        tail = prev;
+      } else {
+        next.prev = prev;
+      }
+
+      node.prev = null;
+      node.next = null;
+      weight -= node.weight;
+    }
+
+    private void moveToLast(Node<V> node) {
+      if (tail != node) {
+        remove(node);
+        addLast(node);
+      }
+    }
+
+    private void clear() {
+      head = null;
+      tail = null;
+      weight = 0;
+    }
+  }
+
+  private final NodeQueue<V> window;
+  private final NodeQueue<V> probation;
+  private final NodeQueue<V> protectedQueue;
+
+  private final @Nullable FrequencySketch sketch;
+
+  private final Weigher<V> weigher;
+  private final LongSupplier ticker;
+
+  private final long maximumWeight;
+  private final long windowMaximumWeight;
+  private final long protectedMaximumWeight;
+  private final long expireAfterWriteNanos;
+  private final long expireAfterAccessNanos;
+
+  private int size;
+  private long weightedSize;
+
+  private long hitCount;
+  private long missCount;
+  private long evictionCount;
+  private long evictionWeight;
+
+  protected AbstractBoundedCache(CacheConfig config) {
+
+    this.maximumWeight = config.getMaximumWeight();
+    this.expireAfterWriteNanos = config.getExpireAfterWrite().toNanos();
+    this.expireAfterAccessNanos = config.getExpireAfterAccess().toNanos();
+
+    if (maximumWeight < 1) {
+      throw new IllegalArgumentException("Maximum weight must be positive, but was " + maximumWeight);
+    } else if (expireAfterWriteNanos < 0 || expireAfterAccessNanos < 0) {
+      throw new IllegalArgumentException("Expiration time must not be negative.");
+    }
+
+    this.weigher = ClassUtils.unsafeNNCast(config.getWeigher());
+    this.ticker = config.getTicker();
+    this.window = new NodeQueue<>();
+    this.probation = new NodeQueue<>();
+    this.protectedQueue = new NodeQueue<>();
+
+    if (config.getEvictionPolicy() == EvictionPolicy.TINY_LFU) {
+      this.sketch = new FrequencySketch();
+      // the count of entries of a weighted cache is unknown, so its sketch grows with the count
+      if (weigher == Weigher.SINGLETON) {
+        sketch.ensureCapacity((int) Math.min(maximumWeight, Integer.MAX_VALUE));
+      }
+      this.windowMaximumWeight = Math.max(1, maximumWeight * WINDOW_PERCENT / 100);
+      this.protectedMaximumWeight = (maximumWeight - windowMaximumWeight) * PROTECTED_PERCENT / 100;
+    } else {
+      this.sketch = null;
+      this.windowMaximumWeight = maximumWeight;
+      this.protectedMaximumWeight = 0;
+    }
+  }
+
+  /**
+   * Remove the node from the index of this cache.
+   *
+   * @param node the node.
+   */
+  protected abstract void removeFromIndex(N node);
+
+  /**
+   * Remove all nodes from the index of this cache.
+   */
+  protected abstract void clearIndex();
+
+  /**
+   * Notify the eviction listener about removing a value of the node.
+   *
+   * @param node the node.
+   * @param value the removed value.
+   * @param cause the cause of removing.
+   */
+  protected abstract void notifyRemoved(N node, V value, EvictionCause cause);
+
+  /**
+   * Handle a lookup of a key, an expired node is evicted and is handled as a miss.
+   *
+   * @param node the found node or null.
+   * @param hash the hash of the key.
+   * @return the value or null.
+   */
+  protected @Nullable V read(@Nullable N node, int hash) {
+
+    if (sketch != null) {
+      sketch.increment(hash);
+    }
+
+    if (node == null) {
+      missCount++;
+      return null;
+    }
+
+    long now = currentTime();
+
+    if (isExpired(node, now)) {
+      evict(node, EvictionCause.EXPIRED);
+      missCount++;
+      return null;
+    }
+
+    hitCount++;
+    node.accessTime = now;
+    onAccess(node);
+
+    return node.value;
+  }
+
+  /**
+   * Get a value of the node without changing order, statistics and expired nodes, so it can be called by several
+   * threads at once while nothing is changed.
+   *
+   * @param node the found node or null.
+   * @return the value or null if the node is missed or expired.
+   */
+  protected @Nullable V peek(@Nullable N node) {
+    return node != null && isAlive(node) ? node.value : null;
+  }
+
+  /**
+   * Handle a deferred access to the node which was found by {@link #peek(Node)}. The node can be removed or can
+   * expire after the lookup, only the frequency of its key is counted then.
+   *
+   * @param node the accessed node.
+   */
+  protected void afterPeek(N node) {
+
+    if (sketch != null) {
+      sketch.increment(node.hash);
+    }
+
+    if (node.queue == REMOVED) {
+      return;
+    }
+
+    long now = currentTime();
+
+    if (!isExpired(node, now)) {
+      node.accessTime = now;
+      onAccess(node);
+    }
+  }
+
+  /**
+   * Check the found node before writing, an expired node is evicted.
+   *
+   * @param node the found node or null.
+   * @return the node if it's alive or null.
+   */
+  protected @Nullable N alive(@Nullable N node) {
+
+    if (node != null && isExpired(node, currentTime())) {
+      evict(node, EvictionCause.EXPIRED);
+      return null;
+    }
+
+    return node;
+  }
+
+  /**
+   * Check the node without changing anything.
+   *
+   * @param node the node.
+   * @return true if the node isn't expired.
+   */
+  protected boolean isAlive(N node) {
+    return !isExpired(node, currentTime());
+  }
+
+  /**
+   * Handle a new node which was put to the index.
+   *
+   * @param node the new node.
+   */
+  protected void insert(N node) {
+    insert(node, true);
+  }
+
+  /**
+   * Handle a new node which was put to the index after a lookup of its key by {@link #read(Node, int)}, so the use
+   * of the key was already counted.
+   *
+   * @param node the new node.
+   */
+  protected void insertAfterMiss(N node) {
+    insert(node, false);
+  }
+
+  private void insert(N node, boolean countUse) {
+
+    long now = currentTime();
+
+    node.weight = weigh(node.value);
+    node.writeTime = now;
+    node.accessTime = now;
+    node.queue = WINDOW;
+
+    window.addLast(node);
+
+    size++;
+    weightedSize += node.weight;
+
+    if (sketch != null) {
+      sketch.ensureCapacity(size);
+      if (countUse) {
+        sketch.increment(node.hash);
+      }
+    }
+
+    expireHeads(now);
+    evictIfNeeded();
+  }
+
+  /**
+   * Replace a value of the alive node.
+   *
+   * @param node the node.
+   * @param value the new value.
+   * @return the previous value.
+   */
+  protected V replace(N node, V value) {
+
+    long now = currentTime();
+    var queue = queueOf(node);
+    var prevValue = node.value;
+
+    queue.remove(node);
+    weightedSize -= node.weight;
+
+    node.value = value;
+    node.weight = weigh(value);
+    node.writeTime = now;
+    node.accessTime = now;
+
+    queue.addLast(node);
+    weightedSize += node.weight;
+
+    if (sketch != null) {
+      sketch.increment(node.hash);
+    }
+
+    notifyRemoved(node, prevValue, EvictionCause.REPLACED);
+    demoteProtectedOverflow();
+    evictIfNeeded();
+
+    return prevValue;
+  }
+
+  /**
+   * Handle a node which was removed from the index by a user.
+   *
+   * @param node the removed node.
+   */
+  protected void removed(N node) {
+    unlink(node);
+    notifyRemoved(node, node.value, EvictionCause.EXPLICIT);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public long weightedSize() {
+    return weightedSize;
+  }
+
+  @Override
+  public void clear() {
+
+    var queues = ClassUtils.<NodeQueue<V>[]>unsafeNNCast(new NodeQueue[] {window, probation, protectedQueue});
+    var heads = ClassUtils.<Node<V>[]>unsafeNNCast(new Node[queues.length]);
+
+    for (int i = 0; i < queues.length; i++) {
+      heads[i] = queues[i].head;
+      queues[i].clear();
+    }
+
+    size = 0;
+    weightedSize = 0;
+
+    clearIndex();
+
+    for (var head : heads) {
+      for (var node = head; node != null; node = node.next) {
+        N casted = ClassUtils.unsafeNNCast(node);
+        casted.queue = REMOVED;
+        notifyRemoved(casted, node.value, EvictionCause.EXPLICIT);
+      }
+    }
+  }
+
+  @Override
+  public void cleanUp() {
+
+    if (!isExpiring()) {
+      return;
+    }
+
+    long now = currentTime();
+
+    expireAll(window, now);
+    expireAll(probation, now);
+    expireAll(protectedQueue, now);
+  }
+
+  @Override
+  public CacheStats stats() {
+    return new CacheStats(hitCount, missCount, evictionCount, evictionWeight);
+  }
+
+  private void onAccess(Node<V> node) {
+    switch (node.queue) {
+      case WINDOW -> window.moveToLast(node);
+      case PROBATION -> {
+        probation.remove(node);
+        node.queue = PROTECTED;
+        protectedQueue.addLast(node);
+        demoteProtectedOverflow();
+      }
+      default -> protectedQueue.moveToLast(node);
+    }
+  }
+
+  private void demoteProtectedOverflow() {
+    while (protectedQueue.weight > protectedMaximumWeight && protectedQueue.head != null) {
+      var node = protectedQueue.head;
+      protectedQueue.remove(node);
+      node.queue = PROBATION;
+      probation.addLast(node);
+    }
+  }
+
+  private void evictIfNeeded() {
+
+    if (sketch == null) {
+      while (weightedSize > maximumWeight && window.head != null) {
+        evictBySize(window.head);
+      }
+      return;
+    }
+
+    // entries which leave the window are candidates to the main space
+    @Nullable Node<V> candidate = null;
+
+    while (window.weight > windowMaximumWeight && window.head != null) {
+
+      var node = window.head;
+      window.remove(node);
+      node.queue = PROBATION;
+      probation.addLast(node);
+
+      if (candidate == null) {
+        candidate = node;
+      }
+    }
+
+    while (weightedSize > maximumWeight) {
+
+      var victim = probation.head;
+
+      if (candidate != null && victim != null && candidate != victim) {
+        if (sketch.frequency(candidate.hash) > sketch.frequency(victim.hash)) {
+          evictBySize(victim);
+        } else {
+          var next = candidate.next;
+          evictBySize(candidate);
+          candidate = next;
+        }
+        continue;
+      }
+
+      if (victim == null) {
+        victim = protectedQueue.head != null ? protectedQueue.head : window.head;
+      } else if (victim == candidate) {
+        candidate = candidate.next;
+      }
+
+      if (victim == null) {
+        break;
+      }
+
+      evictBySize(victim);
+    }
+  }
+
+  private void evictBySize(Node<V> node) {
+    evict(ClassUtils.unsafeNNCast(node), EvictionCause.SIZE);
+  }
+
+  private void evict(N node, EvictionCause cause) {
+    removeFromIndex(node);
+    unlink(node);
+    evictionCount++;
+    evictionWeight += node.weight;
+    notifyRemoved(node, node.value, cause);
+  }
+
+  private void unlink(N node) {
+    queueOf(node).remove(node);
+    node.queue = REMOVED;
+    size--;
+    weightedSize -= node.weight;
+  }
+
+  private void expireHeads(long now) {
+
+    if (!isExpiring()) {
+      return;
+    }
+
+    expireHead(window, now);
+    expireHead(probation, now);
+    expireHead(protectedQueue, now);
+  }
+
+  private void expireHead(NodeQueue<V> queue, long now) {
+    while (queue.head != null && isExpired(queue.head, now)) {
+      evict(ClassUtils.unsafeNNCast(queue.head), EvictionCause.EXPIRED);
+    }
+  }
+
+  private void expireAll(NodeQueue<V> queue, long now) {
+    for (var node = queue.head; node != null; ) {
+      var next = node.next;
+      if (isExpired(node, now)) {
+        evict(ClassUtils.unsafeNNCast(node), EvictionCause.EXPIRED);
+      }
+      node = next;
+    }
+  }
+
+  private NodeQueue<V> queueOf(Node<V> node) {
+    return switch (node.queue) {
+      case WINDOW -> window;
+      case PROBATION -> probation;
+      default -> protectedQueue;
+    };
+  }
+
+  private boolean isExpiring() {
+    return expireAfterWriteNanos > 0 || expireAfterAccessNanos > 0;
+  }
+
+  private boolean isExpired(Node<V> node, long now) {
+    return expireAfterWriteNanos > 0 && now - node.writeTime >= expireAfterWriteNanos
+        || expireAfterAccessNanos > 0 && now - node.accessTime >= expireAfterAccessNanos;
+  }
+
+  private long currentTime() {
+    return isExpiring() ? ticker.getAsLong() : 0;
+  }
+
+  private int weigh(V value) {
+
+    int weight = weigher.weigh(value);
+
+    if (weight < 0) {
+      throw new IllegalArgumentException("Weight must not be negative, but was " + weight);
+    }
+
+    return weight;
+  }
+}
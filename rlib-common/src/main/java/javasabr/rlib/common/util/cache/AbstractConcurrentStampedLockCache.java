@@ -0,0 +1,225 @@
+package javasabr.rlib.common.util.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The base implementation of a thread-safe cache which guards a not thread-safe cache by {@link StampedLock}. Lookups
+ * take only the read lock and don't change the cache, found entries are recorded to a lossy ring buffer which is
+ * drained under the write lock by a reader which fills it or by the next writer, so order and frequency of entries
+ * are updated in batches. Accesses which don't fit to the full buffer are dropped.
+ *
+ * @param <V> the value's type.
+ * @param <N> the node's type.
+ * @param <C> the guarded cache's type.
+ * @author JavaSaBr
+ */
+public abstract class AbstractConcurrentStampedLockCache<V, N extends AbstractBoundedCache.Node<V>,
+    C extends AbstractBoundedCache<V, N>> implements Cache {
+
+  private static final int READ_BUFFER_SIZE = 128;
+  private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+  private static final int READ_BUFFER_DRAIN_THRESHOLD = READ_BUFFER_SIZE / 4;
+
+  protected final C cache;
+  protected final StampedLock lock;
+
+  private final AtomicReferenceArray<@Nullable N> readBuffer;
+  private final AtomicLong readBufferWrites;
+
+  private final LongAdder hitCount;
+  private final LongAdder missCount;
+
+  /**
+   * The count of drained accesses, it's changed only under the write lock.
+   */
+  private volatile long readBufferReads;
+
+  protected AbstractConcurrentStampedLockCache(C cache) {
+    this.cache = cache;
+    this.lock = new StampedLock();
+    this.readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    this.readBufferWrites = new AtomicLong();
+    this.hitCount = new LongAdder();
+    this.missCount = new LongAdder();
+  }
+
+  /**
+   * Lock this cache for writing, recorded accesses are applied before returning.
+   *
+   * @return the stamp of write lock.
+   */
+  public long writeLock() {
+    var stamp = lock.writeLock();
+    drainReadBuffer();
+    return stamp;
+  }
+
+  /**
+   * Unlock the write lock.
+   *
+   * @param stamp the stamp of write lock.
+   */
+  public void writeUnlock(long stamp) {
+    lock.unlockWrite(stamp);
+  }
+
+  /**
+   * Handle a result of a lookup which was done by {@link AbstractBoundedCache#peek(AbstractBoundedCache.Node)} under
+   * the read lock.
+   *
+   * @param node the found node or null.
+   * @param value the found value or null.
+   * @return the found value or null.
+   */
+  protected @Nullable V afterRead(@Nullable N node, @Nullable V value) {
+
+    if (node == null || value == null) {
+      missCount.increment();
+      return null;
+    }
+
+    return afterHit(node, value);
+  }
+
+  /**
+   * Handle a found value which was got by {@link AbstractBoundedCache#peek(AbstractBoundedCache.Node)} under the read
+   * lock.
+   *
+   * @param node the found node.
+   * @param value the found value.
+   * @return the found value.
+   */
+  protected V afterHit(N node, V value) {
+
+    hitCount.increment();
+
+    if (recordAccess(node)) {
+      tryDrainReadBuffer();
+    }
+
+    return value;
+  }
+
+  private boolean recordAccess(N node) {
+    while (true) {
+
+      long writes = readBufferWrites.get();
+      long pending = writes - readBufferReads;
+
+      if (pending >= READ_BUFFER_SIZE) {
+        return true;
+      } else if (readBufferWrites.compareAndSet(writes, writes + 1)) {
+        readBuffer.lazySet((int) (writes & READ_BUFFER_MASK), node);
+        return pending + 1 >= READ_BUFFER_DRAIN_THRESHOLD;
+      }
+    }
+  }
+
+  private void tryDrainReadBuffer() {
+
+    var stamp = lock.tryWriteLock();
+
+    if (stamp == 0) {
+      return;
+    }
+
+    try {
+      drainReadBuffer();
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  /**
+   * Apply recorded accesses to the guarded cache, it must be called under the write lock.
+   */
+  protected void drainReadBuffer() {
+
+    long reads = readBufferReads;
+    long writes = readBufferWrites.get();
+
+    for (; reads < writes; reads++) {
+
+      var index = (int) (reads & READ_BUFFER_MASK);
+      var node = readBuffer.get(index);
+
+      // the reader has reserved the slot but hasn't stored the node yet
+      if (node == null) {
+        break;
+      }
+
+      readBuffer.lazySet(index, null);
+      cache.afterPeek(node);
+    }
+
+    readBufferReads = reads;
+  }
+
+  @Override
+  public int size() {
+    var stamp = lock.readLock();
+    try {
+      return cache.size();
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  @Override
+  public long weightedSize() {
+    var stamp = lock.readLock();
+    try {
+      return cache.weightedSize();
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  @Override
+  public void clear() {
+    var stamp = writeLock();
+    try {
+      cache.clear();
+    } finally {
+      writeUnlock(stamp);
+    }
+  }
+
+  @Override
+  public void cleanUp() {
+    var stamp = writeLock();
+    try {
+      cache.cleanUp();
+    } finally {
+      writeUnlock(stamp);
+    }
+  }
+
+  @Override
+  public CacheStats stats() {
+
+    CacheStats stats;
+
+    var stamp = lock.readLock();
+    try {
+      stats = cache.stats();
+    } finally {
+      lock.unlockRead(stamp);
+    }
+
+    return new CacheStats(
+        stats.getHitCount() + hitCount.sum(),
+        stats.getMissCount() + missCount.sum(),
+        stats.getEvictionCount(),
+        stats.getEvictionWeight());
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + " size = " + size() + ", weightedSize = " + weightedSize();
+  }
+}
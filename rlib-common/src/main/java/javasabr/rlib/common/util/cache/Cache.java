@@ -0,0 +1,51 @@
+package javasabr.rlib.common.util.cache;
+
+/**
+ * The interface to implement a bounded cache.
+ *
+ * @author JavaSaBr
+ */
+public interface Cache {
+
+  /**
+   * Get the count of entries in this cache.
+   *
+   * @return the count of entries.
+   */
+  int size();
+
+  /**
+   * Get the total weight of entries in this cache.
+   *
+   * @return the total weight of entries.
+   */
+  long weightedSize();
+
+  /**
+   * Return true if this cache is empty.
+   *
+   * @return true if this cache is empty.
+   */
+  default boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * Remove all entries from this cache, each entry is passed to the eviction listener with
+   * {@link EvictionCause#EXPLICIT}.
+   */
+  void clear();
+
+  /**
+   * Remove all expired entries from this cache. Expired entries are removed during lookups and writes anyway, this
+   * method allows to release memory of entries which aren't touched anymore.
+   */
+  void cleanUp();
+
+  /**
+   * Get the snapshot of statistics of this cache.
+   *
+   * @return the snapshot of statistics.
+   */
+  CacheStats stats();
+}
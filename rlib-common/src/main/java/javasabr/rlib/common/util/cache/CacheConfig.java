@@ -0,0 +1,54 @@
+package javasabr.rlib.common.util.cache;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * The configuration of a bounded cache.
+ *
+ * @author JavaSaBr
+ */
+@Getter
+@Builder
+public class CacheConfig {
+
+  public static final CacheConfig DEFAULT = CacheConfig.builder().build();
+
+  /**
+   * The maximum total weight of entries, it's the maximum count of entries with the default weigher.
+   */
+  @Builder.Default
+  private final long maximumWeight = 1024;
+
+  /**
+   * The weigher of values, it should accept values of the cache built with this config.
+   */
+  @Builder.Default
+  private final Weigher<?> weigher = Weigher.singleton();
+
+  /**
+   * The policy of choosing a victim when the cache exceeds its maximum weight.
+   */
+  @Builder.Default
+  private final EvictionPolicy evictionPolicy = EvictionPolicy.TINY_LFU;
+
+  /**
+   * The time to live of an entry after its last write, zero disables it.
+   */
+  @Builder.Default
+  private final Duration expireAfterWrite = Duration.ZERO;
+
+  /**
+   * The time to live of an entry after its last access, zero disables it.
+   */
+  @Builder.Default
+  private final Duration expireAfterAccess = Duration.ZERO;
+
+  /**
+   * The source of time in nanoseconds.
+   */
+  @Builder.Default
+  private final LongSupplier ticker = System::nanoTime;
+}
@@ -0,0 +1,79 @@
+package javasabr.rlib.common.util.cache;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The factory for creating new {@link Cache}.
+ *
+ * @author JavaSaBr
+ */
+public final class CacheFactory {
+
+  public static <K, V> ObjectCache<K, V> newLruCache(long maximumSize) {
+    return newObjectCache(CacheConfig
+        .builder()
+        .maximumWeight(maximumSize)
+        .evictionPolicy(EvictionPolicy.LRU)
+        .build());
+  }
+
+  public static <K, V> ObjectCache<K, V> newObjectCache(CacheConfig config) {
+    return new FastObjectCache<>(config, null);
+  }
+
+  public static <K, V> ObjectCache<K, V> newObjectCache(
+      CacheConfig config,
+      @Nullable EvictionListener<? super K, ? super V> listener) {
+    return new FastObjectCache<>(config, listener);
+  }
+
+  public static <V> IntCache<V> newIntCache(CacheConfig config) {
+    return new FastIntCache<>(config, null);
+  }
+
+  public static <V> IntCache<V> newIntCache(CacheConfig config, @Nullable IntEvictionListener<? super V> listener) {
+    return new FastIntCache<>(config, listener);
+  }
+
+  public static <V> LongCache<V> newLongCache(CacheConfig config) {
+    return new FastLongCache<>(config, null);
+  }
+
+  public static <V> LongCache<V> newLongCache(CacheConfig config, @Nullable LongEvictionListener<? super V> listener) {
+    return new FastLongCache<>(config, listener);
+  }
+
+  public static <K, V> ConcurrentObjectCache<K, V> newConcurrentObjectCache(CacheConfig config) {
+    return new ConcurrentStampedLockObjectCache<>(config, null);
+  }
+
+  public static <K, V> ConcurrentObjectCache<K, V> newConcurrentObjectCache(
+      CacheConfig config,
+      @Nullable EvictionListener<? super K, ? super V> listener) {
+    return new ConcurrentStampedLockObjectCache<>(config, listener);
+  }
+
+  public static <V> ConcurrentIntCache<V> newConcurrentIntCache(CacheConfig config) {
+    return new ConcurrentStampedLockIntCache<>(config, null);
+  }
+
+  public static <V> ConcurrentIntCache<V> newConcurrentIntCache(
+      CacheConfig config,
+      @Nullable IntEvictionListener<? super V> listener) {
+    return new ConcurrentStampedLockIntCache<>(config, listener);
+  }
+
+  public static <V> ConcurrentLongCache<V> newConcurrentLongCache(CacheConfig config) {
+    return new ConcurrentStampedLockLongCache<>(config, null);
+  }
+
+  public static <V> ConcurrentLongCache<V> newConcurrentLongCache(
+      CacheConfig config,
+      @Nullable LongEvictionListener<? super V> listener) {
+    return new ConcurrentStampedLockLongCache<>(config, listener);
+  }
+
+  private CacheFactory() {
+    throw new IllegalArgumentException();
+  }
+}
@@ -0,0 +1,57 @@
+package javasabr.rlib.common.util.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The snapshot of statistics of a cache.
+ *
+ * @author JavaSaBr
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class CacheStats {
+
+  /**
+   * The count of lookups which found a value.
+   */
+  private final long hitCount;
+
+  /**
+   * The count of lookups which didn't find a value.
+   */
+  private final long missCount;
+
+  /**
+   * The count of entries which were evicted by size or expiration.
+   */
+  private final long evictionCount;
+
+  /**
+   * The total weight of entries which were evicted by size or expiration.
+   */
+  private final long evictionWeight;
+
+  /**
+   * Get the count of all lookups.
+   *
+   * @return the count of all lookups.
+   */
+  public long requestCount() {
+    return hitCount + missCount;
+  }
+
+  /**
+   * Get the ratio of lookups which found a value.
+   *
+   * @return the ratio of lookups which found a value or 1.0 if there were no lookups.
+   */
+  public double hitRate() {
+    long requestCount = requestCount();
+    return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+  }
+}
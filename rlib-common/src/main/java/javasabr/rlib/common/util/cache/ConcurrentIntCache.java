@@ -0,0 +1,51 @@
+package javasabr.rlib.common.util.cache;
+
+import javasabr.rlib.common.function.NotNullConsumer;
+import javasabr.rlib.common.function.NotNullNullableBiFunction;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The interface of a thread-safe {@link IntCache}. Lookups take only the read lock and reorder entries later in
+ * batches, other single operations take the write lock by themselves, compound operations can be executed under the
+ * same lock using {@link #runInWriteLock(NotNullConsumer)} and
+ * {@link #getInWriteLock(Object, NotNullNullableBiFunction)}, they get the not thread-safe view of this cache which
+ * must not leak out of the function.
+ *
+ * @param <V> the value's type.
+ * @author JavaSaBr
+ */
+public interface ConcurrentIntCache<V> extends IntCache<V> {
+
+  /**
+   * Lock this cache for writing.
+   *
+   * @return the stamp of write lock.
+   */
+  long writeLock();
+
+  /**
+   * Unlock the write lock.
+   *
+   * @param stamp the stamp of write lock.
+   */
+  void writeUnlock(long stamp);
+
+  /**
+   * Execute a function for the not thread-safe view of this cache under block {@link #writeLock()}.
+   *
+   * @param consumer the function.
+   * @return this cache.
+   */
+  ConcurrentIntCache<V> runInWriteLock(NotNullConsumer<IntCache<V>> consumer);
+
+  /**
+   * Get the value from a function for the not thread-safe view of this cache under block {@link #writeLock()}.
+   *
+   * @param argument the argument.
+   * @param function the function.
+   * @param <A> the argument's type.
+   * @param <R> the result's type.
+   * @return the result of the function.
+   */
+  <A, R> @Nullable R getInWriteLock(A argument, NotNullNullableBiFunction<IntCache<V>, A, R> function);
+}
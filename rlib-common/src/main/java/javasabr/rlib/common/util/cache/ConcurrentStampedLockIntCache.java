@@ -0,0 +1,122 @@
+package javasabr.rlib.common.util.cache;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.IntFunction;
+import javasabr.rlib.common.function.NotNullConsumer;
+import javasabr.rlib.common.function.NotNullNullableBiFunction;
+import javasabr.rlib.common.util.cache.FastIntCache.IntNode;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The implementation of the {@link ConcurrentIntCache} which guards a {@link FastIntCache} by {@link StampedLock}. A
+ * factory of {@link #getOrCompute(int, IntFunction)} and the eviction listener are called under the write lock, so they
+ * should be fast and must not touch this cache.
+ *
+ * @param <V> the value's type.
+ * @author JavaSaBr
+ */
+public class ConcurrentStampedLockIntCache<V> extends
+    AbstractConcurrentStampedLockCache<V, IntNode<V>, FastIntCache<V>> implements ConcurrentIntCache<V> {
+
+  protected ConcurrentStampedLockIntCache(CacheConfig config, @Nullable IntEvictionListener<? super V> listener) {
+    super(new FastIntCache<>(config, listener));
+  }
+
+  @Override
+  public ConcurrentIntCache<V> runInWriteLock(NotNullConsumer<IntCache<V>> consumer) {
+
+    var stamp = writeLock();
+    try {
+      consumer.accept(cache);
+    } finally {
+      writeUnlock(stamp);
+    }
+
+    return this;
+  }
+
+  @Override
+  public <A, R> @Nullable R getInWriteLock(
+      A argument,
+      NotNullNullableBiFunction<IntCache<V>, A, R> function) {
+    var stamp = writeLock();
+    try {
+      return function.apply(cache, argument);
+    } finally {
+      writeUnlock(stamp);
+    }
+  }
+
+  @Override
+  public boolean containsKey(int key) {
+    var stamp = lock.readLock();
+    try {
+      return cache.containsKey(key);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  @Override
+  public @Nullable V get(int key) {
+
+    IntNode<V> node;
+    V value;
+
+    var stamp = lock.readLock();
+    try {
+      node = cache.findNode(key);
+      value = cache.peek(node);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+
+    return afterRead(node, value);
+  }
+
+  @Override
+  public V getOrCompute(int key, IntFunction<? extends V> factory) {
+
+    IntNode<V> node;
+    V value;
+
+    var stamp = lock.readLock();
+    try {
+      node = cache.findNode(key);
+      value = cache.peek(node);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+
+    if (node != null && value != null) {
+      return afterHit(node, value);
+    }
+
+    stamp = writeLock();
+    try {
+      return cache.getOrCompute(key, factory);
+    } finally {
+      writeUnlock(stamp);
+    }
+  }
+
+  @Override
+  public @Nullable V put(int key, V value) {
+    var stamp = writeLock();
+    try {
+      return cache.put(key, value);
+    } finally {
+      writeUnlock(stamp);
+    }
+  }
+
+  @Override
+  public @Nullable V remove(int key) {
+    var stamp = writeLock();
+    try {
+      return cache.remove(key);
+    } finally {
+      writeUnlock(stamp);
+    }
+  }
+}
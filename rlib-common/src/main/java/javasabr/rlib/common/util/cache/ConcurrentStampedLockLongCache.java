@@ -0,0 +1,122 @@
+package javasabr.rlib.common.util.cache;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongFunction;
+import javasabr.rlib.common.function.NotNullConsumer;
+import javasabr.rlib.common.function.NotNullNullableBiFunction;
+import javasabr.rlib.common.util.cache.FastLongCache.LongNode;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The implementation of the {@link ConcurrentLongCache} which guards a {@link FastLongCache} by {@link StampedLock}.
+ * A factory of {@link #getOrCompute(long, LongFunction)} and the eviction listener are called under the write lock, so
+ * they should be fast and must not touch this cache.
+ *
+ * @param <V> the value's type.
+ * @author JavaSaBr
+ */
+public class ConcurrentStampedLockLongCache<V> extends
+    AbstractConcurrentStampedLockCache<V, LongNode<V>, FastLongCache<V>> implements ConcurrentLongCache<V> {
+
+  protected ConcurrentStampedLockLongCache(CacheConfig config, @Nullable LongEvictionListener<? super V> listener) {
+    super(new FastLongCache<>(config, listener));
+  }
+
+  @Override
+  public ConcurrentLongCache<V> runInWriteLock(NotNullConsumer<LongCache<V>> consumer) {
+
+    var stamp = writeLock();
+    try {
+      consumer.accept(cache);
+    } finally {
+      writeUnlock(stamp);
+    }
+
+    return this;
+  }
+
+  @Override
+  public <A, R> @Nullable R getInWriteLock(
+      A argument,
+      NotNullNullableBiFunction<LongCache<V>, A, R> function) {
+    var stamp = writeLock();
+    try {
+      return function.apply(cache, argument);
+    } finally {
+      writeUnlock(stamp);
+    }
+  }
+
+  @Override
+  public boolean containsKey(long key) {
+    var stamp = lock.readLock();
+    try {
+      return cache.containsKey(key);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  @Override
+  public @Nullable V get(long key) {
+
+    LongNode<V> node;
+    V value;
+
+    var stamp = lock.readLock();
+    try {
+      node = cache.findNode(key);
+      value = cache.peek(node);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+
+    return afterRead(node, value);
+  }
+
+  @Override
+  public V getOrCompute(long key, LongFunction<? extends V> factory) {
+
+    LongNode<V> node;
+    V value;
+
+    var stamp = lock.readLock();
+    try {
+      node = cache.findNode(key);
+      value = cache.peek(node);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+
+    if (node != null && value != null) {
+      return afterHit(node, value);
+    }
+
+    stamp = writeLock();
+    try {
+      return cache.getOrCompute(key, factory);
+    } finally {
+      writeUnlock(stamp);
+    }
+  }
+
+  @Override
+  public @Nullable V put(long key, V value) {
+    var stamp = writeLock();
+    try {
+      return cache.put(key, value);
+    } finally {
+      writeUnlock(stamp);
+    }
+  }
+
+  @Override
+  public @Nullable V remove(long key) {
+    var stamp = writeLock();
+    try {
+      return cache.remove(key);
+    } finally {
+      writeUnlock(stamp);
+    }
+  }
+}
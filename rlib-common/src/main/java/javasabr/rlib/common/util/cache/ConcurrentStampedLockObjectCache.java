@@ -0,0 +1,126 @@
+package javasabr.rlib.common.util.cache;
+
+import java.util.concurrent.locks.StampedLock;
+import javasabr.rlib.common.function.NotNullConsumer;
+import javasabr.rlib.common.function.NotNullFunction;
+import javasabr.rlib.common.function.NotNullNullableBiFunction;
+import javasabr.rlib.common.util.cache.FastObjectCache.ObjectNode;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The implementation of the {@link ConcurrentObjectCache} which guards a {@link FastObjectCache} by
+ * {@link StampedLock}. A factory of {@link #getOrCompute(Object, NotNullFunction)} and the eviction listener are
+ * called under the write lock, so they should be fast and must not touch this cache.
+ *
+ * @param <K> the key's type.
+ * @param <V> the value's type.
+ * @author JavaSaBr
+ */
+public class ConcurrentStampedLockObjectCache<K, V> extends
+    AbstractConcurrentStampedLockCache<V, ObjectNode<K, V>, FastObjectCache<K, V>> implements
+    ConcurrentObjectCache<K, V> {
+
+  protected ConcurrentStampedLockObjectCache(
+      CacheConfig config,
+      @Nullable EvictionListener<? super K, ? super V> listener) {
+    super(new FastObjectCache<>(config, listener));
+  }
+
+  @Override
+  public ConcurrentObjectCache<K, V> runInWriteLock(NotNullConsumer<ObjectCache<K, V>> consumer) {
+
+    var stamp = writeLock();
+    try {
+      consumer.accept(cache);
+    } finally {
+      writeUnlock(stamp);
+    }
+
+    return this;
+  }
+
+  @Override
+  public <A, R> @Nullable R getInWriteLock(
+      A argument,
+      NotNullNullableBiFunction<ObjectCache<K, V>, A, R> function) {
+    var stamp = writeLock();
+    try {
+      return function.apply(cache, argument);
+    } finally {
+      writeUnlock(stamp);
+    }
+  }
+
+  @Override
+  public boolean containsKey(K key) {
+    var stamp = lock.readLock();
+    try {
+      return cache.containsKey(key);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  @Override
+  public @Nullable V get(K key) {
+
+    ObjectNode<K, V> node;
+    V value;
+
+    var stamp = lock.readLock();
+    try {
+      node = cache.findNode(key);
+      value = cache.peek(node);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+
+    return afterRead(node, value);
+  }
+
+  @Override
+  public V getOrCompute(K key, NotNullFunction<? super K, ? extends V> factory) {
+
+    ObjectNode<K, V> node;
+    V value;
+
+    var stamp = lock.readLock();
+    try {
+      node = cache.findNode(key);
+      value = cache.peek(node);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+
+    if (node != null && value != null) {
+      return afterHit(node, value);
+    }
+
+    stamp = writeLock();
+    try {
+      return cache.getOrCompute(key, factory);
+    } finally {
+      writeUnlock(stamp);
+    }
+  }
+
+  @Override
+  public @Nullable V put(K key, V value) {
+    var stamp = writeLock();
+    try {
+      return cache.put(key, value);
+    } finally {
+      writeUnlock(stamp);
+    }
+  }
+
+  @Override
+  public @Nullable V remove(K key) {
+    var stamp = writeLock();
+    try {
+      return cache.remove(key);
+    } finally {
+      writeUnlock(stamp);
+    }
+  }
+}
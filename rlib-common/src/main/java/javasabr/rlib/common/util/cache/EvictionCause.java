@@ -0,0 +1,34 @@
+package javasabr.rlib.common.util.cache;
+
+/**
+ * The reason of removing an entry from a cache.
+ *
+ * @author JavaSaBr
+ */
+public enum EvictionCause {
+  /**
+   * The entry was removed by a user.
+   */
+  EXPLICIT,
+  /**
+   * The value of the entry was replaced by a new value.
+   */
+  REPLACED,
+  /**
+   * The entry was evicted because the cache exceeded its maximum weight.
+   */
+  SIZE,
+  /**
+   * The entry was evicted because its time to live was over.
+   */
+  EXPIRED;
+
+  /**
+   * Return true if the entry was removed automatically by the cache.
+   *
+   * @return true if the entry was removed automatically by the cache.
+   */
+  public boolean wasEvicted() {
+    return this == SIZE || this == EXPIRED;
+  }
+}
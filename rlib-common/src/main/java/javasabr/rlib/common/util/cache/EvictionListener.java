@@ -0,0 +1,21 @@
+package javasabr.rlib.common.util.cache;
+
+/**
+ * The listener of removing entries from an {@link ObjectCache}.
+ *
+ * @param <K> the key's type.
+ * @param <V> the value's type.
+ * @author JavaSaBr
+ */
+@FunctionalInterface
+public interface EvictionListener<K, V> {
+
+  /**
+   * Handle removing an entry from a cache.
+   *
+   * @param key the key.
+   * @param value the removed value.
+   * @param cause the cause of removing.
+   */
+  void onEviction(K key, V value, EvictionCause cause);
+}
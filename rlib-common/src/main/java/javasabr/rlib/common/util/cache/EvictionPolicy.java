@@ -0,0 +1,18 @@
+package javasabr.rlib.common.util.cache;
+
+/**
+ * The policy of choosing a victim when a cache exceeds its maximum weight.
+ *
+ * @author JavaSaBr
+ */
+public enum EvictionPolicy {
+  /**
+   * Evict the least recently used entry.
+   */
+  LRU,
+  /**
+   * A small LRU window admits new entries, a segmented LRU main space keeps entries which are accessed frequently
+   * and a frequency sketch decides which of a candidate from the window and a victim from the main space stays.
+   */
+  TINY_LFU
+}
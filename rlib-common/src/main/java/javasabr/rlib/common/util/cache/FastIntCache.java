@@ -0,0 +1,124 @@
+package javasabr.rlib.common.util.cache;
+
+import java.util.function.IntFunction;
+import javasabr.rlib.common.util.dictionary.DictionaryFactory;
+import javasabr.rlib.common.util.dictionary.IntegerDictionary;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The implementation of the {@link IntCache} based on an open-addressing {@link IntegerDictionary}, so keys are never
+ * boxed. This cache isn't thread-safe.
+ *
+ * @param <V> the value's type.
+ * @author JavaSaBr
+ */
+public class FastIntCache<V> extends AbstractBoundedCache<V, FastIntCache.IntNode<V>> implements IntCache<V> {
+
+  protected static final class IntNode<V> extends AbstractBoundedCache.Node<V> {
+
+    private final int key;
+
+    private IntNode(int key, V value) {
+      super(key, value);
+      this.key = key;
+    }
+  }
+
+  private final IntegerDictionary<IntNode<V>> index;
+
+  private final @Nullable IntEvictionListener<? super V> listener;
+
+  protected FastIntCache(CacheConfig config, @Nullable IntEvictionListener<? super V> listener) {
+    super(config);
+    this.index = DictionaryFactory.newOpenAddressingIntegerDictionary();
+    this.listener = listener;
+  }
+
+  @Override
+  public boolean containsKey(int key) {
+    var node = index.get(key);
+    return node != null && isAlive(node);
+  }
+
+  @Override
+  public @Nullable V get(int key) {
+    return read(index.get(key), key);
+  }
+
+  @Override
+  public V getOrCompute(int key, IntFunction<? extends V> factory) {
+
+    var value = get(key);
+
+    if (value != null) {
+      return value;
+    }
+
+    V newValue = factory.apply(key);
+    var node = new IntNode<V>(key, newValue);
+
+    index.put(key, node);
+    insertAfterMiss(node);
+
+    return newValue;
+  }
+
+  @Override
+  public @Nullable V put(int key, V value) {
+
+    var node = alive(index.get(key));
+
+    if (node != null) {
+      return replace(node, value);
+    }
+
+    node = new IntNode<>(key, value);
+
+    index.put(key, node);
+    insert(node);
+
+    return null;
+  }
+
+  @Override
+  public @Nullable V remove(int key) {
+
+    var node = index.remove(key);
+
+    if (node == null) {
+      return null;
+    }
+
+    boolean alive = isAlive(node);
+
+    removed(node);
+
+    return alive ? node.value : null;
+  }
+
+  @Nullable IntNode<V> findNode(int key) {
+    return index.get(key);
+  }
+
+  @Override
+  protected void removeFromIndex(IntNode<V> node) {
+    index.remove(node.key);
+  }
+
+  @Override
+  protected void clearIndex() {
+    index.clear();
+  }
+
+  @Override
+  protected void notifyRemoved(IntNode<V> node, V value, EvictionCause cause) {
+    if (listener != null) {
+      listener.onEviction(node.key, value, cause);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + " size = " + size() + ", weightedSize = " + weightedSize();
+  }
+}
@@ -0,0 +1,124 @@
+package javasabr.rlib.common.util.cache;
+
+import java.util.function.LongFunction;
+import javasabr.rlib.common.util.dictionary.DictionaryFactory;
+import javasabr.rlib.common.util.dictionary.LongDictionary;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The implementation of the {@link LongCache} based on an open-addressing {@link LongDictionary}, so keys are never
+ * boxed. This cache isn't thread-safe.
+ *
+ * @param <V> the value's type.
+ * @author JavaSaBr
+ */
+public class FastLongCache<V> extends AbstractBoundedCache<V, FastLongCache.LongNode<V>> implements LongCache<V> {
+
+  protected static final class LongNode<V> extends AbstractBoundedCache.Node<V> {
+
+    private final long key;
+
+    private LongNode(long key, V value) {
+      super(Long.hashCode(key), value);
+      this.key = key;
+    }
+  }
+
+  private final LongDictionary<LongNode<V>> index;
+
+  private final @Nullable LongEvictionListener<? super V> listener;
+
+  protected FastLongCache(CacheConfig config, @Nullable LongEvictionListener<? super V> listener) {
+    super(config);
+    this.index = DictionaryFactory.newOpenAddressingLongDictionary();
+    this.listener = listener;
+  }
+
+  @Override
+  public boolean containsKey(long key) {
+    var node = index.get(key);
+    return node != null && isAlive(node);
+  }
+
+  @Override
+  public @Nullable V get(long key) {
+    return read(index.get(key), Long.hashCode(key));
+  }
+
+  @Override
+  public V getOrCompute(long key, LongFunction<? extends V> factory) {
+
+    var value = get(key);
+
+    if (value != null) {
+      return value;
+    }
+
+    V newValue = factory.apply(key);
+    var node = new LongNode<V>(key, newValue);
+
+    index.put(key, node);
+    insertAfterMiss(node);
+
+    return newValue;
+  }
+
+  @Override
+  public @Nullable V put(long key, V value) {
+
+    var node = alive(index.get(key));
+
+    if (node != null) {
+      return replace(node, value);
+    }
+
+    node = new LongNode<>(key, value);
+
+    index.put(key, node);
+    insert(node);
+
+    return null;
+  }
+
+  @Override
+  public @Nullable V remove(long key) {
+
+    var node = index.remove(key);
+
+    if (node == null) {
+      return null;
+    }
+
+    boolean alive = isAlive(node);
+
+    removed(node);
+
+    return alive ? node.value : null;
+  }
+
+  @Nullable LongNode<V> findNode(long key) {
+    return index.get(key);
+  }
+
+  @Override
+  protected void removeFromIndex(LongNode<V> node) {
+    index.remove(node.key);
+  }
+
+  @Override
+  protected void clearIndex() {
+    index.clear();
+  }
+
+  @Override
+  protected void notifyRemoved(LongNode<V> node, V value, EvictionCause cause) {
+    if (listener != null) {
+      listener.onEviction(node.key, value, cause);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + " size = " + size() + ", weightedSize = " + weightedSize();
+  }
+}
@@ -0,0 +1,125 @@
+package javasabr.rlib.common.util.cache;
+
+import javasabr.rlib.common.function.NotNullFunction;
+import javasabr.rlib.common.util.dictionary.DictionaryFactory;
+import javasabr.rlib.common.util.dictionary.ObjectDictionary;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The implementation of the {@link ObjectCache} based on {@link ObjectDictionary}. This cache isn't thread-safe.
+ *
+ * @param <K> the key's type.
+ * @param <V> the value's type.
+ * @author JavaSaBr
+ */
+public class FastObjectCache<K, V> extends AbstractBoundedCache<V, FastObjectCache.ObjectNode<K, V>>
+    implements ObjectCache<K, V> {
+
+  protected static final class ObjectNode<K, V> extends AbstractBoundedCache.Node<V> {
+
+    private final K key;
+
+    private ObjectNode(K key, V value) {
+      super(key.hashCode(), value);
+      this.key = key;
+    }
+  }
+
+  private final ObjectDictionary<K, ObjectNode<K, V>> index;
+
+  private final @Nullable EvictionListener<? super K, ? super V> listener;
+
+  protected FastObjectCache(CacheConfig config, @Nullable EvictionListener<? super K, ? super V> listener) {
+    super(config);
+    this.index = DictionaryFactory.newObjectDictionary();
+    this.listener = listener;
+  }
+
+  @Override
+  public boolean containsKey(K key) {
+    var node = index.get(key);
+    return node != null && isAlive(node);
+  }
+
+  @Override
+  public @Nullable V get(K key) {
+    return read(index.get(key), key.hashCode());
+  }
+
+  @Override
+  public V getOrCompute(K key, NotNullFunction<? super K, ? extends V> factory) {
+
+    var value = get(key);
+
+    if (value != null) {
+      return value;
+    }
+
+    V newValue = factory.apply(key);
+    var node = new ObjectNode<K, V>(key, newValue);
+
+    index.put(key, node);
+    insertAfterMiss(node);
+
+    return newValue;
+  }
+
+  @Override
+  public @Nullable V put(K key, V value) {
+
+    var node = alive(index.get(key));
+
+    if (node != null) {
+      return replace(node, value);
+    }
+
+    node = new ObjectNode<>(key, value);
+
+    index.put(key, node);
+    insert(node);
+
+    return null;
+  }
+
+  @Override
+  public @Nullable V remove(K key) {
+
+    var node = index.remove(key);
+
+    if (node == null) {
+      return null;
+    }
+
+    boolean alive = isAlive(node);
+
+    removed(node);
+
+    return alive ? node.value : null;
+  }
+
+  @Nullable ObjectNode<K, V> findNode(K key) {
+    return index.get(key);
+  }
+
+  @Override
+  protected void removeFromIndex(ObjectNode<K, V> node) {
+    index.remove(node.key);
+  }
+
+  @Override
+  protected void clearIndex() {
+    index.clear();
+  }
+
+  @Override
+  protected void notifyRemoved(ObjectNode<K, V> node, V value, EvictionCause cause) {
+    if (listener != null) {
+      listener.onEviction(node.key, value, cause);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + " size = " + size() + ", weightedSize = " + weightedSize();
+  }
+}
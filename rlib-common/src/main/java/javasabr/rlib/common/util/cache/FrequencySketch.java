@@ -0,0 +1,129 @@
+package javasabr.rlib.common.util.cache;
+
+import javasabr.rlib.common.util.dictionary.DictionaryUtils;
+
+/**
+ * The count-min sketch with 4-bit counters to estimate how often keys were used recently. Each key has four counters
+ * in different longs of the table, the estimation is the minimum of them. All counters are halved when count of
+ * additions reaches the sample size, so old popularity fades out.
+ *
+ * @author JavaSaBr
+ */
+final class FrequencySketch {
+
+  private static final long[] SEEDS = {
+      0xc3a5c85c97cb3127L,
+      0xb492b66fbe98f273L,
+      0x9ae16a3b2f90404fL,
+      0xcbf29ce484222325L
+  };
+
+  private static final long RESET_MASK = 0x7777777777777777L;
+  private static final long ONE_MASK = 0x1111111111111111L;
+
+  private static final int MINIMUM_TABLE_SIZE = 16;
+  private static final int MAXIMUM_TABLE_SIZE = 1 << 20;
+
+  private long[] table;
+  private int tableMask;
+  private int sampleSize;
+  private int additions;
+
+  FrequencySketch() {
+    this.table = new long[MINIMUM_TABLE_SIZE];
+    this.tableMask = MINIMUM_TABLE_SIZE - 1;
+    this.sampleSize = MINIMUM_TABLE_SIZE * 10;
+  }
+
+  /**
+   * Grow the table to keep the estimation accurate for the count of entries, the collected frequencies are dropped
+   * on growing.
+   *
+   * @param size the count of entries.
+   */
+  void ensureCapacity(int size) {
+
+    if (size <= table.length || table.length >= MAXIMUM_TABLE_SIZE) {
+      return;
+    }
+
+    int tableSize = DictionaryUtils.tableSizeFor(Math.min(size, MAXIMUM_TABLE_SIZE));
+
+    this.table = new long[tableSize];
+    this.tableMask = tableSize - 1;
+    this.sampleSize = tableSize * 10;
+    this.additions = 0;
+  }
+
+  /**
+   * Estimate the frequency of the hash.
+   *
+   * @param hash the hash of a key.
+   * @return the estimated frequency in range [0, 15].
+   */
+  int frequency(int hash) {
+
+    int spread = DictionaryUtils.mix(hash);
+    int start = (spread & 3) << 2;
+    int frequency = Integer.MAX_VALUE;
+
+    for (int i = 0; i < 4; i++) {
+      int index = indexOf(spread, i);
+      int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xFL);
+      frequency = Math.min(frequency, count);
+    }
+
+    return frequency;
+  }
+
+  /**
+   * Increment the frequency of the hash if it isn't at the maximum yet.
+   *
+   * @param hash the hash of a key.
+   */
+  void increment(int hash) {
+
+    int spread = DictionaryUtils.mix(hash);
+    int start = (spread & 3) << 2;
+    boolean added = false;
+
+    for (int i = 0; i < 4; i++) {
+      added |= incrementAt(indexOf(spread, i), start + i);
+    }
+
+    if (added && ++additions == sampleSize) {
+      reset();
+    }
+  }
+
+  private boolean incrementAt(int index, int counter) {
+
+    int offset = counter << 2;
+    long mask = 0xFL << offset;
+
+    if ((table[index] & mask) != mask) {
+      table[index] += 1L << offset;
+      return true;
+    }
+
+    return false;
+  }
+
+  private void reset() {
+
+    int oddCount = 0;
+
+    for (int i = 0; i < table.length; i++) {
+      oddCount += Long.bitCount(table[i] & ONE_MASK);
+      table[i] = (table[i] >>> 1) & RESET_MASK;
+    }
+
+    additions = (additions >>> 1) - (oddCount >>> 2);
+  }
+
+  private int indexOf(int spread, int seedIndex) {
+    long hash = (spread + SEEDS[seedIndex]) * SEEDS[seedIndex];
+    hash += hash >>> 32;
+    return (int) hash & tableMask;
+  }
+}
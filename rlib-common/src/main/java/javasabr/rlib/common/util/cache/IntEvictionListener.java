@@ -0,0 +1,20 @@
+package javasabr.rlib.common.util.cache;
+
+/**
+ * The listener of removing entries from an {@link IntCache}.
+ *
+ * @param <V> the value's type.
+ * @author JavaSaBr
+ */
+@FunctionalInterface
+public interface IntEvictionListener<V> {
+
+  /**
+   * Handle removing an entry from a cache.
+   *
+   * @param key the key.
+   * @param value the removed value.
+   * @param cause the cause of removing.
+   */
+  void onEviction(int key, V value, EvictionCause cause);
+}
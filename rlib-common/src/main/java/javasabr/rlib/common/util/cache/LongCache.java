@@ -0,0 +1,55 @@
+package javasabr.rlib.common.util.cache;
+
+import java.util.function.LongFunction;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The interface to implement a bounded cache with long keys without boxing them.
+ *
+ * @param <V> the value's type.
+ * @author JavaSaBr
+ */
+public interface LongCache<V> extends Cache {
+
+  /**
+   * Return true if this cache contains a not expired value for the key, it doesn't affect statistics and order.
+   *
+   * @param key the key.
+   * @return true if this cache contains the key.
+   */
+  boolean containsKey(long key);
+
+  /**
+   * Get a value for the key.
+   *
+   * @param key the key.
+   * @return the value or null.
+   */
+  @Nullable V get(long key);
+
+  /**
+   * Get a value for the key or compute and put a new value if there is no value for the key.
+   *
+   * @param key the key.
+   * @param factory the factory of a new value.
+   * @return the stored value or the new value.
+   */
+  V getOrCompute(long key, LongFunction<? extends V> factory);
+
+  /**
+   * Put the value for the key.
+   *
+   * @param key the key.
+   * @param value the value.
+   * @return the previous value or null.
+   */
+  @Nullable V put(long key, V value);
+
+  /**
+   * Remove a value for the key.
+   *
+   * @param key the key.
+   * @return the removed value or null.
+   */
+  @Nullable V remove(long key);
+}
@@ -0,0 +1,56 @@
+package javasabr.rlib.common.util.cache;
+
+import javasabr.rlib.common.function.NotNullFunction;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The interface to implement a bounded cache with object keys.
+ *
+ * @param <K> the key's type.
+ * @param <V> the value's type.
+ * @author JavaSaBr
+ */
+public interface ObjectCache<K, V> extends Cache {
+
+  /**
+   * Return true if this cache contains a not expired value for the key, it doesn't affect statistics and order.
+   *
+   * @param key the key.
+   * @return true if this cache contains the key.
+   */
+  boolean containsKey(K key);
+
+  /**
+   * Get a value for the key.
+   *
+   * @param key the key.
+   * @return the value or null.
+   */
+  @Nullable V get(K key);
+
+  /**
+   * Get a value for the key or compute and put a new value if there is no value for the key.
+   *
+   * @param key the key.
+   * @param factory the factory of a new value.
+   * @return the stored value or the new value.
+   */
+  V getOrCompute(K key, NotNullFunction<? super K, ? extends V> factory);
+
+  /**
+   * Put the value for the key.
+   *
+   * @param key the key.
+   * @param value the value.
+   * @return the previous value or null.
+   */
+  @Nullable V put(K key, V value);
+
+  /**
+   * Remove a value for the key.
+   *
+   * @param key the key.
+   * @return the removed value or null.
+   */
+  @Nullable V remove(K key);
+}
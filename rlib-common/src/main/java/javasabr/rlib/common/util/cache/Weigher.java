@@ -0,0 +1,33 @@
+package javasabr.rlib.common.util.cache;
+
+import javasabr.rlib.common.util.ClassUtils;
+
+/**
+ * The function to calculate a weight of a cached value.
+ *
+ * @param <V> the value's type.
+ * @author JavaSaBr
+ */
+@FunctionalInterface
+public interface Weigher<V> {
+
+  Weigher<?> SINGLETON = value -> 1;
+
+  /**
+   * Get a weigher which weighs each value as 1, so the maximum weight of a cache is the maximum count of entries.
+   *
+   * @param <V> the value's type.
+   * @return the weigher.
+   */
+  static <V> Weigher<V> singleton() {
+    return ClassUtils.unsafeNNCast(SINGLETON);
+  }
+
+  /**
+   * Calculate a weight of the value.
+   *
+   * @param value the value.
+   * @return the not negative weight.
+   */
+  int weigh(V value);
+}
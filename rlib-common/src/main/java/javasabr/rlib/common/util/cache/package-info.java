@@ -0,0 +1,4 @@
+@NullMarked
+package javasabr.rlib.common.util.cache;
+
+import org.jspecify.annotations.NullMarked;
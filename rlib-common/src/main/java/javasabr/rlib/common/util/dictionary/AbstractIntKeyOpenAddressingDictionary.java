@@ -0,0 +1,160 @@
+package javasabr.rlib.common.util.dictionary;
+
+import static javasabr.rlib.common.util.dictionary.DictionaryUtils.mix;
+
+import java.util.Arrays;
+import javasabr.rlib.common.util.array.IntegerArray;
+import javasabr.rlib.common.util.array.MutableIntegerArray;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * The base implementation of an open-addressing dictionary with int keys.
+ *
+ * @param <VA> the type of the values array.
+ * @author JavaSaBr
+ */
+@NullMarked
+public abstract class AbstractIntKeyOpenAddressingDictionary<VA> extends
+    AbstractOpenAddressingDictionary<VA> {
+
+  protected int[] keys;
+
+  protected AbstractIntKeyOpenAddressingDictionary(float loadFactor, int initCapacity) {
+    super(loadFactor, initCapacity);
+    this.keys = new int[capacity()];
+  }
+
+  /**
+   * Find a slot of the key.
+   *
+   * @param key the not zero key.
+   * @return the slot or -1 if this dictionary doesn't contain the key.
+   */
+  protected final int slotOf(int key) {
+
+    var keys = this.keys;
+    var mask = this.mask;
+
+    int current;
+
+    for (int slot = mix(key) & mask; (current = keys[slot]) != 0; slot = slot + 1 & mask) {
+      if (current == key) {
+        return slot;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Find a slot of the key or a free slot to insert the key.
+   *
+   * @param key the not zero key.
+   * @return the slot of the key or (-(insertion slot) - 1).
+   */
+  protected final int slotOrInsertionPoint(int key) {
+
+    var keys = this.keys;
+    var mask = this.mask;
+
+    int slot = mix(key) & mask;
+    int current;
+
+    while ((current = keys[slot]) != 0) {
+
+      if (current == key) {
+        return slot;
+      }
+
+      slot = slot + 1 & mask;
+    }
+
+    return -slot - 1;
+  }
+
+  /**
+   * Get a key stored in the slot.
+   *
+   * @param slot the slot or the capacity for the zero key.
+   * @return the key.
+   */
+  protected final int keyAt(int slot) {
+    return slot == capacity() ? 0 : keys[slot];
+  }
+
+  public boolean containsKey(int key) {
+    return key == 0 ? hasZeroKey : slotOf(key) > -1;
+  }
+
+  public IntegerArray keyArray(MutableIntegerArray container) {
+
+    for (int key : keys) {
+      if (key != 0) {
+        container.add(key);
+      }
+    }
+
+    if (hasZeroKey) {
+      container.add(0);
+    }
+
+    return container;
+  }
+
+  @Override
+  protected boolean isFree(int slot) {
+    return keys[slot] == 0;
+  }
+
+  @Override
+  protected int idealSlotOf(int slot) {
+    return mix(keys[slot]) & mask;
+  }
+
+  @Override
+  protected void moveKey(int sourceSlot, int targetSlot) {
+    keys[targetSlot] = keys[sourceSlot];
+  }
+
+  @Override
+  protected void freeKey(int slot) {
+    keys[slot] = 0;
+  }
+
+  @Override
+  protected void clearKeys() {
+    Arrays.fill(keys, 0);
+  }
+
+  @Override
+  protected void rehash(int newCapacity) {
+
+    var prevKeys = keys;
+    var prevValues = values;
+    var newMask = newCapacity - 1;
+    var newKeys = new int[newCapacity];
+    var newValues = newValues(newCapacity + 1);
+
+    for (int i = 0, length = prevKeys.length; i < length; i++) {
+
+      int key = prevKeys[i];
+
+      if (key == 0) {
+        continue;
+      }
+
+      int slot = mix(key) & newMask;
+
+      while (newKeys[slot] != 0) {
+        slot = slot + 1 & newMask;
+      }
+
+      newKeys[slot] = key;
+      copyValue(prevValues, i, newValues, slot);
+    }
+
+    this.keys = newKeys;
+
+    onRehashed(newValues, newCapacity);
+  }
+}
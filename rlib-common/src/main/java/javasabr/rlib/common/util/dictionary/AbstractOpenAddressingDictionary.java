@@ -0,0 +1,434 @@
+package javasabr.rlib.common.util.dictionary;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * The base implementation of an open-addressing dictionary with primitive keys which stores keys and values in
+ * parallel arrays using linear probing, so no entry objects are allocated per mapping. It keeps the table bookkeeping
+ * which doesn't depend on types of keys and values: growing by the threshold, removing with shifting of keys,
+ * iterating over slots and the zero key, which is used as a marker of a free slot, so its value is stored separately
+ * in the last cell of the values array.
+ *
+ * @param <VA> the type of the values array.
+ * @author JavaSaBr
+ */
+@NullMarked
+public abstract class AbstractOpenAddressingDictionary<VA> {
+
+  /**
+   * The default size of table.
+   */
+  protected static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+  /**
+   * The default load factor.
+   */
+  protected static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+  /**
+   * The load factor.
+   */
+  protected final float loadFactor;
+
+  /**
+   * The values, the last cell is reserved for the value of the zero key.
+   */
+  protected VA values;
+
+  /**
+   * The mask to get an index of table by a hash.
+   */
+  protected int mask;
+
+  /**
+   * The next size value at which to resize.
+   */
+  protected int threshold;
+
+  /**
+   * The number of key-value mappings.
+   */
+  protected int size;
+
+  /**
+   * True if this dictionary contains the zero key.
+   */
+  protected boolean hasZeroKey;
+
+  protected AbstractOpenAddressingDictionary(float loadFactor, int initCapacity) {
+
+    int capacity = DictionaryUtils.tableSizeFor(initCapacity);
+
+    this.loadFactor = DictionaryUtils.validateLoadFactor(loadFactor);
+    this.values = newValues(capacity + 1);
+    this.mask = capacity - 1;
+    this.threshold = thresholdFor(capacity);
+  }
+
+  /**
+   * Create a new values array.
+   *
+   * @param length the length of array.
+   * @return the new array.
+   */
+  protected abstract VA newValues(int length);
+
+  /**
+   * Copy a value from the slot of the source array to the slot of the target array.
+   *
+   * @param source the source array.
+   * @param sourceSlot the slot in the source array.
+   * @param target the target array.
+   * @param targetSlot the slot in the target array.
+   */
+  protected abstract void copyValue(VA source, int sourceSlot, VA target, int targetSlot);
+
+  /**
+   * Release a value in the slot of the values array, it's called when the slot becomes free.
+   *
+   * @param slot the slot.
+   */
+  protected void freeValue(int slot) {}
+
+  /**
+   * Release all values of the values array.
+   */
+  protected void clearValues() {}
+
+  /**
+   * Return true if the slot of table isn't occupied by a key.
+   *
+   * @param slot the slot.
+   * @return true if the slot is free.
+   */
+  protected abstract boolean isFree(int slot);
+
+  /**
+   * Get the first slot of probe sequence of the key which is stored in the slot.
+   *
+   * @param slot the slot with a key.
+   * @return the ideal slot of the key.
+   */
+  protected abstract int idealSlotOf(int slot);
+
+  /**
+   * Move a key from the slot to the other slot.
+   *
+   * @param sourceSlot the slot with a key.
+   * @param targetSlot the slot to move the key.
+   */
+  protected abstract void moveKey(int sourceSlot, int targetSlot);
+
+  /**
+   * Mark the slot of table as free.
+   *
+   * @param slot the slot.
+   */
+  protected abstract void freeKey(int slot);
+
+  /**
+   * Clear all keys of table.
+   */
+  protected abstract void clearKeys();
+
+  /**
+   * Resize table of this dictionary, it should be finished by {@link #onRehashed(Object, int)}.
+   *
+   * @param newCapacity the new size of table.
+   */
+  protected abstract void rehash(int newCapacity);
+
+  /**
+   * Calculate the next size value at which to resize for the size of table.
+   *
+   * @param capacity the size of table.
+   * @return the threshold.
+   */
+  protected int thresholdFor(int capacity) {
+    return DictionaryUtils.thresholdFor(capacity, loadFactor);
+  }
+
+  /**
+   * Get the current size of table, it's also the index of the value of the zero key.
+   *
+   * @return the size of table.
+   */
+  protected final int capacity() {
+    return mask + 1;
+  }
+
+  /**
+   * Handle a new inserted mapping and grow table if it's needed.
+   */
+  protected final void onInserted() {
+    if (++size >= threshold) {
+
+      int capacity = capacity();
+
+      if (capacity >= DictionaryUtils.MAXIMUM_TABLE_SIZE) {
+        if (size >= capacity - 1) {
+          throw new IllegalStateException("Dictionary has reached max capacity " + capacity);
+        }
+        return;
+      }
+
+      rehash(capacity * 2);
+    }
+  }
+
+  /**
+   * Apply a new table after rehashing.
+   *
+   * @param newValues the new values array with the value of the zero key.
+   * @param newCapacity the new size of table.
+   */
+  protected final void onRehashed(VA newValues, int newCapacity) {
+    copyValue(values, capacity(), newValues, newCapacity);
+    this.values = newValues;
+    this.mask = newCapacity - 1;
+    this.threshold = thresholdFor(newCapacity);
+  }
+
+  /**
+   * Register the zero key if it isn't presented yet, its value should be already stored.
+   */
+  protected final void insertZeroKey() {
+    if (!hasZeroKey) {
+      hasZeroKey = true;
+      onInserted();
+    }
+  }
+
+  /**
+   * Unregister the zero key.
+   *
+   * @return true if the zero key was removed.
+   */
+  protected final boolean removeZeroKey() {
+
+    if (!hasZeroKey) {
+      return false;
+    }
+
+    hasZeroKey = false;
+    size--;
+
+    return true;
+  }
+
+  /**
+   * Remove the key from the slot.
+   *
+   * @param slot the slot of the key or the capacity for the zero key.
+   */
+  protected final void removeSlot(int slot) {
+
+    if (slot == capacity()) {
+      hasZeroKey = false;
+      freeValue(slot);
+    } else {
+      shiftKeys(slot);
+    }
+
+    size--;
+  }
+
+  /**
+   * Find a slot with a mapping which satisfies the condition, the slot of the zero key is checked last.
+   *
+   * @param condition the condition for a slot.
+   * @return the found slot, the capacity for the zero key or -1.
+   */
+  protected final int findSlot(IntPredicate condition) {
+
+    int capacity = capacity();
+
+    for (int slot = 0; slot < capacity; slot++) {
+      if (!isFree(slot) && condition.test(slot)) {
+        return slot;
+      }
+    }
+
+    return hasZeroKey && condition.test(capacity) ? capacity : -1;
+  }
+
+  /**
+   * Handle all slots with mappings, the slot of the zero key is handled last.
+   *
+   * @param consumer the consumer of a slot.
+   */
+  protected final void forEachSlot(IntConsumer consumer) {
+
+    int capacity = capacity();
+
+    for (int slot = 0; slot < capacity; slot++) {
+      if (!isFree(slot)) {
+        consumer.accept(slot);
+      }
+    }
+
+    if (hasZeroKey) {
+      consumer.accept(capacity);
+    }
+  }
+
+  /**
+   * Create an iterator over elements of mappings which supports removing.
+   *
+   * @param elementBySlot the function to get an element by a slot.
+   * @param <T> the element's type.
+   * @return the new iterator.
+   */
+  protected final <T> Iterator<T> slotIterator(IntFunction<T> elementBySlot) {
+    return new SlotIterator<>(elementBySlot);
+  }
+
+  /**
+   * Remove the key from the slot and shift the next keys of the same cluster to keep probe sequences without gaps.
+   *
+   * @param slot the slot to clear.
+   */
+  private void shiftKeys(int slot) {
+
+    var values = this.values;
+    var mask = this.mask;
+
+    while (true) {
+
+      int last = slot;
+
+      slot = last + 1 & mask;
+
+      while (true) {
+
+        if (isFree(slot)) {
+          freeKey(last);
+          freeValue(last);
+          return;
+        }
+
+        int ideal = idealSlotOf(slot);
+
+        if (last <= slot ? last >= ideal || ideal > slot : last >= ideal && ideal > slot) {
+          break;
+        }
+
+        slot = slot + 1 & mask;
+      }
+
+      moveKey(slot, last);
+      copyValue(values, slot, values, last);
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public void clear() {
+
+    if (size == 0) {
+      return;
+    }
+
+    clearKeys();
+    clearValues();
+
+    hasZeroKey = false;
+    size = 0;
+  }
+
+  /**
+   * The iterator which goes through table backwards starting from a free slot, so a cluster is never split by the
+   * start and keys which are shifted during removing are moved only to already visited slots.
+   *
+   * @param <T> the element's type.
+   */
+  private final class SlotIterator<T> implements Iterator<T> {
+
+    private final IntFunction<T> elementBySlot;
+
+    /**
+     * The last visited slot of table.
+     */
+    private int position;
+
+    /**
+     * The slot of the last returned element or -1.
+     */
+    private int last;
+
+    /**
+     * The number of elements to return.
+     */
+    private int remaining;
+
+    /**
+     * True if the zero key should be returned.
+     */
+    private boolean mustReturnZeroKey;
+
+    private SlotIterator(IntFunction<T> elementBySlot) {
+
+      int position = 0;
+
+      // a table always has at least one free slot
+      while (!isFree(position)) {
+        position++;
+      }
+
+      this.elementBySlot = elementBySlot;
+      this.position = position;
+      this.last = -1;
+      this.remaining = size;
+      this.mustReturnZeroKey = hasZeroKey;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return remaining > 0;
+    }
+
+    @Override
+    public T next() {
+
+      if (remaining < 1) {
+        throw new NoSuchElementException();
+      }
+
+      remaining--;
+
+      if (mustReturnZeroKey) {
+        mustReturnZeroKey = false;
+        last = capacity();
+        return elementBySlot.apply(last);
+      }
+
+      var mask = AbstractOpenAddressingDictionary.this.mask;
+
+      do {
+        position = position - 1 & mask;
+      } while (isFree(position));
+
+      last = position;
+
+      return elementBySlot.apply(position);
+    }
+
+    @Override
+    public void remove() {
+
+      if (last == -1) {
+        throw new IllegalStateException();
+      }
+
+      removeSlot(last);
+      last = -1;
+    }
+  }
+}
@@ -31,12 +31,12 @@ public interface ConcurrentDictionary<K, V> extends Dictionary<K, V> {
   }
 
   /**
-   * Try to optimistic read.
+   * Try to optimistic read, implementations without optimistic reading always fail it.
    *
    * @return the stamp of optimistic read or 0 if it was failed.
    */
   default long tryOptimisticRead() {
-    throw new UnsupportedOperationException();
+    return 0;
   }
 
   /**
@@ -46,7 +46,7 @@ public interface ConcurrentDictionary<K, V> extends Dictionary<K, V> {
    * @return true is this stamp is valid.
    */
   default boolean validate(long stamp) {
-    throw new UnsupportedOperationException();
+    return false;
   }
 
   /**
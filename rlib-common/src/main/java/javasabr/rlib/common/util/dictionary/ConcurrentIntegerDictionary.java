@@ -1,6 +1,10 @@
 package javasabr.rlib.common.util.dictionary;
 
+import java.util.function.BiFunction;
+import java.util.function.IntFunction;
+import javasabr.rlib.common.function.IntObjectFunction;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 /**
  * The interface with methods for supporting threadsafe for the {@link IntegerDictionary}.
@@ -21,4 +25,191 @@ public interface ConcurrentIntegerDictionary<V> extends IntegerDictionary<V>, Co
   static <T> ConcurrentIntegerDictionary<T> ofType(Class<? super T> valueType) {
     return DictionaryFactory.newConcurrentAtomicIntegerDictionary();
   }
+
+  /**
+   * Get the value for the key under optimistic read and repeat it under block {@link #readLock()} only if the
+   * optimistic read was failed or invalidated by a writer.
+   *
+   * @param key the key.
+   * @return the value for the key or null.
+   */
+  default @Nullable V getInReadLock(int key) {
+
+    var stamp = tryOptimisticRead();
+
+    if (stamp != 0) {
+      try {
+        var value = get(key);
+        if (validate(stamp)) {
+          return value;
+        }
+      } catch (RuntimeException exc) {
+        // an inconsistent state was seen during the optimistic read
+        if (validate(stamp)) {
+          throw exc;
+        }
+      }
+    }
+
+    stamp = readLock();
+    try {
+      return get(key);
+    } finally {
+      readUnlock(stamp);
+    }
+  }
+
+  /**
+   * Check existing the key under optimistic read and repeat it under block {@link #readLock()} only if the
+   * optimistic read was failed or invalidated by a writer.
+   *
+   * @param key the key.
+   * @return true if this dictionary contains the key.
+   */
+  default boolean containsKeyInReadLock(int key) {
+
+    var stamp = tryOptimisticRead();
+
+    if (stamp != 0) {
+      try {
+        var result = containsKey(key);
+        if (validate(stamp)) {
+          return result;
+        }
+      } catch (RuntimeException exc) {
+        // an inconsistent state was seen during the optimistic read
+        if (validate(stamp)) {
+          throw exc;
+        }
+      }
+    }
+
+    stamp = readLock();
+    try {
+      return containsKey(key);
+    } finally {
+      readUnlock(stamp);
+    }
+  }
+
+  /**
+   * Atomically get the value for the key or compute and put a new value if there is no mapping for the key. A hit
+   * takes only an optimistic read, only a miss takes the write lock.
+   *
+   * @param key the key.
+   * @param factory the factory of a new value.
+   * @return the stored value or the new value.
+   */
+  default V computeIfAbsent(int key, IntFunction<? extends V> factory) {
+
+    var value = getInReadLock(key);
+
+    if (value != null) {
+      return value;
+    }
+
+    var stamp = writeLock();
+    try {
+
+      value = get(key);
+
+      if (value == null) {
+        value = factory.apply(key);
+        put(key, value);
+      }
+
+      return value;
+
+    } finally {
+      writeUnlock(stamp);
+    }
+  }
+
+  /**
+   * Atomically put the value if there is no mapping for the key. A hit takes only an optimistic read, only a miss
+   * takes the write lock.
+   *
+   * @param key the key.
+   * @param value the value.
+   * @return the current value for the key or null if the value was put.
+   */
+  default @Nullable V putIfAbsent(int key, V value) {
+
+    var current = getInReadLock(key);
+
+    if (current != null) {
+      return current;
+    }
+
+    var stamp = writeLock();
+    try {
+
+      current = get(key);
+
+      if (current == null) {
+        put(key, value);
+      }
+
+      return current;
+
+    } finally {
+      writeUnlock(stamp);
+    }
+  }
+
+  /**
+   * Atomically compute a new value for the key using its current value, a null result removes the mapping.
+   *
+   * @param key the key.
+   * @param function the function which receives the key and the current value or null.
+   * @return the new value or null.
+   */
+  default @Nullable V compute(int key, IntObjectFunction<? super V, ? extends V> function) {
+    var stamp = writeLock();
+    try {
+
+      var current = get(key);
+      var value = function.apply(key, current);
+
+      if (value != null) {
+        put(key, value);
+      } else if (current != null) {
+        remove(key);
+      }
+
+      return value;
+
+    } finally {
+      writeUnlock(stamp);
+    }
+  }
+
+  /**
+   * Atomically put the value if there is no mapping for the key or merge it with the current value, a null result of
+   * merging removes the mapping.
+   *
+   * @param key the key.
+   * @param value the value to put or to merge.
+   * @param function the function which receives the current value and the value.
+   * @return the new value or null.
+   */
+  default @Nullable V merge(int key, V value, BiFunction<? super V, ? super V, ? extends @Nullable V> function) {
+    var stamp = writeLock();
+    try {
+
+      var current = get(key);
+      var newValue = current == null ? value : function.apply(current, value);
+
+      if (newValue != null) {
+        put(key, newValue);
+      } else {
+        remove(key);
+      }
+
+      return newValue;
+
+    } finally {
+      writeUnlock(stamp);
+    }
+  }
 }
@@ -0,0 +1,319 @@
+package javasabr.rlib.common.util.dictionary;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BiFunction;
+import javasabr.rlib.common.function.FourObjectConsumer;
+import javasabr.rlib.common.function.NotNullBiConsumer;
+import javasabr.rlib.common.function.NotNullBiFunction;
+import javasabr.rlib.common.function.NotNullFunction;
+import javasabr.rlib.common.function.NotNullSupplier;
+import javasabr.rlib.common.function.NotNullTripleConsumer;
+import javasabr.rlib.common.util.ClassUtils;
+import javasabr.rlib.common.util.array.Array;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The implementation of the {@link ConcurrentObjectDictionary} based on CAS-updated bins of {@link ConcurrentHashMap},
+ * so single operations are thread-safe by themselves and writers of different keys don't contend with each other.
+ * <p>
+ * The lock methods of {@link ConcurrentDictionary} are still supported, but they are taken only when asked: a read
+ * lock is shared and a write lock is exclusive only between callers which use these locks, single operations like
+ * {@link #put(Object, Object)} or {@link #remove(Object)} never take them. So a check-then-act block in
+ * {@link #runInWriteLock} or {@link #getInWriteLock} isn't atomic against threads which update this dictionary without
+ * the lock, such blocks should be replaced by {@link #compute(Object, BiFunction)},
+ * {@link #computeIfAbsent(Object, NotNullFunction)}, {@link #putIfAbsent(Object, Object)} or
+ * {@link #merge(Object, Object, BiFunction)} which are atomic per key. This dictionary doesn't support null keys and
+ * values.
+ *
+ * @param <K> the key's type.
+ * @param <V> the value's type.
+ * @author JavaSaBr
+ */
+@NullMarked
+public class ConcurrentLockFreeObjectDictionary<K, V> implements ConcurrentObjectDictionary<K, V> {
+
+  protected static final int DEFAULT_INITIAL_CAPACITY = 16;
+  protected static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+  protected final ConcurrentHashMap<K, V> map;
+
+  private final StampedLock lock;
+
+  public ConcurrentLockFreeObjectDictionary() {
+    this(DEFAULT_LOAD_FACTOR, DEFAULT_INITIAL_CAPACITY);
+  }
+
+  public ConcurrentLockFreeObjectDictionary(float loadFactor) {
+    this(loadFactor, DEFAULT_INITIAL_CAPACITY);
+  }
+
+  public ConcurrentLockFreeObjectDictionary(int initCapacity) {
+    this(DEFAULT_LOAD_FACTOR, initCapacity);
+  }
+
+  public ConcurrentLockFreeObjectDictionary(float loadFactor, int initCapacity) {
+    this.map = new ConcurrentHashMap<>(initCapacity, loadFactor);
+    this.lock = new StampedLock();
+  }
+
+  @Override
+  public long readLock() {
+    return lock.readLock();
+  }
+
+  @Override
+  public void readUnlock(long stamp) {
+    lock.unlockRead(stamp);
+  }
+
+  @Override
+  public long tryOptimisticRead() {
+    return lock.tryOptimisticRead();
+  }
+
+  @Override
+  public boolean validate(long stamp) {
+    return lock.validate(stamp);
+  }
+
+  /**
+   * Take the write lock. It excludes only other holders of the read and write locks of this dictionary, single
+   * operations which don't use the locks still run concurrently with its holder.
+   *
+   * @return the stamp of the write lock.
+   */
+  @Override
+  public long writeLock() {
+    return lock.writeLock();
+  }
+
+  @Override
+  public void writeUnlock(long stamp) {
+    lock.unlockWrite(stamp);
+  }
+
+  @Override
+  public boolean containsKey(K key) {
+    return map.containsKey(key);
+  }
+
+  @Override
+  public boolean containsValue(V value) {
+    return map.containsValue(value);
+  }
+
+  @Override
+  public @Nullable V get(K key) {
+    return map.get(key);
+  }
+
+  @Override
+  public @Nullable V getInReadLock(K key) {
+    return map.get(key);
+  }
+
+  @Override
+  public boolean containsKeyInReadLock(K key) {
+    return map.containsKey(key);
+  }
+
+  @Override
+  public V getOrCompute(K key, NotNullSupplier<V> factory) {
+
+    var value = map.get(key);
+
+    if (value != null) {
+      return value;
+    }
+
+    return map.computeIfAbsent(key, k -> factory.get());
+  }
+
+  @Override
+  public V getOrCompute(K key, NotNullFunction<K, V> factory) {
+
+    var value = map.get(key);
+
+    if (value != null) {
+      return value;
+    }
+
+    return map.computeIfAbsent(key, factory::apply);
+  }
+
+  @Override
+  public <T> V getOrCompute(K key, T argument, NotNullFunction<T, V> factory) {
+
+    var value = map.get(key);
+
+    if (value != null) {
+      return value;
+    }
+
+    return map.computeIfAbsent(key, k -> factory.apply(argument));
+  }
+
+  @Override
+  public <T> V getOrCompute(K key, T argument, NotNullBiFunction<K, T, V> factory) {
+
+    var value = map.get(key);
+
+    if (value != null) {
+      return value;
+    }
+
+    return map.computeIfAbsent(key, k -> factory.apply(k, argument));
+  }
+
+  @Override
+  public V computeIfAbsent(K key, NotNullFunction<? super K, ? extends V> factory) {
+
+    var value = map.get(key);
+
+    if (value != null) {
+      return value;
+    }
+
+    return map.computeIfAbsent(key, factory::apply);
+  }
+
+  @Override
+  public @Nullable V putIfAbsent(K key, V value) {
+
+    var current = map.get(key);
+
+    if (current != null) {
+      return current;
+    }
+
+    return map.putIfAbsent(key, value);
+  }
+
+  @Override
+  public @Nullable V compute(K key, BiFunction<? super K, ? super @Nullable V, ? extends @Nullable V> function) {
+    return map.compute(key, function);
+  }
+
+  @Override
+  public @Nullable V merge(K key, V value, BiFunction<? super V, ? super V, ? extends @Nullable V> function) {
+    return map.merge(key, value, function);
+  }
+
+  @Override
+  public @Nullable V put(K key, V value) {
+    return map.put(key, value);
+  }
+
+  @Override
+  public @Nullable V remove(K key) {
+    return map.remove(key);
+  }
+
+  @Override
+  public void apply(NotNullFunction<? super V, V> function) {
+    map.replaceAll((key, value) -> function.apply(value));
+  }
+
+  @Override
+  public void clear() {
+    map.clear();
+  }
+
+  @Override
+  public int size() {
+    return map.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return map.isEmpty();
+  }
+
+  @Override
+  public Iterator<V> iterator() {
+    return map.values().iterator();
+  }
+
+  @Override
+  public Array<K> keyArray(Array<K> container) {
+
+    var unsafeArray = container.asUnsafe();
+    unsafeArray.prepareForSize(container.size() + size());
+
+    for (var key : map.keySet()) {
+      container.add(key);
+    }
+
+    return container;
+  }
+
+  @Override
+  public Array<V> values(Array<V> container) {
+
+    var unsafeArray = container.asUnsafe();
+    unsafeArray.prepareForSize(container.size() + size());
+
+    for (var value : map.values()) {
+      container.add(value);
+    }
+
+    return container;
+  }
+
+  @Override
+  public void copyTo(Dictionary<? super K, ? super V> dictionary) {
+
+    if (isEmpty() || !(dictionary instanceof ObjectDictionary)) {
+      return;
+    }
+
+    var target = ClassUtils.<ObjectDictionary<K, V>>unsafeNNCast(dictionary);
+
+    map.forEach(target::put);
+  }
+
+  @Override
+  public void forEach(NotNullBiConsumer<? super K, ? super V> consumer) {
+    map.forEach(consumer::accept);
+  }
+
+  @Override
+  public <T> void forEach(T argument, NotNullTripleConsumer<? super T, ? super K, ? super V> consumer) {
+    map.forEach((key, value) -> consumer.accept(argument, key, value));
+  }
+
+  @Override
+  public <F, S> void forEach(
+      F first,
+      S second,
+      FourObjectConsumer<? super F, ? super S, ? super K, ? super V> consumer) {
+    map.forEach((key, value) -> consumer.accept(first, second, key, value));
+  }
+
+  @Override
+  public String toString() {
+
+    int size = size();
+
+    var builder = new StringBuilder(getClass().getSimpleName())
+        .append(" size = ")
+        .append(size)
+        .append(" : ");
+
+    map.forEach((key, value) -> builder
+        .append("[")
+        .append(key)
+        .append(" - ")
+        .append(value)
+        .append("]\n"));
+
+    if (builder.charAt(builder.length() - 1) == '\n') {
+      builder.replace(builder.length() - 1, builder.length(), ".");
+    }
+
+    return builder.toString();
+  }
+}
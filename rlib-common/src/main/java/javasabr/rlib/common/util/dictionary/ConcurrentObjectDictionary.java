@@ -1,7 +1,9 @@
 package javasabr.rlib.common.util.dictionary;
 
+import java.util.function.BiFunction;
 import javasabr.rlib.common.function.NotNullBiConsumer;
 import javasabr.rlib.common.function.NotNullConsumer;
+import javasabr.rlib.common.function.NotNullFunction;
 import javasabr.rlib.common.function.NotNullNullableBiFunction;
 import javasabr.rlib.common.function.NotNullNullableTripleFunction;
 import javasabr.rlib.common.function.NotNullTripleConsumer;
@@ -175,6 +177,67 @@ public interface ConcurrentObjectDictionary<K, V> extends ObjectDictionary<K, V>
     }
   }
 
+  /**
+   * Get the value from a function for this dictionary under optimistic read and repeat it under block
+   * {@link ConcurrentObjectDictionary#readLock()} only if the optimistic read was failed or invalidated by a writer.
+   * The function must not have side effects because it can be executed twice and can see an inconsistent state
+   * during the first execution.
+   *
+   * @param argument the argument.
+   * @param function the function.
+   * @param <A> the argument's type.
+   * @param <R> the result's type.
+   * @return the result of the function.
+   */
+  default <A, R> @Nullable R getInOptimisticReadLock(
+      A argument,
+      NotNullNullableBiFunction<ConcurrentObjectDictionary<K, V>, A, R> function) {
+
+    var stamp = tryOptimisticRead();
+
+    if (stamp != 0) {
+      try {
+        var result = function.apply(this, argument);
+        if (validate(stamp)) {
+          return result;
+        }
+      } catch (RuntimeException exc) {
+        // an inconsistent state was seen during the optimistic read
+        if (validate(stamp)) {
+          throw exc;
+        }
+      }
+    }
+
+    stamp = readLock();
+    try {
+      return function.apply(this, argument);
+    } finally {
+      readUnlock(stamp);
+    }
+  }
+
+  /**
+   * Get the value for the key under optimistic read or block {@link ConcurrentObjectDictionary#readLock()}.
+   *
+   * @param key the key.
+   * @return the value for the key or null.
+   */
+  default @Nullable V getInReadLock(K key) {
+    return getInOptimisticReadLock(key, (dictionary, k) -> dictionary.get(k));
+  }
+
+  /**
+   * Check existing the key under optimistic read or block {@link ConcurrentObjectDictionary#readLock()}.
+   *
+   * @param key the key.
+   * @return true if this dictionary contains the key.
+   */
+  default boolean containsKeyInReadLock(K key) {
+    Boolean result = getInOptimisticReadLock(key, (dictionary, k) -> dictionary.containsKey(k));
+    return Boolean.TRUE.equals(result);
+  }
+
   /**
    * Get the value from a function for this dictionary under block {@link ConcurrentObjectDictionary#writeLock()}.
    *
@@ -218,6 +281,127 @@ public interface ConcurrentObjectDictionary<K, V> extends ObjectDictionary<K, V>
     }
   }
 
+  /**
+   * Atomically get the value for the key or compute and put a new value if there is no mapping for the key. A hit
+   * takes only an optimistic read, only a miss takes the write lock.
+   *
+   * @param key the key.
+   * @param factory the factory of a new value.
+   * @return the stored value or the new value.
+   */
+  default V computeIfAbsent(K key, NotNullFunction<? super K, ? extends V> factory) {
+
+    var value = getInReadLock(key);
+
+    if (value != null) {
+      return value;
+    }
+
+    var stamp = writeLock();
+    try {
+
+      value = get(key);
+
+      if (value == null) {
+        value = factory.apply(key);
+        put(key, value);
+      }
+
+      return value;
+
+    } finally {
+      writeUnlock(stamp);
+    }
+  }
+
+  /**
+   * Atomically put the value if there is no mapping for the key. A hit takes only an optimistic read, only a miss
+   * takes the write lock.
+   *
+   * @param key the key.
+   * @param value the value.
+   * @return the current value for the key or null if the value was put.
+   */
+  default @Nullable V putIfAbsent(K key, V value) {
+
+    var current = getInReadLock(key);
+
+    if (current != null) {
+      return current;
+    }
+
+    var stamp = writeLock();
+    try {
+
+      current = get(key);
+
+      if (current == null) {
+        put(key, value);
+      }
+
+      return current;
+
+    } finally {
+      writeUnlock(stamp);
+    }
+  }
+
+  /**
+   * Atomically compute a new value for the key using its current value, a null result removes the mapping.
+   *
+   * @param key the key.
+   * @param function the function which receives the key and the current value or null.
+   * @return the new value or null.
+   */
+  default @Nullable V compute(K key, BiFunction<? super K, ? super @Nullable V, ? extends @Nullable V> function) {
+    var stamp = writeLock();
+    try {
+
+      var current = get(key);
+      var value = function.apply(key, current);
+
+      if (value != null) {
+        put(key, value);
+      } else if (current != null) {
+        remove(key);
+      }
+
+      return value;
+
+    } finally {
+      writeUnlock(stamp);
+    }
+  }
+
+  /**
+   * Atomically put the value if there is no mapping for the key or merge it with the current value, a null result of
+   * merging removes the mapping.
+   *
+   * @param key the key.
+   * @param value the value to put or to merge.
+   * @param function the function which receives the current value and the value.
+   * @return the new value or null.
+   */
+  default @Nullable V merge(K key, V value, BiFunction<? super V, ? super V, ? extends @Nullable V> function) {
+    var stamp = writeLock();
+    try {
+
+      var current = get(key);
+      var newValue = current == null ? value : function.apply(current, value);
+
+      if (newValue != null) {
+        put(key, newValue);
+      } else {
+        remove(key);
+      }
+
+      return newValue;
+
+    } finally {
+      writeUnlock(stamp);
+    }
+  }
+
   /**
    * Performs the given action for each key-value pair of this dictionary.
    *
@@ -43,6 +43,16 @@ public class ConcurrentStampedLockObjectDictionary<K, V> extends AbstractConcurr
     lock.unlockRead(stamp);
   }
 
+  @Override
+  public long tryOptimisticRead() {
+    return lock.tryOptimisticRead();
+  }
+
+  @Override
+  public boolean validate(long stamp) {
+    return lock.validate(stamp);
+  }
+
   @Override
   public void writeUnlock(long stamp) {
     lock.unlockWrite(stamp);
@@ -0,0 +1,569 @@
+package javasabr.rlib.common.util.dictionary;
+
+import static javasabr.rlib.common.util.dictionary.DictionaryUtils.mix;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import javasabr.rlib.common.function.IntBiObjectConsumer;
+import javasabr.rlib.common.function.IntObjectConsumer;
+import javasabr.rlib.common.function.IntObjectFunction;
+import javasabr.rlib.common.function.NotNullFunction;
+import javasabr.rlib.common.util.ClassUtils;
+import javasabr.rlib.common.util.array.Array;
+import javasabr.rlib.common.util.array.ArrayFactory;
+import javasabr.rlib.common.util.array.IntegerArray;
+import javasabr.rlib.common.util.array.MutableIntegerArray;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The implementation of the {@link ConcurrentIntegerDictionary} which splits keys between independent stripes, each
+ * stripe has own open-addressing table and own lock, so writers of different stripes don't contend and a resize
+ * blocks only the one stripe which is growing.
+ * <p>
+ * Single operations lock only the stripe of their key. Operations over all entries like {@link #size()},
+ * {@link #iterator()}, {@code forEach}, {@link #values(Array)} or {@link #clear()} take the locks of all stripes in the
+ * same order, so they see one consistent state of the whole dictionary.
+ * <p>
+ * {@link #readLock()} and {@link #writeLock()} lock all stripes as well, so they cost one lock acquisition per stripe,
+ * up to 256 with the default count of stripes on big machines. Compound operations should use the atomic per-key
+ * methods like {@code compute}, {@code merge} or {@code putIfAbsent} instead of the inherited
+ * {@code runInReadLock}/{@code getInWriteLock} helpers, which take all stripe locks on every call.
+ *
+ * @param <V> the value's type.
+ * @author JavaSaBr
+ */
+@NullMarked
+public class ConcurrentStripedIntegerDictionary<V> implements ConcurrentIntegerDictionary<V> {
+
+  protected static final int DEFAULT_INITIAL_CAPACITY = 16;
+  protected static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+  /**
+   * The default count of stripes.
+   */
+  protected static final int DEFAULT_STRIPES = DictionaryUtils.tableSizeFor(
+      Math.min(Runtime.getRuntime().availableProcessors() * 4, 256));
+
+  private final OpenAddressingIntegerDictionary<V>[] stripes;
+  private final ReentrantReadWriteLock[] locks;
+
+  /**
+   * The shift to get an index of a stripe from the highest bits of a hash.
+   */
+  private final int stripeShift;
+
+  public ConcurrentStripedIntegerDictionary() {
+    this(DEFAULT_STRIPES, DEFAULT_LOAD_FACTOR, DEFAULT_INITIAL_CAPACITY);
+  }
+
+  public ConcurrentStripedIntegerDictionary(int initCapacity) {
+    this(DEFAULT_STRIPES, DEFAULT_LOAD_FACTOR, initCapacity);
+  }
+
+  public ConcurrentStripedIntegerDictionary(float loadFactor, int initCapacity) {
+    this(DEFAULT_STRIPES, loadFactor, initCapacity);
+  }
+
+  public ConcurrentStripedIntegerDictionary(int stripes, float loadFactor, int initCapacity) {
+
+    int stripeCount = DictionaryUtils.tableSizeFor(stripes);
+    int stripeCapacity = Math.max(DEFAULT_INITIAL_CAPACITY, initCapacity / stripeCount);
+
+    this.stripes = ClassUtils.unsafeNNCast(new OpenAddressingIntegerDictionary[stripeCount]);
+    this.locks = new ReentrantReadWriteLock[stripeCount];
+    this.stripeShift = 32 - Integer.numberOfTrailingZeros(stripeCount);
+
+    for (int i = 0; i < stripeCount; i++) {
+      this.stripes[i] = new OpenAddressingIntegerDictionary<>(loadFactor, stripeCapacity);
+      this.locks[i] = new ReentrantReadWriteLock();
+    }
+  }
+
+  /**
+   * Get an index of a stripe for the key.
+   *
+   * @param key the key.
+   * @return the index of the stripe.
+   */
+  protected int stripeFor(int key) {
+    return mix(key) >>> stripeShift;
+  }
+
+  @Override
+  public long readLock() {
+    for (var lock : locks) {
+      lock.readLock().lock();
+    }
+    return 0;
+  }
+
+  @Override
+  public void readUnlock(long stamp) {
+    for (int i = locks.length - 1; i >= 0; i--) {
+      locks[i].readLock().unlock();
+    }
+  }
+
+  @Override
+  public long writeLock() {
+    for (var lock : locks) {
+      lock.writeLock().lock();
+    }
+    return 0;
+  }
+
+  @Override
+  public void writeUnlock(long stamp) {
+    for (int i = locks.length - 1; i >= 0; i--) {
+      locks[i].writeLock().unlock();
+    }
+  }
+
+  @Override
+  public boolean containsKey(int key) {
+
+    int index = stripeFor(key);
+    var lock = locks[index].readLock();
+
+    lock.lock();
+    try {
+      return stripes[index].containsKey(key);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public @Nullable V get(int key) {
+
+    int index = stripeFor(key);
+    var lock = locks[index].readLock();
+
+    lock.lock();
+    try {
+      return stripes[index].get(key);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public @Nullable V getInReadLock(int key) {
+    return get(key);
+  }
+
+  @Override
+  public boolean containsKeyInReadLock(int key) {
+    return containsKey(key);
+  }
+
+  @Override
+  public V getOrCompute(int key, Supplier<V> factory) {
+
+    var value = get(key);
+
+    if (value != null) {
+      return value;
+    }
+
+    int index = stripeFor(key);
+    var lock = locks[index].writeLock();
+
+    lock.lock();
+    try {
+      return stripes[index].getOrCompute(key, factory);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public V getOrCompute(int key, IntFunction<V> factory) {
+
+    var value = get(key);
+
+    if (value != null) {
+      return value;
+    }
+
+    int index = stripeFor(key);
+    var lock = locks[index].writeLock();
+
+    lock.lock();
+    try {
+      return stripes[index].getOrCompute(key, factory);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public <T> @Nullable V getOrCompute(int key, T argument, Function<T, V> factory) {
+
+    var value = get(key);
+
+    if (value != null) {
+      return value;
+    }
+
+    int index = stripeFor(key);
+    var lock = locks[index].writeLock();
+
+    lock.lock();
+    try {
+      return stripes[index].getOrCompute(key, argument, factory);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public V computeIfAbsent(int key, IntFunction<? extends V> factory) {
+
+    var value = get(key);
+
+    if (value != null) {
+      return value;
+    }
+
+    int index = stripeFor(key);
+    var lock = locks[index].writeLock();
+
+    lock.lock();
+    try {
+
+      var stripe = stripes[index];
+      value = stripe.get(key);
+
+      if (value == null) {
+        value = factory.apply(key);
+        stripe.put(key, value);
+      }
+
+      return value;
+
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public @Nullable V putIfAbsent(int key, V value) {
+
+    var current = get(key);
+
+    if (current != null) {
+      return current;
+    }
+
+    int index = stripeFor(key);
+    var lock = locks[index].writeLock();
+
+    lock.lock();
+    try {
+
+      var stripe = stripes[index];
+      current = stripe.get(key);
+
+      if (current == null) {
+        stripe.put(key, value);
+      }
+
+      return current;
+
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public @Nullable V compute(int key, IntObjectFunction<? super V, ? extends V> function) {
+
+    int index = stripeFor(key);
+    var lock = locks[index].writeLock();
+
+    lock.lock();
+    try {
+
+      var stripe = stripes[index];
+      var current = stripe.get(key);
+      var value = function.apply(key, current);
+
+      if (value != null) {
+        stripe.put(key, value);
+      } else if (current != null) {
+        stripe.remove(key);
+      }
+
+      return value;
+
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public @Nullable V merge(int key, V value, BiFunction<? super V, ? super V, ? extends @Nullable V> function) {
+
+    int index = stripeFor(key);
+    var lock = locks[index].writeLock();
+
+    lock.lock();
+    try {
+
+      var stripe = stripes[index];
+      var current = stripe.get(key);
+      var newValue = current == null ? value : function.apply(current, value);
+
+      if (newValue != null) {
+        stripe.put(key, newValue);
+      } else {
+        stripe.remove(key);
+      }
+
+      return newValue;
+
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public @Nullable V put(int key, V value) {
+
+    int index = stripeFor(key);
+    var lock = locks[index].writeLock();
+
+    lock.lock();
+    try {
+      return stripes[index].put(key, value);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public @Nullable V remove(int key) {
+
+    int index = stripeFor(key);
+    var lock = locks[index].writeLock();
+
+    lock.lock();
+    try {
+      return stripes[index].remove(key);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void apply(NotNullFunction<? super V, V> function) {
+    for (int i = 0; i < stripes.length; i++) {
+      var lock = locks[i].writeLock();
+      lock.lock();
+      try {
+        stripes[i].apply(function);
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  @Override
+  public void clear() {
+    long stamp = writeLock();
+    try {
+      for (var stripe : stripes) {
+        stripe.clear();
+      }
+    } finally {
+      writeUnlock(stamp);
+    }
+  }
+
+  @Override
+  public boolean containsValue(V value) {
+    long stamp = readLock();
+    try {
+      for (var stripe : stripes) {
+        if (stripe.containsValue(value)) {
+          return true;
+        }
+      }
+      return false;
+    } finally {
+      readUnlock(stamp);
+    }
+  }
+
+  @Override
+  public int size() {
+    long stamp = readLock();
+    try {
+
+      int size = 0;
+
+      for (var stripe : stripes) {
+        size += stripe.size();
+      }
+
+      return size;
+
+    } finally {
+      readUnlock(stamp);
+    }
+  }
+
+  @Override
+  public IntegerArray keyArray(MutableIntegerArray container) {
+    long stamp = readLock();
+    try {
+      for (var stripe : stripes) {
+        stripe.keyArray(container);
+      }
+    } finally {
+      readUnlock(stamp);
+    }
+    return container;
+  }
+
+  @Override
+  public Array<V> values(Array<V> container) {
+    long stamp = readLock();
+    try {
+      for (var stripe : stripes) {
+        stripe.values(container);
+      }
+    } finally {
+      readUnlock(stamp);
+    }
+    return container;
+  }
+
+  @Override
+  public void copyTo(Dictionary<? super IntKey, ? super V> dictionary) {
+    long stamp = readLock();
+    try {
+      for (var stripe : stripes) {
+        stripe.copyTo(dictionary);
+      }
+    } finally {
+      readUnlock(stamp);
+    }
+  }
+
+  @Override
+  public void forEach(IntObjectConsumer<? super V> consumer) {
+    long stamp = readLock();
+    try {
+      for (var stripe : stripes) {
+        stripe.forEach(consumer);
+      }
+    } finally {
+      readUnlock(stamp);
+    }
+  }
+
+  @Override
+  public <T> void forEach(T argument, IntBiObjectConsumer<? super V, ? super T> consumer) {
+    long stamp = readLock();
+    try {
+      for (var stripe : stripes) {
+        stripe.forEach(argument, consumer);
+      }
+    } finally {
+      readUnlock(stamp);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The iterator works over a snapshot of all stripes which is taken under their read locks when it's created.
+   */
+  @Override
+  public Iterator<V> iterator() {
+    return new SnapshotIterator();
+  }
+
+  @Override
+  public String toString() {
+
+    var size = size();
+
+    var builder = new StringBuilder(getClass().getSimpleName());
+    builder
+        .append(" size = ")
+        .append(size)
+        .append(" :\n");
+
+    forEach((key, value) -> builder
+        .append("[")
+        .append(key)
+        .append(" - ")
+        .append(value)
+        .append("]")
+        .append("\n"));
+
+    if (size > 0) {
+      builder.delete(builder.length() - 1, builder.length());
+    }
+
+    return builder.toString();
+  }
+
+  private final class SnapshotIterator implements Iterator<V> {
+
+    private final MutableIntegerArray keys = ArrayFactory.newMutableIntegerArray();
+    private final Array<V> values = ClassUtils.unsafeNNCast(ArrayFactory.newArray(Object.class));
+
+    private int position;
+
+    private int lastKey;
+
+    private boolean hasCurrent;
+
+    private SnapshotIterator() {
+      forEach((key, value) -> {
+        keys.add(key);
+        values.add(value);
+      });
+    }
+
+    @Override
+    public boolean hasNext() {
+      return position < keys.size();
+    }
+
+    @Override
+    public V next() {
+
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      hasCurrent = true;
+      lastKey = keys.get(position);
+
+      return values.get(position++);
+    }
+
+    @Override
+    public void remove() {
+
+      if (!hasCurrent) {
+        throw new IllegalStateException();
+      }
+
+      hasCurrent = false;
+
+      ConcurrentStripedIntegerDictionary.this.remove(lastKey);
+    }
+  }
+}
@@ -0,0 +1,568 @@
+package javasabr.rlib.common.util.dictionary;
+
+import static javasabr.rlib.common.util.dictionary.DictionaryUtils.mix;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import javasabr.rlib.common.function.LongBiObjectConsumer;
+import javasabr.rlib.common.function.LongObjectConsumer;
+import javasabr.rlib.common.function.LongObjectFunction;
+import javasabr.rlib.common.function.NotNullFunction;
+import javasabr.rlib.common.util.ClassUtils;
+import javasabr.rlib.common.util.array.Array;
+import javasabr.rlib.common.util.array.ArrayFactory;
+import javasabr.rlib.common.util.array.LongArray;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The implementation of the {@link ConcurrentLongDictionary} which splits keys between independent stripes, each
+ * stripe has own open-addressing table and own lock, so writers of different stripes don't contend and a resize
+ * blocks only the one stripe which is growing.
+ * <p>
+ * Single operations lock only the stripe of their key. Operations over all entries like {@link #size()},
+ * {@link #iterator()}, {@code forEach}, {@link #values(Array)} or {@link #clear()} take the locks of all stripes in the
+ * same order, so they see one consistent state of the whole dictionary.
+ * <p>
+ * {@link #readLock()} and {@link #writeLock()} lock all stripes as well, so they cost one lock acquisition per stripe,
+ * up to 256 with the default count of stripes on big machines. Compound operations should use the atomic per-key
+ * methods like {@code compute}, {@code merge} or {@code putIfAbsent} instead of the inherited
+ * {@code runInReadLock}/{@code getInWriteLock} helpers, which take all stripe locks on every call.
+ *
+ * @param <V> the value's type.
+ * @author JavaSaBr
+ */
+@NullMarked
+public class ConcurrentStripedLongDictionary<V> implements ConcurrentLongDictionary<V> {
+
+  protected static final int DEFAULT_INITIAL_CAPACITY = 16;
+  protected static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+  /**
+   * The default count of stripes.
+   */
+  protected static final int DEFAULT_STRIPES = DictionaryUtils.tableSizeFor(
+      Math.min(Runtime.getRuntime().availableProcessors() * 4, 256));
+
+  private final OpenAddressingLongDictionary<V>[] stripes;
+  private final ReentrantReadWriteLock[] locks;
+
+  /**
+   * The shift to get an index of a stripe from the highest bits of a hash.
+   */
+  private final int stripeShift;
+
+  public ConcurrentStripedLongDictionary() {
+    this(DEFAULT_STRIPES, DEFAULT_LOAD_FACTOR, DEFAULT_INITIAL_CAPACITY);
+  }
+
+  public ConcurrentStripedLongDictionary(int initCapacity) {
+    this(DEFAULT_STRIPES, DEFAULT_LOAD_FACTOR, initCapacity);
+  }
+
+  public ConcurrentStripedLongDictionary(float loadFactor, int initCapacity) {
+    this(DEFAULT_STRIPES, loadFactor, initCapacity);
+  }
+
+  public ConcurrentStripedLongDictionary(int stripes, float loadFactor, int initCapacity) {
+
+    int stripeCount = DictionaryUtils.tableSizeFor(stripes);
+    int stripeCapacity = Math.max(DEFAULT_INITIAL_CAPACITY, initCapacity / stripeCount);
+
+    this.stripes = ClassUtils.unsafeNNCast(new OpenAddressingLongDictionary[stripeCount]);
+    this.locks = new ReentrantReadWriteLock[stripeCount];
+    this.stripeShift = 32 - Integer.numberOfTrailingZeros(stripeCount);
+
+    for (int i = 0; i < stripeCount; i++) {
+      this.stripes[i] = new OpenAddressingLongDictionary<>(loadFactor, stripeCapacity);
+      this.locks[i] = new ReentrantReadWriteLock();
+    }
+  }
+
+  /**
+   * Get an index of a stripe for the key.
+   *
+   * @param key the key.
+   * @return the index of the stripe.
+   */
+  protected int stripeFor(long key) {
+    return mix(key) >>> stripeShift;
+  }
+
+  @Override
+  public long readLock() {
+    for (var lock : locks) {
+      lock.readLock().lock();
+    }
+    return 0;
+  }
+
+  @Override
+  public void readUnlock(long stamp) {
+    for (int i = locks.length - 1; i >= 0; i--) {
+      locks[i].readLock().unlock();
+    }
+  }
+
+  @Override
+  public long writeLock() {
+    for (var lock : locks) {
+      lock.writeLock().lock();
+    }
+    return 0;
+  }
+
+  @Override
+  public void writeUnlock(long stamp) {
+    for (int i = locks.length - 1; i >= 0; i--) {
+      locks[i].writeLock().unlock();
+    }
+  }
+
+  @Override
+  public boolean containsKey(long key) {
+
+    int index = stripeFor(key);
+    var lock = locks[index].readLock();
+
+    lock.lock();
+    try {
+      return stripes[index].containsKey(key);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public @Nullable V get(long key) {
+
+    int index = stripeFor(key);
+    var lock = locks[index].readLock();
+
+    lock.lock();
+    try {
+      return stripes[index].get(key);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public @Nullable V getInReadLock(long key) {
+    return get(key);
+  }
+
+  @Override
+  public boolean containsKeyInReadLock(long key) {
+    return containsKey(key);
+  }
+
+  @Override
+  public V getOrCompute(long key, Supplier<V> factory) {
+
+    var value = get(key);
+
+    if (value != null) {
+      return value;
+    }
+
+    int index = stripeFor(key);
+    var lock = locks[index].writeLock();
+
+    lock.lock();
+    try {
+      return stripes[index].getOrCompute(key, factory);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public V getOrCompute(long key, LongFunction<V> factory) {
+
+    var value = get(key);
+
+    if (value != null) {
+      return value;
+    }
+
+    int index = stripeFor(key);
+    var lock = locks[index].writeLock();
+
+    lock.lock();
+    try {
+      return stripes[index].getOrCompute(key, factory);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public <T> @Nullable V getOrCompute(long key, T argument, Function<T, V> factory) {
+
+    var value = get(key);
+
+    if (value != null) {
+      return value;
+    }
+
+    int index = stripeFor(key);
+    var lock = locks[index].writeLock();
+
+    lock.lock();
+    try {
+      return stripes[index].getOrCompute(key, argument, factory);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public V computeIfAbsent(long key, LongFunction<? extends V> factory) {
+
+    var value = get(key);
+
+    if (value != null) {
+      return value;
+    }
+
+    int index = stripeFor(key);
+    var lock = locks[index].writeLock();
+
+    lock.lock();
+    try {
+
+      var stripe = stripes[index];
+      value = stripe.get(key);
+
+      if (value == null) {
+        value = factory.apply(key);
+        stripe.put(key, value);
+      }
+
+      return value;
+
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public @Nullable V putIfAbsent(long key, V value) {
+
+    var current = get(key);
+
+    if (current != null) {
+      return current;
+    }
+
+    int index = stripeFor(key);
+    var lock = locks[index].writeLock();
+
+    lock.lock();
+    try {
+
+      var stripe = stripes[index];
+      current = stripe.get(key);
+
+      if (current == null) {
+        stripe.put(key, value);
+      }
+
+      return current;
+
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public @Nullable V compute(long key, LongObjectFunction<? super V, ? extends V> function) {
+
+    int index = stripeFor(key);
+    var lock = locks[index].writeLock();
+
+    lock.lock();
+    try {
+
+      var stripe = stripes[index];
+      var current = stripe.get(key);
+      var value = function.apply(key, current);
+
+      if (value != null) {
+        stripe.put(key, value);
+      } else if (current != null) {
+        stripe.remove(key);
+      }
+
+      return value;
+
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public @Nullable V merge(long key, V value, BiFunction<? super V, ? super V, ? extends @Nullable V> function) {
+
+    int index = stripeFor(key);
+    var lock = locks[index].writeLock();
+
+    lock.lock();
+    try {
+
+      var stripe = stripes[index];
+      var current = stripe.get(key);
+      var newValue = current == null ? value : function.apply(current, value);
+
+      if (newValue != null) {
+        stripe.put(key, newValue);
+      } else {
+        stripe.remove(key);
+      }
+
+      return newValue;
+
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public @Nullable V put(long key, V value) {
+
+    int index = stripeFor(key);
+    var lock = locks[index].writeLock();
+
+    lock.lock();
+    try {
+      return stripes[index].put(key, value);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public @Nullable V remove(long key) {
+
+    int index = stripeFor(key);
+    var lock = locks[index].writeLock();
+
+    lock.lock();
+    try {
+      return stripes[index].remove(key);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void apply(NotNullFunction<? super V, V> function) {
+    for (int i = 0; i < stripes.length; i++) {
+      var lock = locks[i].writeLock();
+      lock.lock();
+      try {
+        stripes[i].apply(function);
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  @Override
+  public void clear() {
+    long stamp = writeLock();
+    try {
+      for (var stripe : stripes) {
+        stripe.clear();
+      }
+    } finally {
+      writeUnlock(stamp);
+    }
+  }
+
+  @Override
+  public boolean containsValue(V value) {
+    long stamp = readLock();
+    try {
+      for (var stripe : stripes) {
+        if (stripe.containsValue(value)) {
+          return true;
+        }
+      }
+      return false;
+    } finally {
+      readUnlock(stamp);
+    }
+  }
+
+  @Override
+  public int size() {
+    long stamp = readLock();
+    try {
+
+      int size = 0;
+
+      for (var stripe : stripes) {
+        size += stripe.size();
+      }
+
+      return size;
+
+    } finally {
+      readUnlock(stamp);
+    }
+  }
+
+  @Override
+  public LongArray keyArray(LongArray container) {
+    long stamp = readLock();
+    try {
+      for (var stripe : stripes) {
+        stripe.keyArray(container);
+      }
+    } finally {
+      readUnlock(stamp);
+    }
+    return container;
+  }
+
+  @Override
+  public Array<V> values(Array<V> container) {
+    long stamp = readLock();
+    try {
+      for (var stripe : stripes) {
+        stripe.values(container);
+      }
+    } finally {
+      readUnlock(stamp);
+    }
+    return container;
+  }
+
+  @Override
+  public void copyTo(Dictionary<? super LongKey, ? super V> dictionary) {
+    long stamp = readLock();
+    try {
+      for (var stripe : stripes) {
+        stripe.copyTo(dictionary);
+      }
+    } finally {
+      readUnlock(stamp);
+    }
+  }
+
+  @Override
+  public void forEach(LongObjectConsumer<V> consumer) {
+    long stamp = readLock();
+    try {
+      for (var stripe : stripes) {
+        stripe.forEach(consumer);
+      }
+    } finally {
+      readUnlock(stamp);
+    }
+  }
+
+  @Override
+  public <T> void forEach(T argument, LongBiObjectConsumer<V, T> consumer) {
+    long stamp = readLock();
+    try {
+      for (var stripe : stripes) {
+        stripe.forEach(argument, consumer);
+      }
+    } finally {
+      readUnlock(stamp);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The iterator works over a snapshot of all stripes which is taken under their read locks when it's created.
+   */
+  @Override
+  public Iterator<V> iterator() {
+    return new SnapshotIterator();
+  }
+
+  @Override
+  public String toString() {
+
+    var size = size();
+
+    var builder = new StringBuilder(getClass().getSimpleName());
+    builder
+        .append(" size = ")
+        .append(size)
+        .append(" :\n");
+
+    forEach((key, value) -> builder
+        .append("[")
+        .append(key)
+        .append(" - ")
+        .append(value)
+        .append("]")
+        .append("\n"));
+
+    if (size > 0) {
+      builder.delete(builder.length() - 1, builder.length());
+    }
+
+    return builder.toString();
+  }
+
+  private final class SnapshotIterator implements Iterator<V> {
+
+    private final LongArray keys = ArrayFactory.newLongArray();
+    private final Array<V> values = ClassUtils.unsafeNNCast(ArrayFactory.newArray(Object.class));
+
+    private int position;
+
+    private long lastKey;
+
+    private boolean hasCurrent;
+
+    private SnapshotIterator() {
+      forEach((key, value) -> {
+        keys.add(key);
+        values.add(value);
+      });
+    }
+
+    @Override
+    public boolean hasNext() {
+      return position < keys.size();
+    }
+
+    @Override
+    public V next() {
+
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      hasCurrent = true;
+      lastKey = keys.get(position);
+
+      return values.get(position++);
+    }
+
+    @Override
+    public void remove() {
+
+      if (!hasCurrent) {
+        throw new IllegalStateException();
+      }
+
+      hasCurrent = false;
+
+      ConcurrentStripedLongDictionary.this.remove(lastKey);
+    }
+  }
+}
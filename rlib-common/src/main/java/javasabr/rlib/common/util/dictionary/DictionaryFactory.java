@@ -43,6 +43,38 @@ public final class DictionaryFactory {
     return new ConcurrentAtomicARSWLockObjectDictionary<>(loadFactor, initCapacity);
   }
 
+  public static <K, V> ConcurrentObjectDictionary<K, V> newConcurrentLockFreeObjectDictionary() {
+    return new ConcurrentLockFreeObjectDictionary<>();
+  }
+
+  public static <K, V> ConcurrentObjectDictionary<K, V> newConcurrentLockFreeObjectDictionary(
+      float loadFactor,
+      int initCapacity) {
+    return new ConcurrentLockFreeObjectDictionary<>(loadFactor, initCapacity);
+  }
+
+  public static <V> ConcurrentIntegerDictionary<V> newConcurrentStripedIntegerDictionary() {
+    return new ConcurrentStripedIntegerDictionary<>();
+  }
+
+  public static <V> ConcurrentIntegerDictionary<V> newConcurrentStripedIntegerDictionary(
+      int stripes,
+      float loadFactor,
+      int initCapacity) {
+    return new ConcurrentStripedIntegerDictionary<>(stripes, loadFactor, initCapacity);
+  }
+
+  public static <V> ConcurrentLongDictionary<V> newConcurrentStripedLongDictionary() {
+    return new ConcurrentStripedLongDictionary<>();
+  }
+
+  public static <V> ConcurrentLongDictionary<V> newConcurrentStripedLongDictionary(
+      int stripes,
+      float loadFactor,
+      int initCapacity) {
+    return new ConcurrentStripedLongDictionary<>(stripes, loadFactor, initCapacity);
+  }
+
   public static <K, V> ConcurrentObjectDictionary<K, V> newConcurrentStampedLockObjectDictionary() {
     return new ConcurrentStampedLockObjectDictionary<>();
   }
@@ -73,6 +105,66 @@ public final class DictionaryFactory {
     return new FastLongDictionary<>(loadFactor, initCapacity);
   }
 
+  public static <V> IntegerDictionary<V> newOpenAddressingIntegerDictionary() {
+    return new OpenAddressingIntegerDictionary<>();
+  }
+
+  public static <V> IntegerDictionary<V> newOpenAddressingIntegerDictionary(int initCapacity) {
+    return new OpenAddressingIntegerDictionary<>(initCapacity);
+  }
+
+  public static <V> IntegerDictionary<V> newOpenAddressingIntegerDictionary(float loadFactor, int initCapacity) {
+    return new OpenAddressingIntegerDictionary<>(loadFactor, initCapacity);
+  }
+
+  public static <V> LongDictionary<V> newOpenAddressingLongDictionary() {
+    return new OpenAddressingLongDictionary<>();
+  }
+
+  public static <V> LongDictionary<V> newOpenAddressingLongDictionary(int initCapacity) {
+    return new OpenAddressingLongDictionary<>(initCapacity);
+  }
+
+  public static <V> LongDictionary<V> newOpenAddressingLongDictionary(float loadFactor, int initCapacity) {
+    return new OpenAddressingLongDictionary<>(loadFactor, initCapacity);
+  }
+
+  public static IntToIntDictionary newIntToIntDictionary() {
+    return new FastIntToIntDictionary();
+  }
+
+  public static IntToIntDictionary newIntToIntDictionary(int initCapacity) {
+    return new FastIntToIntDictionary(initCapacity);
+  }
+
+  public static IntToIntDictionary newIntToIntDictionary(float loadFactor, int initCapacity) {
+    return new FastIntToIntDictionary(loadFactor, initCapacity);
+  }
+
+  public static LongToIntDictionary newLongToIntDictionary() {
+    return new FastLongToIntDictionary();
+  }
+
+  public static LongToIntDictionary newLongToIntDictionary(int initCapacity) {
+    return new FastLongToIntDictionary(initCapacity);
+  }
+
+  public static LongToIntDictionary newLongToIntDictionary(float loadFactor, int initCapacity) {
+    return new FastLongToIntDictionary(loadFactor, initCapacity);
+  }
+
+  public static LongToLongDictionary newLongToLongDictionary() {
+    return new FastLongToLongDictionary();
+  }
+
+  public static LongToLongDictionary newLongToLongDictionary(int initCapacity) {
+    return new FastLongToLongDictionary(initCapacity);
+  }
+
+  public static LongToLongDictionary newLongToLongDictionary(float loadFactor, int initCapacity) {
+    return new FastLongToLongDictionary(loadFactor, initCapacity);
+  }
+
   public static <K, V> ObjectDictionary<K, V> newObjectDictionary() {
     return new FastObjectDictionary<>();
   }
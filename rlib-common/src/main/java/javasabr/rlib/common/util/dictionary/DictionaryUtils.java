@@ -3,4 +3,72 @@ package javasabr.rlib.common.util.dictionary;
 /**
  * @author JavaSaBr
  */
-public class DictionaryUtils {}
+public class DictionaryUtils {
+
+  /**
+   * The max size of table of an open-addressing dictionary.
+   */
+  public static final int MAXIMUM_TABLE_SIZE = 1 << 30;
+
+  private static final int INT_PHI = 0x9E3779B9;
+  private static final long LONG_PHI = 0x9E3779B97F4A7C15L;
+
+  /**
+   * Spread bits of the int key to get a good distribution for linear probing.
+   *
+   * @param key the key.
+   * @return the hash.
+   */
+  public static int mix(int key) {
+    int hash = key * INT_PHI;
+    return hash ^ hash >>> 16;
+  }
+
+  /**
+   * Spread bits of the long key to get a good distribution for linear probing.
+   *
+   * @param key the key.
+   * @return the hash.
+   */
+  public static int mix(long key) {
+    long hash = key * LONG_PHI;
+    hash ^= hash >>> 32;
+    return (int) (hash ^ hash >>> 16);
+  }
+
+  /**
+   * Calculate a power of two size of table for the requested capacity.
+   *
+   * @param initCapacity the requested capacity.
+   * @return the size of table.
+   */
+  public static int tableSizeFor(int initCapacity) {
+    int capacity = Math.max(2, Math.min(initCapacity, MAXIMUM_TABLE_SIZE));
+    return Integer.highestOneBit(capacity - 1) << 1;
+  }
+
+  /**
+   * Calculate the next size value at which to resize an open-addressing table, it always keeps at least one free slot.
+   *
+   * @param tableSize the size of table.
+   * @param loadFactor the load factor.
+   * @return the threshold.
+   */
+  public static int thresholdFor(int tableSize, float loadFactor) {
+    return Math.min(tableSize - 1, (int) Math.ceil(tableSize * loadFactor));
+  }
+
+  /**
+   * Check the load factor of an open-addressing table.
+   *
+   * @param loadFactor the load factor.
+   * @return the load factor.
+   * @throws IllegalArgumentException if the load factor isn't in range (0, 1).
+   */
+  public static float validateLoadFactor(float loadFactor) {
+    if (loadFactor <= 0 || loadFactor >= 1) {
+      throw new IllegalArgumentException("Load factor must be in range (0, 1), but was " + loadFactor);
+    }
+    return loadFactor;
+  }
+}
@@ -0,0 +1,178 @@
+package javasabr.rlib.common.util.dictionary;
+
+import javasabr.rlib.common.function.IntIntConsumer;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * The fast implementation of {@link IntToIntDictionary} without threadsafe supporting which stores keys and values in
+ * parallel primitive arrays using linear probing.
+ *
+ * @author JavaSaBr
+ */
+@NullMarked
+public class FastIntToIntDictionary extends AbstractIntKeyOpenAddressingDictionary<int[]> implements
+    IntToIntDictionary {
+
+  protected FastIntToIntDictionary() {
+    this(DEFAULT_LOAD_FACTOR, DEFAULT_INITIAL_CAPACITY);
+  }
+
+  protected FastIntToIntDictionary(int initCapacity) {
+    this(DEFAULT_LOAD_FACTOR, initCapacity);
+  }
+
+  protected FastIntToIntDictionary(float loadFactor, int initCapacity) {
+    super(loadFactor, initCapacity);
+  }
+
+  @Override
+  protected int[] newValues(int length) {
+    return new int[length];
+  }
+
+  @Override
+  protected void copyValue(int[] source, int sourceSlot, int[] target, int targetSlot) {
+    target[targetSlot] = source[sourceSlot];
+  }
+
+  @Override
+  public int getOrDefault(int key, int defaultValue) {
+
+    if (key == 0) {
+      return hasZeroKey ? values[capacity()] : defaultValue;
+    }
+
+    int slot = slotOf(key);
+
+    return slot < 0 ? defaultValue : values[slot];
+  }
+
+  @Override
+  public int put(int key, int value) {
+
+    var values = this.values;
+
+    if (key == 0) {
+
+      int slot = capacity();
+      var prev = hasZeroKey ? values[slot] : 0;
+
+      values[slot] = value;
+      insertZeroKey();
+
+      return prev;
+    }
+
+    int slot = slotOrInsertionPoint(key);
+
+    if (slot > -1) {
+      var prev = values[slot];
+      values[slot] = value;
+      return prev;
+    }
+
+    slot = -slot - 1;
+    keys[slot] = key;
+    values[slot] = value;
+
+    onInserted();
+
+    return 0;
+  }
+
+  @Override
+  public int addTo(int key, int delta) {
+
+    var values = this.values;
+
+    if (key == 0) {
+
+      int slot = capacity();
+
+      if (hasZeroKey) {
+        return values[slot] += delta;
+      }
+
+      values[slot] = delta;
+      insertZeroKey();
+
+      return delta;
+    }
+
+    int slot = slotOrInsertionPoint(key);
+
+    if (slot > -1) {
+      return values[slot] += delta;
+    }
+
+    slot = -slot - 1;
+    keys[slot] = key;
+    values[slot] = delta;
+
+    onInserted();
+
+    return delta;
+  }
+
+  @Override
+  public int remove(int key) {
+
+    if (key == 0) {
+      return removeZeroKey() ? values[capacity()] : 0;
+    }
+
+    int slot = slotOf(key);
+
+    if (slot < 0) {
+      return 0;
+    }
+
+    var prev = values[slot];
+
+    removeSlot(slot);
+
+    return prev;
+  }
+
+  @Override
+  public void forEach(IntIntConsumer consumer) {
+
+    var keys = this.keys;
+    var values = this.values;
+
+    for (int slot = 0, capacity = keys.length; slot < capacity; slot++) {
+      int key = keys[slot];
+      if (key != 0) {
+        consumer.accept(key, values[slot]);
+      }
+    }
+
+    if (hasZeroKey) {
+      consumer.accept(0, values[keys.length]);
+    }
+  }
+
+  @Override
+  public String toString() {
+
+    var builder = new StringBuilder(getClass().getSimpleName());
+    builder
+        .append(" size = ")
+        .append(size)
+        .append(" :\n");
+
+    forEach((key, value) -> builder
+        .append("[")
+        .append(key)
+        .append(" - ")
+        .append(value)
+        .append("]")
+        .append("\n"));
+
+    if (size > 0) {
+      builder.delete(builder.length() - 1, builder.length());
+    }
+
+    return builder.toString();
+  }
+}
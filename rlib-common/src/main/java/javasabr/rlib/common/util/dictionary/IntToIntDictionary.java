@@ -0,0 +1,131 @@
+package javasabr.rlib.common.util.dictionary;
+
+import javasabr.rlib.common.function.IntIntConsumer;
+import javasabr.rlib.common.util.array.ArrayFactory;
+import javasabr.rlib.common.util.array.IntegerArray;
+import javasabr.rlib.common.util.array.MutableIntegerArray;
+import javasabr.rlib.common.util.pools.Reusable;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * The interface to implement a dictionary which uses int as key and int as value without boxing.
+ *
+ * @author JavaSaBr
+ */
+@NullMarked
+public interface IntToIntDictionary extends Reusable {
+
+  /**
+   * Return true if this dictionary contains a mapping for the specified key.
+   *
+   * @param key key whose presence in this dictionary is to be tested.
+   * @return true if this dictionary contains a mapping for the specified key.
+   */
+  boolean containsKey(int key);
+
+  /**
+   * Return the value to which the specified key is mapped, or 0 if this dictionary contains no mapping for the key.
+   *
+   * @param key the key whose associated value is to be returned.
+   * @return the value or 0.
+   */
+  default int get(int key) {
+    return getOrDefault(key, 0);
+  }
+
+  /**
+   * Return the value to which the specified key is mapped, or the default value if this dictionary contains no mapping
+   * for the key.
+   *
+   * @param key the key whose associated value is to be returned.
+   * @param defaultValue the default value.
+   * @return the value or the default value.
+   */
+  int getOrDefault(int key, int defaultValue);
+
+  /**
+   * Put the value by the key.
+   *
+   * @param key the value's key.
+   * @param value the value.
+   * @return the previous value for the key or 0.
+   */
+  int put(int key, int value);
+
+  /**
+   * Remove a mapping of the key.
+   *
+   * @param key the key.
+   * @return the previous value for the key or 0.
+   */
+  int remove(int key);
+
+  /**
+   * Add the delta to the value of the key, a missed value is considered as 0.
+   *
+   * @param key the key.
+   * @param delta the delta.
+   * @return the new value for the key.
+   */
+  int addTo(int key, int delta);
+
+  /**
+   * Increment the value of the key, a missed value is considered as 0.
+   *
+   * @param key the key.
+   * @return the new value for the key.
+   */
+  default int increment(int key) {
+    return addTo(key, 1);
+  }
+
+  /**
+   * Performs the given action for each key-value pair of this dictionary.
+   *
+   * @param consumer the consumer.
+   */
+  void forEach(IntIntConsumer consumer);
+
+  /**
+   * Create an array with all keys of this dictionary.
+   *
+   * @return the array with all keys of this dictionary.
+   */
+  default IntegerArray keyArray() {
+    return keyArray(ArrayFactory.newMutableIntegerArray(size()));
+  }
+
+  /**
+   * Put to the array all keys of this dictionary.
+   *
+   * @param container the container.
+   * @return the container with all keys.
+   */
+  IntegerArray keyArray(MutableIntegerArray container);
+
+  /**
+   * Return the number of key-value mappings in this dictionary.
+   *
+   * @return the number of key-value mappings in this dictionary.
+   */
+  int size();
+
+  /**
+   * Returns true if this dictionary contains no key-value mappings.
+   *
+   * @return true if this dictionary contains no key-value mappings
+   */
+  default boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * Clear this dictionary.
+   */
+  void clear();
+
+  @Override
+  default void free() {
+    clear();
+  }
+}
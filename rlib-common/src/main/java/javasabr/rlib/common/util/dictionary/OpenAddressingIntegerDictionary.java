@@ -0,0 +1,268 @@
+package javasabr.rlib.common.util.dictionary;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import javasabr.rlib.common.function.IntBiObjectConsumer;
+import javasabr.rlib.common.function.IntObjectConsumer;
+import javasabr.rlib.common.function.NotNullFunction;
+import javasabr.rlib.common.util.ClassUtils;
+import javasabr.rlib.common.util.array.Array;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The implementation of {@link IntegerDictionary} without threadsafe supporting which stores keys in an int array and
+ * values in an object array using linear probing, so it doesn't allocate any entry per mapping.
+ *
+ * @param <V> the value's type.
+ * @author JavaSaBr
+ */
+@NullMarked
+public class OpenAddressingIntegerDictionary<V> extends AbstractIntKeyOpenAddressingDictionary<@Nullable Object[]>
+    implements IntegerDictionary<V> {
+
+  protected OpenAddressingIntegerDictionary() {
+    this(DEFAULT_LOAD_FACTOR, DEFAULT_INITIAL_CAPACITY);
+  }
+
+  protected OpenAddressingIntegerDictionary(float loadFactor) {
+    this(loadFactor, DEFAULT_INITIAL_CAPACITY);
+  }
+
+  protected OpenAddressingIntegerDictionary(int initCapacity) {
+    this(DEFAULT_LOAD_FACTOR, initCapacity);
+  }
+
+  protected OpenAddressingIntegerDictionary(float loadFactor, int initCapacity) {
+    super(loadFactor, initCapacity);
+  }
+
+  @Override
+  protected @Nullable Object[] newValues(int length) {
+    return new Object[length];
+  }
+
+  @Override
+  protected void copyValue(@Nullable Object[] source, int sourceSlot, @Nullable Object[] target, int targetSlot) {
+    target[targetSlot] = source[sourceSlot];
+  }
+
+  @Override
+  protected void freeValue(int slot) {
+    values[slot] = null;
+  }
+
+  @Override
+  protected void clearValues() {
+    Arrays.fill(values, null);
+  }
+
+  /**
+   * Get a value stored in the slot.
+   *
+   * @param slot the slot.
+   * @return the value.
+   */
+  protected final V valueAt(int slot) {
+    return ClassUtils.unsafeCast(values[slot]);
+  }
+
+  /**
+   * Find a slot of the key.
+   *
+   * @param key the key.
+   * @return the slot, the capacity for the zero key or -1 if this dictionary doesn't contain the key.
+   */
+  protected final int slotOfAny(int key) {
+    if (key == 0) {
+      return hasZeroKey ? capacity() : -1;
+    }
+    return slotOf(key);
+  }
+
+  @Override
+  public @Nullable V get(int key) {
+    int slot = slotOfAny(key);
+    return slot < 0 ? null : valueAt(slot);
+  }
+
+  @Override
+  public V getOrCompute(int key, Supplier<V> factory) {
+
+    int slot = slotOfAny(key);
+
+    if (slot > -1) {
+      return valueAt(slot);
+    }
+
+    return putComputed(key, factory.get(), factory);
+  }
+
+  @Override
+  public V getOrCompute(int key, IntFunction<V> factory) {
+
+    int slot = slotOfAny(key);
+
+    if (slot > -1) {
+      return valueAt(slot);
+    }
+
+    return putComputed(key, factory.apply(key), factory);
+  }
+
+  @Override
+  public <T> @Nullable V getOrCompute(int key, T argument, Function<T, V> factory) {
+
+    int slot = slotOfAny(key);
+
+    if (slot > -1) {
+      return valueAt(slot);
+    }
+
+    return putComputed(key, factory.apply(argument), factory);
+  }
+
+  private V putComputed(int key, @Nullable V value, Object factory) {
+
+    if (value == null) {
+      throw new IllegalStateException("The factory " + factory + " returned a null value.");
+    }
+
+    put(key, value);
+
+    return value;
+  }
+
+  @Override
+  public @Nullable V put(int key, V value) {
+
+    var values = this.values;
+
+    if (key == 0) {
+
+      int slot = capacity();
+      var prev = valueAt(slot);
+
+      values[slot] = value;
+      insertZeroKey();
+
+      return prev;
+    }
+
+    int slot = slotOrInsertionPoint(key);
+
+    if (slot > -1) {
+      var prev = valueAt(slot);
+      values[slot] = value;
+      return prev;
+    }
+
+    slot = -slot - 1;
+    keys[slot] = key;
+    values[slot] = value;
+
+    onInserted();
+
+    return null;
+  }
+
+  @Override
+  public @Nullable V remove(int key) {
+
+    int slot = slotOfAny(key);
+
+    if (slot < 0) {
+      return null;
+    }
+
+    var prev = valueAt(slot);
+
+    removeSlot(slot);
+
+    return prev;
+  }
+
+  @Override
+  public Iterator<V> iterator() {
+    return slotIterator(this::valueAt);
+  }
+
+  @Override
+  public void apply(NotNullFunction<? super V, V> function) {
+    var values = this.values;
+    forEachSlot(slot -> values[slot] = function.apply(valueAt(slot)));
+  }
+
+  @Override
+  public boolean containsValue(@Nullable V value) {
+    var values = this.values;
+    return findSlot(slot -> Objects.equals(value, values[slot])) > -1;
+  }
+
+  @Override
+  public void forEach(Consumer<? super V> consumer) {
+    forEachSlot(slot -> consumer.accept(valueAt(slot)));
+  }
+
+  @Override
+  public void forEach(IntObjectConsumer<? super V> consumer) {
+    forEachSlot(slot -> consumer.accept(keyAt(slot), valueAt(slot)));
+  }
+
+  @Override
+  public <T> void forEach(T argument, IntBiObjectConsumer<? super V, ? super T> consumer) {
+    forEachSlot(slot -> consumer.accept(keyAt(slot), valueAt(slot), argument));
+  }
+
+  @Override
+  public Array<V> values(Array<V> container) {
+
+    var unsafeArray = container.asUnsafe();
+    unsafeArray.prepareForSize(container.size() + size);
+
+    forEach(unsafeArray::unsafeAdd);
+
+    return container;
+  }
+
+  @Override
+  public void copyTo(Dictionary<? super IntKey, ? super V> dictionary) {
+
+    if (isEmpty() || !(dictionary instanceof IntegerDictionary)) {
+      return;
+    }
+
+    var targetDictionary = ClassUtils.<IntegerDictionary<V>>unsafeNNCast(dictionary);
+
+    forEach((key, value) -> targetDictionary.put(key, value));
+  }
+
+  @Override
+  public String toString() {
+
+    var builder = new StringBuilder(getClass().getSimpleName());
+    builder
+        .append(" size = ")
+        .append(size)
+        .append(" :\n");
+
+    forEach((key, value) -> builder
+        .append("[")
+        .append(key)
+        .append(" - ")
+        .append(value)
+        .append("]")
+        .append("\n"));
+
+    if (size > 0) {
+      builder.delete(builder.length() - 1, builder.length());
+    }
+
+    return builder.toString();
+  }
+}
@@ -0,0 +1,85 @@
+package javasabr.rlib.common.concurrent.queue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author JavaSaBr
+ */
+public class MpscLinkedQueueTest {
+
+  @Test
+  void shouldKeepOrderForOneProducer() {
+
+    var queue = new MpscLinkedQueue<Integer>();
+
+    Assertions.assertTrue(queue.isEmpty());
+    Assertions.assertNull(queue.poll());
+
+    IntStream
+        .range(0, 100)
+        .forEach(queue::offer);
+
+    Assertions.assertFalse(queue.isEmpty());
+    Assertions.assertEquals(0, queue.peek());
+
+    for (int i = 0; i < 50; i++) {
+      Assertions.assertEquals(i, queue.poll());
+    }
+
+    var rest = new ArrayList<Integer>();
+
+    Assertions.assertEquals(50, queue.drain(rest::add));
+    Assertions.assertEquals(IntStream.range(50, 100).boxed().toList(), rest);
+    Assertions.assertTrue(queue.isEmpty());
+    Assertions.assertNull(queue.peek());
+  }
+
+  @Test
+  void shouldTakeAllElementsFromManyProducers() {
+
+    var queue = new MpscLinkedQueue<Integer>();
+    var producers = 8;
+    var elementsPerProducer = 50_000;
+
+    var tasks = IntStream
+        .range(0, producers)
+        .mapToObj(producer -> CompletableFuture.runAsync(() -> {
+          for (int i = 0; i < elementsPerProducer; i++) {
+            queue.offer(producer * elementsPerProducer + i);
+          }
+        }))
+        .toList();
+
+    var lastByProducer = new int[producers];
+    var received = 0;
+
+    Arrays.fill(lastByProducer, -1);
+
+    while (received < producers * elementsPerProducer) {
+
+      var element = queue.poll();
+
+      if (element == null) {
+        Thread.onSpinWait();
+        continue;
+      }
+
+      var producer = element / elementsPerProducer;
+      var index = element % elementsPerProducer;
+
+      Assertions.assertTrue(index > lastByProducer[producer], "Wrong order of elements from one producer");
+
+      lastByProducer[producer] = index;
+      received++;
+    }
+
+    tasks.forEach(CompletableFuture::join);
+
+    Assertions.assertTrue(queue.isEmpty());
+  }
+}
@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Collections;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import javasabr.rlib.common.BaseTest;
 import javasabr.rlib.common.concurrent.atomic.ReusableAtomicInteger;
 import javasabr.rlib.common.util.NumberUtils;
@@ -352,4 +353,69 @@ public class ConcurrentArrayTest extends BaseTest {
 
     assertEquals(array.size(), counter.getAndSet(0));
   }
+
+  @Test
+  void optimisticReadTest() {
+
+    var array = ConcurrentArray.ofType(Integer.class);
+
+    for (int i = 0; i < 100; i++) {
+      array.add(i);
+    }
+
+    var writer = CompletableFuture.runAsync(() -> {
+      for (int i = 0; i < 10_000; i++) {
+        int value = 1_000 + i;
+        array.runInWriteLock(arr -> arr.add(value));
+        array.runInWriteLock(arr -> arr.fastRemove(Integer.valueOf(value)));
+      }
+    });
+
+    while (!writer.isDone()) {
+      assertEquals(50, array.findAnyOptimistic(50, (value, element) -> element == value));
+      assertTrue(array.anyMatchOptimistic(99, (value, element) -> element == value));
+      assertFalse(array.anyMatchOptimistic(-1, (value, element) -> element == value));
+    }
+
+    writer.join();
+
+    var lockedArray = ArrayFactory.<Integer>newConcurrentReentrantRWLockArray(Integer.class);
+    lockedArray.runInWriteLock(arr -> arr.addAll(array));
+
+    assertEquals(0, lockedArray.tryOptimisticRead());
+    assertEquals(50, lockedArray.findAnyOptimistic(50, (value, element) -> element == value));
+  }
+
+  @Test
+  void shouldCallConditionOnceForEveryElementInReadLock() {
+
+    var array = ConcurrentArray.ofType(Integer.class);
+
+    for (int i = 0; i < 100; i++) {
+      array.add(i);
+    }
+
+    var writer = CompletableFuture.runAsync(() -> {
+      for (int i = 0; i < 10_000; i++) {
+        int value = 1_000 + i;
+        array.runInWriteLock(arr -> arr.add(value));
+        array.runInWriteLock(arr -> arr.fastRemove(Integer.valueOf(value)));
+      }
+    });
+
+    var calls = new int[1];
+
+    while (!writer.isDone()) {
+
+      calls[0] = 0;
+
+      assertEquals(50, array.findAnyInReadLock(50, (value, element) -> {
+        calls[0]++;
+        return element == value;
+      }));
+      assertEquals(51, calls[0]);
+    }
+
+    writer.join();
+  }
 }
@@ -198,4 +198,52 @@ public class DefaultIntegerArrayTest {
 
     Assertions.assertEquals(toCollect2, array);
   }
+
+  @Test
+  void bulkOperationsTest() {
+
+    var array = ArrayFactory.newMutableIntegerArray(0);
+    var numbers = new int[] {9, 3, 7, -2, 5, 3};
+
+    array.addAll(numbers, 1, 4);
+
+    Assertions.assertEquals(ArrayFactory.newMutableIntegerArray(3, 7, -2, 5), array);
+    Assertions.assertEquals(13, array.sum());
+    Assertions.assertEquals(-2, array.min());
+    Assertions.assertEquals(7, array.max());
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> array.addAll(numbers, 4, 3));
+
+    array.sort();
+
+    Assertions.assertEquals(2, array.binarySearch(5));
+    Assertions.assertTrue(array.binarySearch(4) < 0);
+    Assertions.assertTrue(array.removeIf(number -> number % 2 != 0));
+    Assertions.assertFalse(array.removeIf(number -> number > 100));
+    Assertions.assertArrayEquals(new int[] {-2}, array.toArray());
+    Assertions.assertThrows(IllegalStateException.class, () -> ArrayFactory.newMutableIntegerArray().min());
+  }
+
+  @Test
+  void sortedArrayTest() {
+
+    var array = ArrayFactory.newSortedIntegerArray(5, -1, 5, 20, 3);
+
+    Assertions.assertEquals(ArrayFactory.newMutableIntegerArray(-1, 3, 5, 20), array);
+
+    array.add(4);
+    array.add(20);
+    array.add(-10);
+    array.addAll(new int[] {100, 0, 4});
+
+    Assertions.assertEquals(ArrayFactory.newMutableIntegerArray(-10, -1, 0, 3, 4, 5, 20, 100), array);
+    Assertions.assertTrue(array.contains(20));
+    Assertions.assertFalse(array.contains(21));
+    Assertions.assertEquals(5, array.indexOf(5));
+
+    array.fastRemove(0);
+
+    Assertions.assertEquals(ArrayFactory.newMutableIntegerArray(-10, -1, 3, 4, 5, 20, 100), array);
+    Assertions.assertEquals(-10, array.first());
+    Assertions.assertEquals(100, array.max());
+  }
 }
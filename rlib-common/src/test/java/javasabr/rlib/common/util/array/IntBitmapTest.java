@@ -0,0 +1,239 @@
+package javasabr.rlib.common.util.array;
+
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class IntBitmapTest {
+
+  private static final List<Supplier<IntBitmap>> FACTORIES = List.of(
+      ArrayFactory::newBitSetArray,
+      ArrayFactory::newRoaringIntBitmap,
+      () -> ArrayFactory.newConcurrentBitSetArray(300_000));
+
+  private static int[] toArray(TreeSet<Integer> expected) {
+    return expected
+        .stream()
+        .mapToInt(Integer::intValue)
+        .toArray();
+  }
+
+  @Test
+  void addRemoveTest() {
+    FACTORIES.forEach(IntBitmapTest::addRemove);
+  }
+
+  @Test
+  void setOperationsTest() {
+    FACTORIES.forEach(IntBitmapTest::setOperations);
+  }
+
+  private static void addRemove(Supplier<IntBitmap> factory) {
+
+    var bitmap = factory.get();
+    var expected = new TreeSet<Integer>();
+    var random = new Random(42);
+
+    Assertions.assertTrue(bitmap.isEmpty());
+
+    for (int i = 0; i < 50_000; i++) {
+
+      // dense and sparse ranges to cover both kinds of roaring containers
+      int number = i % 3 == 0 ? random.nextInt(300_000) : 70_000 + random.nextInt(8_000);
+
+      if (random.nextInt(4) == 0) {
+        Assertions.assertEquals(expected.remove(number), bitmap.remove(number));
+      } else {
+        Assertions.assertEquals(expected.add(number), bitmap.add(number));
+      }
+    }
+
+    Assertions.assertEquals(expected.size(), bitmap.cardinality());
+    Assertions.assertArrayEquals(toArray(expected), bitmap.toArray());
+    Assertions.assertTrue(bitmap.contains(expected.first()));
+    Assertions.assertFalse(bitmap.contains(-1));
+    Assertions.assertFalse(bitmap.remove(-1));
+
+    expected.forEach(bitmap::remove);
+
+    Assertions.assertTrue(bitmap.isEmpty());
+
+    bitmap.add(5);
+    bitmap.clear();
+
+    Assertions.assertFalse(bitmap.contains(5));
+    Assertions.assertEquals(0, bitmap.toArray().length);
+  }
+
+  private static void setOperations(Supplier<IntBitmap> factory) {
+
+    var random = new Random(7);
+    var first = factory.get();
+    var second = factory.get();
+    var firstExpected = new TreeSet<Integer>();
+    var secondExpected = new TreeSet<Integer>();
+
+    for (int i = 0; i < 20_000; i++) {
+
+      int number = random.nextInt(i % 2 == 0 ? 5_000 : 200_000);
+
+      if (random.nextBoolean()) {
+        first.add(number);
+        firstExpected.add(number);
+      } else {
+        second.add(number);
+        secondExpected.add(number);
+      }
+    }
+
+    var union = new TreeSet<>(firstExpected);
+    union.addAll(secondExpected);
+
+    var intersection = new TreeSet<>(firstExpected);
+    intersection.retainAll(secondExpected);
+
+    var difference = new TreeSet<>(firstExpected);
+    difference.removeAll(secondExpected);
+
+    var result = factory.get().or(first).or(second);
+
+    Assertions.assertEquals(union.size(), result.cardinality());
+    Assertions.assertArrayEquals(toArray(union), result.toArray());
+
+    result = factory.get().or(first).and(second);
+
+    Assertions.assertEquals(intersection.size(), result.cardinality());
+    Assertions.assertArrayEquals(toArray(intersection), result.toArray());
+
+    result = factory.get().or(first).andNot(second);
+
+    Assertions.assertEquals(difference.size(), result.cardinality());
+    Assertions.assertArrayEquals(toArray(difference), result.toArray());
+
+    // mixed implementations use generic operations
+    var mixed = ArrayFactory.newSortedIntegerArray(first.toArray());
+    var generic = ArrayFactory.newRoaringIntBitmap().or(first);
+
+    Assertions.assertArrayEquals(mixed.toArray(new int[0]), generic.toArray());
+    Assertions.assertArrayEquals(toArray(firstExpected), first.toIntegerArray().toArray(new int[0]));
+    Assertions.assertArrayEquals(toArray(intersection), factory.get().or(first).and(generic.and(second)).toArray());
+  }
+
+  @Test
+  void roaringNegativeNumbersTest() {
+
+    var bitmap = ArrayFactory.newRoaringIntBitmap();
+
+    bitmap.add(-1);
+    bitmap.add(Integer.MIN_VALUE);
+    bitmap.add(Integer.MAX_VALUE);
+    bitmap.add(0);
+
+    Assertions.assertArrayEquals(new int[] {Integer.MIN_VALUE, -1, 0, Integer.MAX_VALUE}, bitmap.toArray());
+    Assertions.assertTrue(bitmap.remove(Integer.MIN_VALUE));
+    Assertions.assertEquals(3, bitmap.cardinality());
+    Assertions.assertThrows(IllegalArgumentException.class, () -> ArrayFactory.newBitSetArray().add(-1));
+  }
+
+  @Test
+  void roaringSignedOrderTest() {
+
+    var random = new Random(42);
+    var first = ArrayFactory.newRoaringIntBitmap();
+    var second = ArrayFactory.newRoaringIntBitmap();
+    var firstExpected = new TreeSet<Integer>();
+    var secondExpected = new TreeSet<Integer>();
+
+    // dense chunks around zero and sparse chunks over the whole int range
+    for (int number = -70_000; number < 70_000; number += 3) {
+      first.add(number);
+      firstExpected.add(number);
+    }
+
+    for (int i = 0; i < 10_000; i++) {
+      var number = random.nextInt();
+      second.add(number);
+      secondExpected.add(number);
+      if (i % 2 == 0) {
+        first.add(number);
+        firstExpected.add(number);
+      }
+    }
+
+    Assertions.assertArrayEquals(toArray(firstExpected), first.toArray());
+    Assertions.assertArrayEquals(toArray(secondExpected), second.toArray());
+
+    var union = ArrayFactory.newRoaringIntBitmap().or(first).or(second);
+    var unionExpected = new TreeSet<>(firstExpected);
+    unionExpected.addAll(secondExpected);
+
+    Assertions.assertArrayEquals(toArray(unionExpected), union.toArray());
+
+    var intersection = ArrayFactory.newRoaringIntBitmap().or(first).and(second);
+    var intersectionExpected = new TreeSet<>(firstExpected);
+    intersectionExpected.retainAll(secondExpected);
+
+    Assertions.assertArrayEquals(toArray(intersectionExpected), intersection.toArray());
+
+    var difference = ArrayFactory.newRoaringIntBitmap().or(first).andNot(second);
+    var differenceExpected = new TreeSet<>(firstExpected);
+    differenceExpected.removeAll(secondExpected);
+
+    Assertions.assertArrayEquals(toArray(differenceExpected), difference.toArray());
+  }
+
+  @Test
+  void collectorsTest() {
+
+    var bitSet = IntStream
+        .range(0, 10_000)
+        .map(value -> value * 3)
+        .boxed()
+        .parallel()
+        .collect(ArrayCollectors.toBitSetArray());
+
+    var roaring = IntStream
+        .range(0, 10_000)
+        .map(value -> value * 3)
+        .boxed()
+        .parallel()
+        .collect(ArrayCollectors.toRoaringIntBitmap());
+
+    Assertions.assertEquals(10_000, bitSet.cardinality());
+    Assertions.assertArrayEquals(bitSet.toArray(), roaring.toArray());
+    Assertions.assertEquals(roaring, ArrayFactory.newRoaringIntBitmap().or(bitSet));
+  }
+
+  @Test
+  void concurrentBitSetTest() {
+
+    var bitmap = ArrayFactory.newConcurrentBitSetArray(64_000);
+
+    var tasks = IntStream
+        .range(0, 8)
+        .mapToObj(task -> CompletableFuture.supplyAsync(() -> {
+          int added = 0;
+          for (int i = 0; i < 64_000; i++) {
+            if (bitmap.add((i * 31 + task * 7) % 64_000)) {
+              added++;
+            }
+          }
+          return added;
+        }))
+        .toList();
+
+    int added = tasks
+        .stream()
+        .mapToInt(CompletableFuture::join)
+        .sum();
+
+    Assertions.assertEquals(64_000, added);
+    Assertions.assertEquals(64_000, bitmap.cardinality());
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> bitmap.add(64_000));
+  }
+}
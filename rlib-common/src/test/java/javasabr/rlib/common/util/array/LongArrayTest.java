@@ -0,0 +1,54 @@
+package javasabr.rlib.common.util.array;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class LongArrayTest {
+
+  @Test
+  void bulkOperationsTest() {
+
+    var array = ArrayFactory.newLongArray(1);
+
+    array.addAll(new long[] {Long.MAX_VALUE, 4, -8, 15}, 1, 3);
+    array.add(1);
+
+    Assertions.assertEquals(4, array.size());
+    Assertions.assertEquals(12, array.sum());
+    Assertions.assertEquals(-8, array.min());
+    Assertions.assertEquals(15, array.max());
+
+    var sum = new AtomicLong();
+    array.forEachLong(sum::addAndGet);
+
+    Assertions.assertEquals(12, sum.get());
+    Assertions.assertTrue(array.removeIf(element -> element < 0));
+    Assertions.assertArrayEquals(new long[] {4, 15, 1}, array.toArray(new long[3]));
+
+    array.sort();
+
+    Assertions.assertEquals(1, array.binarySearch(4));
+  }
+
+  @Test
+  void sortedArrayTest() {
+
+    var array = ArrayFactory.newSortedLongArray(10, Long.MIN_VALUE, 10, 3);
+
+    array.add(5);
+    array.add(3);
+    array.addAll(new long[] {Long.MAX_VALUE, 7});
+
+    Assertions.assertArrayEquals(
+        new long[] {Long.MIN_VALUE, 3, 5, 7, 10, Long.MAX_VALUE},
+        array.toArray(new long[array.size()]));
+    Assertions.assertTrue(array.contains(7));
+    Assertions.assertFalse(array.contains(8));
+    Assertions.assertTrue(array.fastRemove(5L));
+    Assertions.assertArrayEquals(
+        new long[] {Long.MIN_VALUE, 3, 7, 10, Long.MAX_VALUE},
+        array.toArray(new long[array.size()]));
+    Assertions.assertEquals(2, array.indexOf(7));
+  }
+}
@@ -0,0 +1,287 @@
+package javasabr.rlib.common.util.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The list of tests of bounded caches.
+ *
+ * @author JavaSaBr
+ */
+public class CacheTest {
+
+  @Test
+  void lruEvictionTest() {
+
+    var evicted = new ArrayList<String>();
+    var cache = CacheFactory.<String, Integer>newObjectCache(
+        CacheConfig
+            .builder()
+            .maximumWeight(3)
+            .evictionPolicy(EvictionPolicy.LRU)
+            .build(),
+        (key, value, cause) -> evicted.add(key + ":" + cause));
+
+    cache.put("a", 1);
+    cache.put("b", 2);
+    cache.put("c", 3);
+
+    assertEquals(1, cache.get("a"));
+
+    cache.put("d", 4);
+
+    assertEquals(3, cache.size());
+    assertFalse(cache.containsKey("b"));
+    assertTrue(cache.containsKey("a"));
+    assertEquals(1, cache.put("a", 10));
+    assertEquals(10, cache.remove("a"));
+    assertEquals(List.of("b:SIZE", "a:REPLACED", "a:EXPLICIT"), evicted);
+
+    var stats = cache.stats();
+
+    assertEquals(1, stats.getHitCount());
+    assertEquals(0, stats.getMissCount());
+    assertEquals(1, stats.getEvictionCount());
+  }
+
+  @Test
+  void tinyLfuKeepsFrequentEntriesTest() {
+
+    var cache = CacheFactory.<Integer, Integer>newObjectCache(CacheConfig
+        .builder()
+        .maximumWeight(100)
+        .build());
+
+    for (int i = 0; i < 100; i++) {
+      cache.put(i, i);
+    }
+
+    // a scan of keys which are used only once must not flush the frequently used keys
+    for (int i = 0; i < 10_000; i++) {
+      cache.getOrCompute(1_000 + i, key -> key);
+      if (i % 2 == 0) {
+        cache.get(i / 2 % 50);
+      }
+    }
+
+    long hot = IntStream
+        .range(0, 50)
+        .filter(cache::containsKey)
+        .count();
+
+    assertEquals(100, cache.size());
+    assertTrue(hot >= 45, "Only " + hot + " frequently used keys survived.");
+  }
+
+  @Test
+  void weightedEvictionTest() {
+
+    IntCache<String> cache = CacheFactory.newIntCache(CacheConfig
+        .builder()
+        .maximumWeight(10)
+        .weigher((Weigher<String>) String::length)
+        .evictionPolicy(EvictionPolicy.LRU)
+        .build());
+
+    cache.put(1, "aaaa");
+    cache.put(2, "bbbb");
+
+    assertEquals(8, cache.weightedSize());
+
+    cache.put(3, "ccc");
+
+    assertEquals(7, cache.weightedSize());
+    assertNull(cache.get(1));
+    assertEquals("bbbb", cache.get(2));
+    assertEquals("dd", cache.getOrCompute(4, key -> "dd"));
+    assertEquals(9, cache.weightedSize());
+  }
+
+  @Test
+  void expirationTest() {
+
+    var time = new AtomicLong();
+    var expired = new AtomicLong();
+
+    LongCache<String> cache = CacheFactory.newLongCache(
+        CacheConfig
+            .builder()
+            .maximumWeight(100)
+            .expireAfterWrite(Duration.ofSeconds(10))
+            .expireAfterAccess(Duration.ofSeconds(5))
+            .ticker(time::get)
+            .build(),
+        (key, value, cause) -> {
+          if (cause == EvictionCause.EXPIRED) {
+            expired.incrementAndGet();
+          }
+        });
+
+    cache.put(Long.MAX_VALUE, "first");
+    cache.put(0, "second");
+    cache.put(1, "third");
+
+    time.addAndGet(Duration.ofSeconds(4).toNanos());
+
+    assertEquals("first", cache.get(Long.MAX_VALUE));
+
+    time.addAndGet(Duration.ofSeconds(4).toNanos());
+
+    assertFalse(cache.containsKey(1));
+    assertEquals("first", cache.get(Long.MAX_VALUE));
+
+    cache.cleanUp();
+
+    assertEquals(1, cache.size());
+    assertEquals(2, expired.get());
+
+    time.addAndGet(Duration.ofSeconds(3).toNanos());
+
+    assertNull(cache.get(Long.MAX_VALUE));
+    assertTrue(cache.isEmpty());
+    assertEquals(3, cache.stats().getEvictionCount());
+  }
+
+  @Test
+  void concurrentCacheTest() {
+
+    var cache = CacheFactory.<Integer, Integer>newConcurrentObjectCache(CacheConfig
+        .builder()
+        .maximumWeight(1_000)
+        .build());
+
+    var tasks = IntStream
+        .range(0, 8)
+        .mapToObj(task -> CompletableFuture.runAsync(() -> {
+          for (int i = 0; i < 20_000; i++) {
+            int key = (i * 31 + task) % 5_000;
+            assertEquals(key, cache.getOrCompute(key, Integer::valueOf));
+          }
+        }))
+        .toArray(CompletableFuture[]::new);
+
+    CompletableFuture.allOf(tasks).join();
+
+    var stats = cache.stats();
+
+    assertEquals(1_000, cache.size());
+    assertEquals(8 * 20_000, stats.requestCount());
+
+    Integer size = cache.getInWriteLock(500, (view, key) -> {
+      view.put(key, -key);
+      return view.size();
+    });
+
+    assertEquals(1_000, size);
+    assertEquals(-500, cache.get(500));
+
+    cache.clear();
+
+    assertTrue(cache.isEmpty());
+  }
+
+  @Test
+  void concurrentCacheAppliesReadsBeforeWritesTest() {
+
+    var evicted = new ArrayList<String>();
+    var cache = CacheFactory.<String, Integer>newConcurrentObjectCache(
+        CacheConfig
+            .builder()
+            .maximumWeight(3)
+            .evictionPolicy(EvictionPolicy.LRU)
+            .build(),
+        (key, value, cause) -> evicted.add(key + ":" + cause));
+
+    cache.put("a", 1);
+    cache.put("b", 2);
+    cache.put("c", 3);
+
+    assertEquals(1, cache.get("a"));
+    assertNull(cache.get("z"));
+
+    cache.put("d", 4);
+
+    assertFalse(cache.containsKey("b"));
+    assertTrue(cache.containsKey("a"));
+    assertEquals(List.of("b:SIZE"), evicted);
+
+    var stats = cache.stats();
+
+    assertEquals(1, stats.getHitCount());
+    assertEquals(1, stats.getMissCount());
+    assertEquals(1, stats.getEvictionCount());
+  }
+
+  @Test
+  void concurrentIntCacheTest() {
+
+    var cache = CacheFactory.<Integer>newConcurrentIntCache(CacheConfig
+        .builder()
+        .maximumWeight(1_000)
+        .build());
+
+    var tasks = IntStream
+        .range(0, 8)
+        .mapToObj(task -> CompletableFuture.runAsync(() -> {
+          for (int i = 0; i < 20_000; i++) {
+            int key = (i * 31 + task) % 5_000;
+            assertEquals(key, cache.getOrCompute(key, Integer::valueOf));
+            cache.get(key - 1);
+          }
+        }))
+        .toArray(CompletableFuture<?>[]::new);
+
+    CompletableFuture.allOf(tasks).join();
+
+    assertEquals(1_000, cache.size());
+    assertEquals(2 * 8 * 20_000, cache.stats().requestCount());
+
+    Integer size = cache.getInWriteLock(500, (view, key) -> {
+      view.put(key, -key);
+      return view.size();
+    });
+
+    assertEquals(1_000, size);
+    assertEquals(-500, cache.get(500));
+  }
+
+  @Test
+  void concurrentLongCacheTest() {
+
+    var cache = CacheFactory.<Long>newConcurrentLongCache(CacheConfig
+        .builder()
+        .maximumWeight(1_000)
+        .build());
+
+    var tasks = IntStream
+        .range(0, 8)
+        .mapToObj(task -> CompletableFuture.runAsync(() -> {
+          for (int i = 0; i < 20_000; i++) {
+            long key = Long.MAX_VALUE - (i * 31 + task) % 5_000;
+            assertEquals(key, cache.getOrCompute(key, Long::valueOf));
+            cache.get(key - 1);
+          }
+        }))
+        .toArray(CompletableFuture<?>[]::new);
+
+    CompletableFuture.allOf(tasks).join();
+
+    assertEquals(1_000, cache.size());
+    assertEquals(2 * 8 * 20_000, cache.stats().requestCount());
+
+    cache.runInWriteLock(view -> view.put(1L, -1L));
+
+    assertEquals(-1L, cache.remove(1L));
+    assertNull(cache.get(1L));
+  }
+}
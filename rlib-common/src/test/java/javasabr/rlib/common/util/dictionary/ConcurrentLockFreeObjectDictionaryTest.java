@@ -0,0 +1,68 @@
+package javasabr.rlib.common.util.dictionary;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import javasabr.rlib.common.util.Utils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author JavaSaBr
+ */
+public class ConcurrentLockFreeObjectDictionaryTest {
+
+  @Test
+  void concurrentWritesTest() {
+
+    var dictionary = DictionaryFactory.<Integer, Integer>newConcurrentLockFreeObjectDictionary();
+
+    var writers = IntStream
+        .range(0, 8)
+        .mapToObj(writer -> CompletableFuture.runAsync(() -> {
+          for (int i = 0; i < 10_000; i++) {
+            dictionary.put(writer * 10_000 + i, i);
+          }
+        }))
+        .toArray(CompletableFuture[]::new);
+
+    CompletableFuture.allOf(writers).join();
+
+    Assertions.assertEquals(80_000, dictionary.size());
+    Assertions.assertEquals(5, dictionary.get(70_005));
+    Assertions.assertEquals(-1, dictionary.getOrCompute(100_000, () -> -1));
+    Assertions.assertEquals(-1, dictionary.getOrCompute(100_000, () -> -2));
+  }
+
+  @Test
+  void writeLockTest() {
+
+    var dictionary = DictionaryFactory.<String, Integer>newConcurrentLockFreeObjectDictionary();
+    dictionary.runInWriteLock(dic -> {
+      dic.put("Key1", 1);
+      dic.put("Key2", 2);
+    });
+
+    long stamp = dictionary.writeLock();
+
+    var pendingWrite = CompletableFuture.runAsync(() -> dictionary.runInWriteLock(dic -> dic.put("Key3", 3)));
+
+    Utils.tryGet(() -> pendingWrite.get(10, TimeUnit.MILLISECONDS));
+
+    Assertions.assertEquals(2, dictionary.size());
+
+    dictionary.put("Key4", 4);
+
+    Assertions.assertEquals(3, dictionary.size());
+
+    dictionary.writeUnlock(stamp);
+
+    pendingWrite.join();
+
+    Assertions.assertEquals(4, dictionary.size());
+
+    Integer value = dictionary.getInReadLock("Key3", ObjectDictionary::get);
+
+    Assertions.assertEquals(3, value);
+  }
+}
@@ -1,5 +1,9 @@
 package javasabr.rlib.common.util.dictionary;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import javasabr.rlib.common.BaseTest;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -116,4 +120,53 @@ public class ConcurrentObjectDictionaryTest extends BaseTest {
 
     Assertions.assertEquals(2, val2);
   }
+
+  @Test
+  void atomicOperationsTest() {
+
+    List<ConcurrentObjectDictionary<String, Integer>> dictionaries = List.of(
+        DictionaryFactory.newConcurrentStampedLockObjectDictionary(),
+        DictionaryFactory.newConcurrentAtomicObjectDictionary(),
+        DictionaryFactory.newConcurrentLockFreeObjectDictionary());
+
+    for (var dictionary : dictionaries) {
+
+      Assertions.assertEquals(1, dictionary.computeIfAbsent("1", Integer::valueOf));
+      Assertions.assertEquals(1, dictionary.computeIfAbsent("1", key -> 10));
+      Assertions.assertNull(dictionary.putIfAbsent("2", 2));
+      Assertions.assertEquals(2, dictionary.putIfAbsent("2", 20));
+      Assertions.assertEquals(3, dictionary.compute("2", (key, value) -> value == null ? 0 : value + 1));
+      Assertions.assertNull(dictionary.compute("2", (key, value) -> null));
+      Assertions.assertFalse(dictionary.containsKey("2"));
+      Assertions.assertEquals(5, dictionary.merge("5", 5, Integer::sum));
+      Assertions.assertEquals(10, dictionary.merge("5", 5, Integer::sum));
+      Assertions.assertNull(dictionary.merge("5", 5, (prev, value) -> null));
+      Assertions.assertEquals(1, dictionary.size());
+    }
+  }
+
+  @Test
+  void concurrentComputeIfAbsentTest() {
+
+    var dictionary = DictionaryFactory.<Integer, Integer>newConcurrentStampedLockObjectDictionary();
+    var calls = new AtomicInteger();
+
+    var tasks = IntStream
+        .range(0, 8)
+        .mapToObj(task -> CompletableFuture.runAsync(() -> {
+          for (int i = 0; i < 1_000; i++) {
+            dictionary.computeIfAbsent(i, key -> {
+              calls.incrementAndGet();
+              return key;
+            });
+            dictionary.merge(-1, 1, Integer::sum);
+          }
+        }))
+        .toArray(CompletableFuture<?>[]::new);
+
+    CompletableFuture.allOf(tasks).join();
+
+    Assertions.assertEquals(1_000, calls.get());
+    Assertions.assertEquals(8_000, dictionary.get(-1));
+  }
 }
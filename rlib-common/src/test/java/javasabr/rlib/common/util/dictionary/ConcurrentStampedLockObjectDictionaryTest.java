@@ -77,4 +77,44 @@ public class ConcurrentStampedLockObjectDictionaryTest {
 
     dictionary.readUnlock(stamp);
   }
+
+  @Test
+  void optimisticReadTest() {
+
+    var dictionary = DictionaryFactory.<Integer, Integer>newConcurrentStampedLockObjectDictionary();
+
+    for (int i = 0; i < 100; i++) {
+      dictionary.put(i, i);
+    }
+
+    var writer = CompletableFuture.runAsync(() -> {
+      for (int i = 0; i < 10_000; i++) {
+        int key = 1_000 + i;
+        dictionary.runInWriteLock(dic -> dic.put(key, key));
+        dictionary.runInWriteLock(dic -> dic.remove(key));
+      }
+    });
+
+    while (!writer.isDone()) {
+      Assertions.assertEquals(50, dictionary.getInReadLock(50));
+      Assertions.assertTrue(dictionary.containsKeyInReadLock(99));
+      Assertions.assertFalse(dictionary.containsKeyInReadLock(-1));
+    }
+
+    writer.join();
+
+    long stamp = dictionary.writeLock();
+
+    var pendingRead = CompletableFuture.supplyAsync(() -> dictionary.getInReadLock(1));
+
+    Utils.tryGet(() -> pendingRead.get(10, TimeUnit.MILLISECONDS));
+
+    Assertions.assertFalse(pendingRead.isDone());
+
+    dictionary.put(1, 10);
+    dictionary.writeUnlock(stamp);
+
+    Assertions.assertEquals(10, pendingRead.join());
+    Assertions.assertEquals(100, dictionary.computeIfAbsent(100, key -> key));
+  }
 }
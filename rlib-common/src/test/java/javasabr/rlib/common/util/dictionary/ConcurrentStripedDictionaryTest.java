@@ -0,0 +1,153 @@
+package javasabr.rlib.common.util.dictionary;
+
+import java.util.HashSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The list of tests {@link ConcurrentStripedIntegerDictionary} and {@link ConcurrentStripedLongDictionary}.
+ *
+ * @author JavaSaBr
+ */
+public class ConcurrentStripedDictionaryTest {
+
+  @Test
+  void concurrentWritesTest() {
+
+    var dictionary = DictionaryFactory.<Long>newConcurrentStripedLongDictionary();
+
+    var writers = IntStream
+        .range(0, 8)
+        .mapToObj(writer -> CompletableFuture.runAsync(() -> {
+          for (long i = 0; i < 20_000; i++) {
+            long key = writer * 1_000_000L + i;
+            dictionary.put(key, key);
+            if (i % 4 == 0) {
+              dictionary.remove(key);
+            }
+          }
+        }))
+        .toArray(CompletableFuture[]::new);
+
+    CompletableFuture.allOf(writers).join();
+
+    Assertions.assertEquals(8 * 15_000, dictionary.size());
+    Assertions.assertEquals(7_000_001L, dictionary.get(7_000_001L));
+    Assertions.assertNull(dictionary.get(7_000_004L));
+    Assertions.assertEquals(8 * 15_000, dictionary.keyArray().size());
+  }
+
+  @Test
+  void iterationTest() {
+
+    var dictionary = DictionaryFactory.<Integer>newConcurrentStripedIntegerDictionary(4, 0.75F, 16);
+
+    for (int i = 0; i < 1_000; i++) {
+      dictionary.put(i, i);
+    }
+
+    var values = new HashSet<Integer>();
+    var iterator = dictionary.iterator();
+
+    while (iterator.hasNext()) {
+
+      var value = iterator.next();
+      values.add(value);
+
+      if (value < 500) {
+        iterator.remove();
+      }
+    }
+
+    Assertions.assertEquals(1_000, values.size());
+    Assertions.assertEquals(500, dictionary.size());
+    Assertions.assertEquals("5", dictionary.getOrCompute(5, () -> 5).toString());
+
+    long stamp = dictionary.writeLock();
+    try {
+      dictionary.put(1_000, 1_000);
+      Assertions.assertEquals(502, dictionary.size());
+    } finally {
+      dictionary.writeUnlock(stamp);
+    }
+  }
+
+  @Test
+  void sizeAndIterationShouldBeConsistentAcrossStripes() {
+
+    var dictionary = DictionaryFactory.<Integer>newConcurrentStripedIntegerDictionary(16, 0.75F, 16);
+    var keyCount = 1_000;
+
+    for (int i = 0; i < keyCount; i++) {
+      dictionary.put(i, i);
+    }
+
+    // the writer moves values between keys of different stripes, so the count of values is always the same
+    var writer = CompletableFuture.runAsync(() -> {
+      for (int i = 0; i < 20_000; i++) {
+
+        int from = i % keyCount;
+        int to = from + keyCount;
+
+        long stamp = dictionary.writeLock();
+        try {
+          var value = dictionary.remove(from);
+          dictionary.put(to, value == null ? from : value);
+        } finally {
+          dictionary.writeUnlock(stamp);
+        }
+
+        stamp = dictionary.writeLock();
+        try {
+          dictionary.put(from, dictionary.remove(to));
+        } finally {
+          dictionary.writeUnlock(stamp);
+        }
+      }
+    });
+
+    while (!writer.isDone()) {
+
+      Assertions.assertEquals(keyCount, dictionary.size());
+
+      int iterated = 0;
+
+      for (var ignored : dictionary) {
+        iterated++;
+      }
+
+      Assertions.assertEquals(keyCount, iterated);
+    }
+
+    writer.join();
+  }
+
+  @Test
+  void atomicOperationsTest() {
+
+    var dictionary = DictionaryFactory.<Integer>newConcurrentStripedLongDictionary();
+
+    Assertions.assertEquals(1, dictionary.computeIfAbsent(1, key -> 1));
+    Assertions.assertEquals(1, dictionary.computeIfAbsent(1, key -> 10));
+    Assertions.assertNull(dictionary.putIfAbsent(2, 2));
+    Assertions.assertEquals(2, dictionary.putIfAbsent(2, 20));
+    Assertions.assertEquals(3, dictionary.compute(2, (key, value) -> value == null ? 0 : value + 1));
+    Assertions.assertNull(dictionary.compute(2, (key, value) -> null));
+    Assertions.assertFalse(dictionary.containsKey(2));
+
+    var tasks = IntStream
+        .range(0, 8)
+        .mapToObj(task -> CompletableFuture.runAsync(() -> {
+          for (int i = 0; i < 1_000; i++) {
+            dictionary.merge(5, 1, Integer::sum);
+          }
+        }))
+        .toArray(CompletableFuture[]::new);
+
+    CompletableFuture.allOf(tasks).join();
+
+    Assertions.assertEquals(8_000, dictionary.get(5));
+  }
+}
@@ -0,0 +1,151 @@
+package javasabr.rlib.common.util.dictionary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The list of tests {@link OpenAddressingIntegerDictionary} and {@link OpenAddressingLongDictionary}.
+ *
+ * @author JavaSaBr
+ */
+public class OpenAddressingDictionaryTest {
+
+  @Test
+  void generalIntegerTest() {
+
+    var dictionary = DictionaryFactory.<String>newOpenAddressingIntegerDictionary();
+    dictionary.put(0, "0");
+    dictionary.put(5, "5");
+    dictionary.put(6, "6");
+
+    assertEquals(3, dictionary.size());
+    assertEquals("0", dictionary.get(0));
+    assertEquals("5", dictionary.get(5));
+
+    assertEquals("8", dictionary.getOrCompute(8, () -> "8"));
+    assertEquals("9", dictionary.getOrCompute(9, key -> "9"));
+    assertEquals("8", dictionary.getOrCompute(8, () -> "10"));
+
+    assertEquals(5, dictionary.size());
+    assertEquals("8", dictionary.remove(8));
+    assertEquals("0", dictionary.remove(0));
+    assertNull(dictionary.remove(0));
+    assertFalse(dictionary.containsKey(8));
+    assertEquals(3, dictionary.size());
+
+    dictionary.clear();
+
+    assertTrue(dictionary.isEmpty());
+    assertNull(dictionary.get(5));
+  }
+
+  @Test
+  void generalLongTest() {
+
+    var dictionary = DictionaryFactory.<String>newOpenAddressingLongDictionary();
+    dictionary.put(0, "0");
+    dictionary.put(Long.MAX_VALUE, "max");
+    dictionary.put(Long.MIN_VALUE, "min");
+
+    assertEquals(3, dictionary.size());
+    assertEquals("max", dictionary.get(Long.MAX_VALUE));
+    assertEquals("min", dictionary.put(Long.MIN_VALUE, "min2"));
+    assertEquals(3, dictionary.size());
+
+    var keys = dictionary.keyArray();
+
+    assertEquals(3, keys.size());
+    assertTrue(keys.contains(0));
+    assertTrue(keys.contains(Long.MAX_VALUE));
+
+    var copy = DictionaryFactory.<String>newLongDictionary();
+    dictionary.copyTo(copy);
+
+    assertEquals(3, copy.size());
+    assertEquals("min2", copy.get(Long.MIN_VALUE));
+  }
+
+  @Test
+  void shouldBehaveLikeHashMapOnRandomOperations() {
+
+    var random = new Random(42);
+    var dictionary = DictionaryFactory.<Long>newOpenAddressingLongDictionary();
+    var expected = new HashMap<Long, Long>();
+
+    for (int i = 0; i < 200_000; i++) {
+
+      long key = random.nextInt(5_000) - 2_500;
+
+      if (random.nextInt(3) == 0) {
+        assertEquals(expected.remove(key), dictionary.remove(key));
+      } else {
+        assertEquals(expected.put(key, (long) i), dictionary.put(key, (long) i));
+      }
+    }
+
+    assertEquals(expected.size(), dictionary.size());
+
+    expected.forEach((key, value) -> assertEquals(value, dictionary.get(key)));
+  }
+
+  @Test
+  void shouldRemoveDuringIteration() {
+
+    var dictionary = DictionaryFactory.<Integer>newOpenAddressingIntegerDictionary(4);
+
+    for (int i = 0; i < 10_000; i++) {
+      dictionary.put(i * 31, i);
+    }
+
+    var visited = new HashSet<Integer>();
+    var iterator = dictionary.iterator();
+
+    while (iterator.hasNext()) {
+
+      var value = iterator.next();
+
+      assertTrue(visited.add(value));
+
+      if (value % 2 == 0) {
+        iterator.remove();
+      }
+    }
+
+    assertEquals(10_000, visited.size());
+    assertEquals(5_000, dictionary.size());
+
+    for (int i = 0; i < 10_000; i++) {
+      assertEquals(i % 2 != 0, dictionary.containsKey(i * 31));
+    }
+  }
+
+  @Test
+  void shouldRemoveAllLongKeysDuringIteration() {
+
+    var dictionary = DictionaryFactory.<Long>newOpenAddressingLongDictionary(4);
+
+    for (long i = -5_000; i < 5_000; i++) {
+      dictionary.put(i * 17, i);
+    }
+
+    var visited = new HashSet<Long>();
+    var iterator = dictionary.iterator();
+
+    while (iterator.hasNext()) {
+      assertTrue(visited.add(iterator.next()));
+      iterator.remove();
+    }
+
+    assertEquals(10_000, visited.size());
+    assertEquals(0, dictionary.size());
+    assertFalse(dictionary.containsKey(0));
+    assertFalse(dictionary.iterator().hasNext());
+  }
+}
@@ -0,0 +1,114 @@
+package javasabr.rlib.common.util.dictionary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The list of tests of dictionaries with primitive values.
+ *
+ * @author JavaSaBr
+ */
+public class PrimitiveDictionaryTest {
+
+  @Test
+  void intToIntTest() {
+
+    var dictionary = DictionaryFactory.newIntToIntDictionary();
+
+    assertEquals(0, dictionary.put(5, 10));
+    assertEquals(10, dictionary.put(5, 15));
+    assertEquals(15, dictionary.get(5));
+    assertEquals(-1, dictionary.getOrDefault(6, -1));
+    assertFalse(dictionary.containsKey(6));
+
+    assertEquals(1, dictionary.increment(0));
+    assertEquals(2, dictionary.increment(0));
+    assertEquals(7, dictionary.addTo(6, 7));
+
+    assertEquals(3, dictionary.size());
+    assertEquals(2, dictionary.remove(0));
+    assertEquals(0, dictionary.remove(0));
+    assertEquals(2, dictionary.size());
+
+    var sum = new AtomicLong();
+    dictionary.forEach((key, value) -> sum.addAndGet(key + value));
+
+    assertEquals(5 + 15 + 6 + 7, sum.get());
+
+    var keys = dictionary.keyArray();
+
+    assertEquals(2, keys.size());
+    assertTrue(keys.contains(5));
+    assertTrue(keys.contains(6));
+
+    dictionary.clear();
+
+    assertTrue(dictionary.isEmpty());
+    assertEquals(0, dictionary.get(5));
+  }
+
+  @Test
+  void longToIntTest() {
+
+    var dictionary = DictionaryFactory.newLongToIntDictionary();
+
+    assertEquals(1, dictionary.increment(Long.MAX_VALUE));
+    assertEquals(5, dictionary.addTo(Long.MAX_VALUE, 4));
+    assertEquals(5, dictionary.get(Long.MAX_VALUE));
+    assertEquals(1, dictionary.size());
+  }
+
+  @Test
+  void shouldKeepZeroKeyAfterRemovingAndRehashing() {
+
+    var dictionary = DictionaryFactory.newLongToIntDictionary(2);
+
+    assertEquals(0, dictionary.put(0, 5));
+    assertEquals(5, dictionary.remove(0));
+    assertEquals(0, dictionary.put(0, 7));
+    assertEquals(3, dictionary.addTo(1, 3));
+
+    for (long key = 2; key < 100; key++) {
+      dictionary.put(key, (int) key);
+    }
+
+    assertEquals(7, dictionary.get(0));
+    assertEquals(3, dictionary.get(1));
+    assertEquals(100, dictionary.size());
+  }
+
+  @Test
+  void longToLongShouldBehaveLikeHashMapOnRandomOperations() {
+
+    var random = new Random(7);
+    var dictionary = DictionaryFactory.newLongToLongDictionary(4);
+    var expected = new HashMap<Long, Long>();
+
+    for (int i = 0; i < 200_000; i++) {
+
+      long key = random.nextInt(4_000) - 2_000;
+
+      switch (random.nextInt(3)) {
+        case 0 -> {
+          var prev = expected.remove(key);
+          assertEquals(prev == null ? 0 : prev, dictionary.remove(key));
+        }
+        case 1 -> assertEquals(expected.merge(key, 3L, Long::sum), dictionary.addTo(key, 3));
+        default -> {
+          var prev = expected.put(key, (long) i);
+          assertEquals(prev == null ? 0 : prev, dictionary.put(key, i));
+        }
+      }
+    }
+
+    assertEquals(expected.size(), dictionary.size());
+
+    expected.forEach((key, value) -> assertEquals(value, dictionary.get(key)));
+  }
+}
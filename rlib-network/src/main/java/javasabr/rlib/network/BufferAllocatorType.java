@@ -0,0 +1,19 @@
+package javasabr.rlib.network;
+
+/**
+ * The kind of byte buffer allocator which is created by {@link NetworkFactory} for a network.
+ *
+ * @author JavaSaBr
+ */
+public enum BufferAllocatorType {
+  /**
+   * The allocator which allocates a new buffer for every request, see
+   * {@link javasabr.rlib.network.impl.DefaultBufferAllocator}.
+   */
+  DEFAULT,
+  /**
+   * The allocator which reuses buffers in power-of-two size classes and slices direct buffers from bigger memory slabs,
+   * see {@link javasabr.rlib.network.impl.SlabBufferAllocator}.
+   */
+  SLAB
+}
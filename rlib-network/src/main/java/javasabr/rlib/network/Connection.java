@@ -3,6 +3,7 @@ package javasabr.rlib.network;
 import java.util.concurrent.CompletableFuture;
 import javasabr.rlib.common.function.NotNullBiConsumer;
 import javasabr.rlib.network.packet.ReadablePacket;
+import javasabr.rlib.network.packet.ReusableReadablePacket;
 import javasabr.rlib.network.packet.WritablePacket;
 import lombok.AllArgsConstructor;
 import reactor.core.publisher.Flux;
@@ -34,6 +35,27 @@ public interface Connection<R extends ReadablePacket, W extends WritablePacket>
    */
   long getLastActivity();
 
+  /**
+   * Get a timestamp of last read activity.
+   *
+   * @return the timestamp of last read activity.
+   */
+  long getLastReadActivity();
+
+  /**
+   * Get a timestamp of last write activity.
+   *
+   * @return the timestamp of last write activity.
+   */
+  long getLastWriteActivity();
+
+  /**
+   * Get traffic metrics of this connection.
+   *
+   * @return the connection metrics or {@link NetworkMetrics#NULL} if metrics are disabled.
+   */
+  NetworkMetrics getMetrics();
+
   /**
    * Close this connection if this connection is still opened.
    */
@@ -62,6 +84,18 @@ public interface Connection<R extends ReadablePacket, W extends WritablePacket>
    */
   CompletableFuture<Boolean> sendWithFeedback(W packet);
 
+  /**
+   * Flush all sent packets which are still waiting for the flush policy of this connection.
+   */
+  void flush();
+
+  /**
+   * Change the policy when sent packets are flushed, already sent packets are flushed at once.
+   *
+   * @param flushPolicy the flush policy.
+   */
+  void setFlushPolicy(FlushPolicy flushPolicy);
+
   /**
    * Register a consumer to handle received packets.
    *
@@ -70,14 +104,16 @@ public interface Connection<R extends ReadablePacket, W extends WritablePacket>
   void onReceive(NotNullBiConsumer<? super Connection<R, W>, ? super R> consumer);
 
   /**
-   * Get a stream of received packet events.
+   * Get a stream of received packet events. Received {@link ReusableReadablePacket}s are retained for a subscriber,
+   * so the subscriber should release them after handling to return them to the pool.
    *
    * @return the stream of received packet events.
    */
   Flux<ReceivedPacketEvent<? extends Connection<R, W>, ? extends R>> receivedEvents();
 
   /**
-   * Get a stream of received packets.
+   * Get a stream of received packets. Received {@link ReusableReadablePacket}s are retained for a subscriber, so the
+   * subscriber should release them after handling to return them to the pool.
    *
    * @return the stream of received packets.
    */
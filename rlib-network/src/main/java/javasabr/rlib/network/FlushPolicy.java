@@ -0,0 +1,29 @@
+package javasabr.rlib.network;
+
+/**
+ * The policy when packets which are sent by a connection are flushed to its channel. Packets which are not flushed yet
+ * wait in the queue of pending packets, so a burst of packets can be coalesced to fewer write operations when
+ * batching is enabled by {@link NetworkConfig#getMaxPacketsByWrite()}.
+ *
+ * @author JavaSaBr
+ */
+public enum FlushPolicy {
+  /**
+   * Every sent packet is flushed at once.
+   */
+  IMMEDIATE,
+  /**
+   * Sent packets are flushed when the time window {@link NetworkConfig#getFlushWindow()} after the first not flushed
+   * packet elapsed.
+   */
+  TIME_WINDOW,
+  /**
+   * Sent packets are flushed when count of not flushed packets reaches {@link NetworkConfig#getFlushThreshold()} or
+   * when the time window {@link NetworkConfig#getFlushWindow()} elapsed.
+   */
+  SIZE_THRESHOLD,
+  /**
+   * Sent packets are flushed only by {@link Connection#flush()}.
+   */
+  EXPLICIT
+}
@@ -0,0 +1,21 @@
+package javasabr.rlib.network;
+
+/**
+ * The list of idle states of a connection.
+ *
+ * @author JavaSaBr
+ */
+public enum IdleState {
+  /**
+   * Nothing was received by a connection during the read idle timeout.
+   */
+  READ_IDLE,
+  /**
+   * Nothing was sent by a connection during the write idle timeout.
+   */
+  WRITE_IDLE,
+  /**
+   * Nothing was received or sent by a connection during the all idle timeout.
+   */
+  ALL_IDLE
+}
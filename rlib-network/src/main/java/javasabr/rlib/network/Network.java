@@ -1,5 +1,11 @@
 package javasabr.rlib.network;
 
+import javasabr.rlib.common.function.NotNullBiConsumer;
+import javasabr.rlib.common.function.NotNullFunction;
+import javasabr.rlib.network.packet.WritablePacket;
+import javasabr.rlib.network.packet.impl.PacketIdStatistics;
+import org.jspecify.annotations.Nullable;
+
 /**
  * The interface to implement an asynchronous network.
  *
@@ -7,6 +13,57 @@ package javasabr.rlib.network;
  */
 public interface Network<C extends Connection<?, ?>> {
 
+  /**
+   * Get a config of this network.
+   *
+   * @return the network config.
+   */
+  NetworkConfig getConfig();
+
+  /**
+   * Get a count of full SSL handshakes of connections of this network.
+   *
+   * @return the count of full handshakes.
+   */
+  long getFullHandshakeCount();
+
+  /**
+   * Get aggregated traffic metrics of all connections of this network.
+   *
+   * @return the network metrics or {@link NetworkMetrics#NULL} if metrics are disabled.
+   */
+  NetworkMetrics getMetrics();
+
+  /**
+   * Get statistics per packet id of id based packets of all connections of this network.
+   *
+   * @return the packet statistics or null if they are disabled.
+   */
+  @Nullable PacketIdStatistics getPacketStatistics();
+
+  /**
+   * Get a count of abbreviated SSL handshakes which resumed cached sessions by connections of this network.
+   *
+   * @return the count of abbreviated handshakes.
+   */
+  long getAbbreviatedHandshakeCount();
+
+  /**
+   * Register a handler of idle states of connections of this network, idle timeouts are configured by
+   * {@link NetworkConfig}. Handlers are called by the timer thread, so they should be fast.
+   *
+   * @param handler the handler.
+   */
+  void onIdle(NotNullBiConsumer<? super C, IdleState> handler);
+
+  /**
+   * Set a factory of ping packets which are sent to {@link IdleState#WRITE_IDLE} and {@link IdleState#ALL_IDLE}
+   * connections of this network to keep them alive.
+   *
+   * @param pingPacketFactory the factory of ping packets or null to disable pings.
+   */
+  void setPingPacketFactory(@Nullable NotNullFunction<? super C, ? extends WritablePacket> pingPacketFactory);
+
   /**
    * Shutdown this network.
    */
@@ -0,0 +1,60 @@
+package javasabr.rlib.network;
+
+import java.nio.ByteBuffer;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The interface to implement a compressor of packets data. An instance is used by one connection, compressing is
+ * called only by the writing side and decompressing only by the reading side of the connection. The compressor is
+ * closed together with the connection.
+ *
+ * @author JavaSaBr
+ */
+public interface NetworkCompressor {
+
+  /**
+   * Default NULL implementation of the network compressor.
+   */
+  NetworkCompressor NULL = new NetworkCompressor() {
+
+    @Override
+    public @Nullable ByteBuffer compress(ByteBuffer data, int length, ByteBuffer toStore) {
+      return null;
+    }
+
+    @Override
+    public @Nullable ByteBuffer decompress(ByteBuffer data, int length, ByteBuffer toStore) {
+      return null;
+    }
+
+    @Override
+    public void close() {
+    }
+  };
+
+  /**
+   * Compress data.
+   *
+   * @param data the buffer with data to compress.
+   * @param length the data length.
+   * @param toStore the buffer to store compressed data from its position.
+   * @return the buffer with compressed data or null if the compressed data doesn't fit to the buffer.
+   */
+  @Nullable ByteBuffer compress(ByteBuffer data, int length, ByteBuffer toStore);
+
+  /**
+   * Decompress data.
+   *
+   * @param data the buffer with data to decompress.
+   * @param length the data length.
+   * @param toStore the buffer to store decompressed data, its limit is the expected length of decompressed data.
+   * @return the buffer with decompressed data or null if the data cannot be decompressed.
+   */
+  @Nullable ByteBuffer decompress(ByteBuffer data, int length, ByteBuffer toStore);
+
+  /**
+   * Release native resources of this compressor, it cannot be used after that. It can be called by another thread
+   * during compressing or decompressing, so the following calls should return null instead of failing.
+   */
+  void close();
+}
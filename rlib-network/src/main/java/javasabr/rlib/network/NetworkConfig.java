@@ -1,8 +1,12 @@
 package javasabr.rlib.network;
 
 import java.nio.ByteOrder;
+import java.util.concurrent.Executor;
+import java.util.zip.Deflater;
+import javasabr.rlib.network.packet.impl.PacketCompression;
 import lombok.Builder;
 import lombok.Getter;
+import org.jspecify.annotations.Nullable;
 
 /**
  * The interface to implement a network config.
@@ -26,6 +30,61 @@ public interface NetworkConfig {
     private int pendingBufferSize = 4096;
     @Builder.Default
     private int writeBufferSize = 2048;
+    @Builder.Default
+    private int maxPacketsByWrite = 1;
+    /**
+     * The max size of data by one write operation, the value 0 means {@link #getWriteBufferSize()} * 4.
+     */
+    @Builder.Default
+    private int maxBytesByWrite = 0;
+    @Builder.Default
+    private int maxPacketSize = 0;
+    @Builder.Default
+    private int maxPendingPackets = 0;
+    @Builder.Default
+    private PendingPacketsOverflowPolicy pendingPacketsOverflowPolicy = PendingPacketsOverflowPolicy.DROP;
+    @Builder.Default
+    private FlushPolicy flushPolicy = FlushPolicy.IMMEDIATE;
+    @Builder.Default
+    private int flushWindow = 5;
+    @Builder.Default
+    private int flushThreshold = 16;
+    @Builder.Default
+    private int compressionThreshold = 0;
+    @Builder.Default
+    private int compressionLevel = Deflater.BEST_SPEED;
+    @Builder.Default
+    private int compressionMaxOriginalSize = PacketCompression.DEFAULT_MAX_ORIGINAL_LENGTH;
+    private @Nullable Executor sslTaskExecutor;
+    @Builder.Default
+    private int sslSessionCacheSize = 0;
+    @Builder.Default
+    private int sslSessionTimeout = 0;
+    @Builder.Default
+    private int readIdleTimeout = 0;
+    @Builder.Default
+    private int writeIdleTimeout = 0;
+    @Builder.Default
+    private int allIdleTimeout = 0;
+    @Builder.Default
+    private int idleTimeoutTick = 100;
+    @Builder.Default
+    private boolean closeIdleConnections = false;
+    @Builder.Default
+    private boolean metricsEnabled = false;
+    @Builder.Default
+    private boolean latencyHistogramsEnabled = false;
+    @Builder.Default
+    private boolean packetStatisticsEnabled = false;
+    @Builder.Default
+    private NetworkTransport transport = NetworkTransport.ASYNC_CHANNELS;
+    @Builder.Default
+    private BufferAllocatorType bufferAllocatorType = BufferAllocatorType.DEFAULT;
+
+    @Override
+    public int getMaxBytesByWrite() {
+      return maxBytesByWrite > 0 ? maxBytesByWrite : writeBufferSize * 4;
+    }
   }
 
   NetworkConfig DEFAULT_CLIENT = new NetworkConfig() {
@@ -73,6 +132,241 @@ public interface NetworkConfig {
     return 2048;
   }
 
+  /**
+   * Get a max count of pending packets which can be coalesced to one write operation to a channel. Small packets are
+   * serialized one by one to one buffer, so they cost one system call instead of one call per packet. The value 1
+   * disables batching.
+   *
+   * @return the max count of packets by one write operation.
+   */
+  default int getMaxPacketsByWrite() {
+    return 1;
+  }
+
+  /**
+   * Get a max size in bytes of data which can be coalesced to one write operation to a channel when batching is
+   * enabled by {@link #getMaxPacketsByWrite()}.
+   *
+   * @return the max size of data by one write operation.
+   */
+  default int getMaxBytesByWrite() {
+    return getWriteBufferSize() * 4;
+  }
+
+  /**
+   * Get a max size in bytes of a received packet. A connection which receives a packet with bigger length is closed
+   * before allocating any buffer for the packet. The value 0 means unlimited size.
+   *
+   * @return the max size of a received packet.
+   */
+  default int getMaxPacketSize() {
+    return 0;
+  }
+
+  /**
+   * Get a max count of packets which can wait for sending by one connection. The value 0 means an unlimited queue.
+   *
+   * @return the max count of pending packets.
+   */
+  default int getMaxPendingPackets() {
+    return 0;
+  }
+
+  /**
+   * Get a policy how to handle a new packet when a connection already has {@link #getMaxPendingPackets()} pending
+   * packets.
+   *
+   * @return the overflow policy.
+   */
+  default PendingPacketsOverflowPolicy getPendingPacketsOverflowPolicy() {
+    return PendingPacketsOverflowPolicy.DROP;
+  }
+
+  /**
+   * Get a policy when packets sent by a connection are flushed to its channel.
+   *
+   * @return the flush policy.
+   */
+  default FlushPolicy getFlushPolicy() {
+    return FlushPolicy.IMMEDIATE;
+  }
+
+  /**
+   * Get a time window in milliseconds to collect not flushed packets when {@link FlushPolicy#TIME_WINDOW} or
+   * {@link FlushPolicy#SIZE_THRESHOLD} is used.
+   *
+   * @return the flush window in milliseconds.
+   */
+  default int getFlushWindow() {
+    return 5;
+  }
+
+  /**
+   * Get a count of not flushed packets which triggers flushing when {@link FlushPolicy#SIZE_THRESHOLD} is used.
+   *
+   * @return the count of packets.
+   */
+  default int getFlushThreshold() {
+    return 16;
+  }
+
+  /**
+   * Get a min size in bytes of serialized packet data to compress it. Compressed packets are marked by the highest bit
+   * of the packet length header, so both sides of a connection should use the same setting. The value 0 disables
+   * compression.
+   *
+   * @return the min size of packet data to compress.
+   */
+  default int getCompressionThreshold() {
+    return 0;
+  }
+
+  /**
+   * Get a level of compression from {@link Deflater#BEST_SPEED} to {@link Deflater#BEST_COMPRESSION}.
+   *
+   * @return the compression level.
+   */
+  default int getCompressionLevel() {
+    return Deflater.BEST_SPEED;
+  }
+
+  /**
+   * Get a max size in bytes of original data of a received compressed packet. The original size is sent by the other
+   * side, so a connection which receives a compressed packet with bigger original size is closed before allocating any
+   * buffer for decompressing.
+   *
+   * @return the max size of original data of a compressed packet.
+   */
+  default int getCompressionMaxOriginalSize() {
+    return PacketCompression.DEFAULT_MAX_ORIGINAL_LENGTH;
+  }
+
+  /**
+   * Get an executor of delegated tasks of SSL engines, for example
+   * {@link java.util.concurrent.Executors#newVirtualThreadPerTaskExecutor()}. Handshakes of SSL connections are
+   * suspended until the tasks are finished, so network threads are not blocked by them. The value null means executing
+   * the tasks by network threads.
+   *
+   * @return the executor or null.
+   */
+  default @Nullable Executor getSslTaskExecutor() {
+    return null;
+  }
+
+  /**
+   * Get a max count of cached SSL sessions which can be resumed by abbreviated handshakes. The value 0 means to keep
+   * the default size of the SSL context.
+   *
+   * @return the max count of cached sessions.
+   */
+  default int getSslSessionCacheSize() {
+    return 0;
+  }
+
+  /**
+   * Get a timeout in seconds of cached SSL sessions. The value 0 means to keep the default timeout of the SSL context.
+   *
+   * @return the timeout of cached sessions.
+   */
+  default int getSslSessionTimeout() {
+    return 0;
+  }
+
+  /**
+   * Get a timeout in milliseconds after which a connection which didn't receive anything becomes
+   * {@link IdleState#READ_IDLE}. The value 0 disables the timeout.
+   *
+   * @return the read idle timeout.
+   */
+  default int getReadIdleTimeout() {
+    return 0;
+  }
+
+  /**
+   * Get a timeout in milliseconds after which a connection which didn't send anything becomes
+   * {@link IdleState#WRITE_IDLE}. The value 0 disables the timeout.
+   *
+   * @return the write idle timeout.
+   */
+  default int getWriteIdleTimeout() {
+    return 0;
+  }
+
+  /**
+   * Get a timeout in milliseconds after which a connection which neither received nor sent anything becomes
+   * {@link IdleState#ALL_IDLE}. The value 0 disables the timeout.
+   *
+   * @return the all idle timeout.
+   */
+  default int getAllIdleTimeout() {
+    return 0;
+  }
+
+  /**
+   * Get a precision in milliseconds of checking idle timeouts.
+   *
+   * @return the tick of idle timeouts.
+   */
+  default int getIdleTimeoutTick() {
+    return 100;
+  }
+
+  /**
+   * Check that connections which are {@link IdleState#READ_IDLE} or {@link IdleState#ALL_IDLE} should be closed.
+   *
+   * @return true if idle connections should be closed.
+   */
+  default boolean isCloseIdleConnections() {
+    return false;
+  }
+
+  /**
+   * Check that traffic metrics of connections and networks should be recorded. Disabled metrics don't record
+   * anything and don't measure time.
+   *
+   * @return true if metrics are enabled.
+   */
+  default boolean isMetricsEnabled() {
+    return false;
+  }
+
+  /**
+   * Check that enabled network metrics should collect histograms of serialization and write times.
+   *
+   * @return true if latency histograms are enabled.
+   */
+  default boolean isLatencyHistogramsEnabled() {
+    return false;
+  }
+
+  /**
+   * Check that statistics of read and written id based packets should be recorded per packet id. Size and time
+   * histograms per packet id are recorded when {@link #isLatencyHistogramsEnabled()} is enabled as well.
+   *
+   * @return true if packet statistics are enabled.
+   */
+  default boolean isPacketStatisticsEnabled() {
+    return false;
+  }
+
+  /**
+   * Get a transport which should be used by a network.
+   *
+   * @return the network transport.
+   */
+  default NetworkTransport getTransport() {
+    return NetworkTransport.ASYNC_CHANNELS;
+  }
+
+  /**
+   * Get a kind of byte buffer allocator which should be created for a network by {@link NetworkFactory}.
+   *
+   * @return the buffer allocator type.
+   */
+  default BufferAllocatorType getBufferAllocatorType() {
+    return BufferAllocatorType.DEFAULT;
+  }
+
   default ByteOrder getByteOrder() {
     return ByteOrder.BIG_ENDIAN;
   }
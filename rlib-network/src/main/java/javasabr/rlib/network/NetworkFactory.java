@@ -4,14 +4,20 @@ import java.nio.channels.AsynchronousSocketChannel;
 import java.util.function.BiFunction;
 import javasabr.rlib.network.client.ClientNetwork;
 import javasabr.rlib.network.client.impl.DefaultClientNetwork;
+import javasabr.rlib.network.client.impl.SelectorClientNetwork;
+import javasabr.rlib.network.client.impl.VirtualThreadClientNetwork;
 import javasabr.rlib.network.impl.DefaultBufferAllocator;
 import javasabr.rlib.network.impl.DefaultConnection;
+import javasabr.rlib.network.impl.SlabBufferAllocator;
 import javasabr.rlib.network.impl.StringDataConnection;
 import javasabr.rlib.network.impl.StringDataSSLConnection;
 import javasabr.rlib.network.packet.impl.DefaultReadablePacket;
 import javasabr.rlib.network.packet.registry.ReadablePacketRegistry;
 import javasabr.rlib.network.server.ServerNetwork;
 import javasabr.rlib.network.server.impl.DefaultServerNetwork;
+import javasabr.rlib.network.server.impl.SelectorServerNetwork;
+import javasabr.rlib.network.server.impl.VirtualThreadServerNetwork;
+import javasabr.rlib.network.util.NetworkUtils;
 import javax.net.ssl.SSLContext;
 
 /**
@@ -21,16 +27,53 @@ import javax.net.ssl.SSLContext;
  */
 public final class NetworkFactory {
 
+  /**
+   * Create a byte buffer allocator of the type from the config.
+   *
+   * @param networkConfig the network config.
+   * @return the buffer allocator.
+   */
+  public static BufferAllocator newBufferAllocator(NetworkConfig networkConfig) {
+    return switch (networkConfig.getBufferAllocatorType()) {
+      case DEFAULT -> new DefaultBufferAllocator(networkConfig);
+      case SLAB -> new SlabBufferAllocator(networkConfig);
+    };
+  }
+
+  /**
+   * Create a client network using the transport from the config.
+   *
+   * @param networkConfig the network config.
+   * @param channelToConnection the function to create a connection for a channel.
+   * @param <C> the connection's type.
+   * @return the client network.
+   */
   public static <C extends UnsafeConnection<?, ?>> ClientNetwork<C> newClientNetwork(
       NetworkConfig networkConfig,
       BiFunction<Network<C>, AsynchronousSocketChannel, C> channelToConnection) {
-    return new DefaultClientNetwork<>(networkConfig, channelToConnection);
+    return switch (networkConfig.getTransport()) {
+      case VIRTUAL_THREADS -> new VirtualThreadClientNetwork<>(networkConfig, channelToConnection);
+      case SELECTOR -> new SelectorClientNetwork<>(networkConfig, channelToConnection);
+      case ASYNC_CHANNELS -> new DefaultClientNetwork<>(networkConfig, channelToConnection);
+    };
   }
 
+  /**
+   * Create a server network using the transport from the config.
+   *
+   * @param networkConfig the network config.
+   * @param channelToConnection the function to create a connection for a channel.
+   * @param <C> the connection's type.
+   * @return the server network.
+   */
   public static <C extends UnsafeConnection<?, ?>> ServerNetwork<C> newServerNetwork(
       ServerNetworkConfig networkConfig,
       BiFunction<Network<C>, AsynchronousSocketChannel, C> channelToConnection) {
-    return new DefaultServerNetwork<>(networkConfig, channelToConnection);
+    return switch (networkConfig.getTransport()) {
+      case VIRTUAL_THREADS -> new VirtualThreadServerNetwork<>(networkConfig, channelToConnection);
+      case SELECTOR -> new SelectorServerNetwork<>(networkConfig, channelToConnection);
+      case ASYNC_CHANNELS -> new DefaultServerNetwork<>(networkConfig, channelToConnection);
+    };
   }
 
   /**
@@ -50,7 +93,7 @@ public final class NetworkFactory {
    */
   public static ClientNetwork<StringDataConnection> newStringDataClientNetwork(
       NetworkConfig networkConfig) {
-    return newStringDataClientNetwork(networkConfig, new DefaultBufferAllocator(networkConfig));
+    return newStringDataClientNetwork(networkConfig, newBufferAllocator(networkConfig));
   }
 
   /**
@@ -78,7 +121,7 @@ public final class NetworkFactory {
       ReadablePacketRegistry<DefaultReadablePacket> packetRegistry) {
     return newDefaultClientNetwork(
         NetworkConfig.DEFAULT_CLIENT,
-        new DefaultBufferAllocator(NetworkConfig.DEFAULT_CLIENT),
+        newBufferAllocator(NetworkConfig.DEFAULT_CLIENT),
         packetRegistry);
   }
 
@@ -111,6 +154,7 @@ public final class NetworkFactory {
       NetworkConfig networkConfig,
       BufferAllocator bufferAllocator,
       SSLContext sslContext) {
+    NetworkUtils.configureSessionCache(sslContext, networkConfig, true);
     return newClientNetwork(
         networkConfig,
         (network, channel) -> new StringDataSSLConnection(network, channel, bufferAllocator, sslContext, true));
@@ -133,7 +177,7 @@ public final class NetworkFactory {
    */
   public static ServerNetwork<StringDataConnection> newStringDataServerNetwork(
       ServerNetworkConfig networkConfig) {
-    return newStringDataServerNetwork(networkConfig, new DefaultBufferAllocator(networkConfig));
+    return newStringDataServerNetwork(networkConfig, newBufferAllocator(networkConfig));
   }
 
   /**
@@ -163,6 +207,7 @@ public final class NetworkFactory {
       ServerNetworkConfig networkConfig,
       BufferAllocator bufferAllocator,
       SSLContext sslContext) {
+    NetworkUtils.configureSessionCache(sslContext, networkConfig, false);
     return newServerNetwork(
         networkConfig,
         (network, channel) -> new StringDataSSLConnection(network, channel, bufferAllocator, sslContext, false));
@@ -178,7 +223,7 @@ public final class NetworkFactory {
       ReadablePacketRegistry<DefaultReadablePacket> packetRegistry) {
     return newDefaultServerNetwork(
         ServerNetworkConfig.DEFAULT_SERVER,
-        new DefaultBufferAllocator(ServerNetworkConfig.DEFAULT_SERVER),
+        newBufferAllocator(ServerNetworkConfig.DEFAULT_SERVER),
         packetRegistry);
   }
 
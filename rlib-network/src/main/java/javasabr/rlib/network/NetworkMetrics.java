@@ -0,0 +1,122 @@
+package javasabr.rlib.network;
+
+/**
+ * The interface to implement traffic metrics of a connection or a whole network. Metrics of connections are also
+ * aggregated by metrics of their network.
+ *
+ * @author JavaSaBr
+ */
+public interface NetworkMetrics {
+
+  /**
+   * Default NULL implementation of disabled metrics, it doesn't record anything.
+   */
+  NetworkMetrics NULL = new NetworkMetrics() {
+
+    @Override
+    public boolean isEnabled() {
+      return false;
+    }
+
+    @Override
+    public void onReceivedBytes(long bytes) {}
+
+    @Override
+    public void onReceivedPacket() {}
+
+    @Override
+    public void onSentBytes(long bytes) {}
+
+    @Override
+    public void onSentPacket() {}
+
+    @Override
+    public void onFailedPacket() {}
+
+    @Override
+    public void onQueuedPacket() {}
+
+    @Override
+    public void onDequeuedPackets(int count) {}
+
+    @Override
+    public void onSerialization(long time) {}
+
+    @Override
+    public void onWrite(long time) {}
+
+    @Override
+    public NetworkMetricsSnapshot snapshot() {
+      return NetworkMetricsSnapshot.EMPTY;
+    }
+  };
+
+  /**
+   * Check that these metrics record anything, disabled metrics allow to skip measuring time.
+   *
+   * @return true if the metrics are enabled.
+   */
+  boolean isEnabled();
+
+  /**
+   * Register bytes which were received from a channel.
+   *
+   * @param bytes the count of received bytes.
+   */
+  void onReceivedBytes(long bytes);
+
+  /**
+   * Register a received packet.
+   */
+  void onReceivedPacket();
+
+  /**
+   * Register bytes which were written to a channel.
+   *
+   * @param bytes the count of written bytes.
+   */
+  void onSentBytes(long bytes);
+
+  /**
+   * Register a successfully sent packet.
+   */
+  void onSentPacket();
+
+  /**
+   * Register a packet which wasn't sent.
+   */
+  void onFailedPacket();
+
+  /**
+   * Register a packet which was added to the queue of pending packets.
+   */
+  void onQueuedPacket();
+
+  /**
+   * Register packets which were removed from the queue of pending packets.
+   *
+   * @param count the count of removed packets.
+   */
+  void onDequeuedPackets(int count);
+
+  /**
+   * Register serialization of a packet.
+   *
+   * @param time the time of serialization in nanoseconds.
+   */
+  void onSerialization(long time);
+
+  /**
+   * Register a finished write operation.
+   *
+   * @param time the time from starting writing to a channel to writing the last byte in nanoseconds.
+   */
+  void onWrite(long time);
+
+  /**
+   * Take a snapshot of the current values of these metrics.
+   *
+   * @return the snapshot.
+   */
+  NetworkMetricsSnapshot snapshot();
+}
@@ -0,0 +1,59 @@
+package javasabr.rlib.network;
+
+/**
+ * The snapshot of traffic metrics of a connection or a whole network. All times are in nanoseconds, percentiles are
+ * -1 when latency histograms are disabled.
+ *
+ * @param receivedBytes the count of bytes which were received from channels.
+ * @param receivedPackets the count of received packets.
+ * @param sentBytes the count of bytes which were written to channels.
+ * @param sentPackets the count of successfully sent packets.
+ * @param failedPackets the count of packets which weren't sent.
+ * @param queueDepth the current count of packets which are waiting for writing.
+ * @param serializationCount the count of serialized packets.
+ * @param serializationTime the total time of serializing packets.
+ * @param writeCount the count of finished write operations.
+ * @param writeTime the total time of write operations.
+ * @param serializationTimeP50 the median time of serializing a packet.
+ * @param serializationTimeP99 the 99th percentile time of serializing a packet.
+ * @param writeTimeP50 the median time of a write operation.
+ * @param writeTimeP99 the 99th percentile time of a write operation.
+ * @author JavaSaBr
+ */
+public record NetworkMetricsSnapshot(
+    long receivedBytes,
+    long receivedPackets,
+    long sentBytes,
+    long sentPackets,
+    long failedPackets,
+    long queueDepth,
+    long serializationCount,
+    long serializationTime,
+    long writeCount,
+    long writeTime,
+    long serializationTimeP50,
+    long serializationTimeP99,
+    long writeTimeP50,
+    long writeTimeP99) {
+
+  public static final NetworkMetricsSnapshot EMPTY = new NetworkMetricsSnapshot(
+      0, 0, 0, 0, 0, 0, 0, 0, 0, 0, -1, -1, -1, -1);
+
+  /**
+   * Get an average time of serializing a packet.
+   *
+   * @return the average time in nanoseconds.
+   */
+  public long averageSerializationTime() {
+    return serializationCount == 0 ? 0 : serializationTime / serializationCount;
+  }
+
+  /**
+   * Get an average time of a write operation.
+   *
+   * @return the average time in nanoseconds.
+   */
+  public long averageWriteTime() {
+    return writeCount == 0 ? 0 : writeTime / writeCount;
+  }
+}
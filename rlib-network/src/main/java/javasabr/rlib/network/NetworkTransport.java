@@ -0,0 +1,22 @@
+package javasabr.rlib.network;
+
+/**
+ * The kind of transport which is used by a network to work with sockets.
+ *
+ * @author JavaSaBr
+ */
+public enum NetworkTransport {
+  /**
+   * Asynchronous socket channels with completion handlers executed by a channel group.
+   */
+  ASYNC_CHANNELS,
+  /**
+   * Blocking socket channels, every connection has own read and write loops executed by virtual threads.
+   */
+  VIRTUAL_THREADS,
+  /**
+   * Non-blocking socket channels handled by a fixed group of selector loops, every connection is pinned to one loop
+   * thread which reads, decodes and writes its packets.
+   */
+  SELECTOR
+}
@@ -0,0 +1,29 @@
+package javasabr.rlib.network;
+
+/**
+ * The policy how a connection handles a new packet to send when its queue of pending packets is already full, see
+ * {@link NetworkConfig#getMaxPendingPackets()}.
+ *
+ * @author JavaSaBr
+ */
+public enum PendingPacketsOverflowPolicy {
+  /**
+   * Skip the new packet, its feedback is completed with false.
+   */
+  DROP,
+  /**
+   * Block the sending thread until the queue has free space or the connection is closed, pending packets are flushed
+   * before blocking. Packets sent by network threads, for example by receive handlers, are dropped instead of
+   * blocking, because network threads write the queue.
+   */
+  BLOCK,
+  /**
+   * Skip the new packet, its feedback is completed exceptionally with {@link IllegalStateException}. A packet without
+   * feedback is just skipped.
+   */
+  FAIL,
+  /**
+   * Close the connection, so a slow client is disconnected instead of consuming memory.
+   */
+  CLOSE
+}
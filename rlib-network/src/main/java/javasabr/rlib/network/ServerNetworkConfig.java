@@ -1,9 +1,13 @@
 package javasabr.rlib.network;
 
 import java.nio.ByteOrder;
+import java.util.concurrent.Executor;
+import java.util.zip.Deflater;
 import javasabr.rlib.common.concurrent.GroupThreadFactory;
+import javasabr.rlib.network.packet.impl.PacketCompression;
 import lombok.Builder;
 import lombok.Getter;
+import org.jspecify.annotations.Nullable;
 
 /**
  * The interface to implement a server network config.
@@ -30,9 +34,66 @@ public interface ServerNetworkConfig extends NetworkConfig {
     @Builder.Default
     private int writeBufferSize = 2048;
     @Builder.Default
+    private int maxPacketsByWrite = 1;
+    /**
+     * The max size of data by one write operation, the value 0 means {@link #getWriteBufferSize()} * 4.
+     */
+    @Builder.Default
+    private int maxBytesByWrite = 0;
+    @Builder.Default
+    private int maxPacketSize = 0;
+    @Builder.Default
+    private int maxPendingPackets = 0;
+    @Builder.Default
+    private PendingPacketsOverflowPolicy pendingPacketsOverflowPolicy = PendingPacketsOverflowPolicy.DROP;
+    @Builder.Default
+    private FlushPolicy flushPolicy = FlushPolicy.IMMEDIATE;
+    @Builder.Default
+    private int flushWindow = 5;
+    @Builder.Default
+    private int flushThreshold = 16;
+    @Builder.Default
+    private int compressionThreshold = 0;
+    @Builder.Default
+    private int compressionLevel = Deflater.BEST_SPEED;
+    @Builder.Default
+    private int compressionMaxOriginalSize = PacketCompression.DEFAULT_MAX_ORIGINAL_LENGTH;
+    private @Nullable Executor sslTaskExecutor;
+    @Builder.Default
+    private int sslSessionCacheSize = 0;
+    @Builder.Default
+    private int sslSessionTimeout = 0;
+    @Builder.Default
+    private int readIdleTimeout = 0;
+    @Builder.Default
+    private int writeIdleTimeout = 0;
+    @Builder.Default
+    private int allIdleTimeout = 0;
+    @Builder.Default
+    private int idleTimeoutTick = 100;
+    @Builder.Default
+    private boolean closeIdleConnections = false;
+    @Builder.Default
+    private boolean metricsEnabled = false;
+    @Builder.Default
+    private boolean latencyHistogramsEnabled = false;
+    @Builder.Default
+    private boolean packetStatisticsEnabled = false;
+    @Builder.Default
+    private NetworkTransport transport = NetworkTransport.ASYNC_CHANNELS;
+    @Builder.Default
+    private BufferAllocatorType bufferAllocatorType = BufferAllocatorType.DEFAULT;
+    @Builder.Default
     private int threadGroupSize = 1;
     @Builder.Default
+    private int eventLoopCount = 1;
+    @Builder.Default
     private int threadPriority = Thread.NORM_PRIORITY;
+
+    @Override
+    public int getMaxBytesByWrite() {
+      return maxBytesByWrite > 0 ? maxBytesByWrite : writeBufferSize * 4;
+    }
   }
 
   ServerNetworkConfig DEFAULT_SERVER = new ServerNetworkConfig() {
@@ -66,6 +127,16 @@ public interface ServerNetworkConfig extends NetworkConfig {
     return getThreadGroupMinSize();
   }
 
+  /**
+   * Get a count of selector loops which handle connections when {@link NetworkTransport#SELECTOR} is used, every
+   * accepted connection is pinned to one of the loops.
+   *
+   * @return the count of event loops.
+   */
+  default int getEventLoopCount() {
+    return getThreadGroupMaxSize();
+  }
+
   /**
    * Get a thread constructor which should be used to create network threads.
    *
@@ -77,14 +77,14 @@ public class DefaultClientNetwork<C extends Connection<?, ?>> extends AbstractNe
 
     var asyncResult = new CompletableFuture<C>();
 
-    var channel = uncheckedGet(AsynchronousSocketChannel::open);
+    var channel = openChannel();
     channel.connect(
         serverAddress, null, new CompletionHandler<Void, Void>() {
 
           @Override
           public void completed(@Nullable Void result, @Nullable Void attachment) {
             LOGGER.info(channel, ch -> "Connected to server: " + NetworkUtils.getRemoteAddress(ch));
-            asyncResult.complete(channelToConnection.apply(DefaultClientNetwork.this, channel));
+            asyncResult.complete(createConnection(channel));
           }
 
           @Override
@@ -102,6 +102,15 @@ public class DefaultClientNetwork<C extends Connection<?, ?>> extends AbstractNe
     });
   }
 
+  /**
+   * Open a new channel to connect to a server.
+   *
+   * @return the new channel.
+   */
+  protected AsynchronousSocketChannel openChannel() {
+    return uncheckedGet(AsynchronousSocketChannel::open);
+  }
+
   @Override
   public Mono<C> connected(InetSocketAddress serverAddress) {
     return Mono.create(monoSink -> connect(serverAddress).whenComplete((connection, ex) -> {
@@ -118,5 +127,7 @@ public class DefaultClientNetwork<C extends Connection<?, ?>> extends AbstractNe
     Optional
         .ofNullable(getCurrentConnection())
         .ifPresent(connection -> unchecked(connection, C::close));
+    shutdownIdleStateTracker();
+    shutdownFlushTimer();
   }
 }
@@ -0,0 +1,45 @@
+package javasabr.rlib.network.client.impl;
+
+import static javasabr.rlib.common.util.Utils.uncheckedGet;
+
+import java.nio.channels.AsynchronousSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.function.BiFunction;
+import javasabr.rlib.common.concurrent.GroupThreadFactory;
+import javasabr.rlib.network.Connection;
+import javasabr.rlib.network.Network;
+import javasabr.rlib.network.NetworkConfig;
+import javasabr.rlib.network.impl.EventLoopGroup;
+import javasabr.rlib.network.impl.SelectorSocketChannel;
+
+/**
+ * The implementation of a client network which handles its connection by one selector loop.
+ *
+ * @author JavaSaBr
+ */
+public class SelectorClientNetwork<C extends Connection<?, ?>> extends DefaultClientNetwork<C> {
+
+  protected final EventLoopGroup group;
+
+  public SelectorClientNetwork(
+      NetworkConfig config,
+      BiFunction<Network<C>, AsynchronousSocketChannel, C> channelToConnection) {
+    super(config, channelToConnection);
+    this.group = new EventLoopGroup(1, new GroupThreadFactory(config.getThreadGroupName(), Thread::new,
+        Thread.NORM_PRIORITY, true));
+  }
+
+  @Override
+  protected AsynchronousSocketChannel openChannel() {
+    return uncheckedGet(() -> new SelectorSocketChannel(SocketChannel.open(), group.next()));
+  }
+
+  @Override
+  public void shutdown() {
+    try {
+      super.shutdown();
+    } finally {
+      group.shutdown();
+    }
+  }
+}
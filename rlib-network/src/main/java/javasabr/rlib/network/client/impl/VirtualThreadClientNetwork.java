@@ -0,0 +1,30 @@
+package javasabr.rlib.network.client.impl;
+
+import static javasabr.rlib.common.util.Utils.uncheckedGet;
+
+import java.nio.channels.AsynchronousSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.function.BiFunction;
+import javasabr.rlib.network.Connection;
+import javasabr.rlib.network.Network;
+import javasabr.rlib.network.NetworkConfig;
+import javasabr.rlib.network.impl.VirtualThreadSocketChannel;
+
+/**
+ * The implementation of a client network which uses blocking socket channels with virtual threads.
+ *
+ * @author JavaSaBr
+ */
+public class VirtualThreadClientNetwork<C extends Connection<?, ?>> extends DefaultClientNetwork<C> {
+
+  public VirtualThreadClientNetwork(
+      NetworkConfig config,
+      BiFunction<Network<C>, AsynchronousSocketChannel, C> channelToConnection) {
+    super(config, channelToConnection);
+  }
+
+  @Override
+  protected AsynchronousSocketChannel openChannel() {
+    return new VirtualThreadSocketChannel(uncheckedGet(SocketChannel::open));
+  }
+}
@@ -5,24 +5,33 @@ import static javasabr.rlib.common.util.Utils.unchecked;
 import java.nio.channels.AsynchronousChannel;
 import java.nio.channels.AsynchronousSocketChannel;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.locks.StampedLock;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.BiConsumer;
+import javasabr.rlib.common.concurrent.queue.MpscLinkedQueue;
 import javasabr.rlib.common.function.NotNullBiConsumer;
 import javasabr.rlib.common.util.array.Array;
 import javasabr.rlib.common.util.array.ArrayFactory;
-import javasabr.rlib.common.util.linkedlist.LinkedList;
-import javasabr.rlib.common.util.linkedlist.LinkedListFactory;
 import javasabr.rlib.logger.api.Logger;
 import javasabr.rlib.logger.api.LoggerManager;
 import javasabr.rlib.network.BufferAllocator;
 import javasabr.rlib.network.Connection;
+import javasabr.rlib.network.FlushPolicy;
 import javasabr.rlib.network.Network;
+import javasabr.rlib.network.NetworkConfig;
+import javasabr.rlib.network.NetworkMetrics;
+import javasabr.rlib.network.PendingPacketsOverflowPolicy;
 import javasabr.rlib.network.UnsafeConnection;
 import javasabr.rlib.network.packet.PacketReader;
 import javasabr.rlib.network.packet.PacketWriter;
 import javasabr.rlib.network.packet.ReadablePacket;
+import javasabr.rlib.network.packet.ReusableReadablePacket;
 import javasabr.rlib.network.packet.WritablePacket;
+import javasabr.rlib.network.packet.impl.PacketCompression;
 import javasabr.rlib.network.packet.impl.WritablePacketWrapper;
 import javasabr.rlib.network.util.NetworkUtils;
 import lombok.Getter;
@@ -40,6 +49,14 @@ public abstract class AbstractConnection<R extends ReadablePacket, W extends Wri
 
   private static final Logger LOGGER = LoggerManager.getLogger(AbstractConnection.class);
 
+  private static final long BLOCKED_SENDER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+  /**
+   * The flag of a thread which is handling I/O events of connections. Such thread must not be blocked by a full queue
+   * of pending packets, because it can be the only thread which drains the queue.
+   */
+  private static final ThreadLocal<Boolean> IO_THREAD = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
   private static class WritablePacketWithFeedback<W extends WritablePacket> extends
       WritablePacketWrapper<CompletableFuture<Boolean>, W> {
 
@@ -54,17 +71,64 @@ public abstract class AbstractConnection<R extends ReadablePacket, W extends Wri
   protected final Network<? extends Connection<R, W>> network;
   protected final BufferAllocator bufferAllocator;
   protected final AsynchronousSocketChannel channel;
-  protected final LinkedList<WritablePacket> pendingPackets;
-  protected final StampedLock lock;
+
+  /**
+   * The queue of packets to send, packets are added by any threads and are taken only by the packet writer.
+   */
+  protected final MpscLinkedQueue<WritablePacket> pendingPackets;
+
+  /**
+   * The packets which were returned by the packet writer to send them before other pending packets.
+   */
+  protected final ConcurrentLinkedDeque<WritablePacket> priorityPackets;
+
+  /**
+   * The count of packets in the queue of pending packets, it's tracked only when the queue is limited.
+   */
+  protected final AtomicInteger pendingPacketCount;
+
+  /**
+   * The flag to take packets from the queue of pending packets by only one thread at a time.
+   */
+  protected final AtomicBoolean pollingPackets;
+
+  /**
+   * The flag that pending packets are flushed and can be taken by the packet writer.
+   */
+  protected final AtomicBoolean flushRequested;
+
+  /**
+   * The flag that a delayed flush is already scheduled.
+   */
+  protected final AtomicBoolean flushScheduled;
+
+  /**
+   * The count of sent packets since the last flush, it's tracked only by {@link FlushPolicy#SIZE_THRESHOLD}.
+   */
+  protected final AtomicInteger unflushedPackets;
+
+  protected final LongAdder flushCount;
+  protected final LongAdder flushedPacketCount;
 
   protected final AtomicBoolean isWriting;
   protected final AtomicBoolean closed;
 
+  protected final PendingPacketsOverflowPolicy pendingPacketsOverflowPolicy;
+  protected final PacketCompression compression;
+  protected final @Getter NetworkMetrics metrics;
+
   protected final Array<NotNullBiConsumer<? super Connection<R, W>, ? super R>> subscribers;
 
   protected final int maxPacketsByRead;
+  protected final int maxPendingPackets;
+  protected final int flushWindow;
+  protected final int flushThreshold;
+
+  protected volatile FlushPolicy flushPolicy;
 
   protected volatile @Getter long lastActivity;
+  protected volatile @Getter long lastReadActivity;
+  protected volatile @Getter long lastWriteActivity;
 
   public AbstractConnection(
       Network<? extends Connection<R, W>> network,
@@ -73,10 +137,24 @@ public abstract class AbstractConnection<R extends ReadablePacket, W extends Wri
       int maxPacketsByRead) {
     this.bufferAllocator = bufferAllocator;
     this.maxPacketsByRead = maxPacketsByRead;
-    this.lock = new StampedLock();
     this.channel = channel;
-    this.pendingPackets = LinkedListFactory.newLinkedList(WritablePacket.class);
+    this.pendingPackets = new MpscLinkedQueue<>();
+    this.priorityPackets = new ConcurrentLinkedDeque<>();
+    this.pendingPacketCount = new AtomicInteger();
+    this.pollingPackets = new AtomicBoolean(false);
     this.network = network;
+    this.maxPendingPackets = Math.max(0, network.getConfig().getMaxPendingPackets());
+    this.pendingPacketsOverflowPolicy = network.getConfig().getPendingPacketsOverflowPolicy();
+    this.flushPolicy = network.getConfig().getFlushPolicy();
+    this.flushWindow = Math.max(0, network.getConfig().getFlushWindow());
+    this.flushThreshold = Math.max(1, network.getConfig().getFlushThreshold());
+    this.flushRequested = new AtomicBoolean(flushPolicy == FlushPolicy.IMMEDIATE);
+    this.flushScheduled = new AtomicBoolean(false);
+    this.unflushedPackets = new AtomicInteger();
+    this.flushCount = new LongAdder();
+    this.flushedPacketCount = new LongAdder();
+    this.compression = createPacketCompression(network.getConfig());
+    this.metrics = createMetrics(network.getMetrics());
     this.isWriting = new AtomicBoolean(false);
     this.closed = new AtomicBoolean(false);
     this.subscribers = ArrayFactory.newCopyOnModifyArray(NotNullBiConsumer.class);
@@ -87,6 +165,21 @@ public abstract class AbstractConnection<R extends ReadablePacket, W extends Wri
   public void onConnected() {
   }
 
+  protected PacketCompression createPacketCompression(NetworkConfig config) {
+    var threshold = config.getCompressionThreshold();
+    if (threshold < 1) {
+      return PacketCompression.DISABLED;
+    }
+    return new PacketCompression(
+        new DeflaterNetworkCompressor(config.getCompressionLevel()),
+        threshold,
+        config.getCompressionMaxOriginalSize());
+  }
+
+  protected NetworkMetrics createMetrics(NetworkMetrics networkMetrics) {
+    return networkMetrics.isEnabled() ? new DefaultNetworkMetrics(networkMetrics, false) : NetworkMetrics.NULL;
+  }
+
   protected abstract PacketReader getPacketReader();
 
   protected abstract PacketWriter getPacketWriter();
@@ -96,7 +189,17 @@ public abstract class AbstractConnection<R extends ReadablePacket, W extends Wri
         channel,
         packet,
         (ch, pck) -> "Handle received packet: " + pck + " from: " + NetworkUtils.getRemoteAddress(ch));
-    subscribers.forEachR(this, packet, BiConsumer::accept);
+    metrics.onReceivedPacket();
+    var ioThread = IO_THREAD.get();
+    IO_THREAD.set(Boolean.TRUE);
+    try {
+      subscribers.forEachR(this, packet, BiConsumer::accept);
+    } finally {
+      IO_THREAD.set(ioThread);
+      if (packet instanceof ReusableReadablePacket reusable) {
+        reusable.release();
+      }
+    }
   }
 
   @Override
@@ -107,20 +210,24 @@ public abstract class AbstractConnection<R extends ReadablePacket, W extends Wri
 
   @Override
   public Flux<ReceivedPacketEvent<? extends Connection<R, W>, ? extends R>> receivedEvents() {
-    return Flux.create(this::registerFluxOnReceivedEvents);
+    return Flux.<ReceivedPacketEvent<? extends Connection<R, W>, ? extends R>>create(this::registerFluxOnReceivedEvents)
+        .doOnDiscard(ReceivedPacketEvent.class, event -> releaseReusable(event.packet));
   }
 
   @Override
   public Flux<? extends R> receivedPackets() {
-    return Flux.create(this::registerFluxOnReceivedPackets);
+    return Flux.<R>create(this::registerFluxOnReceivedPackets)
+        .doOnDiscard(ReusableReadablePacket.class, ReusableReadablePacket::release);
   }
 
   protected void registerFluxOnReceivedEvents(
       FluxSink<ReceivedPacketEvent<? extends Connection<R, W>, ? extends R>> sink) {
 
     NotNullBiConsumer<Connection<R, W>, R> listener =
-      (connection, packet) -> sink.next(new ReceivedPacketEvent<>(connection,
-        packet));
+      (connection, packet) -> {
+        retainReusable(packet);
+        sink.next(new ReceivedPacketEvent<>(connection, packet));
+      };
 
     onReceive(listener);
 
@@ -129,19 +236,87 @@ public abstract class AbstractConnection<R extends ReadablePacket, W extends Wri
 
   protected void registerFluxOnReceivedPackets(FluxSink<? super R> sink) {
 
-    NotNullBiConsumer<Connection<R, W>, R> listener = (connection, packet) -> sink.next(packet);
+    NotNullBiConsumer<Connection<R, W>, R> listener = (connection, packet) -> {
+      retainReusable(packet);
+      sink.next(packet);
+    };
 
     onReceive(listener);
 
     sink.onDispose(() -> subscribers.remove(listener));
   }
 
+  /**
+   * Retain a reusable packet which is passed to an async subscriber, so the packet isn't returned to the pool until
+   * the subscriber releases it.
+   */
+  protected static void retainReusable(ReadablePacket packet) {
+    if (packet instanceof ReusableReadablePacket reusable) {
+      reusable.retain();
+    }
+  }
+
+  protected static void releaseReusable(ReadablePacket packet) {
+    if (packet instanceof ReusableReadablePacket reusable) {
+      reusable.release();
+    }
+  }
+
   protected @Nullable WritablePacket nextPacketToWrite() {
-    long stamp = lock.writeLock();
+
+    var packet = priorityPackets.pollFirst();
+
+    if (packet != null) {
+      return packet;
+    } else if (!flushRequested.get()) {
+      return null;
+    }
+
+    lockPolling();
     try {
-      return pendingPackets.poll();
+      packet = pendingPackets.poll();
+      if (packet == null && flushPolicy != FlushPolicy.IMMEDIATE) {
+        flushRequested.set(false);
+        // a packet could be added and flushed before resetting the flag
+        if (!pendingPackets.isEmpty()) {
+          flushRequested.set(true);
+          packet = pendingPackets.poll();
+        }
+      }
     } finally {
-      lock.unlockWrite(stamp);
+      pollingPackets.set(false);
+    }
+
+    if (packet == null) {
+      return null;
+    }
+
+    flushedPacketCount.increment();
+    metrics.onDequeuedPackets(1);
+
+    if (maxPendingPackets > 0) {
+      pendingPacketCount.decrementAndGet();
+    }
+
+    return packet;
+  }
+
+  /**
+   * Check existing packets which are waiting for writing. It should be called by the packet writer.
+   *
+   * @return true if there are packets to write.
+   */
+  protected boolean hasPendingPackets() {
+    return !priorityPackets.isEmpty() || (flushRequested.get() && !pendingPackets.isEmpty());
+  }
+
+  /**
+   * Take the exclusive right to poll the queue of pending packets. Usually it's owned only by the packet writer, so
+   * it's contended only with clearing the queue on closing.
+   */
+  protected void lockPolling() {
+    while (!pollingPackets.compareAndSet(false, true)) {
+      Thread.onSpinWait();
     }
   }
 
@@ -165,6 +340,10 @@ public abstract class AbstractConnection<R extends ReadablePacket, W extends Wri
 
     getPacketReader().close();
     getPacketWriter().close();
+
+    compression
+        .getCompressor()
+        .close();
   }
 
   /**
@@ -174,6 +353,24 @@ public abstract class AbstractConnection<R extends ReadablePacket, W extends Wri
     this.lastActivity = System.currentTimeMillis();
   }
 
+  /**
+   * Update the time of last read activity.
+   */
+  protected void updateLastReadActivity() {
+    var currentTime = System.currentTimeMillis();
+    this.lastReadActivity = currentTime;
+    this.lastActivity = currentTime;
+  }
+
+  /**
+   * Update the time of last write activity.
+   */
+  protected void updateLastWriteActivity() {
+    var currentTime = System.currentTimeMillis();
+    this.lastWriteActivity = currentTime;
+    this.lastActivity = currentTime;
+  }
+
   @Override
   public boolean isClosed() {
     return closed.get();
@@ -183,11 +380,45 @@ public abstract class AbstractConnection<R extends ReadablePacket, W extends Wri
   }
 
   protected void onSentPacket(WritablePacket packet, Boolean result) {
+    if (result) {
+      metrics.onSentPacket();
+    } else {
+      metrics.onFailedPacket();
+    }
     if (packet instanceof WritablePacketWithFeedback) {
-      ((WritablePacketWithFeedback<W>) packet)
+      runAsIoTask(() -> ((WritablePacketWithFeedback<W>) packet)
           .getAttachment()
-          .complete(result);
+          .complete(result));
+    }
+  }
+
+  /**
+   * Run a task as a part of handling I/O events, so senders called by the task are not blocked by full queues of
+   * pending packets.
+   *
+   * @param task the task.
+   */
+  static void runAsIoTask(Runnable task) {
+    var ioThread = IO_THREAD.get();
+    IO_THREAD.set(Boolean.TRUE);
+    try {
+      task.run();
+    } finally {
+      IO_THREAD.set(ioThread);
+    }
+  }
+
+  /**
+   * Check that the current thread is handling I/O events of connections, for example it's the event loop of this
+   * connection or it's calling receive handlers.
+   *
+   * @return true if the current thread is an I/O thread.
+   */
+  protected boolean isIoThread() {
+    if (IO_THREAD.get()) {
+      return true;
     }
+    return channel instanceof SelectorSocketChannel selectorChannel && selectorChannel.inEventLoop();
   }
 
   @Override
@@ -199,27 +430,232 @@ public abstract class AbstractConnection<R extends ReadablePacket, W extends Wri
 
     if (isClosed()) {
       return;
+    } else if (maxPendingPackets > 0 && !reservePendingPlace(packet)) {
+      return;
     }
 
-    long stamp = lock.writeLock();
-    try {
-      pendingPackets.add(packet);
-    } finally {
-      lock.unlockWrite(stamp);
+    pendingPackets.offer(packet);
+    metrics.onQueuedPacket();
+
+    if (isClosed()) {
+      // the connection could be closed during adding the packet, so the queue could be already cleared
+      clearWaitPackets();
+      return;
     }
 
-    getPacketWriter().writeNextPacket();
+    switch (flushPolicy) {
+      case IMMEDIATE -> {
+        flushCount.increment();
+        startWriting();
+      }
+      case TIME_WINDOW -> scheduleFlush();
+      case SIZE_THRESHOLD -> {
+        if (unflushedPackets.incrementAndGet() >= flushThreshold) {
+          requestFlush();
+        } else {
+          scheduleFlush();
+        }
+      }
+      case EXPLICIT -> {}
+    }
   }
 
-  protected void queueAtFirst(WritablePacket packet) {
-    long stamp = lock.writeLock();
-    try {
-      pendingPackets.addFirst(packet);
-    } finally {
-      lock.unlockWrite(stamp);
+  /**
+   * Start writing pending packets by the packet writer.
+   */
+  protected void startWriting() {
+    if (channel instanceof SelectorSocketChannel selectorChannel && !selectorChannel.inEventLoop()) {
+      // packets of a connection with an event loop are serialized and written only by the loop thread
+      selectorChannel.execute(getPacketWriter()::writeNextPacket);
+    } else {
+      getPacketWriter().writeNextPacket();
     }
   }
 
+  @Override
+  public void flush() {
+    requestFlush();
+  }
+
+  @Override
+  public void setFlushPolicy(FlushPolicy flushPolicy) {
+    this.flushPolicy = flushPolicy;
+    if (flushPolicy == FlushPolicy.IMMEDIATE) {
+      flushRequested.set(true);
+    }
+    requestFlush();
+  }
+
+  /**
+   * Allow the packet writer to take all pending packets and start writing.
+   */
+  protected void requestFlush() {
+    if (markFlush()) {
+      startWriting();
+    }
+  }
+
+  /**
+   * Allow the packet writer to take all pending packets.
+   *
+   * @return true if there are pending packets to write.
+   */
+  protected boolean markFlush() {
+
+    if (isClosed()) {
+      return false;
+    }
+
+    unflushedPackets.set(0);
+
+    if (pendingPackets.isEmpty()) {
+      return false;
+    } else if (flushRequested.compareAndSet(false, true)) {
+      flushCount.increment();
+    }
+
+    return true;
+  }
+
+  /**
+   * Schedule flushing of pending packets after the flush window if it's not scheduled yet.
+   */
+  protected void scheduleFlush() {
+    if (!(network instanceof AbstractNetwork<?> abstractNetwork)) {
+      // other implementations of network don't have a flush timer
+      requestFlush();
+    } else if (flushScheduled.compareAndSet(false, true)) {
+      abstractNetwork.scheduleFlush(() -> flushByTimer(abstractNetwork), flushWindow);
+    }
+  }
+
+  /**
+   * Flush pending packets by the flush timer of the network. The timer thread only marks the flush, packets are
+   * serialized and written by an I/O thread of this connection, so the timer isn't blocked by slow connections.
+   *
+   * @param network the network of this connection.
+   */
+  protected void flushByTimer(AbstractNetwork<?> network) {
+    flushScheduled.set(false);
+    if (markFlush()) {
+      network.executeIoTask(channel, getPacketWriter()::writeNextPacket);
+    }
+  }
+
+  /**
+   * Get a count of flushes of pending packets. With {@link FlushPolicy#IMMEDIATE} every sent packet is flushed.
+   *
+   * @return the count of flushes.
+   */
+  public long getFlushCount() {
+    return flushCount.sum();
+  }
+
+  /**
+   * Get a count of flushed packets which were taken by the packet writer.
+   *
+   * @return the count of flushed packets.
+   */
+  public long getFlushedPacketCount() {
+    return flushedPacketCount.sum();
+  }
+
+  /**
+   * Get an average count of packets by one flush.
+   *
+   * @return the average count of packets by one flush.
+   */
+  public double getPacketsPerFlush() {
+    var flushes = flushCount.sum();
+    return flushes == 0 ? 0 : (double) flushedPacketCount.sum() / flushes;
+  }
+
+  /**
+   * Get a count of sent packets which were compressed.
+   *
+   * @return the count of compressed packets.
+   */
+  public long getCompressedPacketCount() {
+    return compression.getCompressedPacketCount();
+  }
+
+  /**
+   * Get a ratio of compressed size to original size of sent compressed packets.
+   *
+   * @return the compression ratio or 1 if nothing was compressed.
+   */
+  public double getCompressionRatio() {
+    return compression.getCompressionRatio();
+  }
+
+  /**
+   * Try to reserve a place in the limited queue of pending packets or handle the packet by the overflow policy.
+   *
+   * @param packet the packet to send.
+   * @return true if the place was reserved.
+   */
+  protected boolean reservePendingPlace(WritablePacket packet) {
+
+    var flushRequestedBySender = false;
+
+    while (true) {
+
+      var count = pendingPacketCount.get();
+
+      if (count < maxPendingPackets) {
+        if (pendingPacketCount.compareAndSet(count, count + 1)) {
+          return true;
+        }
+        continue;
+      }
+
+      switch (pendingPacketsOverflowPolicy) {
+        case BLOCK -> {
+          if (isClosed()) {
+            onSentPacket(packet, Boolean.FALSE);
+            return false;
+          } else if (isIoThread()) {
+            // blocking of an I/O thread can block writing of the queue, so the packet is dropped
+            LOGGER.debug(remoteAddress, address ->
+                "Drop a packet to " + address + " sent by an I/O thread because the queue of pending packets is full");
+            onSentPacket(packet, Boolean.FALSE);
+            return false;
+          } else if (!flushRequestedBySender) {
+            // the queue should be drained even with the explicit flush policy to wake up the sender
+            flushRequestedBySender = true;
+            requestFlush();
+          }
+          LockSupport.parkNanos(BLOCKED_SENDER_PARK_NANOS);
+        }
+        case FAIL -> {
+          if (packet instanceof WritablePacketWithFeedback<?> withFeedback) {
+            withFeedback
+                .getAttachment()
+                .completeExceptionally(new IllegalStateException(
+                    "Connection " + remoteAddress + " has too many pending packets: " + count));
+          }
+          onSentPacket(packet, Boolean.FALSE);
+          return false;
+        }
+        case CLOSE -> {
+          LOGGER.warning(remoteAddress, count, (address, size) ->
+              "Close connection " + address + " because it has too many pending packets: " + size);
+          onSentPacket(packet, Boolean.FALSE);
+          close();
+          return false;
+        }
+        default -> {
+          onSentPacket(packet, Boolean.FALSE);
+          return false;
+        }
+      }
+    }
+  }
+
+  protected void queueAtFirst(WritablePacket packet) {
+    priorityPackets.addFirst(packet);
+  }
+
   @Override
   public CompletableFuture<Boolean> sendWithFeedback(W packet) {
 
@@ -238,20 +674,28 @@ public abstract class AbstractConnection<R extends ReadablePacket, W extends Wri
    * Clear waited packets.
    */
   protected void clearWaitPackets() {
-    long stamp = lock.writeLock();
+    lockPolling();
     try {
       doClearWaitPackets();
     } finally {
-      lock.unlockWrite(stamp);
+      pollingPackets.set(false);
     }
   }
 
   protected void doClearWaitPackets() {
 
-    for (var pendingPacket : pendingPackets) {
-      onSentPacket(pendingPacket, Boolean.FALSE);
+    for (var packet = priorityPackets.pollFirst(); packet != null; packet = priorityPackets.pollFirst()) {
+      onSentPacket(packet, Boolean.FALSE);
     }
 
-    pendingPackets.clear();
+    var cleared = pendingPackets.drain(packet -> onSentPacket(packet, Boolean.FALSE));
+
+    if (cleared > 0) {
+      metrics.onDequeuedPackets(cleared);
+    }
+
+    if (cleared > 0 && maxPendingPackets > 0) {
+      pendingPacketCount.addAndGet(-cleared);
+    }
   }
 }
@@ -1,12 +1,20 @@
 package javasabr.rlib.network.impl;
 
 import java.nio.channels.AsynchronousSocketChannel;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiFunction;
+import javasabr.rlib.common.function.NotNullBiConsumer;
+import javasabr.rlib.common.function.NotNullFunction;
 import javasabr.rlib.logger.api.Logger;
 import javasabr.rlib.logger.api.LoggerManager;
 import javasabr.rlib.network.Connection;
+import javasabr.rlib.network.IdleState;
 import javasabr.rlib.network.Network;
 import javasabr.rlib.network.NetworkConfig;
+import javasabr.rlib.network.NetworkMetrics;
+import javasabr.rlib.network.packet.WritablePacket;
+import javasabr.rlib.network.packet.impl.PacketIdStatistics;
+import org.jspecify.annotations.Nullable;
 
 /**
  * The base implementation of {@link Network}.
@@ -17,13 +25,188 @@ public abstract class AbstractNetwork<C extends Connection<?, ?>> implements Net
 
   protected static final Logger LOGGER = LoggerManager.getLogger(AbstractNetwork.class);
 
+  private static final int FLUSH_TIMER_WHEEL_SIZE = 64;
+
   protected final NetworkConfig config;
   protected final BiFunction<Network<C>, AsynchronousSocketChannel, C> channelToConnection;
 
+  protected final LongAdder fullHandshakeCount;
+  protected final LongAdder abbreviatedHandshakeCount;
+
+  protected final NetworkMetrics metrics;
+  protected final @Nullable PacketIdStatistics packetStatistics;
+
+  /**
+   * The tracker of idle connections, it's null when all idle timeouts are disabled.
+   */
+  protected final @Nullable IdleStateTracker<C> idleStateTracker;
+
+  /**
+   * The timer of delayed flushes of connections, it's created by the first connection which uses not immediate flush
+   * policy.
+   */
+  private volatile @Nullable HashedTimingWheel flushTimer;
+  private boolean flushTimerStopped;
+
   protected AbstractNetwork(
       NetworkConfig config,
       BiFunction<Network<C>, AsynchronousSocketChannel, C> channelToConnection) {
     this.config = config;
     this.channelToConnection = channelToConnection;
+    this.fullHandshakeCount = new LongAdder();
+    this.abbreviatedHandshakeCount = new LongAdder();
+    this.metrics = config.isMetricsEnabled()
+                   ? new DefaultNetworkMetrics(config.isLatencyHistogramsEnabled())
+                   : NetworkMetrics.NULL;
+    this.packetStatistics = config.isPacketStatisticsEnabled()
+                            ? new PacketIdStatistics(config.isLatencyHistogramsEnabled())
+                            : null;
+    this.idleStateTracker = IdleStateTracker.isEnabled(config) ? new IdleStateTracker<>(config) : null;
+  }
+
+  /**
+   * Create a connection for the channel and start tracking its idle states.
+   *
+   * @param channel the channel.
+   * @return the new connection.
+   */
+  protected C createConnection(AsynchronousSocketChannel channel) {
+
+    var connection = channelToConnection.apply(this, channel);
+
+    if (idleStateTracker != null) {
+      idleStateTracker.track(connection, task -> executeIoTask(channel, task));
+    }
+
+    return connection;
+  }
+
+  @Override
+  public void onIdle(NotNullBiConsumer<? super C, IdleState> handler) {
+    if (idleStateTracker != null) {
+      idleStateTracker.addHandler(handler);
+    } else {
+      LOGGER.warning("Idle timeouts are disabled in the network config, the handler will not be called");
+    }
+  }
+
+  @Override
+  public void setPingPacketFactory(@Nullable NotNullFunction<? super C, ? extends WritablePacket> pingPacketFactory) {
+    if (idleStateTracker != null) {
+      idleStateTracker.setPingPacketFactory(pingPacketFactory);
+    } else {
+      LOGGER.warning("Idle timeouts are disabled in the network config, ping packets will not be sent");
+    }
+  }
+
+  /**
+   * Stop tracking idle states of connections.
+   */
+  protected void shutdownIdleStateTracker() {
+    if (idleStateTracker != null) {
+      idleStateTracker.shutdown();
+    }
+  }
+
+  /**
+   * Schedule a delayed flush of a connection by the flush timer of this network.
+   *
+   * @param task the flush task.
+   * @param delay the delay in milliseconds.
+   */
+  protected void scheduleFlush(Runnable task, long delay) {
+
+    var flushTimer = this.flushTimer;
+
+    if (flushTimer == null) {
+      flushTimer = getOrCreateFlushTimer();
+    }
+
+    if (flushTimer != null) {
+      flushTimer.schedule(task, delay);
+    }
+  }
+
+  private synchronized @Nullable HashedTimingWheel getOrCreateFlushTimer() {
+
+    var flushTimer = this.flushTimer;
+
+    if (flushTimer == null && !flushTimerStopped) {
+      // the tick is a half of the flush window, so packets are flushed not later than 1.5 of the window
+      flushTimer = new HashedTimingWheel(
+          config.getThreadGroupName() + "FlushTimer",
+          Math.max(1, config.getFlushWindow() / 2),
+          FLUSH_TIMER_WHEEL_SIZE);
+      this.flushTimer = flushTimer;
+    }
+
+    return flushTimer;
+  }
+
+  /**
+   * Stop the flush timer, not executed flushes are dropped.
+   */
+  protected synchronized void shutdownFlushTimer() {
+
+    flushTimerStopped = true;
+
+    var flushTimer = this.flushTimer;
+
+    if (flushTimer != null) {
+      flushTimer.shutdown();
+    }
+  }
+
+  /**
+   * Execute an I/O task of a connection out of a timer thread. Connections with an event loop execute the task by the
+   * loop thread, other connections execute it by a new virtual thread because their channels don't have own executor.
+   *
+   * @param channel the channel of the connection.
+   * @param task the task.
+   */
+  protected void executeIoTask(AsynchronousSocketChannel channel, Runnable task) {
+    if (channel instanceof SelectorSocketChannel selectorChannel) {
+      selectorChannel.execute(task);
+    } else {
+      Thread.startVirtualThread(task);
+    }
+  }
+
+  @Override
+  public NetworkConfig getConfig() {
+    return config;
+  }
+
+  /**
+   * Register a finished SSL handshake of a connection.
+   *
+   * @param abbreviated true if the handshake resumed a cached session.
+   */
+  void onHandshakeFinished(boolean abbreviated) {
+    if (abbreviated) {
+      abbreviatedHandshakeCount.increment();
+    } else {
+      fullHandshakeCount.increment();
+    }
+  }
+
+  @Override
+  public NetworkMetrics getMetrics() {
+    return metrics;
+  }
+
+  @Override
+  public @Nullable PacketIdStatistics getPacketStatistics() {
+    return packetStatistics;
+  }
+
+  @Override
+  public long getFullHandshakeCount() {
+    return fullHandshakeCount.sum();
+  }
+
+  @Override
+  public long getAbbreviatedHandshakeCount() {
+    return abbreviatedHandshakeCount.sum();
   }
 }
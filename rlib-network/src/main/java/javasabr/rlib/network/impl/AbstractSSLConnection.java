@@ -1,11 +1,17 @@
 package javasabr.rlib.network.impl;
 
+import java.net.InetSocketAddress;
 import java.nio.channels.AsynchronousSocketChannel;
 import javasabr.rlib.network.BufferAllocator;
 import javasabr.rlib.network.Connection;
+import javasabr.rlib.network.FlushPolicy;
 import javasabr.rlib.network.Network;
+import javasabr.rlib.network.NetworkConfig;
 import javasabr.rlib.network.packet.ReadablePacket;
 import javasabr.rlib.network.packet.WritablePacket;
+import javasabr.rlib.network.packet.impl.PacketCompression;
+import javasabr.rlib.network.packet.impl.SSLDelegatedTaskRunner;
+import javasabr.rlib.network.util.NetworkUtils;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLException;
@@ -14,6 +20,7 @@ public abstract class AbstractSSLConnection<R extends ReadablePacket, W extends
     AbstractConnection<R, W> {
 
   protected final SSLEngine sslEngine;
+  protected final SSLDelegatedTaskRunner sslTaskRunner;
 
   public AbstractSSLConnection(
       Network<? extends Connection<R, W>> network,
@@ -23,8 +30,12 @@ public abstract class AbstractSSLConnection<R extends ReadablePacket, W extends
       int maxPacketsByRead,
       boolean clientMode) {
     super(network, channel, bufferAllocator, maxPacketsByRead);
-    this.sslEngine = sslContext.createSSLEngine();
+    this.sslEngine = createSslEngine(sslContext, channel);
     this.sslEngine.setUseClientMode(clientMode);
+    this.sslTaskRunner = new SSLDelegatedTaskRunner(
+        sslEngine,
+        network.getConfig().getSslTaskExecutor(),
+        this::onHandshakeFinished);
     try {
       this.sslEngine.beginHandshake();
     } catch (SSLException e) {
@@ -32,9 +43,82 @@ public abstract class AbstractSSLConnection<R extends ReadablePacket, W extends
     }
   }
 
+  /**
+   * Create an SSL engine with the peer host and port, so client sessions can be resumed from the session cache.
+   */
+  protected SSLEngine createSslEngine(SSLContext sslContext, AsynchronousSocketChannel channel) {
+    if (NetworkUtils.getRemoteAddress(channel) instanceof InetSocketAddress address) {
+      return sslContext.createSSLEngine(address.getHostString(), address.getPort());
+    } else {
+      return sslContext.createSSLEngine();
+    }
+  }
+
+  protected void onHandshakeFinished() {
+    if (network instanceof AbstractNetwork<?> abstractNetwork) {
+      abstractNetwork.onHandshakeFinished(sslTaskRunner.isAbbreviatedHandshake());
+    }
+  }
+
+  /**
+   * Check that the SSL handshake resumed a cached session.
+   *
+   * @return true if the handshake was abbreviated.
+   */
+  public boolean isAbbreviatedHandshake() {
+    return sslTaskRunner.isAbbreviatedHandshake();
+  }
+
+  /**
+   * Compression of packets isn't applied to encrypted connections.
+   */
+  @Override
+  protected PacketCompression createPacketCompression(NetworkConfig config) {
+    return PacketCompression.DISABLED;
+  }
+
+  /**
+   * Get a duration of the SSL handshake in nanoseconds.
+   *
+   * @return the duration or -1 if the handshake isn't finished yet.
+   */
+  public long getHandshakeTime() {
+    return sslTaskRunner.getHandshakeTime();
+  }
+
+  /**
+   * Get a count of executed delegated tasks of the SSL engine.
+   *
+   * @return the count of executed tasks.
+   */
+  public long getSslTaskCount() {
+    return sslTaskRunner.getTaskCount();
+  }
+
+  /**
+   * Get a total time in nanoseconds of executing delegated tasks of the SSL engine.
+   *
+   * @return the total time of executing tasks.
+   */
+  public long getSslTaskTime() {
+    return sslTaskRunner.getTaskTime();
+  }
+
   @Override
   protected void sendImpl(WritablePacket packet) {
     super.sendImpl(packet);
     getPacketReader().startRead();
   }
+
+  /**
+   * Send a packet of SSL protocol, it's flushed at once regardless of the flush policy to not stall the handshake.
+   *
+   * @param packet the packet.
+   */
+  protected void sendSslPacket(WritablePacket packet) {
+    sendImpl(packet);
+    if (flushPolicy != FlushPolicy.IMMEDIATE) {
+      requestFlush();
+    }
+  }
 }
@@ -0,0 +1,154 @@
+package javasabr.rlib.network.impl;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.net.SocketOption;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousSocketChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.spi.AsynchronousChannelProvider;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The base implementation of {@link AsynchronousSocketChannel} over a {@link SocketChannel}, so the same packet readers
+ * and writers can work with transports which don't use an {@link java.nio.channels.AsynchronousChannelGroup}.
+ *
+ * @author JavaSaBr
+ */
+public abstract class AbstractSocketChannelAdapter extends AsynchronousSocketChannel {
+
+  protected final SocketChannel channel;
+
+  protected AbstractSocketChannelAdapter(SocketChannel channel) {
+    super(AsynchronousChannelProvider.provider());
+    this.channel = channel;
+  }
+
+  @Override
+  public AbstractSocketChannelAdapter bind(@Nullable SocketAddress local) throws IOException {
+    channel.bind(local);
+    return this;
+  }
+
+  @Override
+  public <T> AbstractSocketChannelAdapter setOption(SocketOption<T> name, T value) throws IOException {
+    channel.setOption(name, value);
+    return this;
+  }
+
+  @Override
+  public <T> T getOption(SocketOption<T> name) throws IOException {
+    return channel.getOption(name);
+  }
+
+  @Override
+  public Set<SocketOption<?>> supportedOptions() {
+    return channel.supportedOptions();
+  }
+
+  @Override
+  public AbstractSocketChannelAdapter shutdownInput() throws IOException {
+    channel.shutdownInput();
+    return this;
+  }
+
+  @Override
+  public AbstractSocketChannelAdapter shutdownOutput() throws IOException {
+    channel.shutdownOutput();
+    return this;
+  }
+
+  @Override
+  public @Nullable SocketAddress getRemoteAddress() throws IOException {
+    return channel.getRemoteAddress();
+  }
+
+  @Override
+  public @Nullable SocketAddress getLocalAddress() throws IOException {
+    return channel.getLocalAddress();
+  }
+
+  @Override
+  public Future<Void> connect(SocketAddress remote) {
+    var future = new CompletableFuture<Void>();
+    connect(remote, future, futureHandler());
+    return future;
+  }
+
+  @Override
+  public Future<Integer> read(ByteBuffer dst) {
+    var future = new CompletableFuture<Integer>();
+    read(dst, future, futureHandler());
+    return future;
+  }
+
+  @Override
+  public Future<Integer> write(ByteBuffer src) {
+    var future = new CompletableFuture<Integer>();
+    write(src, future, futureHandler());
+    return future;
+  }
+
+  /**
+   * Transfer a region of the file to this channel without copying it to heap buffers. The completion handler gets
+   * count of transferred bytes which can be less than the requested count.
+   *
+   * @param source the file channel.
+   * @param position the position of the region in the file.
+   * @param count the max count of bytes to transfer.
+   * @param attachment the attachment.
+   * @param handler the completion handler.
+   * @param <A> the attachment's type.
+   * @throws java.nio.channels.WritePendingException if a write operation is already in progress.
+   */
+  public abstract <A> void transferFrom(
+      FileChannel source,
+      long position,
+      long count,
+      @Nullable A attachment,
+      CompletionHandler<Long, ? super A> handler);
+
+  @Override
+  public boolean isOpen() {
+    return channel.isOpen();
+  }
+
+  /**
+   * Mark starting a new operation or throw an exception if the previous operation is still pending.
+   *
+   * @param pending the flag of pending operation.
+   * @param pendingException the factory of the exception.
+   */
+  protected static void startOperation(AtomicBoolean pending, Supplier<RuntimeException> pendingException) {
+    if (!pending.compareAndSet(false, true)) {
+      throw pendingException.get();
+    }
+  }
+
+  protected static <V> CompletionHandler<V, CompletableFuture<V>> futureHandler() {
+    return new CompletionHandler<>() {
+
+      @Override
+      public void completed(V result, CompletableFuture<V> future) {
+        future.complete(result);
+      }
+
+      @Override
+      public void failed(Throwable exc, CompletableFuture<V> future) {
+        future.completeExceptionally(exc);
+      }
+    };
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "{" + channel + "}";
+  }
+}
@@ -42,23 +42,30 @@ public abstract class DefaultDataConnection<R extends ReadablePacket, W extends
         this,
         channel,
         bufferAllocator,
-        this::updateLastActivity,
+        this::updateLastReadActivity,
         this::handleReceivedPacket,
         value -> createReadablePacket(),
         packetLengthHeaderSize,
-        maxPacketsByRead);
+        maxPacketsByRead,
+        network.getConfig().getMaxPacketSize(),
+        compression);
   }
 
   protected PacketWriter createPacketWriter() {
+    var config = network.getConfig();
     return new DefaultPacketWriter<W, Connection<R, W>>(
         this,
         channel,
         bufferAllocator,
-        this::updateLastActivity,
+        this::updateLastWriteActivity,
         this::nextPacketToWrite,
         this::onWrittenPacket,
         this::onSentPacket,
-        packetLengthHeaderSize);
+        this::hasPendingPackets,
+        packetLengthHeaderSize,
+        config.getMaxPacketsByWrite(),
+        config.getMaxBytesByWrite(),
+        compression);
   }
 
   protected abstract R createReadablePacket();
@@ -45,13 +45,15 @@ public abstract class DefaultDataSSLConnection<R extends ReadablePacket, W exten
         this,
         channel,
         bufferAllocator,
-        this::updateLastActivity,
+        this::updateLastReadActivity,
         this::handleReceivedPacket,
         value -> createReadablePacket(),
         sslEngine,
-        this::sendImpl,
+        this::sendSslPacket,
         packetLengthHeaderSize,
-        maxPacketsByRead);
+        maxPacketsByRead,
+        network.getConfig().getMaxPacketSize(),
+        sslTaskRunner);
   }
 
   protected PacketWriter createPacketWriter() {
@@ -59,14 +61,16 @@ public abstract class DefaultDataSSLConnection<R extends ReadablePacket, W exten
         this,
         channel,
         bufferAllocator,
-        this::updateLastActivity,
+        this::updateLastWriteActivity,
         this::nextPacketToWrite,
         this::onWrittenPacket,
         this::onSentPacket,
+        this::hasPendingPackets,
         sslEngine,
-        this::sendImpl,
+        this::sendSslPacket,
         this::queueAtFirst,
-        packetLengthHeaderSize);
+        packetLengthHeaderSize,
+        sslTaskRunner);
   }
 
   protected abstract R createReadablePacket();
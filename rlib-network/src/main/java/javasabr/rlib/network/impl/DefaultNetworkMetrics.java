@@ -0,0 +1,147 @@
+package javasabr.rlib.network.impl;
+
+import java.util.concurrent.atomic.LongAdder;
+import javasabr.rlib.network.NetworkMetrics;
+import javasabr.rlib.network.NetworkMetricsSnapshot;
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The implementation of {@link NetworkMetrics} based on striped counters. Metrics of a connection pass all recorded
+ * values to the parent metrics of its network, latency histograms are usually enabled only for networks to keep
+ * metrics of connections small.
+ *
+ * @author JavaSaBr
+ */
+public class DefaultNetworkMetrics implements NetworkMetrics {
+
+  protected final NetworkMetrics parent;
+
+  protected final LongAdder receivedBytes;
+  protected final LongAdder receivedPackets;
+  protected final LongAdder sentBytes;
+  protected final LongAdder sentPackets;
+  protected final LongAdder failedPackets;
+  protected final LongAdder queuedPackets;
+  protected final LongAdder dequeuedPackets;
+  protected final LongAdder serializationCount;
+  protected final LongAdder serializationTime;
+  protected final LongAdder writeCount;
+  protected final LongAdder writeTime;
+
+  @Getter
+  protected final @Nullable LatencyHistogram serializationTimeHistogram;
+  @Getter
+  protected final @Nullable LatencyHistogram writeTimeHistogram;
+
+  public DefaultNetworkMetrics(boolean latencyHistograms) {
+    this(NetworkMetrics.NULL, latencyHistograms);
+  }
+
+  public DefaultNetworkMetrics(NetworkMetrics parent, boolean latencyHistograms) {
+    this.parent = parent;
+    this.receivedBytes = new LongAdder();
+    this.receivedPackets = new LongAdder();
+    this.sentBytes = new LongAdder();
+    this.sentPackets = new LongAdder();
+    this.failedPackets = new LongAdder();
+    this.queuedPackets = new LongAdder();
+    this.dequeuedPackets = new LongAdder();
+    this.serializationCount = new LongAdder();
+    this.serializationTime = new LongAdder();
+    this.writeCount = new LongAdder();
+    this.writeTime = new LongAdder();
+    this.serializationTimeHistogram = latencyHistograms ? new LatencyHistogram() : null;
+    this.writeTimeHistogram = latencyHistograms ? new LatencyHistogram() : null;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  public void onReceivedBytes(long bytes) {
+    receivedBytes.add(bytes);
+    parent.onReceivedBytes(bytes);
+  }
+
+  @Override
+  public void onReceivedPacket() {
+    receivedPackets.increment();
+    parent.onReceivedPacket();
+  }
+
+  @Override
+  public void onSentBytes(long bytes) {
+    sentBytes.add(bytes);
+    parent.onSentBytes(bytes);
+  }
+
+  @Override
+  public void onSentPacket() {
+    sentPackets.increment();
+    parent.onSentPacket();
+  }
+
+  @Override
+  public void onFailedPacket() {
+    failedPackets.increment();
+    parent.onFailedPacket();
+  }
+
+  @Override
+  public void onQueuedPacket() {
+    queuedPackets.increment();
+    parent.onQueuedPacket();
+  }
+
+  @Override
+  public void onDequeuedPackets(int count) {
+    dequeuedPackets.add(count);
+    parent.onDequeuedPackets(count);
+  }
+
+  @Override
+  public void onSerialization(long time) {
+    serializationCount.increment();
+    serializationTime.add(time);
+    if (serializationTimeHistogram != null) {
+      serializationTimeHistogram.record(time);
+    }
+    parent.onSerialization(time);
+  }
+
+  @Override
+  public void onWrite(long time) {
+    writeCount.increment();
+    writeTime.add(time);
+    if (writeTimeHistogram != null) {
+      writeTimeHistogram.record(time);
+    }
+    parent.onWrite(time);
+  }
+
+  @Override
+  public NetworkMetricsSnapshot snapshot() {
+    return new NetworkMetricsSnapshot(
+        receivedBytes.sum(),
+        receivedPackets.sum(),
+        sentBytes.sum(),
+        sentPackets.sum(),
+        failedPackets.sum(),
+        Math.max(0, queuedPackets.sum() - dequeuedPackets.sum()),
+        serializationCount.sum(),
+        serializationTime.sum(),
+        writeCount.sum(),
+        writeTime.sum(),
+        percentile(serializationTimeHistogram, 50),
+        percentile(serializationTimeHistogram, 99),
+        percentile(writeTimeHistogram, 50),
+        percentile(writeTimeHistogram, 99));
+  }
+
+  private static long percentile(@Nullable LatencyHistogram histogram, double percentile) {
+    return histogram == null ? -1 : histogram.getValueAtPercentile(percentile);
+  }
+}
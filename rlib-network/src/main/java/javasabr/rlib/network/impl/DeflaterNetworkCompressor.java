@@ -0,0 +1,109 @@
+package javasabr.rlib.network.impl;
+
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import javasabr.rlib.logger.api.Logger;
+import javasabr.rlib.logger.api.LoggerManager;
+import javasabr.rlib.network.NetworkCompressor;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The implementation of {@link NetworkCompressor} using one reusable {@link Deflater} and {@link Inflater} per
+ * connection. Each of them is guarded by its own monitor, so closing by another thread doesn't release native
+ * resources in the middle of compressing or decompressing.
+ *
+ * @author JavaSaBr
+ */
+public class DeflaterNetworkCompressor implements NetworkCompressor {
+
+  private static final Logger LOGGER = LoggerManager.getLogger(DeflaterNetworkCompressor.class);
+
+  protected final Deflater deflater;
+  protected final Inflater inflater;
+
+  /**
+   * Guarded by the monitor of {@link #deflater}.
+   */
+  protected boolean deflaterClosed;
+
+  /**
+   * Guarded by the monitor of {@link #inflater}.
+   */
+  protected boolean inflaterClosed;
+
+  public DeflaterNetworkCompressor(int level) {
+    this.deflater = new Deflater(level, true);
+    this.inflater = new Inflater(true);
+  }
+
+  @Override
+  public @Nullable ByteBuffer compress(ByteBuffer data, int length, ByteBuffer toStore) {
+    synchronized (deflater) {
+      return deflaterClosed ? null : compressImpl(data, length, toStore);
+    }
+  }
+
+  protected @Nullable ByteBuffer compressImpl(ByteBuffer data, int length, ByteBuffer toStore) {
+
+    deflater.reset();
+    deflater.setInput(data.slice(data.position(), length));
+    deflater.finish();
+
+    while (!deflater.finished()) {
+      if (!toStore.hasRemaining()) {
+        return null;
+      }
+      deflater.deflate(toStore);
+    }
+
+    data.position(data.position() + length);
+    return toStore;
+  }
+
+  @Override
+  public @Nullable ByteBuffer decompress(ByteBuffer data, int length, ByteBuffer toStore) {
+    synchronized (inflater) {
+      return inflaterClosed ? null : decompressImpl(data, length, toStore);
+    }
+  }
+
+  protected @Nullable ByteBuffer decompressImpl(ByteBuffer data, int length, ByteBuffer toStore) {
+
+    inflater.reset();
+    inflater.setInput(data.slice(data.position(), length));
+
+    try {
+
+      while (!inflater.finished() && toStore.hasRemaining()) {
+        if (inflater.inflate(toStore) == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+          break;
+        }
+      }
+
+    } catch (DataFormatException e) {
+      LOGGER.warning(e);
+      return null;
+    }
+
+    if (!inflater.finished() || toStore.hasRemaining()) {
+      return null;
+    }
+
+    data.position(data.position() + length);
+    return toStore.flip();
+  }
+
+  @Override
+  public void close() {
+    synchronized (deflater) {
+      deflaterClosed = true;
+      deflater.end();
+    }
+    synchronized (inflater) {
+      inflaterClosed = true;
+      inflater.end();
+    }
+  }
+}
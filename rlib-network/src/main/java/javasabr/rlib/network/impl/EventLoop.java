@@ -0,0 +1,184 @@
+package javasabr.rlib.network.impl;
+
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javasabr.rlib.common.concurrent.queue.MpscLinkedQueue;
+import javasabr.rlib.common.util.Utils;
+import javasabr.rlib.logger.api.Logger;
+import javasabr.rlib.logger.api.LoggerManager;
+
+/**
+ * The single thread loop which owns a {@link Selector}. All channels registered in the loop are handled only by its
+ * thread, tasks from other threads are added to the queue of the loop and are executed between selections.
+ *
+ * @author JavaSaBr
+ */
+public class EventLoop implements Executor {
+
+  private static final Logger LOGGER = LoggerManager.getLogger(EventLoop.class);
+
+  /**
+   * The max count of tasks which are executed between two selections.
+   */
+  private static final int MAX_TASKS_BY_ITERATION = 1024;
+
+  /**
+   * The handler of selected keys of a registered channel.
+   */
+  @FunctionalInterface
+  public interface SelectionHandler {
+
+    /**
+     * Handle the selected key, it's called by the loop thread.
+     *
+     * @param key the selected key.
+     */
+    void onSelected(SelectionKey key);
+  }
+
+  private final Selector selector;
+  private final MpscLinkedQueue<Runnable> tasks;
+  private final AtomicBoolean wakenUp;
+  private final Thread thread;
+
+  private volatile boolean running;
+  private volatile boolean terminated;
+
+  public EventLoop(ThreadFactory threadFactory) {
+    this.selector = Utils.uncheckedGet(Selector::open);
+    this.tasks = new MpscLinkedQueue<>();
+    this.wakenUp = new AtomicBoolean(false);
+    this.running = true;
+    this.thread = threadFactory.newThread(this::run);
+    this.thread.start();
+  }
+
+  /**
+   * Check the current thread is the thread of this loop.
+   *
+   * @return true if the current thread is the thread of this loop.
+   */
+  public boolean inEventLoop() {
+    return Thread.currentThread() == thread;
+  }
+
+  /**
+   * Execute the task by the thread of this loop. If the loop is already terminated, the task is executed by the
+   * current thread to not lose it.
+   *
+   * @param task the task.
+   */
+  @Override
+  public void execute(Runnable task) {
+
+    if (terminated) {
+      task.run();
+      return;
+    }
+
+    tasks.offer(task);
+
+    if (!inEventLoop() && wakenUp.compareAndSet(false, true)) {
+      selector.wakeup();
+    }
+  }
+
+  /**
+   * Register the channel in the selector of this loop, it should be called by the loop thread.
+   *
+   * @param channel the channel.
+   * @param interestOps the interest operations.
+   * @param handler the handler of selected keys.
+   * @return the selection key.
+   * @throws ClosedChannelException if the channel is already closed.
+   */
+  public SelectionKey register(
+      SelectableChannel channel,
+      int interestOps,
+      SelectionHandler handler) throws ClosedChannelException {
+    return channel.register(selector, interestOps, handler);
+  }
+
+  private void run() {
+    try {
+      while (running) {
+
+        wakenUp.set(false);
+
+        runTasks();
+
+        if (tasks.isEmpty()) {
+          selector.select();
+        } else {
+          selector.selectNow();
+        }
+
+        processSelectedKeys();
+      }
+    } catch (IOException e) {
+      LOGGER.error(e);
+    } finally {
+      terminated = true;
+      while (!tasks.isEmpty()) {
+        runTasks();
+      }
+      Utils.unchecked(selector, Selector::close);
+    }
+  }
+
+  private void runTasks() {
+    for (int i = 0; i < MAX_TASKS_BY_ITERATION; i++) {
+
+      var task = tasks.poll();
+
+      if (task == null) {
+        return;
+      }
+
+      try {
+        task.run();
+      } catch (Throwable e) {
+        LOGGER.error(e);
+      }
+    }
+  }
+
+  private void processSelectedKeys() {
+
+    var selectedKeys = selector.selectedKeys();
+
+    if (selectedKeys.isEmpty()) {
+      return;
+    }
+
+    for (var iterator = selectedKeys.iterator(); iterator.hasNext(); ) {
+
+      var key = iterator.next();
+      iterator.remove();
+
+      if (!key.isValid()) {
+        continue;
+      }
+
+      try {
+        ((SelectionHandler) key.attachment()).onSelected(key);
+      } catch (Throwable e) {
+        LOGGER.error(e);
+      }
+    }
+  }
+
+  /**
+   * Stop this loop, the rest tasks are executed before closing the selector.
+   */
+  public void shutdown() {
+    running = false;
+    selector.wakeup();
+  }
+}
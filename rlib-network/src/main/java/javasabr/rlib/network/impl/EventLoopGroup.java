@@ -0,0 +1,56 @@
+package javasabr.rlib.network.impl;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The fixed group of {@link EventLoop}s, new channels are assigned to loops in round-robin order.
+ *
+ * @author JavaSaBr
+ */
+public class EventLoopGroup {
+
+  private final EventLoop[] loops;
+  private final AtomicInteger nextIndex;
+
+  public EventLoopGroup(int size, ThreadFactory threadFactory) {
+
+    if (size < 1) {
+      throw new IllegalArgumentException("Count of event loops should be positive");
+    }
+
+    this.loops = new EventLoop[size];
+    this.nextIndex = new AtomicInteger();
+
+    for (int i = 0; i < size; i++) {
+      loops[i] = new EventLoop(threadFactory);
+    }
+  }
+
+  /**
+   * Get the next loop to assign a new channel.
+   *
+   * @return the next loop.
+   */
+  public EventLoop next() {
+    return loops[Math.floorMod(nextIndex.getAndIncrement(), loops.length)];
+  }
+
+  /**
+   * Get the count of loops.
+   *
+   * @return the count of loops.
+   */
+  public int size() {
+    return loops.length;
+  }
+
+  /**
+   * Stop all loops of this group.
+   */
+  public void shutdown() {
+    for (var loop : loops) {
+      loop.shutdown();
+    }
+  }
+}
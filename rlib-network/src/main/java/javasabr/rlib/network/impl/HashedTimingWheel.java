@@ -0,0 +1,155 @@
+package javasabr.rlib.network.impl;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import javasabr.rlib.common.concurrent.GroupThreadFactory;
+import javasabr.rlib.common.concurrent.queue.MpscLinkedQueue;
+import javasabr.rlib.logger.api.Logger;
+import javasabr.rlib.logger.api.LoggerManager;
+
+/**
+ * The timer based on a hashed timing wheel. Scheduling of a task costs O(1) regardless of count of scheduled tasks,
+ * the tasks are executed by one timer thread with the precision of one tick.
+ *
+ * @author JavaSaBr
+ */
+public class HashedTimingWheel {
+
+  private static final Logger LOGGER = LoggerManager.getLogger(HashedTimingWheel.class);
+
+  private static class Timeout {
+
+    private final Runnable task;
+    private final long deadline;
+
+    private long remainingRounds;
+
+    private Timeout(Runnable task, long deadline) {
+      this.task = task;
+      this.deadline = deadline;
+    }
+  }
+
+  /**
+   * The queue of new timeouts, they are added by any threads and are moved to the wheel only by the timer thread.
+   */
+  private final MpscLinkedQueue<Timeout> newTimeouts;
+  private final ArrayDeque<Timeout>[] wheel;
+  private final Thread worker;
+
+  private final long tickDuration;
+  private final long startTime;
+  private final int mask;
+
+  private volatile boolean running;
+
+  private long tick;
+
+  public HashedTimingWheel(String name, long tickDuration, int wheelSize) {
+    var size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+    this.newTimeouts = new MpscLinkedQueue<>();
+    this.wheel = createWheel(size);
+    this.mask = size - 1;
+    this.tickDuration = TimeUnit.MILLISECONDS.toNanos(Math.max(1, tickDuration));
+    this.startTime = System.nanoTime();
+    this.running = true;
+    this.worker = new GroupThreadFactory(name, Thread::new, Thread.NORM_PRIORITY, true).newThread(this::run);
+    this.worker.start();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ArrayDeque<Timeout>[] createWheel(int size) {
+    var wheel = new ArrayDeque[size];
+    for (int i = 0; i < size; i++) {
+      wheel[i] = new ArrayDeque<>();
+    }
+    return wheel;
+  }
+
+  /**
+   * Schedule a task to execute it after the delay by the timer thread.
+   *
+   * @param task the task.
+   * @param delay the delay in milliseconds.
+   */
+  public void schedule(Runnable task, long delay) {
+    var deadline = System.nanoTime() - startTime + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delay));
+    newTimeouts.offer(new Timeout(task, deadline));
+  }
+
+  /**
+   * Stop the timer thread, not executed tasks are dropped.
+   */
+  public void shutdown() {
+    running = false;
+    worker.interrupt();
+  }
+
+  private void run() {
+    while (running) {
+
+      if (!waitForNextTick()) {
+        break;
+      }
+
+      transferNewTimeouts();
+      expireTimeouts(wheel[(int) (tick & mask)]);
+
+      tick++;
+    }
+  }
+
+  private boolean waitForNextTick() {
+
+    var deadline = tickDuration * (tick + 1);
+
+    while (true) {
+
+      var sleepTime = deadline - (System.nanoTime() - startTime);
+
+      if (sleepTime <= 0) {
+        return true;
+      }
+
+      try {
+        TimeUnit.NANOSECONDS.sleep(sleepTime);
+      } catch (InterruptedException e) {
+        if (!running) {
+          return false;
+        }
+      }
+    }
+  }
+
+  private void transferNewTimeouts() {
+
+    Timeout timeout;
+
+    while ((timeout = newTimeouts.poll()) != null) {
+      var expectedTick = timeout.deadline / tickDuration;
+      timeout.remainingRounds = (expectedTick - tick) / wheel.length;
+      // the deadline is already passed, so the timeout should be expired by the current tick
+      var targetTick = Math.max(expectedTick, tick);
+      wheel[(int) (targetTick & mask)].add(timeout);
+    }
+  }
+
+  private void expireTimeouts(ArrayDeque<Timeout> bucket) {
+    for (int i = 0, length = bucket.size(); i < length; i++) {
+
+      var timeout = bucket.poll();
+
+      if (timeout.remainingRounds > 0) {
+        timeout.remainingRounds--;
+        bucket.add(timeout);
+        continue;
+      }
+
+      try {
+        timeout.task.run();
+      } catch (Exception e) {
+        LOGGER.error(e);
+      }
+    }
+  }
+}
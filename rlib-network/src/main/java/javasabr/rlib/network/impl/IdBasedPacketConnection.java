@@ -49,24 +49,33 @@ public class IdBasedPacketConnection<R extends IdBasedReadablePacket<R>, W exten
         this,
         channel,
         bufferAllocator,
-        this::updateLastActivity,
+        this::updateLastReadActivity,
         this::handleReceivedPacket,
         packetLengthHeaderSize,
         maxPacketsByRead,
         packetIdHeaderSize,
-        packetRegistry);
+        packetRegistry,
+        network.getConfig().getMaxPacketSize(),
+        compression,
+        network.getPacketStatistics());
   }
 
   protected PacketWriter createPacketWriter() {
+    var config = network.getConfig();
     return new IdBasedPacketWriter<>(
         this,
         channel,
         bufferAllocator,
-        this::updateLastActivity,
+        this::updateLastWriteActivity,
         this::nextPacketToWrite,
         this::onWrittenPacket,
         this::onSentPacket,
+        this::hasPendingPackets,
         packetLengthHeaderSize,
-        packetIdHeaderSize);
+        packetIdHeaderSize,
+        config.getMaxPacketsByWrite(),
+        config.getMaxBytesByWrite(),
+        compression,
+        network.getPacketStatistics());
   }
 }
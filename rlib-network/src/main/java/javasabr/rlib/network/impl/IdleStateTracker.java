@@ -0,0 +1,166 @@
+package javasabr.rlib.network.impl;
+
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import javasabr.rlib.common.function.NotNullBiConsumer;
+import javasabr.rlib.common.function.NotNullFunction;
+import javasabr.rlib.common.util.array.Array;
+import javasabr.rlib.common.util.array.ArrayFactory;
+import javasabr.rlib.logger.api.Logger;
+import javasabr.rlib.logger.api.LoggerManager;
+import javasabr.rlib.network.Connection;
+import javasabr.rlib.network.IdleState;
+import javasabr.rlib.network.NetworkConfig;
+import javasabr.rlib.network.packet.WritablePacket;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The tracker of idle connections of one network. Every connection has a timeout per enabled idle state in a hashed
+ * timing wheel, updating activity of a connection only stores a timestamp and the timeout checks the timestamp when
+ * it's expired, so there are neither rescheduling on every activity nor periodic sweeps over all connections. The
+ * timer thread only checks timestamps, idle handlers, closing and pings are executed by the I/O executor of the
+ * connection.
+ *
+ * @author JavaSaBr
+ */
+public class IdleStateTracker<C extends Connection<?, ?>> {
+
+  private static final Logger LOGGER = LoggerManager.getLogger(IdleStateTracker.class);
+
+  private static final int WHEEL_SIZE = 512;
+
+  private class IdleCheck implements Runnable {
+
+    private final C connection;
+    private final Executor ioExecutor;
+    private final IdleState state;
+    private final long timeout;
+    private final long trackingTime;
+
+    private IdleCheck(C connection, Executor ioExecutor, IdleState state, long timeout) {
+      this.connection = connection;
+      this.ioExecutor = ioExecutor;
+      this.state = state;
+      this.timeout = timeout;
+      this.trackingTime = System.currentTimeMillis();
+    }
+
+    @Override
+    public void run() {
+
+      if (connection.isClosed()) {
+        return;
+      }
+
+      var lastActivity = Math.max(trackingTime, switch (state) {
+        case READ_IDLE -> connection.getLastReadActivity();
+        case WRITE_IDLE -> connection.getLastWriteActivity();
+        case ALL_IDLE -> connection.getLastActivity();
+      });
+
+      var idleTime = System.currentTimeMillis() - lastActivity;
+
+      if (idleTime < timeout) {
+        timingWheel.schedule(this, timeout - idleTime);
+        return;
+      }
+
+      ioExecutor.execute(() -> handleIdle(connection, state));
+      timingWheel.schedule(this, timeout);
+    }
+  }
+
+  private final HashedTimingWheel timingWheel;
+  private final Array<NotNullBiConsumer<? super C, IdleState>> handlers;
+
+  private final long readIdleTimeout;
+  private final long writeIdleTimeout;
+  private final long allIdleTimeout;
+  private final boolean closeIdleConnections;
+
+  private volatile @Nullable NotNullFunction<? super C, ? extends WritablePacket> pingPacketFactory;
+
+  public IdleStateTracker(NetworkConfig config) {
+    this.timingWheel = new HashedTimingWheel(
+        config.getThreadGroupName() + "IdleTimer",
+        config.getIdleTimeoutTick(),
+        WHEEL_SIZE);
+    this.handlers = ArrayFactory.newCopyOnModifyArray(NotNullBiConsumer.class);
+    this.readIdleTimeout = Math.max(0, config.getReadIdleTimeout());
+    this.writeIdleTimeout = Math.max(0, config.getWriteIdleTimeout());
+    this.allIdleTimeout = Math.max(0, config.getAllIdleTimeout());
+    this.closeIdleConnections = config.isCloseIdleConnections();
+  }
+
+  /**
+   * Check that any idle timeout is enabled in the network config.
+   *
+   * @param config the network config.
+   * @return true if idle connections should be tracked.
+   */
+  public static boolean isEnabled(NetworkConfig config) {
+    return config.getReadIdleTimeout() > 0 || config.getWriteIdleTimeout() > 0 || config.getAllIdleTimeout() > 0;
+  }
+
+  /**
+   * Start tracking idle states of a new connection.
+   *
+   * @param connection the connection.
+   * @param ioExecutor the executor to handle idle states of the connection out of the timer thread.
+   */
+  public void track(C connection, Executor ioExecutor) {
+    if (readIdleTimeout > 0) {
+      timingWheel.schedule(
+          new IdleCheck(connection, ioExecutor, IdleState.READ_IDLE, readIdleTimeout),
+          readIdleTimeout);
+    }
+    if (writeIdleTimeout > 0) {
+      timingWheel.schedule(
+          new IdleCheck(connection, ioExecutor, IdleState.WRITE_IDLE, writeIdleTimeout),
+          writeIdleTimeout);
+    }
+    if (allIdleTimeout > 0) {
+      timingWheel.schedule(
+          new IdleCheck(connection, ioExecutor, IdleState.ALL_IDLE, allIdleTimeout),
+          allIdleTimeout);
+    }
+  }
+
+  public void addHandler(NotNullBiConsumer<? super C, IdleState> handler) {
+    handlers.add(handler);
+  }
+
+  public void setPingPacketFactory(@Nullable NotNullFunction<? super C, ? extends WritablePacket> pingPacketFactory) {
+    this.pingPacketFactory = pingPacketFactory;
+  }
+
+  /**
+   * Stop tracking idle states of all connections.
+   */
+  public void shutdown() {
+    timingWheel.shutdown();
+  }
+
+  @SuppressWarnings("unchecked")
+  protected void handleIdle(C connection, IdleState state) {
+
+    if (connection.isClosed()) {
+      return;
+    }
+
+    LOGGER.debug(connection, state, (conn, st) -> "Connection " + conn.getRemoteAddress() + " is " + st);
+
+    handlers.forEachR(connection, state, BiConsumer::accept);
+
+    if (closeIdleConnections && state != IdleState.WRITE_IDLE) {
+      connection.close();
+      return;
+    }
+
+    var pingPacketFactory = this.pingPacketFactory;
+
+    if (pingPacketFactory != null && state != IdleState.READ_IDLE) {
+      ((Connection<?, WritablePacket>) connection).send(pingPacketFactory.apply(connection));
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package javasabr.rlib.network.impl;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The lock-free histogram of latencies with logarithmic buckets in the style of HDR histograms. Every power of two is
+ * split to 4 linear sub-buckets, so recorded values are stored with a relative error up to 25% using a fixed memory
+ * regardless of the range of values.
+ *
+ * @author JavaSaBr
+ */
+public class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 2;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+  static int indexOf(long value) {
+
+    if (value < SUB_BUCKETS) {
+      return (int) Math.max(0, value);
+    }
+
+    var exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    var subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+  }
+
+  static long lowestValueOf(int index) {
+
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+
+    var exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+    var subBucket = index % SUB_BUCKETS;
+
+    return (long) (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+  }
+
+  private final AtomicLongArray counts;
+
+  public LatencyHistogram() {
+    this.counts = new AtomicLongArray(BUCKET_COUNT);
+  }
+
+  /**
+   * Record a value.
+   *
+   * @param value the value.
+   */
+  public void record(long value) {
+    counts.incrementAndGet(indexOf(value));
+  }
+
+  /**
+   * Get the highest value which is equivalent to the percentile of recorded values.
+   *
+   * @param percentile the percentile from 0 to 100.
+   * @return the value or -1 if nothing was recorded.
+   */
+  public long getValueAtPercentile(double percentile) {
+
+    var total = 0L;
+
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      total += counts.get(i);
+    }
+
+    if (total == 0) {
+      return -1;
+    }
+
+    var target = Math.max(1, (long) Math.ceil(total * Math.min(100, percentile) / 100));
+    var accumulated = 0L;
+
+    for (int i = 0; i < BUCKET_COUNT - 1; i++) {
+      accumulated += counts.get(i);
+      if (accumulated >= target) {
+        return lowestValueOf(i + 1) - 1;
+      }
+    }
+
+    return Long.MAX_VALUE;
+  }
+}
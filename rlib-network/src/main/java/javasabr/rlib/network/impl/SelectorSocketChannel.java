@@ -0,0 +1,422 @@
+package javasabr.rlib.network.impl;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadPendingException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.WritePendingException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javasabr.rlib.logger.api.Logger;
+import javasabr.rlib.logger.api.LoggerManager;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The implementation of {@link java.nio.channels.AsynchronousSocketChannel} over a non-blocking {@link SocketChannel}
+ * which is pinned to one {@link EventLoop}. All operations are executed and all completion handlers are called by the
+ * loop thread, operations started by other threads are passed to the loop. A read operation waits for readiness of the
+ * channel, a write operation is tried at once and waits for readiness only when the socket buffer is full. Timeouts of
+ * operations are not supported.
+ *
+ * @author JavaSaBr
+ */
+public class SelectorSocketChannel extends AbstractSocketChannelAdapter implements EventLoop.SelectionHandler {
+
+  private static final Logger LOGGER = LoggerManager.getLogger(SelectorSocketChannel.class);
+
+  /**
+   * The max depth of operations which are started from completion handlers and are executed without returning to the
+   * loop.
+   */
+  private static final int MAX_NESTED_OPERATIONS = 8;
+
+  private interface IoOperation<V extends Number> {
+
+    V execute(SocketChannel channel) throws IOException;
+  }
+
+  /**
+   * The started read or write operation.
+   */
+  private final class PendingOperation<V extends Number, A> {
+
+    private final IoOperation<V> operation;
+    private final AtomicBoolean pending;
+    private final @Nullable A attachment;
+    private final CompletionHandler<V, ? super A> handler;
+    private final boolean expectsData;
+
+    private @Nullable V result;
+    private @Nullable Throwable error;
+
+    PendingOperation(
+        IoOperation<V> operation,
+        AtomicBoolean pending,
+        @Nullable A attachment,
+        CompletionHandler<V, ? super A> handler,
+        boolean expectsData) {
+      this.operation = operation;
+      this.pending = pending;
+      this.attachment = attachment;
+      this.handler = handler;
+      this.expectsData = expectsData;
+    }
+
+    /**
+     * Try to execute the operation.
+     *
+     * @return true if the operation is done and can be completed.
+     */
+    boolean tryExecute() {
+
+      try {
+        result = operation.execute(channel);
+      } catch (Throwable e) {
+        error = e;
+        return true;
+      }
+
+      return !expectsData || result.longValue() != 0;
+    }
+
+    void fail(Throwable exc) {
+      error = exc;
+      complete();
+    }
+
+    void complete() {
+
+      pending.set(false);
+      nestedOperations++;
+      try {
+        if (error != null) {
+          handler.failed(error, attachment);
+        } else {
+          handler.completed(result, attachment);
+        }
+      } catch (Throwable e) {
+        LOGGER.error(e);
+      } finally {
+        nestedOperations--;
+      }
+    }
+  }
+
+  private record PendingConnect<A>(@Nullable A attachment, CompletionHandler<Void, ? super A> handler) {
+
+    void completed() {
+      handler.completed(null, attachment);
+    }
+
+    void failed(Throwable exc) {
+      handler.failed(exc, attachment);
+    }
+  }
+
+  private final EventLoop eventLoop;
+  private final AtomicBoolean reading;
+  private final AtomicBoolean writing;
+
+  /*
+    The next fields are accessed only by the loop thread.
+   */
+
+  private @Nullable SelectionKey selectionKey;
+  private @Nullable PendingOperation<?, ?> pendingRead;
+  private @Nullable PendingOperation<?, ?> pendingWrite;
+  private @Nullable PendingConnect<?> pendingConnect;
+
+  private int nestedOperations;
+
+  public SelectorSocketChannel(SocketChannel channel, EventLoop eventLoop) throws IOException {
+    super(channel);
+    this.eventLoop = eventLoop;
+    this.reading = new AtomicBoolean(false);
+    this.writing = new AtomicBoolean(false);
+    channel.configureBlocking(false);
+  }
+
+  /**
+   * Check the current thread is the thread of the loop of this channel.
+   *
+   * @return true if the current thread is the thread of the loop.
+   */
+  public boolean inEventLoop() {
+    return eventLoop.inEventLoop();
+  }
+
+  /**
+   * Execute the task by the thread of the loop of this channel.
+   *
+   * @param task the task.
+   */
+  public void execute(Runnable task) {
+    eventLoop.execute(task);
+  }
+
+  @Override
+  public <A> void connect(
+      SocketAddress remote,
+      @Nullable A attachment,
+      CompletionHandler<Void, ? super A> handler) {
+
+    var connect = new PendingConnect<A>(attachment, handler);
+
+    eventLoop.execute(() -> {
+      try {
+        if (channel.connect(remote)) {
+          connect.completed();
+        } else {
+          pendingConnect = connect;
+          addInterest(SelectionKey.OP_CONNECT);
+        }
+      } catch (Throwable e) {
+        pendingConnect = null;
+        connect.failed(e);
+      }
+    });
+  }
+
+  @Override
+  public <A> void read(
+      ByteBuffer dst,
+      long timeout,
+      TimeUnit unit,
+      @Nullable A attachment,
+      CompletionHandler<Integer, ? super A> handler) {
+    startOperation(reading, ReadPendingException::new);
+    startRead(new PendingOperation<>(ch -> ch.read(dst), reading, attachment, handler, dst.hasRemaining()));
+  }
+
+  @Override
+  public <A> void read(
+      ByteBuffer[] dsts,
+      int offset,
+      int length,
+      long timeout,
+      TimeUnit unit,
+      @Nullable A attachment,
+      CompletionHandler<Long, ? super A> handler) {
+    startOperation(reading, ReadPendingException::new);
+    var expectsData = hasRemaining(dsts, offset, length);
+    startRead(new PendingOperation<>(ch -> ch.read(dsts, offset, length), reading, attachment, handler, expectsData));
+  }
+
+  @Override
+  public <A> void write(
+      ByteBuffer src,
+      long timeout,
+      TimeUnit unit,
+      @Nullable A attachment,
+      CompletionHandler<Integer, ? super A> handler) {
+    startOperation(writing, WritePendingException::new);
+    startWrite(new PendingOperation<>(ch -> ch.write(src), writing, attachment, handler, src.hasRemaining()));
+  }
+
+  @Override
+  public <A> void write(
+      ByteBuffer[] srcs,
+      int offset,
+      int length,
+      long timeout,
+      TimeUnit unit,
+      @Nullable A attachment,
+      CompletionHandler<Long, ? super A> handler) {
+    startOperation(writing, WritePendingException::new);
+    var expectsData = hasRemaining(srcs, offset, length);
+    startWrite(new PendingOperation<>(ch -> ch.write(srcs, offset, length), writing, attachment, handler, expectsData));
+  }
+
+  @Override
+  public <A> void transferFrom(
+      FileChannel source,
+      long position,
+      long count,
+      @Nullable A attachment,
+      CompletionHandler<Long, ? super A> handler) {
+    startOperation(writing, WritePendingException::new);
+    startWrite(new PendingOperation<>(ch -> source.transferTo(position, count, ch), writing, attachment, handler,
+        count > 0));
+  }
+
+  private static boolean hasRemaining(ByteBuffer[] buffers, int offset, int length) {
+    for (int i = offset, end = offset + length; i < end; i++) {
+      if (buffers[i].hasRemaining()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void startRead(PendingOperation<?, ?> operation) {
+    runInEventLoop(() -> {
+      if (!operation.expectsData) {
+        operation.tryExecute();
+        operation.complete();
+        return;
+      }
+      pendingRead = operation;
+      try {
+        addInterest(SelectionKey.OP_READ);
+      } catch (Throwable e) {
+        pendingRead = null;
+        operation.fail(e);
+      }
+    });
+  }
+
+  private void startWrite(PendingOperation<?, ?> operation) {
+    runInEventLoop(() -> {
+      if (operation.tryExecute()) {
+        operation.complete();
+        return;
+      }
+      pendingWrite = operation;
+      try {
+        addInterest(SelectionKey.OP_WRITE);
+      } catch (Throwable e) {
+        pendingWrite = null;
+        operation.fail(e);
+      }
+    });
+  }
+
+  /**
+   * Execute the task at once if it's called by the loop thread and the depth of nested operations is small or pass
+   * the task to the loop.
+   */
+  private void runInEventLoop(Runnable task) {
+    if (eventLoop.inEventLoop() && nestedOperations < MAX_NESTED_OPERATIONS) {
+      task.run();
+    } else {
+      eventLoop.execute(task);
+    }
+  }
+
+  private void addInterest(int operation) throws IOException {
+
+    var key = selectionKey;
+
+    if (key == null) {
+      selectionKey = eventLoop.register(channel, operation, this);
+    } else if (!key.isValid()) {
+      throw new AsynchronousCloseException();
+    } else {
+      key.interestOps(key.interestOps() | operation);
+    }
+  }
+
+  private void removeInterest(SelectionKey key, int operation) {
+    if (key.isValid()) {
+      key.interestOps(key.interestOps() & ~operation);
+    }
+  }
+
+  @Override
+  public void onSelected(SelectionKey key) {
+    try {
+
+      var readyOps = key.readyOps();
+
+      if ((readyOps & SelectionKey.OP_CONNECT) != 0) {
+        handleConnectable(key);
+      }
+      if ((readyOps & SelectionKey.OP_WRITE) != 0) {
+        handleWritable(key);
+      }
+      if ((readyOps & SelectionKey.OP_READ) != 0) {
+        handleReadable(key);
+      }
+
+    } catch (CancelledKeyException e) {
+      failPendingOperations();
+    }
+  }
+
+  private void handleConnectable(SelectionKey key) {
+
+    var connect = pendingConnect;
+
+    if (connect == null) {
+      removeInterest(key, SelectionKey.OP_CONNECT);
+      return;
+    }
+
+    try {
+      if (!channel.finishConnect()) {
+        return;
+      }
+    } catch (Throwable e) {
+      pendingConnect = null;
+      removeInterest(key, SelectionKey.OP_CONNECT);
+      connect.failed(e);
+      return;
+    }
+
+    pendingConnect = null;
+    removeInterest(key, SelectionKey.OP_CONNECT);
+    connect.completed();
+  }
+
+  private void handleWritable(SelectionKey key) {
+
+    var operation = pendingWrite;
+
+    if (operation == null) {
+      removeInterest(key, SelectionKey.OP_WRITE);
+    } else if (operation.tryExecute()) {
+      pendingWrite = null;
+      removeInterest(key, SelectionKey.OP_WRITE);
+      operation.complete();
+    }
+  }
+
+  private void handleReadable(SelectionKey key) {
+
+    var operation = pendingRead;
+
+    if (operation == null) {
+      removeInterest(key, SelectionKey.OP_READ);
+    } else if (operation.tryExecute()) {
+      pendingRead = null;
+      removeInterest(key, SelectionKey.OP_READ);
+      operation.complete();
+    }
+  }
+
+  private void failPendingOperations() {
+
+    var connect = pendingConnect;
+    var read = pendingRead;
+    var write = pendingWrite;
+
+    pendingConnect = null;
+    pendingRead = null;
+    pendingWrite = null;
+
+    if (connect != null) {
+      connect.failed(new AsynchronousCloseException());
+    }
+    if (read != null) {
+      read.fail(new AsynchronousCloseException());
+    }
+    if (write != null) {
+      write.fail(new AsynchronousCloseException());
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      channel.close();
+    } finally {
+      eventLoop.execute(this::failPendingOperations);
+    }
+  }
+}
@@ -0,0 +1,355 @@
+package javasabr.rlib.network.impl;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import javasabr.rlib.common.util.pools.Pool;
+import javasabr.rlib.common.util.pools.PoolFactory;
+import javasabr.rlib.logger.api.Logger;
+import javasabr.rlib.logger.api.LoggerManager;
+import javasabr.rlib.network.BufferAllocator;
+import javasabr.rlib.network.NetworkConfig;
+import lombok.ToString;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The byte buffer allocator which keeps temp buffers in power-of-two size classes. Every size class is split to shards
+ * by threads, so taking and storing a buffer is a constant time operation under a lock which is rarely contended. The
+ * total size of stored buffers is limited, buffers over the limit and buffers bigger than the max size class are not
+ * stored. Direct buffers are sliced from bigger memory slabs to reduce count of direct memory allocations.
+ *
+ * @author JavaSaBr
+ */
+@ToString(onlyExplicitlyIncluded = true)
+public class SlabBufferAllocator implements BufferAllocator {
+
+  protected static final Logger LOGGER = LoggerManager.getLogger(SlabBufferAllocator.class);
+
+  public static final int MIN_SIZE_CLASS = 256;
+  public static final int DEFAULT_MAX_SIZE_CLASS = 1 << 20;
+  public static final int DEFAULT_SLAB_SIZE = 1 << 18;
+  public static final long DEFAULT_MAX_RETAINED_BYTES = 64L << 20;
+
+  private static final int SHARDS = Integer.highestOneBit(
+      Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1));
+
+  /**
+   * The bounded stack of free buffers of one size class in one shard.
+   */
+  protected static final class BufferStack {
+
+    private final ByteBuffer[] buffers;
+    private int size;
+
+    BufferStack(int capacity) {
+      this.buffers = new ByteBuffer[capacity];
+    }
+
+    synchronized @Nullable ByteBuffer pop() {
+
+      if (size == 0) {
+        return null;
+      }
+
+      var buffer = buffers[--size];
+      buffers[size] = null;
+
+      return buffer;
+    }
+
+    synchronized boolean push(ByteBuffer buffer) {
+
+      if (size == buffers.length) {
+        return false;
+      }
+
+      buffers[size++] = buffer;
+      return true;
+    }
+  }
+
+  protected final Pool<ByteBuffer> readBufferPool;
+  protected final Pool<ByteBuffer> pendingBufferPool;
+  protected final Pool<ByteBuffer> writeBufferPool;
+
+  /**
+   * The stacks of free buffers by shard and by size class.
+   */
+  protected final BufferStack[][] shards;
+
+  protected final AtomicLong retainedBytes;
+  protected final LongAdder hits;
+  protected final LongAdder misses;
+  protected final LongAdder dropped;
+
+  @ToString.Include
+  protected final NetworkConfig config;
+
+  @ToString.Include
+  protected final int maxSizeClass;
+  @ToString.Include
+  protected final int slabSize;
+  @ToString.Include
+  protected final long maxRetainedBytes;
+
+  public SlabBufferAllocator(NetworkConfig config) {
+    this(config, DEFAULT_MAX_SIZE_CLASS, DEFAULT_SLAB_SIZE, DEFAULT_MAX_RETAINED_BYTES);
+  }
+
+  /**
+   * @param config the network config.
+   * @param maxSizeClass the max size of buffer which can be stored, it's rounded up to a power of two.
+   * @param slabSize the size of direct memory slab to slice small buffers from it.
+   * @param maxRetainedBytes the max total size of stored buffers.
+   */
+  public SlabBufferAllocator(NetworkConfig config, int maxSizeClass, int slabSize, long maxRetainedBytes) {
+
+    if (maxSizeClass < MIN_SIZE_CLASS || maxSizeClass > 1 << 30) {
+      throw new IllegalArgumentException("Max size class should be in range [" + MIN_SIZE_CLASS + ", 2^30]");
+    } else if (slabSize < 0 || maxRetainedBytes < 0) {
+      throw new IllegalArgumentException("Slab size and max retained bytes should not be negative");
+    }
+
+    this.config = config;
+    this.maxSizeClass = sizeClassFor(maxSizeClass);
+    this.slabSize = slabSize;
+    this.maxRetainedBytes = maxRetainedBytes;
+    this.readBufferPool = PoolFactory.newConcurrentStampedLockPool(ByteBuffer.class);
+    this.pendingBufferPool = PoolFactory.newConcurrentStampedLockPool(ByteBuffer.class);
+    this.writeBufferPool = PoolFactory.newConcurrentStampedLockPool(ByteBuffer.class);
+    this.retainedBytes = new AtomicLong();
+    this.hits = new LongAdder();
+    this.misses = new LongAdder();
+    this.dropped = new LongAdder();
+
+    var classes = sizeClassIndex(this.maxSizeClass) + 1;
+
+    this.shards = new BufferStack[SHARDS][classes];
+
+    for (var shard : shards) {
+      for (int i = 0; i < classes; i++) {
+        var classSize = MIN_SIZE_CLASS << i;
+        var shardBudget = maxRetainedBytes / SHARDS / classSize;
+        shard[i] = new BufferStack((int) Math.max(1, Math.min(shardBudget, 1024)));
+      }
+    }
+  }
+
+  /**
+   * Get a size class for the requested buffer size.
+   *
+   * @param bufferSize the buffer size.
+   * @return the power-of-two size which is not less than the buffer size.
+   */
+  protected static int sizeClassFor(int bufferSize) {
+    return bufferSize <= MIN_SIZE_CLASS ? MIN_SIZE_CLASS : Integer.highestOneBit(bufferSize - 1) << 1;
+  }
+
+  /**
+   * Get an index of the size class.
+   *
+   * @param sizeClass the size class.
+   * @return the index.
+   */
+  protected static int sizeClassIndex(int sizeClass) {
+    return Integer.numberOfTrailingZeros(sizeClass) - Integer.numberOfTrailingZeros(MIN_SIZE_CLASS);
+  }
+
+  protected BufferStack[] currentShard() {
+    return shards[(int) Thread.currentThread().threadId() & (SHARDS - 1)];
+  }
+
+  @Override
+  public ByteBuffer takeReadBuffer() {
+    return readBufferPool
+        .take(config, configuredBufferFactory(NetworkConfig::getReadBufferSize))
+        .clear();
+  }
+
+  @Override
+  public ByteBuffer takePendingBuffer() {
+    return pendingBufferPool
+        .take(config, configuredBufferFactory(NetworkConfig::getPendingBufferSize))
+        .clear();
+  }
+
+  @Override
+  public ByteBuffer takeWriteBuffer() {
+    return writeBufferPool
+        .take(config, configuredBufferFactory(NetworkConfig::getWriteBufferSize))
+        .clear();
+  }
+
+  protected Function<NetworkConfig, ByteBuffer> configuredBufferFactory(Function<NetworkConfig, Integer> sizeGetter) {
+    return config -> allocate(sizeGetter.apply(config));
+  }
+
+  @Override
+  public ByteBuffer takeBuffer(int bufferSize) {
+
+    var sizeClass = sizeClassFor(bufferSize);
+
+    if (sizeClass > maxSizeClass || sizeClass < 0) {
+      misses.increment();
+      LOGGER.debug(bufferSize, size -> "Allocate a new not pooled buffer with size: " + size);
+      return allocate(bufferSize);
+    }
+
+    var stack = currentShard()[sizeClassIndex(sizeClass)];
+    var buffer = stack.pop();
+
+    if (buffer != null) {
+      hits.increment();
+      retainedBytes.addAndGet(-sizeClass);
+      return buffer
+          .clear()
+          .order(config.getByteOrder());
+    }
+
+    misses.increment();
+
+    if (config.isDirectByteBuffer() && sizeClass < slabSize) {
+      return allocateFromSlab(stack, sizeClass);
+    }
+
+    LOGGER.debug(sizeClass, size -> "Allocate a new buffer with size: " + size);
+    return allocate(sizeClass);
+  }
+
+  /**
+   * Allocate a new direct memory slab and slice it to buffers of the size class, the rest buffers are stored to the
+   * stack while there is enough budget of retained bytes.
+   *
+   * @param stack the stack of the size class.
+   * @param sizeClass the size class.
+   * @return the first buffer of the new slab.
+   */
+  protected ByteBuffer allocateFromSlab(BufferStack stack, int sizeClass) {
+
+    var available = Math.max(0, maxRetainedBytes - retainedBytes.get());
+    var count = (int) Math.min(slabSize / sizeClass, available / sizeClass + 1);
+
+    LOGGER.debug(sizeClass, count, (size, cnt) -> "Allocate a new slab of " + cnt + " buffers with size: " + size);
+
+    var slab = ByteBuffer.allocateDirect(sizeClass * count);
+
+    for (int i = 1; i < count; i++) {
+
+      if (!tryRetain(sizeClass)) {
+        break;
+      } else if (!stack.push(slab.slice(i * sizeClass, sizeClass))) {
+        retainedBytes.addAndGet(-sizeClass);
+        break;
+      }
+    }
+
+    return slab
+        .slice(0, sizeClass)
+        .order(config.getByteOrder());
+  }
+
+  protected ByteBuffer allocate(int bufferSize) {
+    var buffer = config.isDirectByteBuffer() ? ByteBuffer.allocateDirect(bufferSize) : ByteBuffer.allocate(bufferSize);
+    return buffer.order(config.getByteOrder());
+  }
+
+  /**
+   * Try to reserve the size in the budget of retained bytes.
+   *
+   * @param size the size.
+   * @return true if the size was reserved.
+   */
+  protected boolean tryRetain(int size) {
+
+    while (true) {
+
+      var current = retainedBytes.get();
+
+      if (current + size > maxRetainedBytes) {
+        return false;
+      } else if (retainedBytes.compareAndSet(current, current + size)) {
+        return true;
+      }
+    }
+  }
+
+  @Override
+  public SlabBufferAllocator putReadBuffer(ByteBuffer buffer) {
+    readBufferPool.put(buffer);
+    return this;
+  }
+
+  @Override
+  public SlabBufferAllocator putPendingBuffer(ByteBuffer buffer) {
+    pendingBufferPool.put(buffer);
+    return this;
+  }
+
+  @Override
+  public SlabBufferAllocator putWriteBuffer(ByteBuffer buffer) {
+    writeBufferPool.put(buffer);
+    return this;
+  }
+
+  @Override
+  public SlabBufferAllocator putBuffer(ByteBuffer buffer) {
+
+    var capacity = buffer.capacity();
+
+    if (capacity < MIN_SIZE_CLASS || capacity > maxSizeClass || Integer.bitCount(capacity) != 1
+        || buffer.isDirect() != config.isDirectByteBuffer() || buffer.isReadOnly()) {
+      LOGGER.debug(buffer, buf -> "Skip storing a not pooled buffer: " + buf);
+      dropped.increment();
+      return this;
+    }
+
+    if (!tryRetain(capacity)) {
+      dropped.increment();
+      return this;
+    }
+
+    if (!currentShard()[sizeClassIndex(capacity)].push(buffer.clear())) {
+      retainedBytes.addAndGet(-capacity);
+      dropped.increment();
+    }
+
+    return this;
+  }
+
+  /**
+   * Get the count of taken buffers which were reused.
+   *
+   * @return the count of hits.
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * Get the count of taken buffers which were allocated.
+   *
+   * @return the count of misses.
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * Get the count of returned buffers which were not stored.
+   *
+   * @return the count of dropped buffers.
+   */
+  public long getDropped() {
+    return dropped.sum();
+  }
+
+  /**
+   * Get the total size of stored buffers.
+   *
+   * @return the size in bytes.
+   */
+  public long getRetainedBytes() {
+    return retainedBytes.get();
+  }
+}
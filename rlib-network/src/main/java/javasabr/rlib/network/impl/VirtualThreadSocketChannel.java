@@ -0,0 +1,223 @@
+package javasabr.rlib.network.impl;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadPendingException;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.WritePendingException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javasabr.rlib.logger.api.Logger;
+import javasabr.rlib.logger.api.LoggerManager;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The implementation of {@link java.nio.channels.AsynchronousSocketChannel} over a blocking {@link SocketChannel}. Every channel has own
+ * read loop and write loop executed by virtual threads, so the same packet readers and writers can work without an
+ * {@link java.nio.channels.AsynchronousChannelGroup}. A completion handler is called by the loop thread and the next
+ * operation started from the handler is executed by the same loop without a thread switch. Timeouts of operations are
+ * not supported.
+ *
+ * @author JavaSaBr
+ */
+public class VirtualThreadSocketChannel extends AbstractSocketChannelAdapter {
+
+  private static final Logger LOGGER = LoggerManager.getLogger(VirtualThreadSocketChannel.class);
+
+  private static final ThreadFactory THREAD_FACTORY = Thread
+      .ofVirtual()
+      .name("network-io-", 0)
+      .factory();
+
+  private interface IoOperation<V> {
+
+    V execute(SocketChannel channel) throws IOException;
+  }
+
+  /**
+   * The loop which executes operations one by one on own virtual thread.
+   */
+  private final class IoLoop {
+
+    private final LinkedBlockingQueue<Runnable> operations = new LinkedBlockingQueue<>();
+    private final AtomicBoolean pending = new AtomicBoolean(false);
+
+    private volatile @Nullable Thread thread;
+    private volatile boolean finished;
+
+    <V, A> void submit(IoOperation<V> operation, @Nullable A attachment, CompletionHandler<V, ? super A> handler) {
+
+      operations.add(() -> {
+
+        V result = null;
+        Throwable error = null;
+
+        try {
+          result = operation.execute(channel);
+        } catch (Throwable e) {
+          error = e;
+        }
+
+        pending.set(false);
+
+        try {
+          if (error != null) {
+            handler.failed(error, attachment);
+          } else {
+            handler.completed(result, attachment);
+          }
+        } catch (Throwable e) {
+          LOGGER.error(e);
+        }
+      });
+
+      if (thread == null) {
+        start();
+      } else if (finished) {
+        // the loop is already finished, so the operation should fail on a separated thread
+        drain();
+      }
+    }
+
+    private synchronized void start() {
+      if (thread == null) {
+        thread = THREAD_FACTORY.newThread(this::run);
+        thread.start();
+      }
+    }
+
+    private void run() {
+      try {
+        while (true) {
+          operations
+              .take()
+              .run();
+          if (!isOpen() && operations.isEmpty()) {
+            break;
+          }
+        }
+      } catch (InterruptedException e) {
+        LOGGER.warning(e);
+      } finally {
+        finished = true;
+        drain();
+      }
+    }
+
+    private void drain() {
+      for (var operation = operations.poll(); operation != null; operation = operations.poll()) {
+        THREAD_FACTORY
+            .newThread(operation)
+            .start();
+      }
+    }
+
+    void stop() {
+      if (thread != null) {
+        // wake up the loop to finish it
+        operations.add(() -> {});
+      }
+    }
+  }
+
+  private final IoLoop readLoop;
+  private final IoLoop writeLoop;
+
+  public VirtualThreadSocketChannel(SocketChannel channel) {
+    super(channel);
+    this.readLoop = new IoLoop();
+    this.writeLoop = new IoLoop();
+  }
+
+  @Override
+  public <A> void connect(
+      SocketAddress remote,
+      @Nullable A attachment,
+      CompletionHandler<Void, ? super A> handler) {
+    THREAD_FACTORY
+        .newThread(() -> {
+          try {
+            channel.connect(remote);
+          } catch (Throwable e) {
+            handler.failed(e, attachment);
+            return;
+          }
+          handler.completed(null, attachment);
+        })
+        .start();
+  }
+
+  @Override
+  public <A> void read(
+      ByteBuffer dst,
+      long timeout,
+      TimeUnit unit,
+      @Nullable A attachment,
+      CompletionHandler<Integer, ? super A> handler) {
+    startOperation(readLoop.pending, ReadPendingException::new);
+    readLoop.submit(ch -> ch.read(dst), attachment, handler);
+  }
+
+  @Override
+  public <A> void read(
+      ByteBuffer[] dsts,
+      int offset,
+      int length,
+      long timeout,
+      TimeUnit unit,
+      @Nullable A attachment,
+      CompletionHandler<Long, ? super A> handler) {
+    startOperation(readLoop.pending, ReadPendingException::new);
+    readLoop.submit(ch -> ch.read(dsts, offset, length), attachment, handler);
+  }
+
+  @Override
+  public <A> void write(
+      ByteBuffer src,
+      long timeout,
+      TimeUnit unit,
+      @Nullable A attachment,
+      CompletionHandler<Integer, ? super A> handler) {
+    startOperation(writeLoop.pending, WritePendingException::new);
+    writeLoop.submit(ch -> ch.write(src), attachment, handler);
+  }
+
+  @Override
+  public <A> void write(
+      ByteBuffer[] srcs,
+      int offset,
+      int length,
+      long timeout,
+      TimeUnit unit,
+      @Nullable A attachment,
+      CompletionHandler<Long, ? super A> handler) {
+    startOperation(writeLoop.pending, WritePendingException::new);
+    writeLoop.submit(ch -> ch.write(srcs, offset, length), attachment, handler);
+  }
+
+  @Override
+  public <A> void transferFrom(
+      FileChannel source,
+      long position,
+      long count,
+      @Nullable A attachment,
+      CompletionHandler<Long, ? super A> handler) {
+    startOperation(writeLoop.pending, WritePendingException::new);
+    writeLoop.submit(ch -> source.transferTo(position, count, ch), attachment, handler);
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      channel.close();
+    } finally {
+      readLoop.stop();
+      writeLoop.stop();
+    }
+  }
+}
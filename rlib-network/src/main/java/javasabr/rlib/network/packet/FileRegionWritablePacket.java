@@ -0,0 +1,37 @@
+package javasabr.rlib.network.packet;
+
+import java.nio.channels.FileChannel;
+
+/**
+ * The interface to implement a writable packet which has a region of a file after its serialized data. The packet
+ * writer sends the region directly from the file channel by {@link FileChannel#transferTo(long, long,
+ * java.nio.channels.WritableByteChannel)} when the transport allows it or by a mapped buffer, so content of the file is
+ * not copied to heap buffers. The length of the region is included to the packet length, so the max length of a
+ * packet is limited by the size of the packet length header of the connection. The file channel isn't closed by the
+ * writer. Secured connections don't support such packets.
+ *
+ * @author JavaSaBr
+ */
+public interface FileRegionWritablePacket extends WritablePacket {
+
+  /**
+   * Get the file channel to read the region.
+   *
+   * @return the file channel.
+   */
+  FileChannel getFileChannel();
+
+  /**
+   * Get the position of the region in the file.
+   *
+   * @return the position of the region.
+   */
+  long getRegionPosition();
+
+  /**
+   * Get the length of the region.
+   *
+   * @return the length of the region.
+   */
+  long getRegionLength();
+}
@@ -0,0 +1,34 @@
+package javasabr.rlib.network.packet;
+
+import javasabr.rlib.common.util.pools.Pool;
+import javasabr.rlib.common.util.pools.Reusable;
+
+/**
+ * The interface to implement a reusable readable packet. A packet is taken from a pool before reading and is returned
+ * to the pool by {@link #release()} after handling by all subscribers of the connection, so subscribers should call
+ * {@link #retain()} if they want to use the packet later. Packets delivered by the received packet streams of a
+ * connection are already retained for their subscribers and should be released by them after handling.
+ *
+ * @author JavaSaBr
+ */
+public interface ReusableReadablePacket extends ReadablePacket, Reusable {
+
+  /**
+   * Increase usage count of this packet, so it will not be returned to the pool until the same count of
+   * {@link #release()} calls.
+   */
+  void retain();
+
+  /**
+   * Decrease usage count of this packet and return it to the pool if it's not used anymore.
+   */
+  @Override
+  void release();
+
+  /**
+   * Set the pool.
+   *
+   * @param pool the pool to store used packet.
+   */
+  void setPool(Pool<ReusableReadablePacket> pool);
+}
@@ -0,0 +1,24 @@
+package javasabr.rlib.network.packet;
+
+import java.nio.ByteBuffer;
+import javasabr.rlib.network.Connection;
+
+/**
+ * The interface to implement a readable network packet which can consume its data by parts. When a packet is bigger
+ * than the pending buffer of a connection, received parts of the packet are passed to the packet right from the
+ * read buffer instead of collecting the whole packet in a temp buffer.
+ *
+ * @author JavaSaBr
+ */
+public interface StreamingReadablePacket extends ReadablePacket {
+
+  /**
+   * Read a next part of packet's data from byte buffer. The limit of the buffer is set to the end of the part.
+   *
+   * @param connection the network connection.
+   * @param buffer the buffer with the part of data.
+   * @param remaining the count of data bytes which will be received after this part, 0 means the last part.
+   * @return true if reading was success.
+   */
+  boolean readPart(Connection<?, ?> connection, ByteBuffer buffer, int remaining);
+}
@@ -0,0 +1,22 @@
+package javasabr.rlib.network.packet.impl;
+
+import java.nio.channels.FileChannel;
+import javasabr.rlib.network.packet.FileRegionWritablePacket;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The base implementation of {@link FileRegionWritablePacket}, subclasses write own header data by
+ * {@link #writeImpl(java.nio.ByteBuffer)}.
+ *
+ * @author JavaSaBr
+ */
+@Getter
+@RequiredArgsConstructor
+public abstract class AbstractFileRegionWritablePacket extends AbstractWritablePacket implements
+    FileRegionWritablePacket {
+
+  private final FileChannel fileChannel;
+  private final long regionPosition;
+  private final long regionLength;
+}
@@ -15,8 +15,11 @@ import javasabr.rlib.logger.api.Logger;
 import javasabr.rlib.logger.api.LoggerManager;
 import javasabr.rlib.network.BufferAllocator;
 import javasabr.rlib.network.Connection;
+import javasabr.rlib.network.NetworkMetrics;
 import javasabr.rlib.network.packet.PacketReader;
 import javasabr.rlib.network.packet.ReadablePacket;
+import javasabr.rlib.network.packet.ReusableReadablePacket;
+import javasabr.rlib.network.packet.StreamingReadablePacket;
 import javasabr.rlib.network.util.NetworkUtils;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -56,13 +59,39 @@ public abstract class AbstractPacketReader<R extends ReadablePacket, C extends C
   protected final ByteBuffer pendingBuffer;
 
   protected final Runnable updateActivityFunction;
+  protected final NetworkMetrics metrics;
   protected final Consumer<? super R> readPacketHandler;
 
   @Getter(AccessLevel.PROTECTED)
   @Setter(AccessLevel.PROTECTED)
   protected volatile @Nullable ByteBuffer tempPendingBuffer;
 
+  /**
+   * The packet which is reading its data by parts now.
+   */
+  @Getter(AccessLevel.PROTECTED)
+  @Setter(AccessLevel.PROTECTED)
+  protected volatile @Nullable R streamingPacket;
+
+  /**
+   * The count of data bytes of the streaming packet which are not received yet.
+   */
+  protected volatile int streamingRemaining;
+
+  /**
+   * The buffer to store decompressed data of a packet.
+   */
+  protected volatile @Nullable ByteBuffer decompressBuffer;
+
+  /**
+   * The flag of compression of the last read packet length header.
+   */
+  protected boolean compressedPacket;
+
+  protected final PacketCompression compression;
+
   protected final int maxPacketsByRead;
+  protected final int maxPacketSize;
 
   protected AbstractPacketReader(
       C connection,
@@ -71,7 +100,39 @@ public abstract class AbstractPacketReader<R extends ReadablePacket, C extends C
       Runnable updateActivityFunction,
       NotNullConsumer<? super R> readPacketHandler,
       int maxPacketsByRead) {
+    this(connection, channel, bufferAllocator, updateActivityFunction, readPacketHandler, maxPacketsByRead, 0);
+  }
+
+  protected AbstractPacketReader(
+      C connection,
+      AsynchronousSocketChannel channel,
+      BufferAllocator bufferAllocator,
+      Runnable updateActivityFunction,
+      NotNullConsumer<? super R> readPacketHandler,
+      int maxPacketsByRead,
+      int maxPacketSize) {
+    this(
+        connection,
+        channel,
+        bufferAllocator,
+        updateActivityFunction,
+        readPacketHandler,
+        maxPacketsByRead,
+        maxPacketSize,
+        PacketCompression.DISABLED);
+  }
+
+  protected AbstractPacketReader(
+      C connection,
+      AsynchronousSocketChannel channel,
+      BufferAllocator bufferAllocator,
+      Runnable updateActivityFunction,
+      NotNullConsumer<? super R> readPacketHandler,
+      int maxPacketsByRead,
+      int maxPacketSize,
+      PacketCompression compression) {
     this.connection = connection;
+    this.metrics = connection.getMetrics();
     this.channel = channel;
     this.bufferAllocator = bufferAllocator;
     this.readBuffer = bufferAllocator.takeReadBuffer();
@@ -79,6 +140,8 @@ public abstract class AbstractPacketReader<R extends ReadablePacket, C extends C
     this.updateActivityFunction = updateActivityFunction;
     this.readPacketHandler = readPacketHandler;
     this.maxPacketsByRead = maxPacketsByRead;
+    this.maxPacketSize = maxPacketSize;
+    this.compression = compression;
   }
 
   protected ByteBuffer getBufferToReadFromChannel() {
@@ -120,6 +183,27 @@ public abstract class AbstractPacketReader<R extends ReadablePacket, C extends C
 
     LOGGER.debug(receivedBuffer, buf -> "Start reading packets from received buffer " + buf);
 
+    // the connection can be closed during reading by a too big packet
+    if (connection.isClosed()) {
+      receivedBuffer.clear();
+      return 0;
+    }
+
+    var readPackets = 0;
+
+    // if we have a streaming packet we need to pass received data to the packet at first
+    if (streamingRemaining > 0) {
+
+      if (readStreamingPart(receivedBuffer)) {
+        readPackets++;
+      }
+
+      if (!receivedBuffer.hasRemaining()) {
+        receivedBuffer.clear();
+        return readPackets;
+      }
+    }
+
     var waitedBytes = pendingBuffer.position();
     var bufferToRead = receivedBuffer;
     var tempPendingBuffer = getTempPendingBuffer();
@@ -179,8 +263,8 @@ public abstract class AbstractPacketReader<R extends ReadablePacket, C extends C
 
     var maxPacketsByRead = getMaxPacketsByRead();
 
-    var readPackets = 0;
-    var endPosition = 0;
+    // the received buffer can be already partially read by a streaming packet
+    var endPosition = bufferToRead.position();
 
     while (canStartReadPacket(bufferToRead) && readPackets < maxPacketsByRead) {
 
@@ -189,19 +273,45 @@ public abstract class AbstractPacketReader<R extends ReadablePacket, C extends C
 
       var positionBeforeRead = endPosition;
       var packetLength = readPacketLength(bufferToRead);
-      var dataLength = getDataLength(packetLength, bufferToRead.position() - endPosition, bufferToRead);
+      var compressed = compressedPacket;
+      var readBytes = bufferToRead.position() - positionBeforeRead;
+      var dataLength = getDataLength(packetLength, readBytes, bufferToRead);
 
       LOGGER.debug(
           packetLength,
           positionBeforeRead,
           (length, pos) -> "Find next packet from position: " + pos + " with length: " + length);
 
+      if (maxPacketSize > 0 && packetLength > maxPacketSize) {
+        handleTooBigPacket(packetLength, receivedBuffer, pendingBuffer);
+        return readPackets;
+      }
+
       // calculate position of end the next packet
       endPosition += packetLength;
 
       // if the packet isn't full presented in this buffer
       if (packetLength == -1 || endPosition > bufferToRead.limit()) {
 
+        var availableCapacity = bufferToRead == tempPendingBuffer
+            ? tempPendingBuffer.capacity()
+            : pendingBuffer.capacity();
+
+        // if the packet cannot be collected in the current buffers we can try to stream it
+        if (!compressed &&
+            packetLength > availableCapacity &&
+            tryStartStreaming(bufferToRead, positionBeforeRead, packetLength, dataLength)) {
+
+          if (bufferToRead == pendingBuffer) {
+            pendingBuffer.clear();
+          } else if (bufferToRead == tempPendingBuffer) {
+            freeTempBuffers();
+          }
+
+          receivedBuffer.clear();
+          return readPackets;
+        }
+
         bufferToRead.position(positionBeforeRead);
 
         // if we read the received buffer we need to put
@@ -260,17 +370,54 @@ public abstract class AbstractPacketReader<R extends ReadablePacket, C extends C
         return readPackets;
       }
 
-      R packet = createPacketFor(bufferToRead, positionBeforeRead, packetLength, dataLength);
+      var packetBuffer = bufferToRead;
+
+      if (compressed) {
+
+        if (packetLength < readBytes + PacketCompression.ORIGINAL_LENGTH_SIZE) {
+          LOGGER.warning(packetLength, length -> "Received compressed packet without original length: " + length);
+          bufferToRead.position(endPosition);
+          continue;
+        }
+
+        var originalLength = bufferToRead.getInt();
+
+        if (originalLength < 0) {
+          LOGGER.warning(originalLength, length -> "Received compressed packet with wrong original length: " + length);
+          bufferToRead.position(endPosition);
+          continue;
+        } else if (originalLength > compression.getMaxOriginalLength()
+            || (maxPacketSize > 0 && originalLength > maxPacketSize - readBytes)) {
+          handleTooBigPacket(originalLength + readBytes, receivedBuffer, pendingBuffer);
+          return readPackets;
+        }
+
+        packetBuffer = decompress(bufferToRead, originalLength, endPosition - bufferToRead.position());
+
+        if (packetBuffer == null) {
+          LOGGER.warning(packetLength, length -> "Cannot decompress data of packet with length: " + length);
+          bufferToRead.position(endPosition);
+          continue;
+        }
+
+        dataLength = getDataLength(readBytes + originalLength, readBytes, packetBuffer);
+      }
+
+      R packet = createPacketFor(packetBuffer, positionBeforeRead, packetLength, dataLength);
 
       if (packet != null) {
         LOGGER.debug(packet, pck -> "Created instance of packet to read data: " + pck);
-        readAndHandlePacket(bufferToRead, dataLength, packet);
+        readAndHandlePacket(packetBuffer, dataLength, packet);
         LOGGER.debug(packet, pck -> "Finished reading data of packet: " + pck);
         readPackets++;
       } else {
         LOGGER.warning("Cannot create any instance of packet to read data");
       }
 
+      if (packetBuffer != bufferToRead) {
+        releaseDecompressBuffer();
+      }
+
       bufferToRead.position(endPosition);
     }
 
@@ -299,13 +446,236 @@ public abstract class AbstractPacketReader<R extends ReadablePacket, C extends C
   }
 
   protected void readAndHandlePacket(ByteBuffer bufferToRead, int dataLength, R packet) {
-    if (packet.read(connection, bufferToRead, dataLength)) {
-      readPacketHandler.accept(packet);
+    if (readPacket(bufferToRead, dataLength, packet)) {
+      handleReadPacket(packet);
     } else {
-      LOGGER.error("Packet " + packet + " was read incorrectly");
+      handleIncorrectlyReadPacket(packet);
+    }
+  }
+
+  /**
+   * Read data of the packet which is fully presented in the buffer.
+   *
+   * @param bufferToRead the buffer with packet data.
+   * @param dataLength the length of packet data.
+   * @param packet the packet.
+   * @return true if reading was success.
+   */
+  protected boolean readPacket(ByteBuffer bufferToRead, int dataLength, R packet) {
+    if (packet instanceof StreamingReadablePacket streaming) {
+      return readPart(streaming, bufferToRead, dataLength, 0);
+    } else {
+      return packet.read(connection, bufferToRead, dataLength);
+    }
+  }
+
+  /**
+   * Pass the successfully read packet to the handler.
+   *
+   * @param packet the packet.
+   */
+  protected void handleReadPacket(R packet) {
+    readPacketHandler.accept(packet);
+  }
+
+  protected void handleIncorrectlyReadPacket(R packet) {
+    LOGGER.error("Packet " + packet + " was read incorrectly");
+    if (packet instanceof ReusableReadablePacket reusable) {
+      reusable.release();
+    }
+  }
+
+  /**
+   * Try to start streaming data of the packet which isn't fully presented in the buffer. The buffer's position should
+   * be after the packet length.
+   *
+   * @param buffer the buffer with received data.
+   * @param startPacketPosition the start position of the packet in the buffer.
+   * @param packetLength the length of packet.
+   * @param dataLength length of packet's data.
+   * @return true if the packet is streaming now and all remaining data of the buffer was passed to the packet.
+   */
+  protected boolean tryStartStreaming(ByteBuffer buffer, int startPacketPosition, int packetLength, int dataLength) {
+
+    // all headers of the packet should be received to create the packet
+    var dataPosition = startPacketPosition + packetLength - dataLength;
+
+    if (dataPosition > buffer.limit()) {
+      return false;
+    }
+
+    R packet = createPacketFor(buffer, startPacketPosition, packetLength, dataLength);
+
+    if (!(packet instanceof StreamingReadablePacket)) {
+      if (packet instanceof ReusableReadablePacket reusable) {
+        reusable.release();
+      }
+      return false;
+    }
+
+    LOGGER.debug(
+        packet,
+        dataLength,
+        (pck, length) -> "Start streaming " + length + " bytes of data to packet: " + pck);
+
+    buffer.position(dataPosition);
+
+    setStreamingPacket(packet);
+    streamingRemaining = dataLength;
+
+    readStreamingPart(buffer);
+    return true;
+  }
+
+  /**
+   * Pass the next part of received data to the streaming packet.
+   *
+   * @param buffer the buffer with received data.
+   * @return true if the streaming packet was fully read and handled.
+   */
+  protected boolean readStreamingPart(ByteBuffer buffer) {
+
+    var partLength = Math.min(buffer.remaining(), streamingRemaining);
+    var remaining = streamingRemaining - partLength;
+    var packet = getStreamingPacket();
+
+    streamingRemaining = remaining;
+
+    // the packet was read incorrectly, so we just skip its remaining data
+    if (packet == null) {
+      buffer.position(buffer.position() + partLength);
+      return false;
+    }
+
+    var success = readPart((StreamingReadablePacket) packet, buffer, partLength, remaining);
+
+    if (!success) {
+      setStreamingPacket(null);
+      handleIncorrectlyReadPacket(packet);
+      return false;
+    } else if (remaining > 0) {
+      return false;
+    }
+
+    setStreamingPacket(null);
+
+    LOGGER.debug(packet, pck -> "Finished streaming data of packet: " + pck);
+
+    readPacketHandler.accept(packet);
+    return true;
+  }
+
+  private boolean readPart(StreamingReadablePacket packet, ByteBuffer buffer, int partLength, int remaining) {
+
+    var oldLimit = buffer.limit();
+    var endPosition = buffer.position() + partLength;
+
+    try {
+      buffer.limit(endPosition);
+      return packet.readPart(connection, buffer, remaining);
+    } catch (Exception e) {
+      LOGGER.error(e);
+      return false;
+    } finally {
+      buffer
+          .limit(oldLimit)
+          .position(endPosition);
+    }
+  }
+
+  /**
+   * Read the packet length header and check the flag of compressed packet when compression is enabled.
+   *
+   * @param buffer the buffer with received data.
+   * @param headerSize the size of the packet length header.
+   * @return the packet length.
+   */
+  protected int readPacketLengthHeader(ByteBuffer buffer, int headerSize) {
+
+    var packetLength = readHeader(buffer, headerSize);
+
+    if (!compression.isEnabled()) {
+      compressedPacket = false;
+      return packetLength;
+    }
+
+    var flag = PacketCompression.compressedFlag(headerSize);
+
+    compressedPacket = (packetLength & flag) != 0;
+
+    return packetLength & ~flag;
+  }
+
+  /**
+   * Decompress data of a packet to the decompress buffer.
+   *
+   * @param buffer the buffer with compressed data.
+   * @param originalLength the length of decompressed data.
+   * @param compressedLength the length of compressed data.
+   * @return the buffer with decompressed data or null if the data cannot be decompressed.
+   */
+  protected @Nullable ByteBuffer decompress(ByteBuffer buffer, int originalLength, int compressedLength) {
+
+    if (originalLength <= 0 || compressedLength <= 0) {
+      return null;
+    }
+
+    var targetBuffer = decompressBuffer;
+
+    if (targetBuffer == null || targetBuffer.capacity() < originalLength) {
+      releaseDecompressBuffer(true);
+      targetBuffer = bufferAllocator.takeBuffer(Math.max(originalLength, pendingBuffer.capacity()));
+      decompressBuffer = targetBuffer;
+    }
+
+    targetBuffer
+        .clear()
+        .limit(originalLength);
+
+    return compression
+        .getCompressor()
+        .decompress(buffer, compressedLength, targetBuffer);
+  }
+
+  /**
+   * Release the decompress buffer if it's bigger than the pending buffer to not hold much memory after big packets.
+   */
+  protected void releaseDecompressBuffer() {
+    releaseDecompressBuffer(false);
+  }
+
+  private void releaseDecompressBuffer(boolean force) {
+
+    var targetBuffer = decompressBuffer;
+
+    if (targetBuffer != null && (force || targetBuffer.capacity() > pendingBuffer.capacity())) {
+      decompressBuffer = null;
+      bufferAllocator.putBuffer(targetBuffer);
     }
   }
 
+  /**
+   * Handle a received packet which is bigger than {@link #maxPacketSize}, no data of the packet is allocated.
+   *
+   * @param packetLength the length of the packet.
+   * @param receivedBuffer the buffer with received data.
+   * @param pendingBuffer the buffer with pending data from prev. received buffer.
+   */
+  protected void handleTooBigPacket(int packetLength, ByteBuffer receivedBuffer, ByteBuffer pendingBuffer) {
+
+    LOGGER.warning(
+        connection,
+        packetLength,
+        (cn, length) -> "Received too big packet with length: " + length + " from " + cn.getRemoteAddress()
+            + ", the connection will be closed.");
+
+    receivedBuffer.clear();
+    pendingBuffer.clear();
+    freeTempBuffers();
+
+    connection.close();
+  }
+
   /**
    * Check buffer's data.
    *
@@ -398,6 +768,8 @@ public abstract class AbstractPacketReader<R extends ReadablePacket, C extends C
       return;
     }
 
+    metrics.onReceivedBytes(receivedBytes);
+
     LOGGER.debug(
         receivedBytes,
         channel,
@@ -410,6 +782,15 @@ public abstract class AbstractPacketReader<R extends ReadablePacket, C extends C
       LOGGER.error(e);
     }
 
+    continueReading(readingBuffer);
+  }
+
+  /**
+   * Continue reading new data from the channel after handling received data.
+   *
+   * @param readingBuffer the currently reading buffer.
+   */
+  protected void continueReading(ByteBuffer readingBuffer) {
     if (isReading.compareAndSet(true, false)) {
       startRead();
     }
@@ -475,5 +856,15 @@ public abstract class AbstractPacketReader<R extends ReadablePacket, C extends C
         .putPendingBuffer(pendingBuffer);
 
     freeTempBuffers();
+    releaseDecompressBuffer(true);
+
+    var packet = getStreamingPacket();
+
+    if (packet != null) {
+      setStreamingPacket(null);
+      if (packet instanceof ReusableReadablePacket reusable) {
+        reusable.release();
+      }
+    }
   }
 }
@@ -4,17 +4,25 @@ import static javasabr.rlib.network.util.NetworkUtils.EMPTY_BUFFER;
 import static javasabr.rlib.network.util.NetworkUtils.getRemoteAddress;
 import static javasabr.rlib.network.util.NetworkUtils.hexDump;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousSocketChannel;
 import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileChannel.MapMode;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
 import javasabr.rlib.common.function.NotNullBiConsumer;
 import javasabr.rlib.common.function.NotNullConsumer;
 import javasabr.rlib.common.function.NullableSupplier;
+import javasabr.rlib.common.util.array.Array;
+import javasabr.rlib.common.util.array.ArrayFactory;
 import javasabr.rlib.logger.api.Logger;
 import javasabr.rlib.logger.api.LoggerManager;
 import javasabr.rlib.network.BufferAllocator;
 import javasabr.rlib.network.Connection;
+import javasabr.rlib.network.NetworkMetrics;
+import javasabr.rlib.network.impl.AbstractSocketChannelAdapter;
+import javasabr.rlib.network.packet.FileRegionWritablePacket;
 import javasabr.rlib.network.packet.PacketWriter;
 import javasabr.rlib.network.packet.WritablePacket;
 import javasabr.rlib.network.util.NetworkUtils;
@@ -30,6 +38,32 @@ public abstract class AbstractPacketWriter<W extends WritablePacket, C extends C
 
   private static final Logger LOGGER = LoggerManager.getLogger(AbstractPacketWriter.class);
 
+  /**
+   * The max size of a part of a file region which is mapped to memory at once.
+   */
+  protected static final int MAX_MAPPED_REGION_PART = 8 * 1024 * 1024;
+
+  /**
+   * The state of sending a file region of a packet.
+   */
+  protected static final class RegionTransfer {
+
+    private final WritablePacket packet;
+    private final FileRegionWritablePacket region;
+
+    private long position;
+    private long remaining;
+
+    private @Nullable ByteBuffer mappedPart;
+
+    RegionTransfer(WritablePacket packet, FileRegionWritablePacket region) {
+      this.packet = packet;
+      this.region = region;
+      this.position = region.getRegionPosition();
+      this.remaining = region.getRegionLength();
+    }
+  }
+
   private final CompletionHandler<Integer, WritablePacket> writeHandler = new CompletionHandler<>() {
 
     @Override
@@ -43,6 +77,58 @@ public abstract class AbstractPacketWriter<W extends WritablePacket, C extends C
     }
   };
 
+  private final CompletionHandler<Integer, Array<WritablePacket>> batchWriteHandler = new CompletionHandler<>() {
+
+    @Override
+    public void completed(Integer result, Array<WritablePacket> packets) {
+      handleSuccessfulBatchWriting(result, packets);
+    }
+
+    @Override
+    public void failed(Throwable exc, Array<WritablePacket> packets) {
+      handleFailedBatchWriting(exc, packets);
+    }
+  };
+
+  private final CompletionHandler<Integer, RegionTransfer> regionHeaderWriteHandler = new CompletionHandler<>() {
+
+    @Override
+    public void completed(Integer result, RegionTransfer transfer) {
+      handleWrittenRegionHeader(result, transfer);
+    }
+
+    @Override
+    public void failed(Throwable exc, RegionTransfer transfer) {
+      handleFailedRegionWriting(exc, transfer);
+    }
+  };
+
+  private final CompletionHandler<Long, RegionTransfer> regionTransferHandler = new CompletionHandler<>() {
+
+    @Override
+    public void completed(Long result, RegionTransfer transfer) {
+      handleTransferredRegionPart(result, transfer);
+    }
+
+    @Override
+    public void failed(Throwable exc, RegionTransfer transfer) {
+      handleFailedRegionWriting(exc, transfer);
+    }
+  };
+
+  private final CompletionHandler<Integer, RegionTransfer> mappedRegionWriteHandler = new CompletionHandler<>() {
+
+    @Override
+    public void completed(Integer result, RegionTransfer transfer) {
+      handleTransferredRegionPart(result, transfer);
+    }
+
+    @Override
+    public void failed(Throwable exc, RegionTransfer transfer) {
+      handleFailedRegionWriting(exc, transfer);
+    }
+  };
+
   protected final AtomicBoolean isWriting = new AtomicBoolean();
 
   protected final C connection;
@@ -56,11 +142,47 @@ public abstract class AbstractPacketWriter<W extends WritablePacket, C extends C
 
   protected volatile ByteBuffer writingBuffer = EMPTY_BUFFER;
 
+  /**
+   * The buffer to coalesce several serialized packets to one write operation.
+   */
+  protected volatile @Nullable ByteBuffer batchBuffer;
+
+  /**
+   * The packet which was taken from the queue, but didn't fit to the previous batch.
+   */
+  protected volatile @Nullable WritablePacket deferredPacket;
+
+  /**
+   * The packets which are written by the current batch.
+   */
+  protected final Array<WritablePacket> writingPackets;
+
+  /**
+   * The max count of packets by one write operation, 1 disables batching.
+   */
+  protected final int maxPacketsByWrite;
+
+  /**
+   * The max size of data by one batched write operation.
+   */
+  protected final int maxBytesByWrite;
+
   protected final Runnable updateActivityFunction;
+  protected final NetworkMetrics metrics;
+
+  /**
+   * The time in nanoseconds when the current write operation was started, it's tracked only with enabled metrics.
+   */
+  protected volatile long writeStartTime;
   protected final NullableSupplier<WritablePacket> nextWritePacketSupplier;
   protected final NotNullConsumer<WritablePacket> writtenPacketHandler;
   protected final NotNullBiConsumer<WritablePacket, Boolean> sentPacketHandler;
 
+  /**
+   * The function to check that there are packets which are waiting for writing.
+   */
+  protected final BooleanSupplier pendingPacketsChecker;
+
   public AbstractPacketWriter(
       C connection,
       AsynchronousSocketChannel channel,
@@ -69,15 +191,44 @@ public abstract class AbstractPacketWriter<W extends WritablePacket, C extends C
       NullableSupplier<WritablePacket> packetProvider,
       NotNullConsumer<WritablePacket> writtenPacketHandler,
       NotNullBiConsumer<WritablePacket, Boolean> sentPacketHandler) {
+    this(
+        connection,
+        channel,
+        bufferAllocator,
+        updateActivityFunction,
+        packetProvider,
+        writtenPacketHandler,
+        sentPacketHandler,
+        () -> false,
+        1,
+        0);
+  }
+
+  public AbstractPacketWriter(
+      C connection,
+      AsynchronousSocketChannel channel,
+      BufferAllocator bufferAllocator,
+      Runnable updateActivityFunction,
+      NullableSupplier<WritablePacket> packetProvider,
+      NotNullConsumer<WritablePacket> writtenPacketHandler,
+      NotNullBiConsumer<WritablePacket, Boolean> sentPacketHandler,
+      BooleanSupplier pendingPacketsChecker,
+      int maxPacketsByWrite,
+      int maxBytesByWrite) {
     this.connection = connection;
     this.channel = channel;
     this.bufferAllocator = bufferAllocator;
     this.firstWriteBuffer = bufferAllocator.takeWriteBuffer();
     this.secondWriteBuffer = bufferAllocator.takeWriteBuffer();
     this.updateActivityFunction = updateActivityFunction;
+    this.metrics = connection.getMetrics();
     this.nextWritePacketSupplier = packetProvider;
     this.writtenPacketHandler = writtenPacketHandler;
     this.sentPacketHandler = sentPacketHandler;
+    this.pendingPacketsChecker = pendingPacketsChecker;
+    this.maxPacketsByWrite = Math.max(1, maxPacketsByWrite);
+    this.maxBytesByWrite = Math.max(maxBytesByWrite, firstWriteBuffer.capacity());
+    this.writingPackets = ArrayFactory.newArray(WritablePacket.class);
   }
 
   @Override
@@ -87,31 +238,411 @@ public abstract class AbstractPacketWriter<W extends WritablePacket, C extends C
       return;
     }
 
-    var waitPacket = nextWritePacketSupplier.get();
+    var waitPacket = takeNextPacket();
 
     if (waitPacket == null) {
+      finishWriting();
+      return;
+    }
+
+    var region = fileRegionOf(waitPacket);
+
+    if (region != null) {
+      writeFileRegion(waitPacket, region);
+      return;
+    }
+
+    var resultBuffer = measureSerialize(waitPacket);
+
+    if (resultBuffer.limit() == 0) {
       isWriting.set(false);
+      writtenPacketHandler.accept(waitPacket);
+      finishWriting();
       return;
     }
 
-    var resultBuffer = serialize(waitPacket);
+    // packets which need temp buffers are too big to be coalesced with other packets
+    var batch = maxPacketsByWrite > 1 && firstWriteTempBuffer == null ? collectBatch(waitPacket, resultBuffer) : null;
 
-    if (resultBuffer.limit() != 0) {
-      writingBuffer = resultBuffer;
+    if (batch != null) {
+      writingBuffer = batch;
 
       LOGGER.debug(
           channel,
-          resultBuffer,
-          (ch, buf) -> "Write to channel \"" + getRemoteAddress(ch) + "\" data:\n" + hexDump(buf));
+          writingPackets,
+          (ch, packets) -> "Write batch of " + packets.size() + " packets to channel \"" + getRemoteAddress(ch)
+              + "\"");
 
-      channel.write(resultBuffer, waitPacket, writeHandler);
-    } else {
-      isWriting.set(false);
+      startWriteTimer();
+      channel.write(batch, writingPackets, batchWriteHandler);
+      return;
     }
 
+    writingBuffer = resultBuffer;
+
+    LOGGER.debug(
+        channel,
+        resultBuffer,
+        (ch, buf) -> "Write to channel \"" + getRemoteAddress(ch) + "\" data:\n" + hexDump(buf));
+
+    startWriteTimer();
+    channel.write(resultBuffer, waitPacket, writeHandler);
+
     writtenPacketHandler.accept(waitPacket);
   }
 
+  /**
+   * Serialize the packet and register time of serialization in the metrics.
+   *
+   * @param packet the packet.
+   * @return the buffer with serialized data.
+   */
+  protected ByteBuffer measureSerialize(WritablePacket packet) {
+
+    if (!metrics.isEnabled()) {
+      return serialize(packet);
+    }
+
+    var startTime = System.nanoTime();
+    try {
+      return serialize(packet);
+    } finally {
+      metrics.onSerialization(System.nanoTime() - startTime);
+    }
+  }
+
+  protected void startWriteTimer() {
+    if (metrics.isEnabled()) {
+      writeStartTime = System.nanoTime();
+    }
+  }
+
+  /**
+   * Register the finished write operation in the metrics.
+   */
+  protected void stopWriteTimer() {
+    if (metrics.isEnabled()) {
+      metrics.onWrite(System.nanoTime() - writeStartTime);
+    }
+  }
+
+  /**
+   * Reset the writing flag and start writing again if a new packet was added while the flag was still set, because
+   * the sender of the packet couldn't start writing by itself.
+   */
+  protected void finishWriting() {
+    isWriting.set(false);
+    if (pendingPacketsChecker.getAsBoolean()) {
+      writeNextPacket();
+    }
+  }
+
+  protected @Nullable FileRegionWritablePacket fileRegionOf(WritablePacket packet) {
+
+    if (packet instanceof WritablePacketWrapper) {
+      packet = ((WritablePacketWrapper<?, ?>) packet).getPacket();
+    }
+
+    return packet instanceof FileRegionWritablePacket region ? region : null;
+  }
+
+  /**
+   * Check that this writer can send file regions of packets directly from files.
+   *
+   * @return true if file regions are supported.
+   */
+  protected boolean supportsFileRegions() {
+    return true;
+  }
+
+  /**
+   * Get a max length of a packet which can be written to the packet length header.
+   *
+   * @return the max packet length.
+   */
+  protected long getMaxPacketLength() {
+    return Integer.MAX_VALUE;
+  }
+
+  /**
+   * Write serialized data of the packet and then transfer its file region to the channel.
+   *
+   * @param packet the packet.
+   * @param region the packet with a file region.
+   */
+  protected void writeFileRegion(WritablePacket packet, FileRegionWritablePacket region) {
+
+    if (!supportsFileRegions()) {
+      LOGGER.warning(packet, pck -> "File regions are not supported by the connection, skip the packet: " + pck);
+      rejectFileRegion(packet);
+      return;
+    } else if (!isValidFileRegion(region)) {
+      LOGGER.warning(packet, pck -> "The packet has invalid file region: " + pck);
+      rejectFileRegion(packet);
+      return;
+    }
+
+    var header = measureSerialize(packet);
+
+    if (header.limit() == 0) {
+      isWriting.set(false);
+      writtenPacketHandler.accept(packet);
+      finishWriting();
+      return;
+    } else if (header.limit() + region.getRegionLength() > getMaxPacketLength()) {
+      LOGGER.warning(packet, pck -> "The packet with file region is too long: " + pck);
+      clearTempBuffers();
+      rejectFileRegion(packet);
+      return;
+    }
+
+    writingBuffer = header;
+
+    LOGGER.debug(
+        channel,
+        region,
+        (ch, reg) -> "Write packet with file region of " + reg.getRegionLength() + " bytes to channel \""
+            + getRemoteAddress(ch) + "\"");
+
+    startWriteTimer();
+    channel.write(header, new RegionTransfer(packet, region), regionHeaderWriteHandler);
+
+    writtenPacketHandler.accept(packet);
+  }
+
+  protected boolean isValidFileRegion(FileRegionWritablePacket region) {
+
+    var position = region.getRegionPosition();
+    var length = region.getRegionLength();
+
+    if (position < 0 || length < 0) {
+      return false;
+    }
+
+    try {
+      return position + length <= region
+          .getFileChannel()
+          .size();
+    } catch (IOException e) {
+      LOGGER.warning(e);
+      return false;
+    }
+  }
+
+  protected void rejectFileRegion(WritablePacket packet) {
+    writtenPacketHandler.accept(packet);
+    sentPacketHandler.accept(packet, Boolean.FALSE);
+    finishWriting();
+  }
+
+  /**
+   * Transfer the next part of the file region, a socket channel adapter transfers data directly from the file, other
+   * channels write mapped parts of the file.
+   *
+   * @param transfer the state of the transfer.
+   */
+  protected void transferNextRegionPart(RegionTransfer transfer) {
+
+    if (transfer.remaining == 0) {
+      completeFileRegion(transfer);
+      return;
+    }
+
+    var fileChannel = transfer.region.getFileChannel();
+
+    if (channel instanceof AbstractSocketChannelAdapter adapter) {
+      adapter.transferFrom(fileChannel, transfer.position, transfer.remaining, transfer, regionTransferHandler);
+      return;
+    }
+
+    var mappedPart = transfer.mappedPart;
+
+    if (mappedPart == null || !mappedPart.hasRemaining()) {
+      try {
+        mappedPart = fileChannel.map(
+            MapMode.READ_ONLY,
+            transfer.position,
+            Math.min(transfer.remaining, MAX_MAPPED_REGION_PART));
+      } catch (IOException e) {
+        handleFailedRegionWriting(e, transfer);
+        return;
+      }
+      transfer.mappedPart = mappedPart;
+    }
+
+    channel.write(mappedPart, transfer, mappedRegionWriteHandler);
+  }
+
+  protected void handleWrittenRegionHeader(Integer result, RegionTransfer transfer) {
+    updateActivityFunction.run();
+
+    if (result == -1) {
+      sentPacketHandler.accept(transfer.packet, Boolean.FALSE);
+      connection.close();
+      return;
+    }
+
+    metrics.onSentBytes(result);
+
+    var writingBuffer = this.writingBuffer;
+
+    if (writingBuffer.remaining() > 0) {
+      channel.write(writingBuffer, transfer, regionHeaderWriteHandler);
+      return;
+    }
+
+    transferNextRegionPart(transfer);
+  }
+
+  protected void handleTransferredRegionPart(Number result, RegionTransfer transfer) {
+    updateActivityFunction.run();
+
+    var transferred = result.longValue();
+
+    if (transferred < 0) {
+      sentPacketHandler.accept(transfer.packet, Boolean.FALSE);
+      connection.close();
+      return;
+    }
+
+    metrics.onSentBytes(transferred);
+
+    transfer.position += transferred;
+    transfer.remaining -= transferred;
+
+    transferNextRegionPart(transfer);
+  }
+
+  protected void completeFileRegion(RegionTransfer transfer) {
+
+    LOGGER.debug(transfer.region, region -> "Done writing file region of " + region.getRegionLength() + " bytes");
+
+    transfer.mappedPart = null;
+
+    stopWriteTimer();
+    sentPacketHandler.accept(transfer.packet, Boolean.TRUE);
+
+    if (isWriting.compareAndSet(true, false)) {
+
+      if (firstWriteTempBuffer != null) {
+        clearTempBuffers();
+      }
+
+      writeNextPacket();
+    }
+  }
+
+  protected void handleFailedRegionWriting(Throwable exception, RegionTransfer transfer) {
+    LOGGER.error(new RuntimeException("Failed writing file region of packet: " + transfer.packet, exception));
+
+    transfer.mappedPart = null;
+
+    sentPacketHandler.accept(transfer.packet, Boolean.FALSE);
+
+    if (!connection.isClosed()) {
+      if (isWriting.compareAndSet(true, false)) {
+        writeNextPacket();
+      }
+    }
+  }
+
+  /**
+   * Take a deferred packet or a next packet from the queue.
+   *
+   * @return the next packet to write or null.
+   */
+  protected @Nullable WritablePacket takeNextPacket() {
+
+    var packet = deferredPacket;
+
+    if (packet != null) {
+      deferredPacket = null;
+      return packet;
+    }
+
+    return nextWritePacketSupplier.get();
+  }
+
+  /**
+   * Try to coalesce the already serialized packet with next pending packets to the batch buffer.
+   *
+   * @param first the already serialized packet.
+   * @param firstBuffer the serialized data of the packet.
+   * @return the batch buffer or null if there are no other pending packets.
+   */
+  protected @Nullable ByteBuffer collectBatch(WritablePacket first, ByteBuffer firstBuffer) {
+
+    var next = nextWritePacketSupplier.get();
+
+    if (next == null) {
+      return null;
+    }
+
+    var batch = batchBuffer;
+
+    if (batch == null) {
+      batch = bufferAllocator.takeBuffer(maxBytesByWrite);
+      batchBuffer = batch;
+    }
+
+    batch
+        .clear()
+        .put(firstBuffer);
+
+    writingPackets.add(first);
+    writtenPacketHandler.accept(first);
+
+    while (next != null) {
+
+      if (!canAppendToBatch(next, batch)) {
+        deferredPacket = next;
+        break;
+      }
+
+      var resultBuffer = measureSerialize(next);
+
+      if (resultBuffer.limit() != 0) {
+        batch.put(resultBuffer);
+        writingPackets.add(next);
+      }
+
+      writtenPacketHandler.accept(next);
+
+      if (writingPackets.size() >= maxPacketsByWrite) {
+        break;
+      }
+
+      next = nextWritePacketSupplier.get();
+    }
+
+    return batch.flip();
+  }
+
+  /**
+   * Check that serialized data of the packet is guaranteed to fit to the rest of the batch buffer.
+   *
+   * @param packet the packet.
+   * @param batch the batch buffer.
+   * @return true if the packet can be appended to the batch.
+   */
+  protected boolean canAppendToBatch(WritablePacket packet, ByteBuffer batch) {
+
+    if (packet instanceof WritablePacketWrapper) {
+      packet = ((WritablePacketWrapper<?, ?>) packet).getPacket();
+    }
+
+    // file regions are sent by separated operations
+    if (packet instanceof FileRegionWritablePacket) {
+      return false;
+    }
+
+    var expectedLength = packet.getExpectedLength();
+    var maxSize = firstWriteBuffer.capacity();
+    var required = expectedLength == -1 ? maxSize : getTotalSize(packet, expectedLength);
+
+    return required <= maxSize && required <= batch.remaining();
+  }
+
   protected ByteBuffer serialize(WritablePacket packet) {
 
     if (packet instanceof WritablePacketWrapper) {
@@ -316,6 +847,8 @@ public abstract class AbstractPacketWriter<W extends WritablePacket, C extends C
       return;
     }
 
+    metrics.onSentBytes(result);
+
     var writingBuffer = this.writingBuffer;
 
     if (writingBuffer.remaining() > 0) {
@@ -330,6 +863,7 @@ public abstract class AbstractPacketWriter<W extends WritablePacket, C extends C
       LOGGER.debug(result, bytes -> "Done writing " + bytes + " bytes");
     }
 
+    stopWriteTimer();
     sentPacketHandler.accept(packet, Boolean.TRUE);
 
     if (isWriting.compareAndSet(true, false)) {
@@ -352,6 +886,8 @@ public abstract class AbstractPacketWriter<W extends WritablePacket, C extends C
   protected void handleFailedWriting(Throwable exception, WritablePacket packet) {
     LOGGER.error(new RuntimeException("Failed writing packet: " + packet, exception));
 
+    sentPacketHandler.accept(packet, Boolean.FALSE);
+
     if (!connection.isClosed()) {
       if (isWriting.compareAndSet(true, false)) {
         writeNextPacket();
@@ -359,6 +895,72 @@ public abstract class AbstractPacketWriter<W extends WritablePacket, C extends C
     }
   }
 
+  /**
+   * Handle successful wrote data of the batch of packets.
+   *
+   * @param result the count of wrote bytes.
+   * @param packets the sent packets.
+   */
+  protected void handleSuccessfulBatchWriting(Integer result, Array<WritablePacket> packets) {
+    updateActivityFunction.run();
+
+    if (result == -1) {
+      completeBatch(packets, Boolean.FALSE);
+      connection.close();
+      return;
+    }
+
+    metrics.onSentBytes(result);
+
+    var writingBuffer = this.writingBuffer;
+
+    if (writingBuffer.remaining() > 0) {
+      LOGGER.debug(
+          writingBuffer,
+          channel,
+          (buf, ch) -> "Batch was not consumed fully, try to write else " + buf.remaining() + " bytes to channel "
+              + NetworkUtils.getRemoteAddress(ch));
+      channel.write(writingBuffer, packets, batchWriteHandler);
+      return;
+    }
+
+    LOGGER.debug(result, bytes -> "Done writing batch of " + bytes + " bytes");
+
+    stopWriteTimer();
+    completeBatch(packets, Boolean.TRUE);
+
+    if (isWriting.compareAndSet(true, false)) {
+      writeNextPacket();
+    }
+  }
+
+  /**
+   * Handle the exception during writing the batch of packets.
+   *
+   * @param exception the exception.
+   * @param packets the packets.
+   */
+  protected void handleFailedBatchWriting(Throwable exception, Array<WritablePacket> packets) {
+    LOGGER.error(new RuntimeException("Failed writing batch of " + packets.size() + " packets", exception));
+
+    completeBatch(packets, Boolean.FALSE);
+
+    if (!connection.isClosed()) {
+      if (isWriting.compareAndSet(true, false)) {
+        writeNextPacket();
+      }
+    }
+  }
+
+  protected void completeBatch(Array<WritablePacket> packets, Boolean result) {
+
+    for (var packet : packets) {
+      sentPacketHandler.accept(packet, result);
+    }
+
+    packets.clear();
+  }
+
   @Override
   public void close() {
 
@@ -368,6 +970,20 @@ public abstract class AbstractPacketWriter<W extends WritablePacket, C extends C
 
     clearTempBuffers();
 
+    var batchBuffer = this.batchBuffer;
+
+    if (batchBuffer != null) {
+      this.batchBuffer = null;
+      bufferAllocator.putBuffer(batchBuffer);
+    }
+
+    var deferredPacket = this.deferredPacket;
+
+    if (deferredPacket != null) {
+      this.deferredPacket = null;
+      sentPacketHandler.accept(deferredPacket, Boolean.FALSE);
+    }
+
     writingBuffer = EMPTY_BUFFER;
   }
 
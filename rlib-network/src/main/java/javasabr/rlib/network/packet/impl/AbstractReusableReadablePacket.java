@@ -0,0 +1,68 @@
+package javasabr.rlib.network.packet.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import javasabr.rlib.common.util.pools.Pool;
+import javasabr.rlib.logger.api.Logger;
+import javasabr.rlib.logger.api.LoggerManager;
+import javasabr.rlib.network.Connection;
+import javasabr.rlib.network.packet.ReusableReadablePacket;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The reusable implementation of {@link AbstractIdBasedReadablePacket} using the counter to control the life cycle of
+ * this packet. Implementations should reset read data in {@link #free()}.
+ *
+ * @author JavaSaBr
+ */
+public abstract class AbstractReusableReadablePacket<C extends Connection<?, ?>,
+    S extends AbstractReusableReadablePacket<C, S>> extends AbstractIdBasedReadablePacket<C, S> implements
+    ReusableReadablePacket {
+
+  private static final Logger LOGGER = LoggerManager.getLogger(AbstractReusableReadablePacket.class);
+
+  protected final AtomicInteger counter;
+
+  /**
+   * The pool to store this packet after using.
+   */
+  protected volatile @Nullable Pool<ReusableReadablePacket> pool;
+
+  public AbstractReusableReadablePacket() {
+    this.counter = new AtomicInteger();
+  }
+
+  @Override
+  public void retain() {
+    counter.incrementAndGet();
+  }
+
+  @Override
+  public void release() {
+
+    var count = counter.decrementAndGet();
+
+    if (count > 0) {
+      return;
+    } else if (count < 0) {
+      LOGGER.warning(this, packet -> "Attempt to release already released packet " + packet);
+      counter.set(0);
+      return;
+    }
+
+    var local = pool;
+
+    if (local != null) {
+      local.put(this);
+    }
+  }
+
+  @Override
+  public final void setPool(Pool<ReusableReadablePacket> pool) {
+    this.pool = pool;
+  }
+
+  @Override
+  public String toString() {
+    return "AbstractReusableReadablePacket{" + "counter=" + counter + "} " + super.toString();
+  }
+}
@@ -36,9 +36,16 @@ public abstract class AbstractSSLPacketReader<R extends ReadablePacket, C extend
   protected final SSLEngine sslEngine;
   protected final NotNullConsumer<WritablePacket> packetWriter;
 
+  protected final SSLDelegatedTaskRunner taskRunner;
+
   protected volatile ByteBuffer sslNetworkBuffer;
   protected volatile ByteBuffer sslDataBuffer;
 
+  /**
+   * The flag that the handshake is waiting for finishing of delegated tasks by the executor.
+   */
+  protected volatile boolean waitingForTasks;
+
   protected AbstractSSLPacketReader(
       C connection,
       AsynchronousSocketChannel channel,
@@ -48,8 +55,62 @@ public abstract class AbstractSSLPacketReader<R extends ReadablePacket, C extend
       SSLEngine sslEngine,
       NotNullConsumer<WritablePacket> packetWriter,
       int maxPacketsByRead) {
-    super(connection, channel, bufferAllocator, updateActivityFunction, readPacketHandler, maxPacketsByRead);
+    this(
+        connection,
+        channel,
+        bufferAllocator,
+        updateActivityFunction,
+        readPacketHandler,
+        sslEngine,
+        packetWriter,
+        maxPacketsByRead,
+        0);
+  }
+
+  protected AbstractSSLPacketReader(
+      C connection,
+      AsynchronousSocketChannel channel,
+      BufferAllocator bufferAllocator,
+      Runnable updateActivityFunction,
+      NotNullConsumer<? super R> readPacketHandler,
+      SSLEngine sslEngine,
+      NotNullConsumer<WritablePacket> packetWriter,
+      int maxPacketsByRead,
+      int maxPacketSize) {
+    this(
+        connection,
+        channel,
+        bufferAllocator,
+        updateActivityFunction,
+        readPacketHandler,
+        sslEngine,
+        packetWriter,
+        maxPacketsByRead,
+        maxPacketSize,
+        new SSLDelegatedTaskRunner(sslEngine, null));
+  }
+
+  protected AbstractSSLPacketReader(
+      C connection,
+      AsynchronousSocketChannel channel,
+      BufferAllocator bufferAllocator,
+      Runnable updateActivityFunction,
+      NotNullConsumer<? super R> readPacketHandler,
+      SSLEngine sslEngine,
+      NotNullConsumer<WritablePacket> packetWriter,
+      int maxPacketsByRead,
+      int maxPacketSize,
+      SSLDelegatedTaskRunner taskRunner) {
+    super(
+        connection,
+        channel,
+        bufferAllocator,
+        updateActivityFunction,
+        readPacketHandler,
+        maxPacketsByRead,
+        maxPacketSize);
     this.sslEngine = sslEngine;
+    this.taskRunner = taskRunner;
     this.sslDataBuffer = bufferAllocator.takeBuffer(sslEngine
         .getSession()
         .getApplicationBufferSize());
@@ -75,6 +136,32 @@ public abstract class AbstractSSLPacketReader<R extends ReadablePacket, C extend
     super.handleReceivedData(receivedBytes, readingBuffer);
   }
 
+  @Override
+  protected void continueReading(ByteBuffer readingBuffer) {
+    if (waitingForTasks) {
+      waitingForTasks = false;
+      taskRunner.runTasksAsync(() -> resumeHandshake(readingBuffer));
+    } else {
+      super.continueReading(readingBuffer);
+    }
+  }
+
+  /**
+   * Continue the handshake with not processed received data after finishing delegated tasks.
+   *
+   * @param readingBuffer the currently reading buffer.
+   */
+  protected void resumeHandshake(ByteBuffer readingBuffer) {
+
+    try {
+      readPackets(readingBuffer);
+    } catch (Exception e) {
+      LOGGER.error(e);
+    }
+
+    continueReading(readingBuffer);
+  }
+
   @Override
   protected int readPackets(ByteBuffer receivedBuffer) {
 
@@ -164,13 +251,14 @@ public abstract class AbstractSSLPacketReader<R extends ReadablePacket, C extend
           return SKIP_READ_PACKETS;
         case NEED_TASK:
 
-          Runnable task;
-
-          while ((task = sslEngine.getDelegatedTask()) != null) {
-            LOGGER.debug(task, t -> "Execute SSL Engine's task: " + t.getClass());
-            task.run();
+          // the handshake will be continued after finishing the tasks by the executor
+          if (taskRunner.isOffloaded() && receivedBytes != -1) {
+            waitingForTasks = true;
+            return SKIP_READ_PACKETS;
           }
 
+          taskRunner.runTasks();
+
           handshakeStatus = sslEngine.getHandshakeStatus();
 
           LOGGER.debug(handshakeStatus, status -> "Handshake status: " + status + " after engine tasks");
@@ -186,6 +274,10 @@ public abstract class AbstractSSLPacketReader<R extends ReadablePacket, C extend
       }
     }
 
+    if (handshakeStatus == HandshakeStatus.FINISHED) {
+      taskRunner.onHandshakeFinished();
+    }
+
     if (!receivedBuffer.hasRemaining()) {
 
       // if buffer is empty and status is FINISHED then we can notify writer
@@ -6,6 +6,8 @@ import static javasabr.rlib.network.util.NetworkUtils.hexDump;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousSocketChannel;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
 import javasabr.rlib.common.function.NotNullBiConsumer;
 import javasabr.rlib.common.function.NotNullConsumer;
 import javasabr.rlib.common.function.NullableSupplier;
@@ -33,6 +35,12 @@ public abstract class AbstractSSLPacketWriter<W extends WritablePacket, C extend
   protected final SSLEngine sslEngine;
   protected final NotNullConsumer<WritablePacket> packetWriter;
   protected final NotNullConsumer<WritablePacket> queueAtFirst;
+  protected final SSLDelegatedTaskRunner taskRunner;
+
+  /**
+   * The flag that writing is waiting for finishing of delegated tasks by the executor.
+   */
+  protected final AtomicBoolean waitingForTasks;
 
   protected volatile ByteBuffer sslNetworkBuffer;
 
@@ -47,6 +55,34 @@ public abstract class AbstractSSLPacketWriter<W extends WritablePacket, C extend
       SSLEngine sslEngine,
       NotNullConsumer<WritablePacket> packetWriter,
       NotNullConsumer<WritablePacket> queueAtFirst) {
+    this(
+        connection,
+        channel,
+        bufferAllocator,
+        updateActivityFunction,
+        packetProvider,
+        writtenPacketHandler,
+        sentPacketHandler,
+        () -> false,
+        sslEngine,
+        packetWriter,
+        queueAtFirst,
+        new SSLDelegatedTaskRunner(sslEngine, null));
+  }
+
+  public AbstractSSLPacketWriter(
+      C connection,
+      AsynchronousSocketChannel channel,
+      BufferAllocator bufferAllocator,
+      Runnable updateActivityFunction,
+      NullableSupplier<WritablePacket> packetProvider,
+      NotNullConsumer<WritablePacket> writtenPacketHandler,
+      NotNullBiConsumer<WritablePacket, Boolean> sentPacketHandler,
+      BooleanSupplier pendingPacketsChecker,
+      SSLEngine sslEngine,
+      NotNullConsumer<WritablePacket> packetWriter,
+      NotNullConsumer<WritablePacket> queueAtFirst,
+      SSLDelegatedTaskRunner taskRunner) {
     super(
         connection,
         channel,
@@ -54,10 +90,15 @@ public abstract class AbstractSSLPacketWriter<W extends WritablePacket, C extend
         updateActivityFunction,
         packetProvider,
         writtenPacketHandler,
-        sentPacketHandler);
+        sentPacketHandler,
+        pendingPacketsChecker,
+        1,
+        0);
     this.sslEngine = sslEngine;
     this.packetWriter = packetWriter;
     this.queueAtFirst = queueAtFirst;
+    this.taskRunner = taskRunner;
+    this.waitingForTasks = new AtomicBoolean(false);
     this.sslNetworkBuffer = bufferAllocator.takeBuffer(sslEngine
         .getSession()
         .getPacketBufferSize());
@@ -71,11 +112,35 @@ public abstract class AbstractSSLPacketWriter<W extends WritablePacket, C extend
     switch (status) {
       case NEED_UNWRAP:
         return;
+      case NEED_TASK:
+        if (taskRunner.isOffloaded()) {
+          waitForTasks();
+          return;
+        }
     }
 
     super.writeNextPacket();
   }
 
+  /**
+   * Execute delegated tasks by the executor and resume writing after finishing them.
+   */
+  protected void waitForTasks() {
+    if (waitingForTasks.compareAndSet(false, true)) {
+      taskRunner.runTasksAsync(this::resumeAfterTasks);
+    }
+  }
+
+  protected void resumeAfterTasks() {
+    waitingForTasks.set(false);
+    packetWriter.accept(SSLWritablePacket.getInstance());
+  }
+
+  @Override
+  protected boolean supportsFileRegions() {
+    return false;
+  }
+
   @Override
   protected ByteBuffer serialize(WritablePacket packet) {
 
@@ -141,6 +206,9 @@ public abstract class AbstractSSLPacketWriter<W extends WritablePacket, C extend
             // check result
             result = sslEngine.wrap(EMPTY_BUFFERS, sslNetworkBuffer.clear());
             handshakeStatus = result.getHandshakeStatus();
+            if (handshakeStatus == HandshakeStatus.FINISHED) {
+              taskRunner.onHandshakeFinished();
+            }
           } catch (SSLException sslException) {
             LOGGER.error("A problem was encountered while processing the data that caused the SSLEngine "
                 + "to abort. Will try to properly close connection...");
@@ -179,11 +247,11 @@ public abstract class AbstractSSLPacketWriter<W extends WritablePacket, C extend
           }
           break;
         case NEED_TASK:
-          Runnable task;
-          while ((task = sslEngine.getDelegatedTask()) != null) {
-            LOGGER.debug(task, t -> "Execute SSL Engine's task: " + t.getClass());
-            task.run();
+          if (taskRunner.isOffloaded()) {
+            waitForTasks();
+            return EMPTY_BUFFER;
           }
+          taskRunner.runTasks();
           handshakeStatus = sslEngine.getHandshakeStatus();
           break;
         case NEED_UNWRAP:
@@ -29,7 +29,61 @@ public class DefaultPacketReader<R extends ReadablePacket, C extends Connection<
       IntFunction<R> readPacketFactory,
       int packetLengthHeaderSize,
       int maxPacketsByRead) {
-    super(connection, channel, bufferAllocator, updateActivityFunction, readPacketHandler, maxPacketsByRead);
+    this(
+        connection,
+        channel,
+        bufferAllocator,
+        updateActivityFunction,
+        readPacketHandler,
+        readPacketFactory,
+        packetLengthHeaderSize,
+        maxPacketsByRead,
+        0);
+  }
+
+  public DefaultPacketReader(
+      C connection,
+      AsynchronousSocketChannel channel,
+      BufferAllocator bufferAllocator,
+      Runnable updateActivityFunction,
+      NotNullConsumer<R> readPacketHandler,
+      IntFunction<R> readPacketFactory,
+      int packetLengthHeaderSize,
+      int maxPacketsByRead,
+      int maxPacketSize) {
+    this(
+        connection,
+        channel,
+        bufferAllocator,
+        updateActivityFunction,
+        readPacketHandler,
+        readPacketFactory,
+        packetLengthHeaderSize,
+        maxPacketsByRead,
+        maxPacketSize,
+        PacketCompression.DISABLED);
+  }
+
+  public DefaultPacketReader(
+      C connection,
+      AsynchronousSocketChannel channel,
+      BufferAllocator bufferAllocator,
+      Runnable updateActivityFunction,
+      NotNullConsumer<R> readPacketHandler,
+      IntFunction<R> readPacketFactory,
+      int packetLengthHeaderSize,
+      int maxPacketsByRead,
+      int maxPacketSize,
+      PacketCompression compression) {
+    super(
+        connection,
+        channel,
+        bufferAllocator,
+        updateActivityFunction,
+        readPacketHandler,
+        maxPacketsByRead,
+        maxPacketSize,
+        compression);
     this.readPacketFactory = readPacketFactory;
     this.packetLengthHeaderSize = packetLengthHeaderSize;
   }
@@ -41,7 +95,7 @@ public class DefaultPacketReader<R extends ReadablePacket, C extends Connection<
 
   @Override
   protected int readPacketLength(ByteBuffer buffer) {
-    return readHeader(buffer, packetLengthHeaderSize);
+    return readPacketLengthHeader(buffer, packetLengthHeaderSize);
   }
 
   @Override
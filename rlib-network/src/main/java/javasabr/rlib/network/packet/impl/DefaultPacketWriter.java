@@ -2,12 +2,17 @@ package javasabr.rlib.network.packet.impl;
 
 import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousSocketChannel;
+import java.util.function.BooleanSupplier;
 import javasabr.rlib.common.function.NotNullBiConsumer;
 import javasabr.rlib.common.function.NotNullConsumer;
 import javasabr.rlib.common.function.NullableSupplier;
+import javasabr.rlib.logger.api.Logger;
+import javasabr.rlib.logger.api.LoggerManager;
 import javasabr.rlib.network.BufferAllocator;
 import javasabr.rlib.network.Connection;
+import javasabr.rlib.network.packet.FileRegionWritablePacket;
 import javasabr.rlib.network.packet.WritablePacket;
+import org.jspecify.annotations.Nullable;
 
 /**
  * @author JavaSaBr
@@ -15,7 +20,10 @@ import javasabr.rlib.network.packet.WritablePacket;
 public class DefaultPacketWriter<W extends WritablePacket, C extends Connection<?, W>> extends
     AbstractPacketWriter<W, C> {
 
+  private static final Logger LOGGER = LoggerManager.getLogger(DefaultPacketWriter.class);
+
   protected final int packetLengthHeaderSize;
+  protected final PacketCompression compression;
 
   public DefaultPacketWriter(
       C connection,
@@ -26,6 +34,60 @@ public class DefaultPacketWriter<W extends WritablePacket, C extends Connection<
       NotNullConsumer<WritablePacket> writtenPacketHandler,
       NotNullBiConsumer<WritablePacket, Boolean> sentPacketHandler,
       int packetLengthHeaderSize) {
+    this(
+        connection,
+        channel,
+        bufferAllocator,
+        updateActivityFunction,
+        nextWritePacketSupplier,
+        writtenPacketHandler,
+        sentPacketHandler,
+        () -> false,
+        packetLengthHeaderSize,
+        1,
+        0);
+  }
+
+  public DefaultPacketWriter(
+      C connection,
+      AsynchronousSocketChannel channel,
+      BufferAllocator bufferAllocator,
+      Runnable updateActivityFunction,
+      NullableSupplier<WritablePacket> nextWritePacketSupplier,
+      NotNullConsumer<WritablePacket> writtenPacketHandler,
+      NotNullBiConsumer<WritablePacket, Boolean> sentPacketHandler,
+      BooleanSupplier pendingPacketsChecker,
+      int packetLengthHeaderSize,
+      int maxPacketsByWrite,
+      int maxBytesByWrite) {
+    this(
+        connection,
+        channel,
+        bufferAllocator,
+        updateActivityFunction,
+        nextWritePacketSupplier,
+        writtenPacketHandler,
+        sentPacketHandler,
+        pendingPacketsChecker,
+        packetLengthHeaderSize,
+        maxPacketsByWrite,
+        maxBytesByWrite,
+        PacketCompression.DISABLED);
+  }
+
+  public DefaultPacketWriter(
+      C connection,
+      AsynchronousSocketChannel channel,
+      BufferAllocator bufferAllocator,
+      Runnable updateActivityFunction,
+      NullableSupplier<WritablePacket> nextWritePacketSupplier,
+      NotNullConsumer<WritablePacket> writtenPacketHandler,
+      NotNullBiConsumer<WritablePacket, Boolean> sentPacketHandler,
+      BooleanSupplier pendingPacketsChecker,
+      int packetLengthHeaderSize,
+      int maxPacketsByWrite,
+      int maxBytesByWrite,
+      PacketCompression compression) {
     super(
         connection,
         channel,
@@ -33,8 +95,12 @@ public class DefaultPacketWriter<W extends WritablePacket, C extends Connection<
         updateActivityFunction,
         nextWritePacketSupplier,
         writtenPacketHandler,
-        sentPacketHandler);
+        sentPacketHandler,
+        pendingPacketsChecker,
+        maxPacketsByWrite,
+        maxBytesByWrite);
     this.packetLengthHeaderSize = packetLengthHeaderSize;
+    this.compression = compression;
   }
 
   @Override
@@ -62,7 +128,71 @@ public class DefaultPacketWriter<W extends WritablePacket, C extends Connection<
       int totalSize,
       ByteBuffer firstBuffer,
       ByteBuffer secondBuffer) {
-    return writePacketLength(firstBuffer, firstBuffer.limit()).position(0);
+    var packetLength = firstBuffer.limit();
+
+    // the file region is sent after the serialized data, but it's a part of the packet
+    if (packet instanceof FileRegionWritablePacket region) {
+      packetLength += (int) Math.min(region.getRegionLength(), Integer.MAX_VALUE - packetLength);
+    } else if (compression.shouldCompress(packetLength - packetLengthHeaderSize)) {
+
+      var compressed = compress(firstBuffer, secondBuffer);
+
+      if (compressed != null) {
+        return compressed;
+      }
+    }
+
+    return writePacketLength(firstBuffer, packetLength).position(0);
+  }
+
+  /**
+   * Compress serialized data of a packet after the packet length header.
+   *
+   * @param packetBuffer the buffer with serialized packet.
+   * @param toStore the buffer to store the compressed packet.
+   * @return the buffer with the compressed packet or null if compressing doesn't reduce size of the packet.
+   */
+  protected @Nullable ByteBuffer compress(ByteBuffer packetBuffer, ByteBuffer toStore) {
+
+    var dataLength = packetBuffer.limit() - packetLengthHeaderSize;
+
+    toStore
+        .clear()
+        .position(packetLengthHeaderSize)
+        .putInt(dataLength);
+
+    // compressed data shouldn't be bigger than the original data
+    toStore.limit(Math.min(toStore.capacity(), packetBuffer.limit()));
+
+    var result = compression
+        .getCompressor()
+        .compress(packetBuffer.position(packetLengthHeaderSize), dataLength, toStore);
+
+    if (result == null || !result.hasRemaining()) {
+      packetBuffer.position(0);
+      return null;
+    }
+
+    result.flip();
+
+    var packetLength = result.limit();
+
+    compression.onCompressed(dataLength, packetLength - packetLengthHeaderSize);
+
+    LOGGER.debug(
+        dataLength,
+        packetLength,
+        (original, compressed) -> "Compressed packet data from " + original + " to " + compressed + " bytes");
+
+    return writePacketLength(result, packetLength | PacketCompression.compressedFlag(packetLengthHeaderSize))
+        .position(0);
+  }
+
+  @Override
+  protected long getMaxPacketLength() {
+    // the highest bit of the header is used as the flag of compressed packets
+    var lengthBits = compression.isEnabled() ? packetLengthHeaderSize * 8 - 1 : packetLengthHeaderSize * 8;
+    return lengthBits < 32 ? (1L << lengthBits) - 1 : Integer.MAX_VALUE;
   }
 
   protected ByteBuffer writePacketLength(ByteBuffer buffer, int packetLength) {
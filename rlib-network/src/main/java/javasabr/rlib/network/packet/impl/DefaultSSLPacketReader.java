@@ -33,6 +33,60 @@ public class DefaultSSLPacketReader<R extends ReadablePacket, C extends Connecti
       NotNullConsumer<WritablePacket> packetWriter,
       int packetLengthHeaderSize,
       int maxPacketsByRead) {
+    this(
+        connection,
+        channel,
+        bufferAllocator,
+        updateActivityFunction,
+        readPacketHandler,
+        readPacketFactory,
+        sslEngine,
+        packetWriter,
+        packetLengthHeaderSize,
+        maxPacketsByRead,
+        0);
+  }
+
+  public DefaultSSLPacketReader(
+      C connection,
+      AsynchronousSocketChannel channel,
+      BufferAllocator bufferAllocator,
+      Runnable updateActivityFunction,
+      NotNullConsumer<R> readPacketHandler,
+      IntFunction<R> readPacketFactory,
+      SSLEngine sslEngine,
+      NotNullConsumer<WritablePacket> packetWriter,
+      int packetLengthHeaderSize,
+      int maxPacketsByRead,
+      int maxPacketSize) {
+    this(
+        connection,
+        channel,
+        bufferAllocator,
+        updateActivityFunction,
+        readPacketHandler,
+        readPacketFactory,
+        sslEngine,
+        packetWriter,
+        packetLengthHeaderSize,
+        maxPacketsByRead,
+        maxPacketSize,
+        new SSLDelegatedTaskRunner(sslEngine, null));
+  }
+
+  public DefaultSSLPacketReader(
+      C connection,
+      AsynchronousSocketChannel channel,
+      BufferAllocator bufferAllocator,
+      Runnable updateActivityFunction,
+      NotNullConsumer<R> readPacketHandler,
+      IntFunction<R> readPacketFactory,
+      SSLEngine sslEngine,
+      NotNullConsumer<WritablePacket> packetWriter,
+      int packetLengthHeaderSize,
+      int maxPacketsByRead,
+      int maxPacketSize,
+      SSLDelegatedTaskRunner taskRunner) {
     super(
         connection,
         channel,
@@ -41,7 +95,9 @@ public class DefaultSSLPacketReader<R extends ReadablePacket, C extends Connecti
         readPacketHandler,
         sslEngine,
         packetWriter,
-        maxPacketsByRead);
+        maxPacketsByRead,
+        maxPacketSize,
+        taskRunner);
     this.readPacketFactory = readPacketFactory;
     this.packetLengthHeaderSize = packetLengthHeaderSize;
   }
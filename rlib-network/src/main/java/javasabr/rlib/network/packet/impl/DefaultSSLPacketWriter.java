@@ -2,6 +2,7 @@ package javasabr.rlib.network.packet.impl;
 
 import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousSocketChannel;
+import java.util.function.BooleanSupplier;
 import javasabr.rlib.common.function.NotNullBiConsumer;
 import javasabr.rlib.common.function.NotNullConsumer;
 import javasabr.rlib.common.function.NullableSupplier;
@@ -30,6 +31,36 @@ public class DefaultSSLPacketWriter<W extends WritablePacket, C extends Connecti
       NotNullConsumer<WritablePacket> packetWriter,
       NotNullConsumer<WritablePacket> queueAtFirst,
       int packetLengthHeaderSize) {
+    this(
+        connection,
+        channel,
+        bufferAllocator,
+        updateActivityFunction,
+        nextWritePacketSupplier,
+        writtenPacketHandler,
+        sentPacketHandler,
+        () -> false,
+        sslEngine,
+        packetWriter,
+        queueAtFirst,
+        packetLengthHeaderSize,
+        new SSLDelegatedTaskRunner(sslEngine, null));
+  }
+
+  public DefaultSSLPacketWriter(
+      C connection,
+      AsynchronousSocketChannel channel,
+      BufferAllocator bufferAllocator,
+      Runnable updateActivityFunction,
+      NullableSupplier<WritablePacket> nextWritePacketSupplier,
+      NotNullConsumer<WritablePacket> writtenPacketHandler,
+      NotNullBiConsumer<WritablePacket, Boolean> sentPacketHandler,
+      BooleanSupplier pendingPacketsChecker,
+      SSLEngine sslEngine,
+      NotNullConsumer<WritablePacket> packetWriter,
+      NotNullConsumer<WritablePacket> queueAtFirst,
+      int packetLengthHeaderSize,
+      SSLDelegatedTaskRunner taskRunner) {
     super(
         connection,
         channel,
@@ -38,9 +69,11 @@ public class DefaultSSLPacketWriter<W extends WritablePacket, C extends Connecti
         nextWritePacketSupplier,
         writtenPacketHandler,
         sentPacketHandler,
+        pendingPacketsChecker,
         sslEngine,
         packetWriter,
-        queueAtFirst);
+        queueAtFirst,
+        taskRunner);
     this.packetLengthHeaderSize = packetLengthHeaderSize;
   }
 
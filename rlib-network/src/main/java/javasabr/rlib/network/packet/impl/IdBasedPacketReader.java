@@ -21,6 +21,13 @@ public class IdBasedPacketReader<R extends IdBasedReadablePacket<R>, C extends C
   private final int packetLengthHeaderSize;
   private final int packetIdHeaderSize;
 
+  private final @Nullable PacketIdStatistics packetStatistics;
+
+  /**
+   * The id of the currently read packet, it's tracked only with enabled statistics.
+   */
+  private int readingPacketId;
+
   public IdBasedPacketReader(
       C connection,
       AsynchronousSocketChannel channel,
@@ -31,10 +38,97 @@ public class IdBasedPacketReader<R extends IdBasedReadablePacket<R>, C extends C
       int maxPacketsByRead,
       int packetIdHeaderSize,
       ReadablePacketRegistry<R> packetRegistry) {
-    super(connection, channel, bufferAllocator, updateActivityFunction, readPacketHandler, maxPacketsByRead);
+    this(
+        connection,
+        channel,
+        bufferAllocator,
+        updateActivityFunction,
+        readPacketHandler,
+        packetLengthHeaderSize,
+        maxPacketsByRead,
+        packetIdHeaderSize,
+        packetRegistry,
+        0);
+  }
+
+  public IdBasedPacketReader(
+      C connection,
+      AsynchronousSocketChannel channel,
+      BufferAllocator bufferAllocator,
+      Runnable updateActivityFunction,
+      NotNullConsumer<R> readPacketHandler,
+      int packetLengthHeaderSize,
+      int maxPacketsByRead,
+      int packetIdHeaderSize,
+      ReadablePacketRegistry<R> packetRegistry,
+      int maxPacketSize) {
+    this(
+        connection,
+        channel,
+        bufferAllocator,
+        updateActivityFunction,
+        readPacketHandler,
+        packetLengthHeaderSize,
+        maxPacketsByRead,
+        packetIdHeaderSize,
+        packetRegistry,
+        maxPacketSize,
+        PacketCompression.DISABLED);
+  }
+
+  public IdBasedPacketReader(
+      C connection,
+      AsynchronousSocketChannel channel,
+      BufferAllocator bufferAllocator,
+      Runnable updateActivityFunction,
+      NotNullConsumer<R> readPacketHandler,
+      int packetLengthHeaderSize,
+      int maxPacketsByRead,
+      int packetIdHeaderSize,
+      ReadablePacketRegistry<R> packetRegistry,
+      int maxPacketSize,
+      PacketCompression compression) {
+    this(
+        connection,
+        channel,
+        bufferAllocator,
+        updateActivityFunction,
+        readPacketHandler,
+        packetLengthHeaderSize,
+        maxPacketsByRead,
+        packetIdHeaderSize,
+        packetRegistry,
+        maxPacketSize,
+        compression,
+        null);
+  }
+
+  public IdBasedPacketReader(
+      C connection,
+      AsynchronousSocketChannel channel,
+      BufferAllocator bufferAllocator,
+      Runnable updateActivityFunction,
+      NotNullConsumer<R> readPacketHandler,
+      int packetLengthHeaderSize,
+      int maxPacketsByRead,
+      int packetIdHeaderSize,
+      ReadablePacketRegistry<R> packetRegistry,
+      int maxPacketSize,
+      PacketCompression compression,
+      @Nullable PacketIdStatistics packetStatistics) {
+    super(
+        connection,
+        channel,
+        bufferAllocator,
+        updateActivityFunction,
+        readPacketHandler,
+        maxPacketsByRead,
+        maxPacketSize,
+        compression);
     this.packetLengthHeaderSize = packetLengthHeaderSize;
     this.packetIdHeaderSize = packetIdHeaderSize;
     this.packetRegistry = packetRegistry;
+    this.packetStatistics = packetStatistics;
   }
 
   @Override
@@ -44,7 +138,13 @@ public class IdBasedPacketReader<R extends IdBasedReadablePacket<R>, C extends C
 
   @Override
   protected int readPacketLength(ByteBuffer buffer) {
-    return readHeader(buffer, packetLengthHeaderSize);
+    return readPacketLengthHeader(buffer, packetLengthHeaderSize);
+  }
+
+  @Override
+  protected int getDataLength(int packetLength, int readBytes, ByteBuffer buffer) {
+    // the packet id is read before the packet data
+    return packetLength - readBytes - packetIdHeaderSize;
   }
 
   @Override
@@ -53,8 +153,44 @@ public class IdBasedPacketReader<R extends IdBasedReadablePacket<R>, C extends C
       int startPacketPosition,
       int packetLength,
       int dataLength) {
-    return packetRegistry
-        .findById(readHeader(buffer, packetIdHeaderSize))
-        .newInstance();
+    var packetId = readHeader(buffer, packetIdHeaderSize);
+    readingPacketId = packetId;
+    return packetRegistry.takePacket(packetId);
+  }
+
+  @Override
+  protected boolean readPacket(ByteBuffer bufferToRead, int dataLength, R packet) {
+
+    var packetStatistics = this.packetStatistics;
+
+    if (packetStatistics == null) {
+      return super.readPacket(bufferToRead, dataLength, packet);
+    }
+
+    var startTime = System.nanoTime();
+    try {
+      return super.readPacket(bufferToRead, dataLength, packet);
+    } finally {
+      packetStatistics.onRead(readingPacketId, dataLength, System.nanoTime() - startTime);
+    }
+  }
+
+  @Override
+  protected void handleReadPacket(R packet) {
+
+    var packetStatistics = this.packetStatistics;
+
+    if (packetStatistics == null) {
+      super.handleReadPacket(packet);
+      return;
+    }
+
+    var packetId = readingPacketId;
+    var startTime = System.nanoTime();
+    try {
+      super.handleReadPacket(packet);
+    } finally {
+      packetStatistics.onHandle(packetId, System.nanoTime() - startTime);
+    }
   }
 }
@@ -2,6 +2,7 @@ package javasabr.rlib.network.packet.impl;
 
 import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousSocketChannel;
+import java.util.function.BooleanSupplier;
 import javasabr.rlib.common.function.NotNullBiConsumer;
 import javasabr.rlib.common.function.NotNullConsumer;
 import javasabr.rlib.common.function.NullableSupplier;
@@ -9,6 +10,7 @@ import javasabr.rlib.network.BufferAllocator;
 import javasabr.rlib.network.Connection;
 import javasabr.rlib.network.packet.IdBasedWritablePacket;
 import javasabr.rlib.network.packet.WritablePacket;
+import org.jspecify.annotations.Nullable;
 
 /**
  * @author JavaSaBr
@@ -17,6 +19,7 @@ public class IdBasedPacketWriter<W extends IdBasedWritablePacket, C extends Conn
     DefaultPacketWriter<W, C> {
 
   protected final int packetIdHeaderSize;
+  protected final @Nullable PacketIdStatistics packetStatistics;
 
   public IdBasedPacketWriter(
       C connection,
@@ -28,6 +31,96 @@ public class IdBasedPacketWriter<W extends IdBasedWritablePacket, C extends Conn
       NotNullBiConsumer<WritablePacket, Boolean> sentPacketHandler,
       int packetLengthHeaderSize,
       int packetIdHeaderSize) {
+    this(
+        connection,
+        channel,
+        bufferAllocator,
+        updateActivityFunction,
+        nextWritePacketSupplier,
+        writtenPacketHandler,
+        sentPacketHandler,
+        () -> false,
+        packetLengthHeaderSize,
+        packetIdHeaderSize,
+        1,
+        0);
+  }
+
+  public IdBasedPacketWriter(
+      C connection,
+      AsynchronousSocketChannel channel,
+      BufferAllocator bufferAllocator,
+      Runnable updateActivityFunction,
+      NullableSupplier<WritablePacket> nextWritePacketSupplier,
+      NotNullConsumer<WritablePacket> writtenPacketHandler,
+      NotNullBiConsumer<WritablePacket, Boolean> sentPacketHandler,
+      BooleanSupplier pendingPacketsChecker,
+      int packetLengthHeaderSize,
+      int packetIdHeaderSize,
+      int maxPacketsByWrite,
+      int maxBytesByWrite) {
+    this(
+        connection,
+        channel,
+        bufferAllocator,
+        updateActivityFunction,
+        nextWritePacketSupplier,
+        writtenPacketHandler,
+        sentPacketHandler,
+        pendingPacketsChecker,
+        packetLengthHeaderSize,
+        packetIdHeaderSize,
+        maxPacketsByWrite,
+        maxBytesByWrite,
+        PacketCompression.DISABLED);
+  }
+
+  public IdBasedPacketWriter(
+      C connection,
+      AsynchronousSocketChannel channel,
+      BufferAllocator bufferAllocator,
+      Runnable updateActivityFunction,
+      NullableSupplier<WritablePacket> nextWritePacketSupplier,
+      NotNullConsumer<WritablePacket> writtenPacketHandler,
+      NotNullBiConsumer<WritablePacket, Boolean> sentPacketHandler,
+      BooleanSupplier pendingPacketsChecker,
+      int packetLengthHeaderSize,
+      int packetIdHeaderSize,
+      int maxPacketsByWrite,
+      int maxBytesByWrite,
+      PacketCompression compression) {
+    this(
+        connection,
+        channel,
+        bufferAllocator,
+        updateActivityFunction,
+        nextWritePacketSupplier,
+        writtenPacketHandler,
+        sentPacketHandler,
+        pendingPacketsChecker,
+        packetLengthHeaderSize,
+        packetIdHeaderSize,
+        maxPacketsByWrite,
+        maxBytesByWrite,
+        compression,
+        null);
+  }
+
+  public IdBasedPacketWriter(
+      C connection,
+      AsynchronousSocketChannel channel,
+      BufferAllocator bufferAllocator,
+      Runnable updateActivityFunction,
+      NullableSupplier<WritablePacket> nextWritePacketSupplier,
+      NotNullConsumer<WritablePacket> writtenPacketHandler,
+      NotNullBiConsumer<WritablePacket, Boolean> sentPacketHandler,
+      BooleanSupplier pendingPacketsChecker,
+      int packetLengthHeaderSize,
+      int packetIdHeaderSize,
+      int maxPacketsByWrite,
+      int maxBytesByWrite,
+      PacketCompression compression,
+      @Nullable PacketIdStatistics packetStatistics) {
     super(
         connection,
         channel,
@@ -36,8 +129,13 @@ public class IdBasedPacketWriter<W extends IdBasedWritablePacket, C extends Conn
         nextWritePacketSupplier,
         writtenPacketHandler,
         sentPacketHandler,
-        packetLengthHeaderSize);
+        pendingPacketsChecker,
+        packetLengthHeaderSize,
+        maxPacketsByWrite,
+        maxBytesByWrite,
+        compression);
     this.packetIdHeaderSize = packetIdHeaderSize;
+    this.packetStatistics = packetStatistics;
   }
 
   @Override
@@ -47,7 +145,23 @@ public class IdBasedPacketWriter<W extends IdBasedWritablePacket, C extends Conn
       int totalSize,
       ByteBuffer firstBuffer,
       ByteBuffer secondBuffer) {
-    writeHeader(firstBuffer, packet.getPacketId(), packetIdHeaderSize);
-    return super.onWrite(packet, expectedLength, totalSize, firstBuffer, secondBuffer);
+
+    var packetId = packet.getPacketId();
+    var packetStatistics = this.packetStatistics;
+
+    writeHeader(firstBuffer, packetId, packetIdHeaderSize);
+
+    if (packetStatistics == null) {
+      return super.onWrite(packet, expectedLength, totalSize, firstBuffer, secondBuffer);
+    }
+
+    var startPosition = firstBuffer.position();
+    var startTime = System.nanoTime();
+
+    var result = super.onWrite(packet, expectedLength, totalSize, firstBuffer, secondBuffer);
+
+    packetStatistics.onWrite(packetId, firstBuffer.position() - startPosition, System.nanoTime() - startTime);
+
+    return result;
   }
 }
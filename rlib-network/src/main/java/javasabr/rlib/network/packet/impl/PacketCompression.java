@@ -0,0 +1,120 @@
+package javasabr.rlib.network.packet.impl;
+
+import java.util.concurrent.atomic.LongAdder;
+import javasabr.rlib.network.NetworkCompressor;
+import lombok.Getter;
+
+/**
+ * The compression stage of packet readers and writers of one connection. Serialized packets which are not smaller
+ * than the threshold are compressed and marked by the highest bit of the packet length header, so both sides of a
+ * connection should enable compression.
+ *
+ * @author JavaSaBr
+ */
+public class PacketCompression {
+
+  /**
+   * The disabled compression stage.
+   */
+  public static final PacketCompression DISABLED = new PacketCompression(NetworkCompressor.NULL, 0);
+
+  /**
+   * The size in bytes of the original data length which is written before compressed data.
+   */
+  public static final int ORIGINAL_LENGTH_SIZE = 4;
+
+  /**
+   * The default max length of original data of a received compressed packet.
+   */
+  public static final int DEFAULT_MAX_ORIGINAL_LENGTH = 1 << 24;
+
+  /**
+   * Get the flag of compressed packet in the packet length header.
+   *
+   * @param headerSize the size of the packet length header.
+   * @return the flag.
+   */
+  public static int compressedFlag(int headerSize) {
+    return 1 << (headerSize * 8 - 1);
+  }
+
+  @Getter
+  private final NetworkCompressor compressor;
+
+  /**
+   * The min size of packet data to compress, 0 means disabled compression.
+   */
+  @Getter
+  private final int threshold;
+
+  /**
+   * The max length of original data of a received compressed packet.
+   */
+  @Getter
+  private final int maxOriginalLength;
+
+  private final LongAdder compressedPacketCount;
+  private final LongAdder originalBytes;
+  private final LongAdder compressedBytes;
+
+  public PacketCompression(NetworkCompressor compressor, int threshold) {
+    this(compressor, threshold, DEFAULT_MAX_ORIGINAL_LENGTH);
+  }
+
+  public PacketCompression(NetworkCompressor compressor, int threshold, int maxOriginalLength) {
+    this.compressor = compressor;
+    this.threshold = Math.max(0, threshold);
+    this.maxOriginalLength = Math.max(0, maxOriginalLength);
+    this.compressedPacketCount = new LongAdder();
+    this.originalBytes = new LongAdder();
+    this.compressedBytes = new LongAdder();
+  }
+
+  public boolean isEnabled() {
+    return threshold > 0;
+  }
+
+  /**
+   * Check the packet data should be compressed.
+   *
+   * @param dataLength the length of packet data.
+   * @return true if the data should be compressed.
+   */
+  public boolean shouldCompress(int dataLength) {
+    return threshold > 0 && dataLength >= threshold;
+  }
+
+  /**
+   * Register a compressed packet.
+   *
+   * @param originalLength the length of original packet data.
+   * @param compressedLength the length of compressed packet data.
+   */
+  public void onCompressed(int originalLength, int compressedLength) {
+    compressedPacketCount.increment();
+    originalBytes.add(originalLength);
+    compressedBytes.add(compressedLength);
+  }
+
+  /**
+   * Get a ratio of compressed bytes to original bytes of all compressed packets.
+   *
+   * @return the compression ratio or 1 if nothing was compressed.
+   */
+  public double getCompressionRatio() {
+    var original = originalBytes.sum();
+    return original == 0 ? 1D : (double) compressedBytes.sum() / original;
+  }
+
+  public long getCompressedPacketCount() {
+    return compressedPacketCount.sum();
+  }
+
+  public long getOriginalBytes() {
+    return originalBytes.sum();
+  }
+
+  public long getCompressedBytes() {
+    return compressedBytes.sum();
+  }
+}
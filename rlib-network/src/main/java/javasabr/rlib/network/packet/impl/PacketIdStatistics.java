@@ -0,0 +1,225 @@
+package javasabr.rlib.network.packet.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import javasabr.rlib.network.impl.LatencyHistogram;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The statistics of read and written id based packets of one network. Counters are stored in an array indexed by
+ * packet id, so recording costs no map lookups, counters of an id are created when the id is recorded first time.
+ *
+ * @author JavaSaBr
+ */
+public class PacketIdStatistics {
+
+  /**
+   * The statistics of one packet id, all times are in nanoseconds and percentiles are -1 when histograms are disabled.
+   *
+   * @param packetId the packet id.
+   * @param readCount the count of read packets.
+   * @param readBytes the total size of data of read packets.
+   * @param readTime the total time of reading packets.
+   * @param handleTime the total time of handling read packets.
+   * @param writeCount the count of written packets.
+   * @param writeBytes the total size of data of written packets.
+   * @param writeTime the total time of writing packets.
+   * @param readSizeP99 the 99th percentile size of data of a read packet.
+   * @param readTimeP99 the 99th percentile time of reading a packet.
+   * @param writeSizeP99 the 99th percentile size of data of a written packet.
+   * @param writeTimeP99 the 99th percentile time of writing a packet.
+   */
+  public record Entry(
+      int packetId,
+      long readCount,
+      long readBytes,
+      long readTime,
+      long handleTime,
+      long writeCount,
+      long writeBytes,
+      long writeTime,
+      long readSizeP99,
+      long readTimeP99,
+      long writeSizeP99,
+      long writeTimeP99) {}
+
+  private static class Counters {
+
+    private final LongAdder readCount;
+    private final LongAdder readBytes;
+    private final LongAdder readTime;
+    private final LongAdder handleTime;
+    private final LongAdder writeCount;
+    private final LongAdder writeBytes;
+    private final LongAdder writeTime;
+
+    private final @Nullable LatencyHistogram readSizes;
+    private final @Nullable LatencyHistogram readTimes;
+    private final @Nullable LatencyHistogram writeSizes;
+    private final @Nullable LatencyHistogram writeTimes;
+
+    private Counters(boolean histograms) {
+      this.readCount = new LongAdder();
+      this.readBytes = new LongAdder();
+      this.readTime = new LongAdder();
+      this.handleTime = new LongAdder();
+      this.writeCount = new LongAdder();
+      this.writeBytes = new LongAdder();
+      this.writeTime = new LongAdder();
+      this.readSizes = histograms ? new LatencyHistogram() : null;
+      this.readTimes = histograms ? new LatencyHistogram() : null;
+      this.writeSizes = histograms ? new LatencyHistogram() : null;
+      this.writeTimes = histograms ? new LatencyHistogram() : null;
+    }
+  }
+
+  private final boolean histograms;
+
+  private volatile @Nullable Counters[] idToCounters;
+
+  public PacketIdStatistics(boolean histograms) {
+    this.histograms = histograms;
+    this.idToCounters = new Counters[0];
+  }
+
+  /**
+   * Register a read packet.
+   *
+   * @param packetId the packet id.
+   * @param dataLength the size of packet data.
+   * @param time the time of reading in nanoseconds.
+   */
+  public void onRead(int packetId, int dataLength, long time) {
+
+    var counters = countersOf(packetId);
+
+    if (counters == null) {
+      return;
+    }
+
+    counters.readCount.increment();
+    counters.readBytes.add(dataLength);
+    counters.readTime.add(time);
+
+    if (counters.readSizes != null && counters.readTimes != null) {
+      counters.readSizes.record(dataLength);
+      counters.readTimes.record(time);
+    }
+  }
+
+  /**
+   * Register handling of a read packet.
+   *
+   * @param packetId the packet id.
+   * @param time the time of handling in nanoseconds.
+   */
+  public void onHandle(int packetId, long time) {
+
+    var counters = countersOf(packetId);
+
+    if (counters != null) {
+      counters.handleTime.add(time);
+    }
+  }
+
+  /**
+   * Register a written packet.
+   *
+   * @param packetId the packet id.
+   * @param dataLength the size of packet data.
+   * @param time the time of writing in nanoseconds.
+   */
+  public void onWrite(int packetId, int dataLength, long time) {
+
+    var counters = countersOf(packetId);
+
+    if (counters == null) {
+      return;
+    }
+
+    counters.writeCount.increment();
+    counters.writeBytes.add(dataLength);
+    counters.writeTime.add(time);
+
+    if (counters.writeSizes != null && counters.writeTimes != null) {
+      counters.writeSizes.record(dataLength);
+      counters.writeTimes.record(time);
+    }
+  }
+
+  /**
+   * Take a snapshot of statistics of all recorded packet ids.
+   *
+   * @return the list of statistics ordered by packet id.
+   */
+  public List<Entry> snapshot() {
+
+    var idToCounters = this.idToCounters;
+    var result = new ArrayList<Entry>();
+
+    for (int id = 0; id < idToCounters.length; id++) {
+
+      var counters = idToCounters[id];
+
+      if (counters == null) {
+        continue;
+      }
+
+      result.add(new Entry(
+          id,
+          counters.readCount.sum(),
+          counters.readBytes.sum(),
+          counters.readTime.sum(),
+          counters.handleTime.sum(),
+          counters.writeCount.sum(),
+          counters.writeBytes.sum(),
+          counters.writeTime.sum(),
+          percentile99(counters.readSizes),
+          percentile99(counters.readTimes),
+          percentile99(counters.writeSizes),
+          percentile99(counters.writeTimes)));
+    }
+
+    return result;
+  }
+
+  private @Nullable Counters countersOf(int packetId) {
+
+    var idToCounters = this.idToCounters;
+
+    if (packetId >= 0 && packetId < idToCounters.length) {
+      var counters = idToCounters[packetId];
+      if (counters != null) {
+        return counters;
+      }
+    }
+
+    return packetId < 0 ? null : createCounters(packetId);
+  }
+
+  private synchronized Counters createCounters(int packetId) {
+
+    var idToCounters = this.idToCounters;
+
+    if (packetId >= idToCounters.length) {
+      idToCounters = Arrays.copyOf(idToCounters, packetId + 1);
+    } else if (idToCounters[packetId] != null) {
+      return idToCounters[packetId];
+    } else {
+      idToCounters = idToCounters.clone();
+    }
+
+    var counters = new Counters(histograms);
+    idToCounters[packetId] = counters;
+
+    this.idToCounters = idToCounters;
+
+    return counters;
+  }
+
+  private static long percentile99(@Nullable LatencyHistogram histogram) {
+    return histogram == null ? -1 : histogram.getValueAtPercentile(99);
+  }
+}
@@ -0,0 +1,186 @@
+package javasabr.rlib.network.packet.impl;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import javasabr.rlib.logger.api.Logger;
+import javasabr.rlib.logger.api.LoggerManager;
+import javax.net.ssl.SSLEngine;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The runner of delegated tasks of {@link SSLEngine} of one connection. Without an executor tasks are executed by the
+ * calling thread, otherwise they are executed by the executor and the packet reader and writer are resumed by
+ * callbacks when all tasks are finished, so network threads are not blocked by expensive handshake operations.
+ *
+ * @author JavaSaBr
+ */
+public class SSLDelegatedTaskRunner {
+
+  private static final Logger LOGGER = LoggerManager.getLogger(SSLDelegatedTaskRunner.class);
+
+  protected final SSLEngine sslEngine;
+  protected final @Nullable Executor executor;
+
+  /**
+   * The callbacks to resume processing after finishing of the running tasks.
+   */
+  protected final Queue<Runnable> resumeCallbacks;
+  protected final AtomicBoolean running;
+
+  protected final LongAdder taskCount;
+  protected final LongAdder taskTime;
+
+  protected final long handshakeStartTime;
+  protected final long handshakeStartMillis;
+  protected final AtomicLong handshakeTime;
+
+  /**
+   * The listener which is called once when the handshake is finished.
+   */
+  protected final Runnable handshakeListener;
+
+  protected volatile boolean abbreviatedHandshake;
+
+  public SSLDelegatedTaskRunner(SSLEngine sslEngine, @Nullable Executor executor) {
+    this(sslEngine, executor, () -> {});
+  }
+
+  public SSLDelegatedTaskRunner(SSLEngine sslEngine, @Nullable Executor executor, Runnable handshakeListener) {
+    this.sslEngine = sslEngine;
+    this.executor = executor;
+    this.handshakeListener = handshakeListener;
+    this.resumeCallbacks = new ConcurrentLinkedQueue<>();
+    this.running = new AtomicBoolean(false);
+    this.taskCount = new LongAdder();
+    this.taskTime = new LongAdder();
+    this.handshakeStartTime = System.nanoTime();
+    this.handshakeStartMillis = System.currentTimeMillis();
+    this.handshakeTime = new AtomicLong(-1);
+  }
+
+  /**
+   * Check that delegated tasks are executed by the executor.
+   *
+   * @return true if delegated tasks are executed by the executor.
+   */
+  public boolean isOffloaded() {
+    return executor != null;
+  }
+
+  /**
+   * Execute all delegated tasks of the engine by the current thread.
+   */
+  public void runTasks() {
+
+    Runnable task;
+
+    while ((task = sslEngine.getDelegatedTask()) != null) {
+      LOGGER.debug(task, t -> "Execute SSL Engine's task: " + t.getClass());
+      var startTime = System.nanoTime();
+      try {
+        task.run();
+      } finally {
+        taskTime.add(System.nanoTime() - startTime);
+        taskCount.increment();
+      }
+    }
+  }
+
+  /**
+   * Execute all delegated tasks of the engine by the executor and call the callback after that. If the tasks are
+   * already executing, the callback is called after finishing of them.
+   *
+   * @param resumeCallback the callback to resume processing.
+   */
+  public void runTasksAsync(Runnable resumeCallback) {
+
+    var executor = this.executor;
+
+    if (executor == null) {
+      runTasks();
+      resumeCallback.run();
+      return;
+    }
+
+    resumeCallbacks.add(resumeCallback);
+
+    if (running.compareAndSet(false, true)) {
+      executor.execute(this::runTasksAndResume);
+    }
+  }
+
+  protected void runTasksAndResume() {
+
+    try {
+      runTasks();
+    } catch (Throwable e) {
+      LOGGER.error(e);
+    } finally {
+      running.set(false);
+    }
+
+    Runnable callback;
+
+    while ((callback = resumeCallbacks.poll()) != null) {
+      try {
+        callback.run();
+      } catch (Throwable e) {
+        LOGGER.error(e);
+      }
+    }
+  }
+
+  /**
+   * Register finishing of the handshake.
+   */
+  public void onHandshakeFinished() {
+    if (handshakeTime.compareAndSet(-1, System.nanoTime() - handshakeStartTime)) {
+      // a resumed session was created by a previous handshake
+      abbreviatedHandshake = sslEngine
+          .getSession()
+          .getCreationTime() < handshakeStartMillis;
+      LOGGER.debug(handshakeTime, time -> "SSL handshake was finished in " + time.get() / 1_000_000 + "ms");
+      handshakeListener.run();
+    }
+  }
+
+  /**
+   * Check that the finished handshake resumed a cached session instead of negotiating a new one.
+   *
+   * @return true if the handshake was abbreviated.
+   */
+  public boolean isAbbreviatedHandshake() {
+    return abbreviatedHandshake;
+  }
+
+  /**
+   * Get a duration of the handshake in nanoseconds.
+   *
+   * @return the duration or -1 if the handshake isn't finished yet.
+   */
+  public long getHandshakeTime() {
+    return handshakeTime.get();
+  }
+
+  /**
+   * Get a count of executed delegated tasks.
+   *
+   * @return the count of executed tasks.
+   */
+  public long getTaskCount() {
+    return taskCount.sum();
+  }
+
+  /**
+   * Get a total time in nanoseconds of executing delegated tasks.
+   *
+   * @return the total time of executing tasks.
+   */
+  public long getTaskTime() {
+    return taskTime.sum();
+  }
+}
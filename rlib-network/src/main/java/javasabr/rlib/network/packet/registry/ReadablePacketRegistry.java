@@ -6,6 +6,7 @@ import javasabr.rlib.common.util.array.Array;
 import javasabr.rlib.common.util.array.ArrayCollectors;
 import javasabr.rlib.network.annotation.PacketDescription;
 import javasabr.rlib.network.packet.IdBasedReadablePacket;
+import javasabr.rlib.network.packet.ReusableReadablePacket;
 import javasabr.rlib.network.packet.registry.impl.IdBasedReadablePacketRegistry;
 
 /**
@@ -127,4 +128,16 @@ public interface ReadablePacketRegistry<R extends IdBasedReadablePacket<R>> {
    * @throws IllegalArgumentException if can't find a packet by the id.
    */
   R findById(int id);
+
+  /**
+   * Take a packet instance to read data by the id. A taken instance of {@link ReusableReadablePacket} should be
+   * released after handling.
+   *
+   * @param id the packet id.
+   * @return the new or reused packet instance.
+   * @throws IllegalArgumentException if can't find a packet by the id.
+   */
+  default R takePacket(int id) {
+    return findById(id).newInstance();
+  }
 }
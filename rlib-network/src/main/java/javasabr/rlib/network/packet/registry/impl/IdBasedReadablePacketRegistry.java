@@ -9,10 +9,12 @@ import javasabr.rlib.logger.api.Logger;
 import javasabr.rlib.logger.api.LoggerManager;
 import javasabr.rlib.network.annotation.PacketDescription;
 import javasabr.rlib.network.packet.IdBasedReadablePacket;
+import javasabr.rlib.network.packet.ReusableReadablePacket;
 import javasabr.rlib.network.packet.registry.ReadablePacketRegistry;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.jspecify.annotations.Nullable;
 
 /**
  * The id based implementation of readable packets registry.
@@ -35,8 +37,15 @@ public class IdBasedReadablePacketRegistry<R extends IdBasedReadablePacket<R>> i
   @Setter(AccessLevel.PRIVATE)
   private volatile R[] idToPacket;
 
+  /**
+   * The array of packet id to pool of reusable packets.
+   */
+  private volatile @Nullable StripedReadablePacketPool<R>[] idToPool;
+
+  @SuppressWarnings("unchecked")
   public IdBasedReadablePacketRegistry(Class<? extends R> type) {
     this.idToPacket = ArrayUtils.create(type, 0);
+    this.idToPool = new StripedReadablePacketPool[0];
     this.type = type;
   }
 
@@ -121,6 +130,8 @@ public class IdBasedReadablePacketRegistry<R extends IdBasedReadablePacket<R>> i
       idToPacket[id] = ClassUtils.newInstance(cs);
     }
 
+    updatePools(idToPacket);
+
     return this;
   }
 
@@ -169,6 +180,7 @@ public class IdBasedReadablePacketRegistry<R extends IdBasedReadablePacket<R>> i
         throw new IllegalArgumentException("Class " + idToPacket[id].getClass() + " is already has the same id: " + id);
       } else {
         idToPacket[id] = ClassUtils.newInstance(cs);
+        updatePools(idToPacket);
         return this;
       }
     }
@@ -177,10 +189,31 @@ public class IdBasedReadablePacketRegistry<R extends IdBasedReadablePacket<R>> i
     idToPacket[id] = factory.get();
 
     setIdToPacket(idToPacket);
+    updatePools(idToPacket);
 
     return this;
   }
 
+  /**
+   * Create pools for new registered reusable packets.
+   *
+   * @param idToPacket the actual array of packet id to packet instance.
+   */
+  @SuppressWarnings("unchecked")
+  private synchronized void updatePools(R[] idToPacket) {
+
+    var current = idToPool;
+    var pools = (StripedReadablePacketPool<R>[]) Arrays.copyOf(current, idToPacket.length, current.getClass());
+
+    for (int id = 0; id < idToPacket.length; id++) {
+      if (pools[id] == null && idToPacket[id] instanceof ReusableReadablePacket) {
+        pools[id] = new StripedReadablePacketPool<>(idToPacket[id]);
+      }
+    }
+
+    this.idToPool = pools;
+  }
+
   @Override
   public R findById(int id) {
 
@@ -198,4 +231,17 @@ public class IdBasedReadablePacketRegistry<R extends IdBasedReadablePacket<R>> i
 
     return packet;
   }
+
+  @Override
+  public R takePacket(int id) {
+
+    var idToPool = this.idToPool;
+    var pool = id >= 0 && id < idToPool.length ? idToPool[id] : null;
+
+    if (pool != null) {
+      return pool.take();
+    }
+
+    return findById(id).newInstance();
+  }
 }
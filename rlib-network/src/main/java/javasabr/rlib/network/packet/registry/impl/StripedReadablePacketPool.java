@@ -0,0 +1,54 @@
+package javasabr.rlib.network.packet.registry.impl;
+
+import javasabr.rlib.common.util.pools.Pool;
+import javasabr.rlib.common.util.pools.PoolFactory;
+import javasabr.rlib.network.packet.IdBasedReadablePacket;
+import javasabr.rlib.network.packet.ReusableReadablePacket;
+
+/**
+ * The pool of reusable readable packets of one type which is split to stripes by threads, so network threads mostly
+ * use their own stripes and don't contend with each other.
+ *
+ * @author JavaSaBr
+ */
+class StripedReadablePacketPool<R extends IdBasedReadablePacket<R>> {
+
+  private static final int STRIPES = Integer.highestOneBit(
+      Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1));
+
+  private final Pool<ReusableReadablePacket>[] stripes;
+  private final R prototype;
+  private final int mask;
+
+  @SuppressWarnings("unchecked")
+  StripedReadablePacketPool(R prototype) {
+    this.prototype = prototype;
+    this.stripes = new Pool[STRIPES];
+    this.mask = STRIPES - 1;
+
+    for (int i = 0; i < STRIPES; i++) {
+      stripes[i] = PoolFactory.newConcurrentStampedLockReusablePool(ReusableReadablePacket.class);
+    }
+  }
+
+  /**
+   * Take a packet from the stripe of the current thread or create a new one.
+   *
+   * @return the packet which is ready to read data.
+   */
+  @SuppressWarnings("unchecked")
+  R take() {
+
+    var pool = stripes[(int) Thread.currentThread().threadId() & mask];
+    var packet = pool.take();
+
+    if (packet == null) {
+      packet = (ReusableReadablePacket) prototype.newInstance();
+      packet.setPool(pool);
+    }
+
+    packet.retain();
+
+    return (R) packet;
+  }
+}
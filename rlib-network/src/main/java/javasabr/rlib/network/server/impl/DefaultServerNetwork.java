@@ -11,6 +11,7 @@ import java.nio.channels.AsynchronousCloseException;
 import java.nio.channels.AsynchronousServerSocketChannel;
 import java.nio.channels.AsynchronousSocketChannel;
 import java.nio.channels.CompletionHandler;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -50,7 +51,7 @@ public final class DefaultServerNetwork<C extends UnsafeConnection<?, ?>> extend
 
     @Override
     public void completed(AsynchronousSocketChannel channel, DefaultServerNetwork<C> network) {
-      var connection = network.channelToConnection.apply(DefaultServerNetwork.this, channel);
+      var connection = network.createConnection(channel);
       LOGGER.debug(connection, conn -> "Accepted new connection: " + conn.getRemoteAddress());
       network.onAccept(connection);
       network.acceptNext();
@@ -71,6 +72,7 @@ public final class DefaultServerNetwork<C extends UnsafeConnection<?, ?>> extend
     }
   };
 
+  protected final ExecutorService executor;
   protected final AsynchronousChannelGroup group;
   protected final AsynchronousServerSocketChannel channel;
   protected final Array<Consumer<? super C>> subscribers;
@@ -87,7 +89,7 @@ public final class DefaultServerNetwork<C extends UnsafeConnection<?, ?>> extend
         config.getThreadPriority(),
         false);
 
-    var executor = config.getThreadGroupMinSize() < config.getThreadGroupMaxSize()
+    this.executor = config.getThreadGroupMinSize() < config.getThreadGroupMaxSize()
                    ? new ThreadPoolExecutor(
         config.getThreadGroupMinSize(),
         config.getThreadGroupMaxSize(),
@@ -107,7 +109,15 @@ public final class DefaultServerNetwork<C extends UnsafeConnection<?, ?>> extend
             + "  maxThreads: " + conf.getThreadGroupMaxSize() + ",\n" + "  priority: " + conf.getThreadPriority()
             + ",\n" + "  groupName: \"" + conf.getThreadGroupName() + "\",\n" + "  readBufferSize: "
             + conf.getReadBufferSize() + ",\n" + "  pendingBufferSize: " + conf.getPendingBufferSize() + ",\n"
-            + "  writeBufferSize: " + conf.getWriteBufferSize() + "\n" + "}");
+            + "  writeBufferSize: " + conf.getWriteBufferSize() + ",\n" + "  maxPacketsByWrite: "
+            + conf.getMaxPacketsByWrite() + ",\n" + "  maxBytesByWrite: " + conf.getMaxBytesByWrite() + ",\n"
+            + "  maxPacketSize: " + conf.getMaxPacketSize() + ",\n" + "  maxPendingPackets: "
+            + conf.getMaxPendingPackets() + ",\n" + "  pendingPacketsOverflowPolicy: "
+            + conf.getPendingPacketsOverflowPolicy() + ",\n" + "  compressionThreshold: "
+            + conf.getCompressionThreshold() + ",\n" + "  sslSessionCacheSize: " + conf.getSslSessionCacheSize()
+            + ",\n" + "  sslSessionTimeout: " + conf.getSslSessionTimeout() + ",\n" + "  readIdleTimeout: "
+            + conf.getReadIdleTimeout() + ",\n" + "  writeIdleTimeout: " + conf.getWriteIdleTimeout() + ",\n"
+            + "  allIdleTimeout: " + conf.getAllIdleTimeout() + "\n" + "}");
 
     this.group = uncheckedGet(executor, AsynchronousChannelGroup::withThreadPool);
     this.channel = uncheckedGet(group, AsynchronousServerSocketChannel::open);
@@ -184,9 +194,17 @@ public final class DefaultServerNetwork<C extends UnsafeConnection<?, ?>> extend
     sink.onDispose(() -> subscribers.remove(listener));
   }
 
+  @Override
+  protected void executeIoTask(AsynchronousSocketChannel channel, Runnable task) {
+    // connections are handled by the thread pool of the channel group
+    executor.execute(task);
+  }
+
   @Override
   public void shutdown() {
     Utils.unchecked(channel, AsynchronousChannel::close);
     group.shutdown();
+    shutdownIdleStateTracker();
+    shutdownFlushTimer();
   }
 }
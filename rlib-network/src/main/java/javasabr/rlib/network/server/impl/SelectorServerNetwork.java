@@ -0,0 +1,190 @@
+package javasabr.rlib.network.server.impl;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.AsynchronousSocketChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import javasabr.rlib.common.concurrent.GroupThreadFactory;
+import javasabr.rlib.common.util.ClassUtils;
+import javasabr.rlib.common.util.Utils;
+import javasabr.rlib.common.util.array.Array;
+import javasabr.rlib.common.util.array.ArrayFactory;
+import javasabr.rlib.logger.api.Logger;
+import javasabr.rlib.logger.api.LoggerManager;
+import javasabr.rlib.network.Network;
+import javasabr.rlib.network.ServerNetworkConfig;
+import javasabr.rlib.network.UnsafeConnection;
+import javasabr.rlib.network.impl.AbstractNetwork;
+import javasabr.rlib.network.impl.EventLoop;
+import javasabr.rlib.network.impl.EventLoopGroup;
+import javasabr.rlib.network.impl.SelectorSocketChannel;
+import javasabr.rlib.network.server.ServerNetwork;
+import javasabr.rlib.network.util.NetworkUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+/**
+ * The implementation of {@link ServerNetwork} which handles connections by a fixed group of selector loops. Accepted
+ * connections are assigned to loops in round-robin order and all reading, decoding and writing of a connection is
+ * executed by the thread of its loop, see {@link SelectorSocketChannel}.
+ *
+ * @author JavaSaBr
+ */
+public final class SelectorServerNetwork<C extends UnsafeConnection<?, ?>> extends AbstractNetwork<C> implements
+    ServerNetwork<C> {
+
+  private static final Logger LOGGER = LoggerManager.getLogger(SelectorServerNetwork.class);
+
+  private final EventLoopGroup group;
+  private final EventLoop acceptLoop;
+  private final ServerSocketChannel channel;
+  private final Array<Consumer<? super C>> subscribers;
+  private final AtomicBoolean accepting;
+
+  private volatile boolean bound;
+
+  public SelectorServerNetwork(
+      ServerNetworkConfig config,
+      BiFunction<Network<C>, AsynchronousSocketChannel, C> channelToConnection) {
+    super(config, channelToConnection);
+
+    var threadFactory = new GroupThreadFactory(
+        config.getThreadGroupName(),
+        config.getThreadConstructor(),
+        config.getThreadPriority(),
+        false);
+
+    this.group = new EventLoopGroup(Math.max(1, config.getEventLoopCount()), threadFactory);
+    this.acceptLoop = group.next();
+    this.channel = Utils.uncheckedGet(ServerSocketChannel::open);
+    this.subscribers = ArrayFactory.newCopyOnModifyArray(Consumer.class);
+    this.accepting = new AtomicBoolean(false);
+
+    LOGGER.info(
+        config,
+        conf -> "Server network configuration: {\n" + "  transport: " + conf.getTransport() + ",\n"
+            + "  eventLoops: " + conf.getEventLoopCount() + ",\n" + "  priority: " + conf.getThreadPriority() + ",\n"
+            + "  groupName: \"" + conf.getThreadGroupName() + "\",\n" + "  readBufferSize: "
+            + conf.getReadBufferSize() + ",\n" + "  pendingBufferSize: " + conf.getPendingBufferSize() + ",\n"
+            + "  writeBufferSize: " + conf.getWriteBufferSize() + "\n" + "}");
+  }
+
+  @Override
+  public InetSocketAddress start() {
+
+    InetSocketAddress address = null;
+
+    while (address == null) {
+
+      address = new InetSocketAddress(NetworkUtils.getAvailablePort(1500));
+      try {
+        channel.bind(address);
+      } catch (IOException e) {
+        address = null;
+      }
+    }
+
+    onBound(address);
+
+    return address;
+  }
+
+  @Override
+  public <S extends ServerNetwork<C>> S start(InetSocketAddress serverAddress) {
+    Utils.unchecked(channel, serverAddress, ServerSocketChannel::bind);
+    onBound(serverAddress);
+    return ClassUtils.unsafeNNCast(this);
+  }
+
+  private void onBound(InetSocketAddress address) {
+
+    LOGGER.info(address, adr -> "Started server socket on address: " + adr);
+
+    bound = true;
+
+    if (!subscribers.isEmpty()) {
+      startAccepting();
+    }
+  }
+
+  private void startAccepting() {
+    if (bound && accepting.compareAndSet(false, true)) {
+      acceptLoop.execute(() -> {
+        try {
+          channel.configureBlocking(false);
+          acceptLoop.register(channel, SelectionKey.OP_ACCEPT, this::onAcceptable);
+        } catch (IOException e) {
+          LOGGER.error("Can't start accepting new connections:");
+          LOGGER.error(e);
+        }
+      });
+    }
+  }
+
+  private void onAcceptable(SelectionKey key) {
+    while (true) {
+
+      SocketChannel accepted;
+      try {
+        accepted = channel.accept();
+      } catch (IOException e) {
+        LOGGER.error("Got exception during accepting new connection:");
+        LOGGER.error(e);
+        return;
+      }
+
+      if (accepted == null) {
+        return;
+      }
+
+      var loop = group.next();
+      loop.execute(() -> onAccept(accepted, loop));
+    }
+  }
+
+  private void onAccept(SocketChannel accepted, EventLoop loop) {
+    try {
+      var connection = createConnection(new SelectorSocketChannel(accepted, loop));
+      LOGGER.debug(connection, conn -> "Accepted new connection: " + conn.getRemoteAddress());
+      connection.onConnected();
+      subscribers.forEachR(connection, Consumer::accept);
+    } catch (Exception e) {
+      LOGGER.error("Got exception during accepting new connection:");
+      LOGGER.error(e);
+      Utils.unchecked(accepted, SocketChannel::close);
+    }
+  }
+
+  @Override
+  public void onAccept(Consumer<? super C> consumer) {
+    subscribers.add(consumer);
+    startAccepting();
+  }
+
+  @Override
+  public Flux<C> accepted() {
+    return Flux.create(this::registerFluxOnAccepted);
+  }
+
+  private void registerFluxOnAccepted(FluxSink<C> sink) {
+    Consumer<? super C> listener = sink::next;
+    onAccept(listener);
+    sink.onDispose(() -> subscribers.remove(listener));
+  }
+
+  @Override
+  public void shutdown() {
+    try {
+      Utils.unchecked(channel, ServerSocketChannel::close);
+    } finally {
+      group.shutdown();
+      shutdownIdleStateTracker();
+      shutdownFlushTimer();
+    }
+  }
+}
@@ -0,0 +1,150 @@
+package javasabr.rlib.network.server.impl;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.AsynchronousSocketChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import javasabr.rlib.common.util.ClassUtils;
+import javasabr.rlib.common.util.Utils;
+import javasabr.rlib.common.util.array.Array;
+import javasabr.rlib.common.util.array.ArrayFactory;
+import javasabr.rlib.logger.api.Logger;
+import javasabr.rlib.logger.api.LoggerManager;
+import javasabr.rlib.network.Network;
+import javasabr.rlib.network.ServerNetworkConfig;
+import javasabr.rlib.network.UnsafeConnection;
+import javasabr.rlib.network.impl.AbstractNetwork;
+import javasabr.rlib.network.impl.VirtualThreadSocketChannel;
+import javasabr.rlib.network.server.ServerNetwork;
+import javasabr.rlib.network.util.NetworkUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+/**
+ * The implementation of {@link ServerNetwork} which accepts connections by a blocking server socket channel on a
+ * virtual thread. Every accepted connection reads and writes data by own virtual threads, see
+ * {@link VirtualThreadSocketChannel}.
+ *
+ * @author JavaSaBr
+ */
+public final class VirtualThreadServerNetwork<C extends UnsafeConnection<?, ?>> extends AbstractNetwork<C> implements
+    ServerNetwork<C> {
+
+  private static final Logger LOGGER = LoggerManager.getLogger(VirtualThreadServerNetwork.class);
+
+  private final ServerSocketChannel channel;
+  private final Array<Consumer<? super C>> subscribers;
+  private final AtomicBoolean accepting;
+
+  private volatile boolean bound;
+
+  public VirtualThreadServerNetwork(
+      ServerNetworkConfig config,
+      BiFunction<Network<C>, AsynchronousSocketChannel, C> channelToConnection) {
+    super(config, channelToConnection);
+    this.channel = Utils.uncheckedGet(ServerSocketChannel::open);
+    this.subscribers = ArrayFactory.newCopyOnModifyArray(Consumer.class);
+    this.accepting = new AtomicBoolean(false);
+
+    LOGGER.info(
+        config,
+        conf -> "Server network configuration: {\n" + "  transport: " + conf.getTransport() + ",\n"
+            + "  readBufferSize: " + conf.getReadBufferSize() + ",\n" + "  pendingBufferSize: "
+            + conf.getPendingBufferSize() + ",\n" + "  writeBufferSize: " + conf.getWriteBufferSize() + "\n" + "}");
+  }
+
+  @Override
+  public InetSocketAddress start() {
+
+    InetSocketAddress address = null;
+
+    while (address == null) {
+
+      address = new InetSocketAddress(NetworkUtils.getAvailablePort(1500));
+      try {
+        channel.bind(address);
+      } catch (IOException e) {
+        address = null;
+      }
+    }
+
+    onBound(address);
+
+    return address;
+  }
+
+  @Override
+  public <S extends ServerNetwork<C>> S start(InetSocketAddress serverAddress) {
+    Utils.unchecked(channel, serverAddress, ServerSocketChannel::bind);
+    onBound(serverAddress);
+    return ClassUtils.unsafeNNCast(this);
+  }
+
+  private void onBound(InetSocketAddress address) {
+
+    LOGGER.info(address, adr -> "Started server socket on address: " + adr);
+
+    bound = true;
+
+    if (!subscribers.isEmpty()) {
+      startAccepting();
+    }
+  }
+
+  private void startAccepting() {
+    if (bound && accepting.compareAndSet(false, true)) {
+      Thread
+          .ofVirtual()
+          .name("network-accept")
+          .start(this::acceptLoop);
+    }
+  }
+
+  private void acceptLoop() {
+    while (channel.isOpen()) {
+      try {
+        var connection = createConnection(new VirtualThreadSocketChannel(channel.accept()));
+        LOGGER.debug(connection, conn -> "Accepted new connection: " + conn.getRemoteAddress());
+        onAccept(connection);
+      } catch (AsynchronousCloseException e) {
+        LOGGER.warning("Server network was closed");
+      } catch (Exception e) {
+        LOGGER.error("Got exception during accepting new connection:");
+        LOGGER.error(e);
+      }
+    }
+  }
+
+  private void onAccept(C connection) {
+    connection.onConnected();
+    subscribers.forEachR(connection, Consumer::accept);
+  }
+
+  @Override
+  public void onAccept(Consumer<? super C> consumer) {
+    subscribers.add(consumer);
+    startAccepting();
+  }
+
+  @Override
+  public Flux<C> accepted() {
+    return Flux.create(this::registerFluxOnAccepted);
+  }
+
+  private void registerFluxOnAccepted(FluxSink<C> sink) {
+    Consumer<? super C> listener = sink::next;
+    onAccept(listener);
+    sink.onDispose(() -> subscribers.remove(listener));
+  }
+
+  @Override
+  public void shutdown() {
+    Utils.unchecked(channel, ServerSocketChannel::close);
+    shutdownIdleStateTracker();
+    shutdownFlushTimer();
+  }
+}
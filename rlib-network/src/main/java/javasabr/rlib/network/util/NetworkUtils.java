@@ -14,6 +14,7 @@ import java.util.stream.IntStream;
 import javasabr.rlib.common.util.Utils;
 import javasabr.rlib.common.util.array.ArrayFactory;
 import javasabr.rlib.network.BufferAllocator;
+import javasabr.rlib.network.NetworkConfig;
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
@@ -96,6 +97,29 @@ public class NetworkUtils {
     }
   }
 
+  /**
+   * Apply the session cache settings of the network config to the SSL context.
+   *
+   * @param sslContext the SSL context.
+   * @param config the network config.
+   * @param clientMode true if the context is used by client connections.
+   * @return the SSL context.
+   */
+  public static SSLContext configureSessionCache(SSLContext sslContext, NetworkConfig config, boolean clientMode) {
+
+    var sessionContext = clientMode ? sslContext.getClientSessionContext() : sslContext.getServerSessionContext();
+
+    if (config.getSslSessionCacheSize() > 0) {
+      sessionContext.setSessionCacheSize(config.getSslSessionCacheSize());
+    }
+
+    if (config.getSslSessionTimeout() > 0) {
+      sessionContext.setSessionTimeout(config.getSslSessionTimeout());
+    }
+
+    return sslContext;
+  }
+
   public static SSLContext createAllTrustedClientSslContext() {
 
     try {
@@ -26,8 +26,8 @@ public class BaseNetworkTest {
     public final C clientToServer;
     public final C serverToClient;
 
-    private final ServerNetwork<C> serverNetwork;
-    private final ClientNetwork<C> clientNetwork;
+    public final ServerNetwork<C> serverNetwork;
+    public final ClientNetwork<C> clientNetwork;
 
     @Override
     public void close() {
@@ -1,6 +1,7 @@
 package javasabr.rlib.network;
 
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 import static javasabr.rlib.network.NetworkFactory.newDefaultClientNetwork;
 import static javasabr.rlib.network.NetworkFactory.newDefaultServerNetwork;
 import static javasabr.rlib.network.ServerNetworkConfig.DEFAULT_SERVER;
@@ -10,19 +11,28 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 import java.util.stream.IntStream;
+import java.util.zip.CRC32;
 import javasabr.rlib.common.util.ObjectUtils;
 import javasabr.rlib.common.util.StringUtils;
 import javasabr.rlib.logger.api.Logger;
 import javasabr.rlib.logger.api.LoggerManager;
 import javasabr.rlib.network.annotation.PacketDescription;
 import javasabr.rlib.network.impl.DefaultBufferAllocator;
+import javasabr.rlib.network.ServerNetworkConfig.SimpleServerNetworkConfig;
 import javasabr.rlib.network.impl.DefaultConnection;
+import javasabr.rlib.network.impl.IdBasedPacketConnection;
+import javasabr.rlib.network.packet.StreamingReadablePacket;
+import javasabr.rlib.network.packet.impl.AbstractReusableReadablePacket;
 import javasabr.rlib.network.packet.impl.DefaultReadablePacket;
 import javasabr.rlib.network.packet.impl.DefaultWritablePacket;
+import javasabr.rlib.network.packet.impl.PacketIdStatistics;
 import javasabr.rlib.network.packet.registry.ReadablePacketRegistry;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +40,7 @@ import lombok.SneakyThrows;
 import lombok.ToString;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * The tests of default network.
@@ -59,6 +70,25 @@ public class DefaultNetworkTest extends BaseNetworkTest {
     @PacketDescription(id = 2)
     class RequestServerTime extends DefaultWritablePacket {}
 
+    @RequiredArgsConstructor
+    @PacketDescription(id = 5)
+    class RequestBigData extends DefaultWritablePacket {
+
+      private final byte[] data;
+
+      @Override
+      public int getExpectedLength() {
+        // the packet id and the data
+        return 2 + data.length;
+      }
+
+      @Override
+      protected void writeImpl(ByteBuffer buffer) {
+        super.writeImpl(buffer);
+        buffer.put(data);
+      }
+    }
+
     @ToString
     @RequiredArgsConstructor
     @PacketDescription(id = 3)
@@ -111,6 +141,25 @@ public class DefaultNetworkTest extends BaseNetworkTest {
       }
     }
 
+    @ToString
+    @PacketDescription(id = 1)
+    class ReusableEchoMessage extends AbstractReusableReadablePacket<Connection<?, ?>, ReusableEchoMessage> {
+
+      @Getter
+      private volatile String message;
+
+      @Override
+      protected void readImpl(Connection<?, ?> connection, ByteBuffer buffer) {
+        super.readImpl(connection, buffer);
+        message = readString(buffer);
+      }
+
+      @Override
+      public void free() {
+        message = null;
+      }
+    }
+
     @ToString
     @PacketDescription(id = 2)
     class RequestServerTime extends DefaultReadablePacket {
@@ -127,6 +176,30 @@ public class DefaultNetworkTest extends BaseNetworkTest {
       }
     }
 
+    @ToString
+    @PacketDescription(id = 5)
+    class RequestBigData extends DefaultReadablePacket implements StreamingReadablePacket {
+
+      private final CRC32 checksum = new CRC32();
+
+      @Getter
+      private volatile int parts;
+      @Getter
+      private volatile int dataLength;
+
+      @Override
+      public boolean readPart(Connection<?, ?> connection, ByteBuffer buffer, int remaining) {
+        parts++;
+        dataLength += buffer.remaining();
+        checksum.update(buffer);
+        return true;
+      }
+
+      public long getChecksum() {
+        return checksum.getValue();
+      }
+    }
+
     @RequiredArgsConstructor
     @PacketDescription(id = 3)
     class ResponseEchoMessage extends DefaultWritablePacket {
@@ -157,6 +230,31 @@ public class DefaultNetworkTest extends BaseNetworkTest {
     }
   }
 
+  @Test
+  void shouldDeriveMaxBytesByWriteFromWriteBufferSize() {
+
+    var clientConfig = NetworkConfig.SimpleNetworkConfig
+        .builder()
+        .writeBufferSize(16384)
+        .build();
+
+    var serverConfig = SimpleServerNetworkConfig
+        .builder()
+        .writeBufferSize(16384)
+        .build();
+
+    Assertions.assertEquals(65536, clientConfig.getMaxBytesByWrite());
+    Assertions.assertEquals(65536, serverConfig.getMaxBytesByWrite());
+
+    var configured = SimpleServerNetworkConfig
+        .builder()
+        .writeBufferSize(16384)
+        .maxBytesByWrite(4096)
+        .build();
+
+    Assertions.assertEquals(4096, configured.getMaxBytesByWrite());
+  }
+
   @Test
   @SneakyThrows
   void echoNetworkTest() {
@@ -203,6 +301,56 @@ public class DefaultNetworkTest extends BaseNetworkTest {
     serverNetwork.shutdown();
   }
 
+  @Test
+  @SneakyThrows
+  void shouldReadPacketWhichEndsAtLimitOfReadBuffer() {
+
+    var message = StringUtils.generate(10);
+
+    // the length header, the packet id, the string length and the string chars
+    var packetSize = 2 + 2 + 4 + message.length() * 2;
+
+    var serverNetworkConfig = ServerNetworkConfig.SimpleServerNetworkConfig
+        .builder()
+        .readBufferSize(packetSize)
+        .build();
+
+    var serverPacketRegistry = ReadablePacketRegistry.of(
+        DefaultReadablePacket.class,
+        ServerPackets.RequestEchoMessage.class);
+    var clientPacketRegistry = ReadablePacketRegistry.of(
+        DefaultReadablePacket.class,
+        ClientPackets.ResponseEchoMessage.class);
+
+    try (var testNetwork = buildDefaultNetwork(
+        serverNetworkConfig,
+        new DefaultBufferAllocator(serverNetworkConfig),
+        serverPacketRegistry,
+        NetworkConfig.DEFAULT_CLIENT,
+        new DefaultBufferAllocator(NetworkConfig.DEFAULT_CLIENT),
+        clientPacketRegistry)) {
+
+      var packetCount = 5;
+      var counter = new CountDownLatch(packetCount);
+
+      testNetwork.serverToClient.onReceive((connection, packet) -> packet.execute(connection));
+      testNetwork.clientToServer.onReceive((connection, packet) -> {
+        if (packet instanceof ClientPackets.ResponseEchoMessage response
+            && ("Echo: " + message).equals(response.getMessage())) {
+          counter.countDown();
+        }
+      });
+
+      for (int i = 0; i < packetCount; i++) {
+        testNetwork.clientToServer.send(new ClientPackets.RequestEchoMessage(message));
+      }
+
+      Assertions.assertTrue(
+          counter.await(5, TimeUnit.SECONDS),
+          "Still wait for " + counter.getCount() + " packets...");
+    }
+  }
+
   @Test
   void shouldNotUseMappedBuffers() {
 
@@ -273,4 +421,261 @@ public class DefaultNetworkTest extends BaseNetworkTest {
       Assertions.assertNull(wrongPacket, () -> "Wrong received packet: " + wrongPacket);
     }
   }
+
+  @Test
+  @SneakyThrows
+  void shouldStreamBigPacketWithoutTempBuffers() {
+
+    var serverPacketRegistry = ReadablePacketRegistry.of(
+        DefaultReadablePacket.class,
+        ServerPackets.RequestEchoMessage.class,
+        ServerPackets.RequestBigData.class);
+    var clientPacketRegistry = ReadablePacketRegistry.of(
+        DefaultReadablePacket.class,
+        ClientPackets.ResponseEchoMessage.class);
+
+    var serverAllocator = new DefaultBufferAllocator(DEFAULT_SERVER) {
+
+      @Override
+      public ByteBuffer takeBuffer(int bufferSize) {
+        throw new RuntimeException();
+      }
+    };
+
+    try (var testNetwork = buildDefaultNetwork(
+        serverAllocator,
+        serverPacketRegistry,
+        new DefaultBufferAllocator(NetworkConfig.DEFAULT_CLIENT),
+        clientPacketRegistry)) {
+
+      var random = ThreadLocalRandom.current();
+      var data = new byte[60_000];
+      random.nextBytes(data);
+
+      var expectedChecksum = new CRC32();
+      expectedChecksum.update(data);
+
+      var bigPacketCount = 3;
+      var counter = new CountDownLatch(bigPacketCount + 1);
+      var receivedPackets = new CopyOnWriteArrayList<ServerPackets.RequestBigData>();
+
+      testNetwork.serverToClient.onReceive((connection, packet) -> {
+        if (packet instanceof ServerPackets.RequestBigData bigData) {
+          receivedPackets.add(bigData);
+        }
+        counter.countDown();
+      });
+
+      var clientToServer = testNetwork.clientToServer;
+
+      for (int i = 0; i < bigPacketCount; i++) {
+        clientToServer.send(new ClientPackets.RequestBigData(data));
+      }
+
+      // a small packet after big packets should be read as usual
+      clientToServer.send(new ClientPackets.RequestEchoMessage("test"));
+
+      Assertions.assertTrue(
+          counter.await(5, TimeUnit.SECONDS),
+          "Still wait for " + counter.getCount() + " packets...");
+
+      Assertions.assertEquals(bigPacketCount, receivedPackets.size());
+
+      for (var packet : receivedPackets) {
+        Assertions.assertEquals(data.length, packet.getDataLength());
+        Assertions.assertEquals(expectedChecksum.getValue(), packet.getChecksum());
+        Assertions.assertTrue(packet.getParts() > 1, "Data of big packet should be read by parts");
+      }
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldCloseConnectionWhenReceivedTooBigPacket() {
+
+    var serverNetworkConfig = SimpleServerNetworkConfig
+        .builder()
+        .maxPacketSize(1024)
+        .build();
+
+    var serverPacketRegistry = ReadablePacketRegistry.of(
+        DefaultReadablePacket.class,
+        ServerPackets.RequestEchoMessage.class,
+        ServerPackets.RequestBigData.class);
+    var clientPacketRegistry = ReadablePacketRegistry.of(
+        DefaultReadablePacket.class,
+        ClientPackets.ResponseEchoMessage.class);
+
+    try (var testNetwork = buildDefaultNetwork(
+        serverNetworkConfig,
+        new DefaultBufferAllocator(serverNetworkConfig),
+        serverPacketRegistry,
+        NetworkConfig.DEFAULT_CLIENT,
+        new DefaultBufferAllocator(NetworkConfig.DEFAULT_CLIENT),
+        clientPacketRegistry)) {
+
+      var serverToClient = testNetwork.serverToClient;
+      var received = new CountDownLatch(1);
+
+      serverToClient.onReceive((connection, packet) -> received.countDown());
+
+      testNetwork.clientToServer.send(new ClientPackets.RequestEchoMessage("small"));
+
+      Assertions.assertTrue(received.await(5, TimeUnit.SECONDS), "Small packet should be received");
+
+      testNetwork.clientToServer.send(new ClientPackets.RequestBigData(new byte[2048]));
+
+      var deadline = System.currentTimeMillis() + 5000;
+      while (!serverToClient.isClosed() && System.currentTimeMillis() < deadline) {
+        Thread.onSpinWait();
+      }
+
+      Assertions.assertTrue(serverToClient.isClosed(), "Connection should be closed by too big packet");
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldCollectStatisticsPerPacketId() {
+
+    var serverNetworkConfig = SimpleServerNetworkConfig
+        .builder()
+        .packetStatisticsEnabled(true)
+        .latencyHistogramsEnabled(true)
+        .build();
+
+    var clientNetworkConfig = NetworkConfig.SimpleNetworkConfig
+        .builder()
+        .packetStatisticsEnabled(true)
+        .build();
+
+    var serverPacketRegistry = ReadablePacketRegistry.of(
+        DefaultReadablePacket.class,
+        ServerPackets.RequestEchoMessage.class,
+        ServerPackets.RequestServerTime.class);
+    var clientPacketRegistry = ReadablePacketRegistry.of(
+        DefaultReadablePacket.class,
+        ClientPackets.ResponseEchoMessage.class,
+        ClientPackets.ResponseServerTime.class);
+
+    try (var testNetwork = buildDefaultNetwork(
+        serverNetworkConfig,
+        new DefaultBufferAllocator(serverNetworkConfig),
+        serverPacketRegistry,
+        clientNetworkConfig,
+        new DefaultBufferAllocator(clientNetworkConfig),
+        clientPacketRegistry)) {
+
+      var echoCount = 20;
+      var timeCount = 10;
+      var counter = new CountDownLatch(echoCount + timeCount);
+
+      testNetwork.serverToClient.onReceive((connection, packet) -> packet.execute(connection));
+      testNetwork.clientToServer.onReceive((connection, packet) -> counter.countDown());
+
+      for (int i = 0; i < echoCount; i++) {
+        testNetwork.clientToServer.send(new ClientPackets.RequestEchoMessage(StringUtils.generate(10 + i)));
+      }
+
+      for (int i = 0; i < timeCount; i++) {
+        testNetwork.clientToServer.send(new ClientPackets.RequestServerTime());
+      }
+
+      Assertions.assertTrue(
+          counter.await(5, TimeUnit.SECONDS),
+          "Still wait for " + counter.getCount() + " packets...");
+
+      var serverStatistics = toStatisticsById(testNetwork.serverNetwork.getPacketStatistics());
+      var clientStatistics = toStatisticsById(testNetwork.clientNetwork.getPacketStatistics());
+
+      var echoOnServer = serverStatistics.get(1);
+      Assertions.assertEquals(echoCount, echoOnServer.readCount());
+      Assertions.assertTrue(echoOnServer.readBytes() > 0);
+      Assertions.assertTrue(echoOnServer.readSizeP99() > 0);
+      Assertions.assertEquals(timeCount, serverStatistics.get(2).readCount());
+      Assertions.assertEquals(echoCount, serverStatistics.get(3).writeCount());
+      Assertions.assertEquals(timeCount, serverStatistics.get(4).writeCount());
+
+      var echoOnClient = clientStatistics.get(1);
+      Assertions.assertEquals(echoCount, echoOnClient.writeCount());
+      Assertions.assertEquals(echoOnServer.readBytes(), echoOnClient.writeBytes());
+      Assertions.assertEquals(-1, echoOnClient.writeSizeP99());
+      Assertions.assertEquals(timeCount, clientStatistics.get(2).writeCount());
+      Assertions.assertEquals(echoCount, clientStatistics.get(3).readCount());
+      Assertions.assertEquals(timeCount, clientStatistics.get(4).readCount());
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldNotReuseReceivedPacketsUntilReleasedByAsyncSubscriber() {
+
+    var serverPacketRegistry = ReadablePacketRegistry.of(
+        ServerPackets.ReusableEchoMessage.class,
+        ServerPackets.ReusableEchoMessage.class);
+    var serverBufferAllocator = new DefaultBufferAllocator(DEFAULT_SERVER);
+    var serverNetwork = NetworkFactory.<IdBasedPacketConnection<ServerPackets.ReusableEchoMessage,
+        DefaultWritablePacket>>newServerNetwork(
+        DEFAULT_SERVER,
+        (network, channel) -> new IdBasedPacketConnection<>(
+            network,
+            channel,
+            serverBufferAllocator,
+            serverPacketRegistry,
+            100,
+            2,
+            2));
+    var serverAddress = serverNetwork.start();
+
+    int packetCount = 200;
+    var receivedMessages = new CopyOnWriteArrayList<String>();
+    var received = new CountDownLatch(packetCount);
+
+    serverNetwork
+        .accepted()
+        .flatMap(Connection::receivedPackets)
+        .publishOn(Schedulers.single())
+        .subscribe(packet -> {
+          // a slow subscriber to let the network read next packets before handling this one
+          LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+          receivedMessages.add(packet.getMessage());
+          packet.release();
+          received.countDown();
+        });
+
+    var clientNetwork = newDefaultClientNetwork(ReadablePacketRegistry.of(
+        DefaultReadablePacket.class,
+        ClientPackets.ResponseEchoMessage.class));
+
+    try {
+
+      var clientToServer = clientNetwork
+          .connected(serverAddress)
+          .block(Duration.ofSeconds(5));
+
+      var expectedMessages = IntStream
+          .range(0, packetCount)
+          .mapToObj(index -> "Message " + index)
+          .collect(toList());
+
+      expectedMessages.forEach(message -> clientToServer.send(new ClientPackets.RequestEchoMessage(message)));
+
+      Assertions.assertTrue(
+          received.await(10, TimeUnit.SECONDS),
+          "Still wait for " + received.getCount() + " packets...");
+      Assertions.assertEquals(expectedMessages, receivedMessages);
+
+    } finally {
+      clientNetwork.shutdown();
+      serverNetwork.shutdown();
+    }
+  }
+
+  private static Map<Integer, PacketIdStatistics.Entry> toStatisticsById(PacketIdStatistics statistics) {
+    return ObjectUtils
+        .notNull(statistics)
+        .snapshot()
+        .stream()
+        .collect(toMap(PacketIdStatistics.Entry::packetId, entry -> entry));
+  }
 }
@@ -7,6 +7,7 @@ import javasabr.rlib.network.annotation.PacketDescription;
 import javasabr.rlib.network.impl.DefaultConnection;
 import javasabr.rlib.network.packet.IdBasedReadablePacket;
 import javasabr.rlib.network.packet.impl.AbstractIdBasedReadablePacket;
+import javasabr.rlib.network.packet.impl.AbstractReusableReadablePacket;
 import javasabr.rlib.network.packet.impl.DefaultReadablePacket;
 import javasabr.rlib.network.packet.registry.impl.IdBasedReadablePacketRegistry;
 import lombok.NoArgsConstructor;
@@ -52,6 +53,13 @@ public class IdBasedReadablePacketRegistryTest {
   @PacketDescription(id = 5)
   public static class PublicImpl2 extends PublicBase {}
 
+  @NoArgsConstructor
+  public static class ReusableBase extends AbstractReusableReadablePacket<DefaultConnection, ReusableBase> {}
+
+  @NoArgsConstructor
+  @PacketDescription(id = 2)
+  public static class ReusableImpl1 extends ReusableBase {}
+
   @Test
   Object shouldBeCreated() {
     return new IdBasedReadablePacketRegistry<>(IdBasedReadablePacket.class);
@@ -120,4 +128,32 @@ public class IdBasedReadablePacketRegistryTest {
     Assertions.assertThrows(IllegalArgumentException.class, () -> registry.findById(2));
     Assertions.assertTrue(registry.findById(5) instanceof PublicImpl2);
   }
+
+  @Test
+  void shouldReuseReleasedPackets() {
+
+    var registry = new IdBasedReadablePacketRegistry<>(IdBasedReadablePacket.class).register(
+        Impl1.class,
+        ReusableImpl1.class);
+
+    var first = registry.takePacket(1);
+    var second = registry.takePacket(1);
+
+    Assertions.assertNotSame(first, second, "Not reusable packets should be created every time");
+
+    var reusable = (ReusableImpl1) registry.takePacket(2);
+    reusable.release();
+
+    Assertions.assertSame(reusable, registry.takePacket(2), "Released packet should be reused");
+
+    reusable.retain();
+    reusable.release();
+
+    Assertions.assertNotSame(reusable, registry.takePacket(2), "Retained packet should not be reused");
+
+    reusable.release();
+
+    Assertions.assertSame(reusable, registry.takePacket(2), "Released packet should be reused");
+    Assertions.assertThrows(IllegalArgumentException.class, () -> registry.takePacket(3));
+  }
 }
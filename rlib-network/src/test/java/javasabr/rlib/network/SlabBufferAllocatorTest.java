@@ -0,0 +1,162 @@
+package javasabr.rlib.network;
+
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+import javasabr.rlib.network.impl.DefaultBufferAllocator;
+import javasabr.rlib.network.impl.SlabBufferAllocator;
+import javasabr.rlib.network.packet.impl.StringWritablePacket;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author JavaSaBr
+ */
+public class SlabBufferAllocatorTest {
+
+  @Test
+  void shouldReuseBuffersBySizeClasses() {
+
+    var allocator = new SlabBufferAllocator(NetworkConfig.DEFAULT_CLIENT);
+
+    var buffer = allocator.takeBuffer(3000);
+
+    Assertions.assertEquals(4096, buffer.capacity());
+    Assertions.assertEquals(4096, buffer.limit());
+    Assertions.assertEquals(0, allocator.getHits());
+    Assertions.assertEquals(1, allocator.getMisses());
+
+    buffer.putInt(10);
+    allocator.putBuffer(buffer);
+
+    Assertions.assertEquals(4096, allocator.getRetainedBytes());
+
+    var reused = allocator.takeBuffer(2049);
+
+    Assertions.assertSame(buffer, reused);
+    Assertions.assertEquals(0, reused.position());
+    Assertions.assertEquals(1, allocator.getHits());
+    Assertions.assertEquals(0, allocator.getRetainedBytes());
+
+    var small = allocator.takeBuffer(10);
+
+    Assertions.assertEquals(SlabBufferAllocator.MIN_SIZE_CLASS, small.capacity());
+  }
+
+  @Test
+  void shouldNotStoreBuffersOverLimits() {
+
+    var allocator = new SlabBufferAllocator(NetworkConfig.DEFAULT_CLIENT, 4096, 0, 8192);
+
+    var huge = allocator.takeBuffer(10_000);
+
+    Assertions.assertEquals(10_000, huge.capacity());
+
+    allocator.putBuffer(huge);
+
+    Assertions.assertEquals(1, allocator.getDropped());
+    Assertions.assertEquals(0, allocator.getRetainedBytes());
+
+    var first = allocator.takeBuffer(4096);
+    var second = allocator.takeBuffer(4000);
+    var third = allocator.takeBuffer(3000);
+
+    allocator.putBuffer(first);
+    allocator.putBuffer(second);
+
+    Assertions.assertEquals(8192, allocator.getRetainedBytes());
+
+    allocator.putBuffer(third);
+
+    Assertions.assertEquals(8192, allocator.getRetainedBytes());
+    Assertions.assertEquals(2, allocator.getDropped());
+  }
+
+  @Test
+  void shouldSliceDirectBuffersFromSlabs() {
+
+    var config = NetworkConfig.SimpleNetworkConfig
+        .builder()
+        .byteOrder(ByteOrder.LITTLE_ENDIAN)
+        .build();
+
+    var directConfig = new NetworkConfig() {
+
+      @Override
+      public ByteOrder getByteOrder() {
+        return config.getByteOrder();
+      }
+
+      @Override
+      public boolean isDirectByteBuffer() {
+        return true;
+      }
+    };
+
+    var allocator = new SlabBufferAllocator(directConfig, 1 << 16, 1 << 14, 1 << 20);
+
+    var first = allocator.takeBuffer(1024);
+
+    Assertions.assertTrue(first.isDirect());
+    Assertions.assertEquals(1024, first.capacity());
+    Assertions.assertEquals(ByteOrder.LITTLE_ENDIAN, first.order());
+    Assertions.assertEquals(15 * 1024, allocator.getRetainedBytes());
+
+    var second = allocator.takeBuffer(1024);
+
+    Assertions.assertEquals(1, allocator.getHits());
+    Assertions.assertEquals(ByteOrder.LITTLE_ENDIAN, second.order());
+
+    first.putLong(0, Long.MAX_VALUE);
+    second.putLong(0, 7);
+
+    Assertions.assertEquals(Long.MAX_VALUE, first.getLong(0), "Slices should not overlap");
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldBeCreatedByNetworkFactoryFromConfig() {
+
+    var serverConfig = ServerNetworkConfig.SimpleServerNetworkConfig
+        .builder()
+        .bufferAllocatorType(BufferAllocatorType.SLAB)
+        .build();
+
+    var clientConfig = NetworkConfig.SimpleNetworkConfig
+        .builder()
+        .bufferAllocatorType(BufferAllocatorType.SLAB)
+        .build();
+
+    Assertions.assertInstanceOf(SlabBufferAllocator.class, NetworkFactory.newBufferAllocator(clientConfig));
+    Assertions.assertInstanceOf(
+        DefaultBufferAllocator.class,
+        NetworkFactory.newBufferAllocator(NetworkConfig.DEFAULT_CLIENT));
+
+    var serverNetwork = NetworkFactory.newStringDataServerNetwork(serverConfig);
+    var serverAddress = serverNetwork.start();
+
+    serverNetwork
+        .accepted()
+        .flatMap(Connection::receivedEvents)
+        .subscribe(event -> event.connection.send(new StringWritablePacket("Echo: " + event.packet.getData())));
+
+    var clientNetwork = NetworkFactory.newStringDataClientNetwork(clientConfig);
+    var connection = clientNetwork
+        .connect(serverAddress)
+        .join();
+
+    var pendingEcho = connection
+        .receivedPackets()
+        .next()
+        .toFuture();
+
+    connection.send(new StringWritablePacket("Hello"));
+
+    Assertions.assertEquals("Echo: Hello", pendingEcho
+        .get(5, TimeUnit.SECONDS)
+        .getData());
+
+    serverNetwork.shutdown();
+    clientNetwork.shutdown();
+  }
+}
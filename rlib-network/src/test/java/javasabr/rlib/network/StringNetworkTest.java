@@ -5,13 +5,23 @@ import static javasabr.rlib.network.NetworkFactory.newStringDataClientNetwork;
 import static javasabr.rlib.network.NetworkFactory.newStringDataServerNetwork;
 import static javasabr.rlib.network.ServerNetworkConfig.DEFAULT_SERVER;
 
+import java.net.Socket;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.IntStream;
 import javasabr.rlib.common.concurrent.atomic.ReusableAtomicInteger;
 import javasabr.rlib.common.util.ObjectUtils;
@@ -21,7 +31,13 @@ import javasabr.rlib.logger.api.LoggerManager;
 import javasabr.rlib.network.ServerNetworkConfig.SimpleServerNetworkConfig;
 import javasabr.rlib.network.client.ClientNetwork;
 import javasabr.rlib.network.impl.DefaultBufferAllocator;
+import javasabr.rlib.network.impl.DeflaterNetworkCompressor;
+import javasabr.rlib.network.impl.StringDataConnection;
+import javasabr.rlib.network.packet.FileRegionWritablePacket;
+import javasabr.rlib.network.packet.impl.PacketCompression;
+import javasabr.rlib.network.packet.impl.StringReadablePacket;
 import javasabr.rlib.network.packet.impl.StringWritablePacket;
+import lombok.Getter;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -398,7 +414,996 @@ public class StringNetworkTest extends BaseNetworkTest {
     }
   }
 
+  @Test
+  void shouldGetAllPacketsWithFeedbackUsingBatchedWrites() {
+
+    int packetCount = 1000;
+
+    var serverConfig = SimpleServerNetworkConfig
+        .builder()
+        .maxPacketsByWrite(32)
+        .build();
+
+    var clientConfig = NetworkConfig.SimpleNetworkConfig
+        .builder()
+        .maxPacketsByWrite(32)
+        .build();
+
+    var serverAllocator = new DefaultBufferAllocator(serverConfig);
+    var clientAllocator = new DefaultBufferAllocator(clientConfig);
+
+    try (var testNetwork = buildStringNetwork(serverConfig, serverAllocator, clientConfig, clientAllocator)) {
+
+      var bufferSize = clientConfig.getWriteBufferSize();
+      var random = ThreadLocalRandom.current();
+
+      var clientToServer = testNetwork.clientToServer;
+      var serverToClient = testNetwork.serverToClient;
+
+      var pendingPacketsOnServer = serverToClient
+          .receivedPackets()
+          .buffer(packetCount);
+
+      // mostly small packets to be coalesced and some big packets to be sent separately
+      var messages = IntStream
+          .range(0, packetCount)
+          .mapToObj(value -> StringUtils.generate(value % 50 == 0
+              ? random.nextInt(bufferSize, bufferSize * 3)
+              : random.nextInt(0, 100)))
+          .collect(toList());
+
+      var asyncResults = messages
+          .stream()
+          .map(message -> clientToServer.sendWithFeedback(new StringWritablePacket(message)))
+          .collect(toList());
+
+      CompletableFuture
+          .allOf(asyncResults.toArray(CompletableFuture[]::new))
+          .join();
+
+      Assertions.assertTrue(asyncResults
+          .stream()
+          .allMatch(CompletableFuture::join), "Found not sent packets...");
+
+      var receivedPackets = ObjectUtils.notNull(pendingPacketsOnServer.blockFirst(Duration.ofSeconds(5)));
+
+      Assertions.assertEquals(packetCount, receivedPackets.size(), "Didn't receive all packets");
+
+      for (int i = 0; i < packetCount; i++) {
+        Assertions.assertEquals(messages.get(i), receivedPackets.get(i).getData(), "Wrong packet order or content");
+      }
+    }
+  }
+
+  @Test
+  void shouldDropPacketsWhenPendingQueueIsFull() {
+
+    int packetCount = 2000;
+
+    var clientConfig = NetworkConfig.SimpleNetworkConfig
+        .builder()
+        .maxPendingPackets(10)
+        .pendingPacketsOverflowPolicy(PendingPacketsOverflowPolicy.DROP)
+        .build();
+
+    var serverAllocator = new DefaultBufferAllocator(DEFAULT_SERVER);
+    var clientAllocator = new DefaultBufferAllocator(clientConfig);
+
+    try (var testNetwork = buildStringNetwork(DEFAULT_SERVER, serverAllocator, clientConfig, clientAllocator)) {
+
+      var clientToServer = testNetwork.clientToServer;
+      var serverToClient = testNetwork.serverToClient;
+      var receivedOnServer = new ReusableAtomicInteger();
+
+      serverToClient.onReceive((connection, packet) -> receivedOnServer.incrementAndGet());
+
+      var asyncResults = IntStream
+          .range(0, packetCount)
+          .mapToObj(value -> clientToServer.sendWithFeedback(new StringWritablePacket(StringUtils.generate(500))))
+          .collect(toList());
+
+      CompletableFuture
+          .allOf(asyncResults.toArray(CompletableFuture[]::new))
+          .join();
+
+      var sentPackets = asyncResults
+          .stream()
+          .filter(CompletableFuture::join)
+          .count();
+
+      Assertions.assertTrue(sentPackets > 0, "No packets were sent");
+
+      var waitUntil = System.currentTimeMillis() + 5000;
+
+      while (receivedOnServer.get() < sentPackets && System.currentTimeMillis() < waitUntil) {
+        Thread.onSpinWait();
+      }
+
+      Assertions.assertEquals(sentPackets, receivedOnServer.get(), "Didn't receive all sent packets");
+    }
+  }
+
+  @Test
+  void shouldFailPacketsWhenPendingQueueIsFull() {
+
+    int packetCount = 2000;
+
+    var clientConfig = NetworkConfig.SimpleNetworkConfig
+        .builder()
+        .maxPendingPackets(10)
+        .pendingPacketsOverflowPolicy(PendingPacketsOverflowPolicy.FAIL)
+        .metricsEnabled(true)
+        .build();
+
+    var serverAllocator = new DefaultBufferAllocator(DEFAULT_SERVER);
+    var clientAllocator = new DefaultBufferAllocator(clientConfig);
+
+    try (var testNetwork = buildStringNetwork(DEFAULT_SERVER, serverAllocator, clientConfig, clientAllocator)) {
+
+      var clientToServer = testNetwork.clientToServer;
+
+      var asyncResults = IntStream
+          .range(0, packetCount)
+          .mapToObj(value -> clientToServer
+              .sendWithFeedback(new StringWritablePacket(StringUtils.generate(500)))
+              .handle((result, throwable) -> throwable != null))
+          .collect(toList());
+
+      var failedPackets = asyncResults
+          .stream()
+          .filter(CompletableFuture::join)
+          .count();
+
+      Assertions.assertTrue(failedPackets > 0, "No packets were failed");
+
+      var snapshot = clientToServer
+          .getMetrics()
+          .snapshot();
+
+      Assertions.assertEquals(failedPackets, snapshot.failedPackets(), "Failed packets weren't counted");
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldNotBlockEventLoopByReplyToFullQueue() {
+
+    var serverConfig = SimpleServerNetworkConfig
+        .builder()
+        .transport(NetworkTransport.SELECTOR)
+        .maxPendingPackets(2)
+        .pendingPacketsOverflowPolicy(PendingPacketsOverflowPolicy.BLOCK)
+        .flushPolicy(FlushPolicy.EXPLICIT)
+        .build();
+
+    var serverAllocator = new DefaultBufferAllocator(serverConfig);
+    var clientConfig = NetworkConfig.DEFAULT_CLIENT;
+    var clientAllocator = new DefaultBufferAllocator(clientConfig);
+
+    try (var testNetwork = buildStringNetwork(serverConfig, serverAllocator, clientConfig, clientAllocator)) {
+
+      var clientToServer = testNetwork.clientToServer;
+      var serverToClient = testNetwork.serverToClient;
+      var firstReplies = new CountDownLatch(1);
+      var secondReplies = new CountDownLatch(1);
+      var replyResults = new CopyOnWriteArrayList<CompletableFuture<Boolean>>();
+
+      // the replies overflow the queue on the event loop which is the only thread writing the queue
+      serverToClient.onReceive((connection, packet) -> {
+        for (int i = 0; i < 5; i++) {
+          var reply = new StringWritablePacket("Reply " + i + ": " + packet.getData());
+          replyResults.add(connection.sendWithFeedback(reply));
+        }
+        connection.flush();
+      });
+
+      clientToServer.onReceive((connection, packet) -> {
+        if (packet.getData().endsWith("First")) {
+          firstReplies.countDown();
+        } else if (packet.getData().endsWith("Second")) {
+          secondReplies.countDown();
+        }
+      });
+
+      clientToServer.send(new StringWritablePacket("First"));
+
+      Assertions.assertTrue(firstReplies.await(5, TimeUnit.SECONDS), "Event loop was blocked by the reply");
+
+      clientToServer.send(new StringWritablePacket("Second"));
+
+      Assertions.assertTrue(secondReplies.await(5, TimeUnit.SECONDS), "Event loop was blocked by the reply");
+
+      var sentReplies = replyResults
+          .stream()
+          .filter(CompletableFuture::join)
+          .count();
+
+      Assertions.assertEquals(4, sentReplies, "Replies over the queue limit should be dropped");
+    }
+  }
+
+  @Test
+  void shouldCoalescePacketsByTimeWindow() {
+
+    int packetCount = 200;
+
+    var clientConfig = NetworkConfig.SimpleNetworkConfig
+        .builder()
+        .flushPolicy(FlushPolicy.TIME_WINDOW)
+        .flushWindow(20)
+        .maxPacketsByWrite(32)
+        .build();
+
+    var serverAllocator = new DefaultBufferAllocator(DEFAULT_SERVER);
+    var clientAllocator = new DefaultBufferAllocator(clientConfig);
+
+    try (var testNetwork = buildStringNetwork(DEFAULT_SERVER, serverAllocator, clientConfig, clientAllocator)) {
+
+      var clientToServer = testNetwork.clientToServer;
+      var serverToClient = testNetwork.serverToClient;
+
+      var pendingPacketsOnServer = serverToClient
+          .receivedPackets()
+          .buffer(packetCount);
+
+      var messages = IntStream
+          .range(0, packetCount)
+          .mapToObj(value -> StringUtils.generate(ThreadLocalRandom.current().nextInt(0, 100)))
+          .peek(message -> clientToServer.send(new StringWritablePacket(message)))
+          .collect(toList());
+
+      var receivedPackets = ObjectUtils.notNull(pendingPacketsOnServer.blockFirst(Duration.ofSeconds(5)));
+
+      Assertions.assertEquals(packetCount, receivedPackets.size(), "Didn't receive all packets");
+
+      for (int i = 0; i < packetCount; i++) {
+        Assertions.assertEquals(messages.get(i), receivedPackets.get(i).getData());
+      }
+
+      Assertions.assertEquals(packetCount, clientToServer.getFlushedPacketCount());
+      Assertions.assertTrue(
+          clientToServer.getPacketsPerFlush() > 1,
+          "Packets were not coalesced: " + clientToServer.getPacketsPerFlush());
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldWriteDelayedFlushesOutOfFlushTimer() {
+
+    int packetCount = 50;
+
+    var clientConfig = NetworkConfig.SimpleNetworkConfig
+        .builder()
+        .flushPolicy(FlushPolicy.TIME_WINDOW)
+        .flushWindow(10)
+        .build();
+
+    var timerName = clientConfig.getThreadGroupName() + "FlushTimer";
+
+    var serverAllocator = new DefaultBufferAllocator(DEFAULT_SERVER);
+    var clientAllocator = new DefaultBufferAllocator(clientConfig);
+    var writingThreads = ConcurrentHashMap.<String>newKeySet();
+
+    try (var testNetwork = buildStringNetwork(DEFAULT_SERVER, serverAllocator, clientConfig, clientAllocator)) {
+
+      var clientToServer = testNetwork.clientToServer;
+      var serverToClient = testNetwork.serverToClient;
+
+      var pendingPacketsOnServer = serverToClient
+          .receivedPackets()
+          .buffer(packetCount);
+
+      IntStream
+          .range(0, packetCount)
+          .mapToObj(value -> new StringWritablePacket("Message " + value) {
+
+            @Override
+            protected void writeImpl(ByteBuffer buffer) {
+              writingThreads.add(Thread.currentThread().getName());
+              super.writeImpl(buffer);
+            }
+          })
+          .forEach(clientToServer::send);
+
+      var receivedPackets = ObjectUtils.notNull(pendingPacketsOnServer.blockFirst(Duration.ofSeconds(5)));
+
+      Assertions.assertEquals(packetCount, receivedPackets.size(), "Didn't receive all packets");
+      Assertions.assertFalse(findThreads(timerName).isEmpty(), "Flush timer wasn't created");
+      Assertions.assertTrue(
+          writingThreads
+              .stream()
+              .noneMatch(name -> name.startsWith(timerName)),
+          "Packets were written by the flush timer: " + writingThreads);
+    }
+
+    for (var flushTimer : findThreads(timerName)) {
+      flushTimer.join(5000);
+      Assertions.assertFalse(flushTimer.isAlive(), "Flush timer wasn't stopped by shutdown of network");
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldSendPacketsOnlyByExplicitFlush() {
+
+    int packetCount = 50;
+
+    var clientConfig = NetworkConfig.SimpleNetworkConfig
+        .builder()
+        .flushPolicy(FlushPolicy.EXPLICIT)
+        .build();
+
+    var serverAllocator = new DefaultBufferAllocator(DEFAULT_SERVER);
+    var clientAllocator = new DefaultBufferAllocator(clientConfig);
+
+    try (var testNetwork = buildStringNetwork(DEFAULT_SERVER, serverAllocator, clientConfig, clientAllocator)) {
+
+      var clientToServer = testNetwork.clientToServer;
+      var serverToClient = testNetwork.serverToClient;
+      var receivedOnServer = new CountDownLatch(packetCount);
+
+      serverToClient.onReceive((connection, packet) -> receivedOnServer.countDown());
+
+      IntStream
+          .range(0, packetCount)
+          .forEach(value -> clientToServer.send(new StringWritablePacket("Packet " + value)));
+
+      Assertions.assertFalse(receivedOnServer.await(200, TimeUnit.MILLISECONDS), "Packets were sent before flush");
+      Assertions.assertEquals(packetCount, receivedOnServer.getCount());
+
+      clientToServer.flush();
+
+      Assertions.assertTrue(
+          receivedOnServer.await(5, TimeUnit.SECONDS),
+          "Still wait for " + receivedOnServer.getCount() + " packets...");
+      Assertions.assertEquals(1, clientToServer.getFlushCount());
+      Assertions.assertEquals(packetCount, clientToServer.getFlushedPacketCount());
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldCompressPacketsAboveThreshold() {
+
+    int packetCount = 100;
+
+    var serverConfig = SimpleServerNetworkConfig
+        .builder()
+        .compressionThreshold(256)
+        .build();
+
+    var clientConfig = NetworkConfig.SimpleNetworkConfig
+        .builder()
+        .compressionThreshold(256)
+        .build();
+
+    var serverAllocator = new DefaultBufferAllocator(serverConfig);
+    var clientAllocator = new DefaultBufferAllocator(clientConfig);
+
+    try (var testNetwork = buildStringNetwork(serverConfig, serverAllocator, clientConfig, clientAllocator)) {
+
+      var clientToServer = testNetwork.clientToServer;
+      var serverToClient = testNetwork.serverToClient;
+      var receivedPackets = new CopyOnWriteArrayList<StringReadablePacket>();
+      var counter = new CountDownLatch(packetCount);
+
+      serverToClient.onReceive((connection, packet) -> {
+        receivedPackets.add(packet);
+        counter.countDown();
+      });
+
+      var random = ThreadLocalRandom.current();
+
+      // even packets are small and odd packets are big repetitive state packets
+      var messages = IntStream
+          .range(0, packetCount)
+          .mapToObj(value -> value % 2 == 0
+                             ? "Small " + value
+                             : ("State " + value + ";").repeat(random.nextInt(50, 400)))
+          .peek(message -> clientToServer.send(new StringWritablePacket(message)))
+          .collect(toList());
+
+      Assertions.assertTrue(
+          counter.await(5, TimeUnit.SECONDS),
+          "Still wait for " + counter.getCount() + " packets...");
+
+      for (int i = 0; i < packetCount; i++) {
+        Assertions.assertEquals(messages.get(i), receivedPackets.get(i).getData());
+      }
+
+      Assertions.assertEquals(packetCount / 2, clientToServer.getCompressedPacketCount());
+      Assertions.assertTrue(
+          clientToServer.getCompressionRatio() < 0.5,
+          "Repetitive packets were not compressed: " + clientToServer.getCompressionRatio());
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldSkipCompressedPacketWithoutOriginalLength() {
+
+    var serverConfig = SimpleServerNetworkConfig
+        .builder()
+        .compressionThreshold(256)
+        .build();
+
+    var serverNetwork = newStringDataServerNetwork(serverConfig);
+    var serverAddress = serverNetwork.start();
+    var receivedPackets = new CopyOnWriteArrayList<String>();
+    var counter = new CountDownLatch(1);
+
+    serverNetwork.onAccept(connection -> connection.onReceive((cn, packet) -> {
+      receivedPackets.add(packet.getData());
+      counter.countDown();
+    }));
+
+    try (var socket = new Socket(serverAddress.getHostName(), serverAddress.getPort())) {
+
+      var output = socket.getOutputStream();
+
+      // the compressed packet with length 4 doesn't have space for the original length
+      output.write(new byte[] {(byte) 0x80, 4, 0, 0});
+      output.flush();
+
+      Thread.sleep(100);
+
+      output.write(ByteBuffer
+          .allocate(10)
+          .putShort((short) 10)
+          .putInt(2)
+          .putChar('H')
+          .putChar('i')
+          .array());
+      output.flush();
+
+      Assertions.assertTrue(counter.await(5, TimeUnit.SECONDS), "Packet after the malformed packet wasn't received");
+      Assertions.assertEquals(List.of("Hi"), receivedPackets);
+    }
+
+    serverNetwork.shutdown();
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldCloseConnectionOnTooBigOriginalLengthOfCompressedPacket() {
+
+    var serverConfig = SimpleServerNetworkConfig
+        .builder()
+        .compressionThreshold(256)
+        .build();
+
+    var maxRequestedBuffer = new AtomicInteger();
+    var serverAllocator = new DefaultBufferAllocator(serverConfig) {
+
+      @Override
+      public ByteBuffer takeBuffer(int bufferSize) {
+        maxRequestedBuffer.accumulateAndGet(bufferSize, Math::max);
+        return super.takeBuffer(bufferSize);
+      }
+    };
+
+    var serverNetwork = newStringDataServerNetwork(serverConfig, serverAllocator);
+    var serverAddress = serverNetwork.start();
+
+    serverNetwork.onAccept(connection -> connection.onReceive((cn, packet) -> {}));
+
+    try (var socket = new Socket(serverAddress.getHostName(), serverAddress.getPort())) {
+
+      socket.setSoTimeout(5000);
+
+      var output = socket.getOutputStream();
+
+      // the small compressed packet claims almost 2 GB of original data
+      output.write(ByteBuffer
+          .allocate(10)
+          .putShort((short) (0x8000 | 10))
+          .putInt(Integer.MAX_VALUE - 16)
+          .putInt(0)
+          .array());
+      output.flush();
+
+      Assertions.assertEquals(-1, socket.getInputStream().read(), "Connection wasn't closed");
+      Assertions.assertTrue(
+          maxRequestedBuffer.get() <= serverConfig.getCompressionMaxOriginalSize(),
+          "Too big buffer was requested: " + maxRequestedBuffer.get());
+    }
+
+    serverNetwork.shutdown();
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldCloseCompressorOnClosingConnection() {
+
+    var serverConfig = SimpleServerNetworkConfig
+        .builder()
+        .compressionThreshold(256)
+        .build();
+
+    var clientConfig = NetworkConfig.SimpleNetworkConfig
+        .builder()
+        .compressionThreshold(256)
+        .build();
+
+    var serverNetwork = newStringDataServerNetwork(serverConfig);
+    var serverAddress = serverNetwork.start();
+    var clientAllocator = new DefaultBufferAllocator(clientConfig);
+    var closedCompressors = new CountDownLatch(1);
+
+    var clientNetwork = NetworkFactory.<StringDataConnection>newClientNetwork(
+        clientConfig,
+        (network, channel) -> new StringDataConnection(network, channel, clientAllocator) {
+
+          @Override
+          protected PacketCompression createPacketCompression(NetworkConfig config) {
+
+            var compressor = new DeflaterNetworkCompressor(config.getCompressionLevel()) {
+
+              @Override
+              public void close() {
+                super.close();
+                closedCompressors.countDown();
+              }
+            };
+
+            return new PacketCompression(compressor, config.getCompressionThreshold());
+          }
+        });
+
+    var connection = clientNetwork
+        .connect(serverAddress)
+        .join();
+
+    connection.close();
+
+    Assertions.assertTrue(closedCompressors.await(5, TimeUnit.SECONDS), "Compressor wasn't closed");
+
+    serverNetwork.shutdown();
+    clientNetwork.shutdown();
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldNotUseCompressorClosedDuringCompressing() {
+
+    var compressor = new DeflaterNetworkCompressor(6);
+    var data = ByteBuffer.wrap(StringUtils
+        .generate(4096)
+        .getBytes(StandardCharsets.UTF_8));
+    var compressed = compressor.compress(data.duplicate(), data.remaining(), ByteBuffer.allocate(8192));
+
+    Assertions.assertNotNull(compressed);
+
+    var compressedData = compressed.flip();
+    var started = new CountDownLatch(1);
+    var error = new AtomicReference<Throwable>();
+
+    var worker = new Thread(() -> {
+      try {
+        started.countDown();
+        while (true) {
+          var compressResult = compressor.compress(data.duplicate(), data.remaining(), ByteBuffer.allocate(8192));
+          var decompressResult = compressor.decompress(
+              compressedData.duplicate(),
+              compressedData.remaining(),
+              ByteBuffer.allocate(data.remaining()));
+          if (compressResult == null && decompressResult == null) {
+            break;
+          }
+        }
+      } catch (Throwable e) {
+        error.set(e);
+      }
+    });
+
+    worker.start();
+    started.await();
+    Thread.sleep(20);
+
+    compressor.close();
+
+    worker.join(5000);
+
+    Assertions.assertFalse(worker.isAlive(), "Compressor wasn't closed");
+    Assertions.assertNull(error.get());
+    Assertions.assertNull(compressor.compress(data.duplicate(), data.remaining(), ByteBuffer.allocate(8192)));
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldCollectTrafficMetrics() {
+
+    int packetCount = 100;
+
+    var serverConfig = SimpleServerNetworkConfig
+        .builder()
+        .metricsEnabled(true)
+        .build();
+
+    var clientConfig = NetworkConfig.SimpleNetworkConfig
+        .builder()
+        .metricsEnabled(true)
+        .latencyHistogramsEnabled(true)
+        .build();
+
+    var serverAllocator = new DefaultBufferAllocator(serverConfig);
+    var clientAllocator = new DefaultBufferAllocator(clientConfig);
+
+    try (var testNetwork = buildStringNetwork(serverConfig, serverAllocator, clientConfig, clientAllocator)) {
+
+      var clientToServer = testNetwork.clientToServer;
+      var serverToClient = testNetwork.serverToClient;
+      var counter = new CountDownLatch(packetCount);
+
+      serverToClient.onReceive((connection, packet) -> counter.countDown());
+
+      var results = IntStream
+          .range(0, packetCount)
+          .mapToObj(value -> clientToServer.sendWithFeedback(newMessage(10, 100)))
+          .toArray(CompletableFuture[]::new);
+
+      CompletableFuture
+          .allOf(results)
+          .get(5, TimeUnit.SECONDS);
+
+      Assertions.assertTrue(
+          counter.await(5, TimeUnit.SECONDS),
+          "Still wait for " + counter.getCount() + " packets...");
+
+      var sent = clientToServer
+          .getMetrics()
+          .snapshot();
+      var received = serverToClient
+          .getMetrics()
+          .snapshot();
+      var clientNetwork = testNetwork.clientNetwork
+          .getMetrics()
+          .snapshot();
+      var serverNetwork = testNetwork.serverNetwork
+          .getMetrics()
+          .snapshot();
+
+      Assertions.assertEquals(packetCount, sent.sentPackets());
+      Assertions.assertEquals(0, sent.failedPackets());
+      Assertions.assertEquals(0, sent.queueDepth());
+      Assertions.assertEquals(packetCount, sent.serializationCount());
+      Assertions.assertTrue(sent.writeCount() > 0);
+      Assertions.assertEquals(sent.sentBytes(), received.receivedBytes());
+      Assertions.assertEquals(packetCount, received.receivedPackets());
+      Assertions.assertEquals(-1, received.writeTimeP99());
+
+      Assertions.assertEquals(sent.sentBytes(), clientNetwork.sentBytes());
+      Assertions.assertEquals(packetCount, serverNetwork.receivedPackets());
+      Assertions.assertTrue(clientNetwork.writeTimeP50() >= 0);
+      Assertions.assertTrue(clientNetwork.writeTimeP99() >= clientNetwork.writeTimeP50());
+      Assertions.assertTrue(clientNetwork.serializationTimeP99() >= 0);
+    }
+
+    try (var testNetwork = buildStringNetwork()) {
+      Assertions.assertSame(NetworkMetrics.NULL, testNetwork.clientToServer.getMetrics());
+      Assertions.assertSame(NetworkMetrics.NULL, testNetwork.serverNetwork.getMetrics());
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldKeepAliveByPingsAndCloseIdleConnection() {
+
+    var serverConfig = SimpleServerNetworkConfig
+        .builder()
+        .readIdleTimeout(300)
+        .idleTimeoutTick(10)
+        .closeIdleConnections(true)
+        .build();
+
+    var clientConfig = NetworkConfig.SimpleNetworkConfig
+        .builder()
+        .writeIdleTimeout(50)
+        .idleTimeoutTick(10)
+        .build();
+
+    var serverAllocator = new DefaultBufferAllocator(serverConfig);
+    var clientAllocator = new DefaultBufferAllocator(clientConfig);
+
+    try (var testNetwork = buildStringNetwork(serverConfig, serverAllocator, clientConfig, clientAllocator)) {
+
+      var serverToClient = testNetwork.serverToClient;
+      var receivedPings = new CountDownLatch(10);
+      var idleStates = new CopyOnWriteArrayList<IdleState>();
+
+      serverToClient.onReceive((connection, packet) -> receivedPings.countDown());
+
+      testNetwork.serverNetwork.onIdle((connection, state) -> idleStates.add(state));
+      testNetwork.clientNetwork.setPingPacketFactory(connection -> new StringWritablePacket("ping"));
+
+      Assertions.assertTrue(receivedPings.await(5, TimeUnit.SECONDS), "Client didn't send pings");
+      Assertions.assertFalse(serverToClient.isClosed(), "Connection with pings was closed");
+      Assertions.assertTrue(idleStates.isEmpty());
+
+      testNetwork.clientNetwork.setPingPacketFactory(null);
+
+      var deadline = System.currentTimeMillis() + 5000;
+
+      while (!serverToClient.isClosed() && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10);
+      }
+
+      Assertions.assertTrue(serverToClient.isClosed(), "Idle connection wasn't closed");
+      Assertions.assertEquals(List.of(IdleState.READ_IDLE), idleStates);
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldHandleIdleConnectionsOutOfIdleTimer() {
+
+    for (var transport : NetworkTransport.values()) {
+
+      var serverConfig = SimpleServerNetworkConfig
+          .builder()
+          .transport(transport)
+          .readIdleTimeout(100)
+          .idleTimeoutTick(10)
+          .closeIdleConnections(true)
+          .build();
+
+      var clientConfig = NetworkConfig.SimpleNetworkConfig
+          .builder()
+          .transport(transport)
+          .build();
+
+      var serverAllocator = new DefaultBufferAllocator(serverConfig);
+      var clientAllocator = new DefaultBufferAllocator(clientConfig);
+
+      try (var testNetwork = buildStringNetwork(serverConfig, serverAllocator, clientConfig, clientAllocator)) {
+
+        var handlerThread = new CompletableFuture<String>();
+
+        testNetwork.serverNetwork.onIdle((connection, state) -> handlerThread.complete(Thread
+            .currentThread()
+            .getName()));
+
+        var threadName = handlerThread.get(5, TimeUnit.SECONDS);
+
+        Assertions.assertFalse(threadName.contains("IdleTimer"), "Idle handler was called by " + threadName);
+
+        var deadline = System.currentTimeMillis() + 5000;
+
+        while (!testNetwork.serverToClient.isClosed() && System.currentTimeMillis() < deadline) {
+          Thread.sleep(10);
+        }
+
+        Assertions.assertTrue(testNetwork.serverToClient.isClosed(), "Idle connection wasn't closed on " + transport);
+      }
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldSendFileRegionsWithoutHeapBuffers() {
+
+    var content = StringUtils.generate(30_000);
+    var file = Files.createTempFile("file-region", ".bin");
+
+    try (var fileChannel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+
+      fileChannel.write(ByteBuffer.wrap(new byte[10]));
+      fileChannel.write(StandardCharsets.UTF_16BE.encode(content));
+
+      for (var transport : NetworkTransport.values()) {
+
+        var serverConfig = SimpleServerNetworkConfig
+            .builder()
+            .transport(transport)
+            .build();
+
+        var clientConfig = NetworkConfig.SimpleNetworkConfig
+            .builder()
+            .transport(transport)
+            .build();
+
+        var serverAllocator = new DefaultBufferAllocator(serverConfig);
+        var clientAllocator = new DefaultBufferAllocator(clientConfig) {
+
+          @Override
+          public ByteBuffer takeBuffer(int bufferSize) {
+            throw new IllegalStateException("File region should not be copied to temp buffers");
+          }
+        };
+
+        try (var testNetwork = buildStringNetwork(serverConfig, serverAllocator, clientConfig, clientAllocator)) {
+
+          var clientToServer = testNetwork.clientToServer;
+          var serverToClient = testNetwork.serverToClient;
+
+          var pendingPacketsOnServer = serverToClient
+              .receivedPackets()
+              .buffer(3);
+
+          clientToServer.send(new StringWritablePacket("before"));
+          clientToServer.send(new StringFileRegionPacket(fileChannel, 10, content.length()));
+          clientToServer.send(new StringWritablePacket("after"));
+
+          var receivedPackets = ObjectUtils.notNull(pendingPacketsOnServer.blockFirst(Duration.ofSeconds(5)));
+
+          Assertions.assertEquals(3, receivedPackets.size(), "Didn't receive all packets by " + transport);
+          Assertions.assertEquals("before", receivedPackets.get(0).getData());
+          Assertions.assertEquals(content, receivedPackets.get(1).getData(), "Wrong file region by " + transport);
+          Assertions.assertEquals("after", receivedPackets.get(2).getData());
+        }
+      }
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Getter
+  private static class StringFileRegionPacket extends StringWritablePacket implements FileRegionWritablePacket {
+
+    private final FileChannel fileChannel;
+    private final long regionPosition;
+    private final long regionLength;
+    private final int length;
+
+    StringFileRegionPacket(FileChannel fileChannel, long position, int length) {
+      super("");
+      this.fileChannel = fileChannel;
+      this.regionPosition = position;
+      this.regionLength = length * 2L;
+      this.length = length;
+    }
+
+    @Override
+    protected void writeImpl(ByteBuffer buffer) {
+      // the chars of the string are sent from the file region
+      writeInt(buffer, length);
+    }
+  }
+
+  @Test
+  void shouldSendAndReceivePacketsUsingVirtualThreads() {
+
+    int packetCount = 1000;
+
+    var serverConfig = SimpleServerNetworkConfig
+        .builder()
+        .transport(NetworkTransport.VIRTUAL_THREADS)
+        .build();
+
+    var clientConfig = NetworkConfig.SimpleNetworkConfig
+        .builder()
+        .transport(NetworkTransport.VIRTUAL_THREADS)
+        .build();
+
+    var serverAllocator = new DefaultBufferAllocator(serverConfig);
+    var clientAllocator = new DefaultBufferAllocator(clientConfig);
+
+    try (var testNetwork = buildStringNetwork(serverConfig, serverAllocator, clientConfig, clientAllocator)) {
+
+      var bufferSize = clientConfig.getWriteBufferSize();
+      var random = ThreadLocalRandom.current();
+
+      var clientToServer = testNetwork.clientToServer;
+      var serverToClient = testNetwork.serverToClient;
+
+      var pendingPacketsOnClient = clientToServer
+          .receivedPackets()
+          .buffer(packetCount);
+
+      serverToClient.onReceive((connection, packet) ->
+          connection.send(new StringWritablePacket("Echo: " + packet.getData())));
+
+      var messages = IntStream
+          .range(0, packetCount)
+          .mapToObj(value -> StringUtils.generate(value % 10 == 0
+              ? random.nextInt(bufferSize, bufferSize * 3)
+              : random.nextInt(0, 200)))
+          .collect(toList());
+
+      var asyncResults = messages
+          .stream()
+          .map(message -> clientToServer.sendWithFeedback(new StringWritablePacket(message)))
+          .collect(toList());
+
+      CompletableFuture
+          .allOf(asyncResults.toArray(CompletableFuture[]::new))
+          .join();
+
+      Assertions.assertTrue(asyncResults
+          .stream()
+          .allMatch(CompletableFuture::join), "Found not sent packets...");
+
+      var receivedPackets = ObjectUtils.notNull(pendingPacketsOnClient.blockFirst(Duration.ofSeconds(5)));
+
+      Assertions.assertEquals(packetCount, receivedPackets.size(), "Didn't receive all packets");
+
+      for (int i = 0; i < packetCount; i++) {
+        Assertions.assertEquals("Echo: " + messages.get(i), receivedPackets.get(i).getData());
+      }
+    }
+  }
+  @Test
+  void shouldHandleConnectionOnOneThreadUsingSelectorLoops() {
+
+    int packetCount = 1000;
+
+    var serverConfig = SimpleServerNetworkConfig
+        .builder()
+        .transport(NetworkTransport.SELECTOR)
+        .eventLoopCount(2)
+        .maxPacketsByWrite(8)
+        .build();
+
+    var clientConfig = NetworkConfig.SimpleNetworkConfig
+        .builder()
+        .transport(NetworkTransport.SELECTOR)
+        .build();
+
+    var serverAllocator = new DefaultBufferAllocator(serverConfig);
+    var clientAllocator = new DefaultBufferAllocator(clientConfig);
+
+    try (var testNetwork = buildStringNetwork(serverConfig, serverAllocator, clientConfig, clientAllocator)) {
+
+      var bufferSize = clientConfig.getWriteBufferSize();
+      var random = ThreadLocalRandom.current();
+
+      var clientToServer = testNetwork.clientToServer;
+      var serverToClient = testNetwork.serverToClient;
+
+      var pendingPacketsOnClient = clientToServer
+          .receivedPackets()
+          .buffer(packetCount);
+
+      var serverThreads = ConcurrentHashMap.<Thread>newKeySet();
+
+      serverToClient.onReceive((connection, packet) -> {
+        serverThreads.add(Thread.currentThread());
+        connection.send(new StringWritablePacket("Echo: " + packet.getData()));
+      });
+
+      var messages = IntStream
+          .range(0, packetCount)
+          .mapToObj(value -> StringUtils.generate(value % 10 == 0
+              ? random.nextInt(bufferSize, bufferSize * 3)
+              : random.nextInt(0, 200)))
+          .collect(toList());
+
+      var asyncResults = messages
+          .stream()
+          .map(message -> clientToServer.sendWithFeedback(new StringWritablePacket(message)))
+          .collect(toList());
+
+      CompletableFuture
+          .allOf(asyncResults.toArray(CompletableFuture[]::new))
+          .join();
+
+      Assertions.assertTrue(asyncResults
+          .stream()
+          .allMatch(CompletableFuture::join), "Found not sent packets...");
+
+      var receivedPackets = ObjectUtils.notNull(pendingPacketsOnClient.blockFirst(Duration.ofSeconds(5)));
+
+      Assertions.assertEquals(packetCount, receivedPackets.size(), "Didn't receive all packets");
+
+      for (int i = 0; i < packetCount; i++) {
+        Assertions.assertEquals("Echo: " + messages.get(i), receivedPackets.get(i).getData());
+      }
+
+      Assertions.assertEquals(1, serverThreads.size(), "Connection was handled by different threads");
+    }
+  }
+
   private static StringWritablePacket newMessage(int minMessageLength, int maxMessageLength) {
     return new StringWritablePacket(StringUtils.generate(minMessageLength, maxMessageLength));
   }
+
+  private static List<Thread> findThreads(String namePrefix) {
+    return Thread
+        .getAllStackTraces()
+        .keySet()
+        .stream()
+        .filter(thread -> thread.getName().startsWith(namePrefix))
+        .collect(toList());
+  }
 }
@@ -10,8 +10,10 @@ import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.Scanner;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.IntStream;
 import javasabr.rlib.common.util.ObjectUtils;
 import javasabr.rlib.common.util.StringUtils;
@@ -20,6 +22,8 @@ import javasabr.rlib.logger.api.Logger;
 import javasabr.rlib.logger.api.LoggerLevel;
 import javasabr.rlib.logger.api.LoggerManager;
 import javasabr.rlib.network.impl.DefaultBufferAllocator;
+import javasabr.rlib.network.impl.StringDataSSLConnection;
+import javasabr.rlib.network.packet.WritablePacket;
 import javasabr.rlib.network.packet.impl.AbstractSSLPacketReader;
 import javasabr.rlib.network.packet.impl.AbstractSSLPacketWriter;
 import javasabr.rlib.network.packet.impl.StringReadablePacket;
@@ -27,6 +31,7 @@ import javasabr.rlib.network.packet.impl.StringWritablePacket;
 import javasabr.rlib.network.util.NetworkUtils;
 import javax.net.ssl.SSLSocket;
 import lombok.SneakyThrows;
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -315,6 +320,215 @@ public class StringSSLNetworkTest extends BaseNetworkTest {
     }
   }
 
+  @Test
+  void shouldOffloadSslTasksToExecutor() {
+
+    var keystoreFile = StringSSLNetworkTest.class.getResourceAsStream("/ssl/rlib_test_cert.p12");
+    var serverSSLContext = NetworkUtils.createSslContext(keystoreFile, "test");
+    var clientSSLContext = NetworkUtils.createAllTrustedClientSslContext();
+
+    int packetCount = 20;
+
+    try (var sslTaskExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+      var serverConfig = ServerNetworkConfig.SimpleServerNetworkConfig
+          .builder()
+          .sslTaskExecutor(sslTaskExecutor)
+          .build();
+
+      var clientConfig = NetworkConfig.SimpleNetworkConfig
+          .builder()
+          .sslTaskExecutor(sslTaskExecutor)
+          .build();
+
+      try (var testNetwork = buildStringSSLNetwork(
+          serverConfig,
+          new DefaultBufferAllocator(serverConfig),
+          serverSSLContext,
+          clientConfig,
+          new DefaultBufferAllocator(clientConfig),
+          clientSSLContext)) {
+
+        var clientToServer = testNetwork.clientToServer;
+        var serverToClient = testNetwork.serverToClient;
+
+        var pendingPacketsOnServer = serverToClient
+            .receivedPackets()
+            .buffer(packetCount);
+
+        var messages = IntStream
+            .range(0, packetCount)
+            .mapToObj(value -> StringUtils.generate(10, 100))
+            .peek(message -> clientToServer.send(new StringWritablePacket(message)))
+            .collect(toList());
+
+        var receivedPackets = ObjectUtils.notNull(pendingPacketsOnServer.blockFirst(Duration.ofSeconds(5)));
+
+        Assertions.assertEquals(
+            messages,
+            receivedPackets
+                .stream()
+                .map(StringReadablePacket::getData)
+                .collect(toList()));
+
+        Assertions.assertTrue(clientToServer.getHandshakeTime() >= 0, "Client handshake isn't finished");
+        Assertions.assertTrue(serverToClient.getHandshakeTime() >= 0, "Server handshake isn't finished");
+        Assertions.assertTrue(clientToServer.getSslTaskCount() > 0, "Client didn't execute SSL tasks");
+        Assertions.assertTrue(serverToClient.getSslTaskCount() > 0, "Server didn't execute SSL tasks");
+      }
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldResumeSslSessionOnReconnect() {
+
+    var keystoreFile = StringSSLNetworkTest.class.getResourceAsStream("/ssl/rlib_test_cert.p12");
+    var serverSSLContext = NetworkUtils.createSslContext(keystoreFile, "test");
+    var clientSSLContext = NetworkUtils.createAllTrustedClientSslContext();
+
+    var serverConfig = ServerNetworkConfig.SimpleServerNetworkConfig
+        .builder()
+        .sslSessionCacheSize(100)
+        .sslSessionTimeout(60)
+        .build();
+
+    var clientConfig = NetworkConfig.SimpleNetworkConfig
+        .builder()
+        .sslSessionCacheSize(100)
+        .sslSessionTimeout(60)
+        .build();
+
+    var serverNetwork = newStringDataSSLServerNetwork(
+        serverConfig,
+        new DefaultBufferAllocator(serverConfig),
+        serverSSLContext);
+
+    var serverAddress = serverNetwork.start();
+
+    serverNetwork
+        .accepted()
+        .flatMap(Connection::receivedEvents)
+        .subscribe(event -> event.connection.send(new StringWritablePacket("Echo: " + event.packet.getData())));
+
+    var clientNetwork = newStringDataSSLClientNetwork(
+        clientConfig,
+        new DefaultBufferAllocator(clientConfig),
+        clientSSLContext);
+
+    for (int i = 0; i < 2; i++) {
+
+      var connection = clientNetwork
+          .connect(serverAddress)
+          .join();
+
+      var pendingEcho = connection
+          .receivedPackets()
+          .next()
+          .toFuture();
+
+      connection.send(new StringWritablePacket("Hello SSL"));
+
+      Assertions.assertEquals("Echo: Hello SSL", pendingEcho
+          .get(5, TimeUnit.SECONDS)
+          .getData());
+      Assertions.assertEquals(i > 0, connection.isAbbreviatedHandshake());
+
+      connection.close();
+    }
+
+    Assertions.assertEquals(1, clientNetwork.getFullHandshakeCount());
+    Assertions.assertEquals(1, clientNetwork.getAbbreviatedHandshakeCount());
+    Assertions.assertEquals(1, serverNetwork.getFullHandshakeCount());
+    Assertions.assertEquals(1, serverNetwork.getAbbreviatedHandshakeCount());
+    Assertions.assertEquals(serverSSLContext.getServerSessionContext().getSessionCacheSize(), 100);
+    Assertions.assertEquals(clientSSLContext.getClientSessionContext().getSessionTimeout(), 60);
+
+    serverNetwork.shutdown();
+    clientNetwork.shutdown();
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldWritePacketWhichWasSentWhileWriterWasFinishing() {
+
+    var keystoreFile = StringSSLNetworkTest.class.getResourceAsStream("/ssl/rlib_test_cert.p12");
+    var serverSSLContext = NetworkUtils.createSslContext(keystoreFile, "test");
+    var clientSSLContext = NetworkUtils.createAllTrustedClientSslContext();
+
+    var serverNetwork = newStringDataSSLServerNetwork(
+        ServerNetworkConfig.DEFAULT_SERVER,
+        new DefaultBufferAllocator(ServerNetworkConfig.DEFAULT_SERVER),
+        serverSSLContext);
+
+    var serverAddress = serverNetwork.start();
+    var receivedCounter = new CountDownLatch(2);
+
+    serverNetwork
+        .accepted()
+        .flatMap(Connection::receivedEvents)
+        .subscribe(event -> {
+          var data = event.packet.getData();
+          if (data.equals("Hello")) {
+            event.connection.send(new StringWritablePacket("Echo: " + data));
+          } else {
+            receivedCounter.countDown();
+          }
+        });
+
+    var raceArmed = new AtomicBoolean();
+    var clientBufferAllocator = new DefaultBufferAllocator(NetworkConfig.DEFAULT_CLIENT);
+
+    // the second packet is sent right after the writer decided that there is nothing to write, but before it reset
+    // the writing flag, so the sender can't start writing by itself
+    var clientNetwork = NetworkFactory.<StringDataSSLConnection>newClientNetwork(
+        NetworkConfig.DEFAULT_CLIENT,
+        (network, channel) -> new StringDataSSLConnection(
+            network,
+            channel,
+            clientBufferAllocator,
+            clientSSLContext,
+            true) {
+
+          @Override
+          protected @Nullable WritablePacket nextPacketToWrite() {
+
+            var packet = super.nextPacketToWrite();
+
+            if (packet == null && raceArmed.compareAndSet(true, false)) {
+              send(new StringWritablePacket("Second"));
+            }
+
+            return packet;
+          }
+        });
+
+    var connection = clientNetwork
+        .connect(serverAddress)
+        .join();
+
+    var pendingEcho = connection
+        .receivedPackets()
+        .next()
+        .toFuture();
+
+    connection.send(new StringWritablePacket("Hello"));
+
+    Assertions.assertEquals("Echo: Hello", pendingEcho
+        .get(5, TimeUnit.SECONDS)
+        .getData());
+
+    raceArmed.set(true);
+    connection.send(new StringWritablePacket("First"));
+
+    Assertions.assertTrue(
+        receivedCounter.await(5, TimeUnit.SECONDS),
+        "The packet sent while the writer was finishing wasn't written");
+
+    serverNetwork.shutdown();
+    clientNetwork.shutdown();
+  }
+
   private static StringWritablePacket newMessage(int minMessageLength, int maxMessageLength) {
     return new StringWritablePacket(StringUtils.generate(minMessageLength, maxMessageLength));
   }